@@ -0,0 +1,10 @@
+plugins {
+    id("io.micronaut.build.internal.jms-benchmarks")
+}
+
+dependencies {
+    jmhImplementation(projects.micronautJmsActivemqClassic)
+    jmhImplementation(projects.micronautJmsActivemqArtemis)
+    jmhImplementation(libs.activemq.broker)
+    jmhImplementation(libs.artemis.jakarta.server)
+}
@@ -0,0 +1,48 @@
+package io.micronaut.jms.benchmarks;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.jms.annotations.JMSListener;
+import io.micronaut.jms.annotations.JMSProducer;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.jms.model.JMSHeaders;
+import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.messaging.annotation.MessageHeader;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME;
+
+/**
+ * Listener binding a JSON body and headers, as typical application listeners do.
+ */
+@Requires(property = "micronaut.jms.activemq.classic.enabled", value = StringUtils.TRUE)
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+public class BenchmarkListener {
+
+    public static final String QUEUE = "benchmarks-listener";
+
+    private final LongAdder received = new LongAdder();
+
+    @Queue(QUEUE)
+    public void receive(@MessageBody Order order,
+                        @MessageHeader("x-trace-id") String traceId,
+                        @MessageHeader(JMSHeaders.JMS_CORRELATION_ID) @Nullable String correlationId) {
+        received.increment();
+    }
+
+    public long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     * Producer of the messages of the listener.
+     */
+    @Requires(property = "micronaut.jms.activemq.classic.enabled", value = StringUtils.TRUE)
+    @JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+    public interface Producer {
+        @Queue(QUEUE)
+        void send(@MessageBody Order order, @MessageHeader("x-trace-id") String traceId);
+    }
+}
@@ -0,0 +1,83 @@
+package io.micronaut.jms.benchmarks;
+
+import io.micronaut.jms.activemq.artemis.configuration.ActiveMqArtemisConfiguration;
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The in-VM brokers the benchmarks run against.
+ */
+public enum Broker {
+
+    CLASSIC(ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME) {
+        @Override
+        Map<String, Object> start() {
+            Map<String, Object> config = new HashMap<>();
+            config.put("micronaut.jms.activemq.classic.enabled", true);
+            config.put("micronaut.jms.activemq.classic.connection-string",
+                "vm://benchmarks?broker.persistent=false&broker.useJmx=false");
+            return config;
+        }
+    },
+
+    ARTEMIS(ActiveMqArtemisConfiguration.CONNECTION_FACTORY_BEAN_NAME) {
+
+        private EmbeddedActiveMQ server;
+
+        @Override
+        Map<String, Object> start() throws Exception {
+            ConfigurationImpl configuration = new ConfigurationImpl();
+            configuration.setPersistenceEnabled(false);
+            configuration.setSecurityEnabled(false);
+            configuration.addAcceptorConfiguration("in-vm", "vm://0");
+            server = new EmbeddedActiveMQ().setConfiguration(configuration).start();
+
+            Map<String, Object> config = new HashMap<>();
+            config.put("micronaut.jms.activemq.artemis.enabled", true);
+            config.put("micronaut.jms.activemq.artemis.connection-string", "vm://0");
+            return config;
+        }
+
+        @Override
+        void stop() throws Exception {
+            if (server != null) {
+                server.stop();
+                server = null;
+            }
+        }
+    };
+
+    private final String connectionFactoryName;
+
+    Broker(String connectionFactoryName) {
+        this.connectionFactoryName = connectionFactoryName;
+    }
+
+    /**
+     * @return the name of the connection factory bean connecting to the broker
+     */
+    public String getConnectionFactoryName() {
+        return connectionFactoryName;
+    }
+
+    /**
+     * Starts the broker if it is not started by its client.
+     *
+     * @return the configuration of the application context connecting to the broker
+     * @throws Exception if the broker fails to start
+     */
+    abstract Map<String, Object> start() throws Exception;
+
+    /**
+     * Stops the broker if it is not stopped by its client.
+     *
+     * @throws Exception if the broker fails to stop
+     */
+    void stop() throws Exception {
+        // stopped with the last connection
+    }
+}
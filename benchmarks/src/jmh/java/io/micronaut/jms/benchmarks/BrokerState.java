@@ -0,0 +1,37 @@
+package io.micronaut.jms.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.jms.pool.JMSConnectionPool;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Application context connected to an in-VM broker, shared by all the threads of a benchmark.
+ */
+@State(Scope.Benchmark)
+public class BrokerState {
+
+    @Param({"CLASSIC", "ARTEMIS"})
+    public Broker broker;
+
+    public ApplicationContext context;
+
+    public JMSConnectionPool connectionPool;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        context = ApplicationContext.run(broker.start());
+        connectionPool = context.getBean(JMSConnectionPool.class, Qualifiers.byName(broker.getConnectionFactoryName()));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws Exception {
+        context.close();
+        broker.stop();
+    }
+}
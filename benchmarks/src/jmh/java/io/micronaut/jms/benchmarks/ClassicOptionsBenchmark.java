@@ -0,0 +1,104 @@
+package io.micronaut.jms.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.jms.activemq.classic.configuration.properties.ActiveMqClassicConfigurationProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures the effect of each performance setting of {@link ActiveMqClassicConfigurationProperties} against the
+ * in-VM ActiveMQ "Classic" broker: sending to a topic without subscribers, and a full round trip from a
+ * {@code @JMSProducer} method to a listener method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClassicOptionsBenchmark {
+
+    private static final int BATCH = 100;
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final String BODY = "x".repeat(1024);
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    /**
+     * The setting applied on top of the client defaults, as {@code <property>=<value>}.
+     */
+    @Param({
+        "default",
+        "use-async-send=true",
+        "optimize-acknowledge=true",
+        "always-session-async=false",
+        "use-compression=true",
+        "dispatch-async=false",
+        "copy-message-on-send=false",
+        "queue-prefetch=10"
+    })
+    public String option;
+
+    private ApplicationContext context;
+    private TopicProducers.TopicProducer topicProducer;
+    private BenchmarkListener listener;
+    private BenchmarkListener.Producer producer;
+    private Order order;
+
+    @Setup
+    public void setup() throws Exception {
+        Map<String, Object> config = Broker.CLASSIC.start();
+        int separator = option.indexOf('=');
+        if (separator > 0) {
+            config.put(ActiveMqClassicConfigurationProperties.PREFIX + '.' + option.substring(0, separator),
+                option.substring(separator + 1));
+        }
+        context = ApplicationContext.run(config);
+        topicProducer = context.getBean(TopicProducers.Classic.class);
+        listener = context.getBean(BenchmarkListener.class);
+        producer = context.getBean(BenchmarkListener.Producer.class);
+        order = Order.sample();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        context.close();
+        Broker.CLASSIC.stop();
+    }
+
+    @Benchmark
+    public void send() {
+        topicProducer.send(BODY, TRACE_ID);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void roundTrip() {
+        long target = listener.getReceived() + BATCH;
+        for (int i = 0; i < BATCH; i++) {
+            producer.send(order, TRACE_ID);
+        }
+        long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        while (listener.getReceived() < target) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Only " + (listener.getReceived() - target + BATCH) +
+                    " of " + BATCH + " messages received in time");
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.micronaut.jms.benchmarks;
+
+import io.micronaut.jms.model.JMSHeaders;
+import io.micronaut.jms.util.HeaderNameUtils;
+import org.apache.activemq.command.ActiveMQTextMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.jms.Message;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading headers with {@link JMSHeaders#getHeader(String, Message, Class)}, as done for each
+ *  {@code @MessageHeader} argument of a listener, and escaping header names with {@link HeaderNameUtils}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeaderBenchmark {
+
+    private static final String PROPERTY = "x-trace.id";
+
+    private Message message;
+    private String encodedProperty;
+
+    @Setup
+    public void setup() throws Exception {
+        message = new ActiveMQTextMessage();
+        message.setJMSCorrelationID("correlation-1");
+        message.setJMSTimestamp(System.currentTimeMillis());
+        message.setStringProperty(HeaderNameUtils.encode(PROPERTY), "4bf92f3577b34da6a3ce929d0e0e4736");
+        message.setIntProperty("attempt", 3);
+        encodedProperty = HeaderNameUtils.encode(PROPERTY);
+    }
+
+    @Benchmark
+    public Object jmsStringHeader() {
+        return JMSHeaders.getHeader(JMSHeaders.JMS_CORRELATION_ID, message, String.class);
+    }
+
+    @Benchmark
+    public Object jmsLongHeader() {
+        return JMSHeaders.getHeader(JMSHeaders.JMS_TIMESTAMP, message, Long.class);
+    }
+
+    @Benchmark
+    public Object stringProperty() {
+        return JMSHeaders.getHeader(PROPERTY, message, String.class);
+    }
+
+    @Benchmark
+    public Object intProperty() {
+        return JMSHeaders.getHeader("attempt", message, Integer.class);
+    }
+
+    @Benchmark
+    public Object missingProperty() {
+        return JMSHeaders.getHeader("missing", message, String.class);
+    }
+
+    @Benchmark
+    public String encode() {
+        return HeaderNameUtils.encode(PROPERTY);
+    }
+
+    @Benchmark
+    public String decode() {
+        return HeaderNameUtils.decode(encodedProperty);
+    }
+}
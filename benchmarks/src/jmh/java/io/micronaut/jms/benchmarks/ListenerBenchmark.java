@@ -0,0 +1,98 @@
+package io.micronaut.jms.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.bind.DefaultExecutableBinder;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.jms.bind.JMSArgumentBinderRegistry;
+import io.micronaut.json.JsonMapper;
+import org.apache.activemq.command.ActiveMQTextMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.jms.Message;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures the listeners registered by {@link io.micronaut.jms.configuration.AbstractJMSListenerMethodProcessor}:
+ *  binding the arguments of the listener method to a message the way the processor does, and a full round trip
+ *  from a {@code @JMSProducer} method to the listener method through the in-VM ActiveMQ "Classic" broker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListenerBenchmark {
+
+    private static final int BATCH = 100;
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    private ApplicationContext context;
+    private BenchmarkListener listener;
+    private BenchmarkListener.Producer producer;
+    private ExecutableMethod<BenchmarkListener, Object> method;
+    private JMSArgumentBinderRegistry binderRegistry;
+    private Message message;
+    private Order order;
+
+    @Setup
+    public void setup() throws Exception {
+        context = ApplicationContext.run(Broker.CLASSIC.start());
+        listener = context.getBean(BenchmarkListener.class);
+        producer = context.getBean(BenchmarkListener.Producer.class);
+        method = context.getBeanDefinition(BenchmarkListener.class)
+            .<Object>findMethod("receive", Order.class, String.class, String.class)
+            .orElseThrow();
+        binderRegistry = context.getBean(JMSArgumentBinderRegistry.class);
+
+        order = Order.sample();
+        ActiveMQTextMessage textMessage = new ActiveMQTextMessage();
+        textMessage.setText(context.getBean(JsonMapper.class).writeValueAsString(order));
+        textMessage.setStringProperty("x_HYPHEN_trace_HYPHEN_id", TRACE_ID);
+        textMessage.setJMSCorrelationID("correlation-1");
+        message = textMessage;
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        context.close();
+        Broker.CLASSIC.stop();
+    }
+
+    @Benchmark
+    public Object bind() {
+        return new DefaultExecutableBinder<Message>()
+            .bind(method, binderRegistry, message)
+            .invoke(listener);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void roundTrip() {
+        long target = listener.getReceived() + BATCH;
+        for (int i = 0; i < BATCH; i++) {
+            producer.send(order, TRACE_ID);
+        }
+        long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        while (listener.getReceived() < target) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Only " + (listener.getReceived() - target + BATCH) +
+                    " of " + BATCH + " messages received in time");
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.micronaut.jms.benchmarks;
+
+import io.micronaut.core.annotation.Introspected;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Body serialized to JSON.
+ */
+@Introspected
+public class Order {
+
+    private String id;
+    private String customer;
+    private List<String> items;
+    private BigDecimal total;
+
+    public Order() {
+    }
+
+    public Order(String id, String customer, List<String> items, BigDecimal total) {
+        this.id = id;
+        this.customer = customer;
+        this.items = items;
+        this.total = total;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(String customer) {
+        this.customer = customer;
+    }
+
+    public List<String> getItems() {
+        return items;
+    }
+
+    public void setItems(List<String> items) {
+        this.items = items;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    static Order sample() {
+        return new Order("order-1", "customer-1", List.of("item-1", "item-2", "item-3"), new BigDecimal("42.50"));
+    }
+}
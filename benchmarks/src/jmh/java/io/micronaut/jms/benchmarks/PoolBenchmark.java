@@ -0,0 +1,80 @@
+package io.micronaut.jms.benchmarks;
+
+import io.micronaut.jms.pool.AbstractPool;
+import io.micronaut.jms.pool.PooledObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link AbstractPool#request(Object...)} and {@link AbstractPool#release(PooledObject)}
+ *  alone, with and without contention. The pool is filled up front so no object is created while measuring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PoolBenchmark {
+
+    private static final int POOL_SIZE = 64;
+
+    private ObjectPool pool;
+
+    @Setup
+    public void setup() {
+        pool = new ObjectPool(POOL_SIZE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object requestRelease() {
+        return requestAndRelease();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object requestReleaseContended() {
+        return requestAndRelease();
+    }
+
+    private Object requestAndRelease() {
+        PooledObject<Object> object = pool.request();
+        pool.release(object);
+        return object;
+    }
+
+    /**
+     * Pool of plain objects, so that only the pool itself is measured.
+     */
+    static final class ObjectPool extends AbstractPool<PooledObject<Object>> {
+
+        ObjectPool(int size) {
+            super(size, size);
+            for (int i = 0; i < size; i++) {
+                addObject();
+            }
+        }
+
+        @Override
+        protected PooledObject<Object> create(Object... args) {
+            return new PooledObject<>(this, new Object()) { };
+        }
+
+        @Override
+        protected void reset(PooledObject<Object> pooledObject) {
+            // nothing to reset
+        }
+    }
+}
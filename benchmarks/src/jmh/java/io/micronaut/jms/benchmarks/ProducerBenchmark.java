@@ -0,0 +1,59 @@
+package io.micronaut.jms.benchmarks;
+
+import io.micronaut.jms.model.JMSDestinationType;
+import io.micronaut.jms.model.MessageHeader;
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer;
+import io.micronaut.jms.templates.JmsProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.jms.Message;
+import java.util.concurrent.TimeUnit;
+
+import static io.micronaut.jms.benchmarks.TopicProducers.TOPIC;
+
+/**
+ * Measures sending a text message with {@link JmsProducer} directly and through a {@code @JMSProducer} method,
+ *  i.e. including the {@link io.micronaut.jms.configuration.JMSProducerMethodInterceptor}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProducerBenchmark {
+
+    private static final String BODY = "x".repeat(1024);
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    private JmsProducer<String> jmsProducer;
+    private TopicProducers.TopicProducer producer;
+
+    @Setup
+    public void setup(BrokerState state) {
+        jmsProducer = new JmsProducer<>(JMSDestinationType.TOPIC, state.connectionPool,
+            state.context.getBean(DefaultSerializerDeserializer.class));
+        producer = state.broker == Broker.CLASSIC
+            ? state.context.getBean(TopicProducers.Classic.class)
+            : state.context.getBean(TopicProducers.Artemis.class);
+    }
+
+    @Benchmark
+    public void jmsProducerSend() {
+        jmsProducer.send(TOPIC, BODY, Message.DEFAULT_TIME_TO_LIVE, new MessageHeader("x-trace-id", TRACE_ID));
+    }
+
+    @Benchmark
+    public void producerMethod() {
+        producer.send(BODY, TRACE_ID);
+    }
+}
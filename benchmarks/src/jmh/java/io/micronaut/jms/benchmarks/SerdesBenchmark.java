@@ -0,0 +1,139 @@
+package io.micronaut.jms.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.jms.model.MessageType;
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Connection;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DefaultSerializerDeserializer} for the body of each {@link MessageType} it creates, plus JSON bodies
+ *  which are sent as {@link MessageType#TEXT}. {@link MessageType#STREAM} is not benchmarked since bodies are never
+ *  serialized to it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerdesBenchmark {
+
+    private static final int SIZE = 1024;
+
+    /**
+     * The bodies, named after the {@link MessageType} they are serialized to.
+     */
+    public enum Payload {
+        TEXT(String.class) {
+            @Override
+            Object create() {
+                return "x".repeat(SIZE);
+            }
+        },
+        MAP(Map.class) {
+            @Override
+            Object create() {
+                Map<String, Object> map = new HashMap<>();
+                for (int i = 0; i < 16; i++) {
+                    map.put("key" + i, "value" + i);
+                }
+                return map;
+            }
+        },
+        BYTES(byte[].class) {
+            @Override
+            Object create() {
+                return "x".repeat(SIZE).getBytes(StandardCharsets.UTF_8);
+            }
+        },
+        OBJECT(ArrayList.class) {
+            @Override
+            Object create() {
+                List<String> list = new ArrayList<>();
+                for (int i = 0; i < 16; i++) {
+                    list.add("item" + i);
+                }
+                return list;
+            }
+        },
+        JSON(Order.class) {
+            @Override
+            Object create() {
+                return Order.sample();
+            }
+        };
+
+        private final Class<?> type;
+
+        Payload(Class<?> type) {
+            this.type = type;
+        }
+
+        abstract Object create();
+    }
+
+    @Param
+    public Payload payload;
+
+    private ApplicationContext context;
+    private Connection connection;
+    private Session session;
+    private DefaultSerializerDeserializer serdes;
+    private Object body;
+    private Message message;
+
+    @Setup
+    public void setup() throws Exception {
+        context = ApplicationContext.run();
+        serdes = context.getBean(DefaultSerializerDeserializer.class);
+        connection = new ActiveMQConnectionFactory("vm://serdes?broker.persistent=false&broker.useJmx=false")
+            .createConnection();
+        session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        body = payload.create();
+        message = serdes.serialize(session, body);
+        if (message instanceof BytesMessage bytesMessage) {
+            // make the body readable, as it is once received
+            bytesMessage.reset();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        session.close();
+        connection.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Message serialize() {
+        return serdes.serialize(session, body);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serdes.deserialize(message, payload.type);
+    }
+}
@@ -0,0 +1,44 @@
+package io.micronaut.jms.benchmarks;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.jms.activemq.artemis.configuration.ActiveMqArtemisConfiguration;
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration;
+import io.micronaut.jms.annotations.JMSProducer;
+import io.micronaut.jms.annotations.Topic;
+import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.messaging.annotation.MessageHeader;
+
+/**
+ * Producers sending to a topic without subscribers, so that the broker drops the messages instead of accumulating them.
+ */
+public final class TopicProducers {
+
+    public static final String TOPIC = "benchmarks-topic";
+
+    private TopicProducers() {
+    }
+
+    /**
+     * Common interface of the producers of each broker.
+     */
+    public interface TopicProducer {
+        void send(String body, String traceId);
+    }
+
+    @Requires(property = "micronaut.jms.activemq.classic.enabled", value = StringUtils.TRUE)
+    @JMSProducer(ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME)
+    public interface Classic extends TopicProducer {
+        @Override
+        @Topic(TOPIC)
+        void send(@MessageBody String body, @MessageHeader("x-trace-id") String traceId);
+    }
+
+    @Requires(property = "micronaut.jms.activemq.artemis.enabled", value = StringUtils.TRUE)
+    @JMSProducer(ActiveMqArtemisConfiguration.CONNECTION_FACTORY_BEAN_NAME)
+    public interface Artemis extends TopicProducer {
+        @Override
+        @Topic(TOPIC)
+        void send(@MessageBody String body, @MessageHeader("x-trace-id") String traceId);
+    }
+}
@@ -0,0 +1,28 @@
+package io.micronaut.jms.docs.configuration
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+import io.micronaut.jms.pool.DestinationCache
+
+class DestinationCacheSpec extends AbstractJmsSpec {
+
+    @Override
+    protected Map<String, Object> getConfiguration() {
+        super.configuration + ['micronaut.jms.destination-cache.pre-resolve': true]
+    }
+
+    void 'destinations are resolved once'() {
+        given:
+        DestinationCache cache = connectionPool.destinationCache
+
+        expect: 'resolved at startup from the @Queue of the producer'
+        cache.size() == 1
+
+        when:
+        def producer = applicationContext.getBean DestinationCacheProducer
+        producer.send("first")
+        producer.send("second")
+
+        then:
+        cache.size() == 1
+    }
+}
@@ -0,0 +1,42 @@
+package io.micronaut.jms.docs.consumer
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer
+import io.micronaut.jms.templates.JmsProducer
+// tag::imports[]
+import io.micronaut.jms.templates.JmsConsumer
+import jakarta.jms.Message
+
+import java.time.Duration
+// end::imports[]
+
+import static io.micronaut.jms.model.JMSDestinationType.QUEUE
+import static jakarta.jms.Message.DEFAULT_TIME_TO_LIVE
+
+class ConsumerSpec extends AbstractJmsSpec {
+
+    void 'timed and batched receive'() {
+        given:
+        def serdes = applicationContext.getBean DefaultSerializerDeserializer
+        def producer = new JmsProducer<String>(QUEUE, connectionPool, serdes)
+        5.times { producer.send("work", "task-$it".toString(), DEFAULT_TIME_TO_LIVE) }
+
+        when:
+        // tag::clazz[]
+        JmsConsumer consumer = new JmsConsumer(QUEUE, connectionPool, serdes) // <1>
+        String first = consumer.receive("work", String, Duration.ofSeconds(5)) // <2>
+        List<Message> batch = consumer.receiveBatch("work", 10, Duration.ofSeconds(1)) // <3>
+        Message none = consumer.receiveNoWait("work") // <4>
+        // end::clazz[]
+
+        then:
+        first == "task-0"
+        batch.size() == 4
+        serdes.deserialize(batch[3], String) == "task-4"
+        none == null
+        consumer.receive("work", Duration.ofMillis(100)) == null
+
+        cleanup:
+        consumer?.close()
+    }
+}
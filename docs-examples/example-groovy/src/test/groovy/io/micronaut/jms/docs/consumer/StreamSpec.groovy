@@ -0,0 +1,75 @@
+package io.micronaut.jms.docs.consumer
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer
+import io.micronaut.jms.templates.JmsProducer
+// tag::imports[]
+import io.micronaut.jms.templates.JmsConsumer
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+// end::imports[]
+
+import static io.micronaut.jms.model.JMSDestinationType.QUEUE
+import static jakarta.jms.Message.DEFAULT_TIME_TO_LIVE
+
+class StreamSpec extends AbstractJmsSpec {
+
+    void 'the stream follows the demand'() {
+        given:
+        def serdes = applicationContext.getBean DefaultSerializerDeserializer
+        def producer = new JmsProducer<String>(QUEUE, connectionPool, serdes)
+        3.times { producer.send("stream", "event-$it".toString(), DEFAULT_TIME_TO_LIVE) }
+        List<String> received = Collections.synchronizedList([])
+        Subscription[] subscription = new Subscription[1]
+        JmsConsumer consumer = new JmsConsumer(QUEUE, connectionPool, serdes)
+
+        when:
+        // tag::clazz[]
+        Publisher<String> events = consumer.stream("stream", String)
+        events.subscribe(new Subscriber<String>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                subscription[0] = s
+                s.request(2) // <1>
+            }
+
+            @Override
+            void onNext(String event) {
+                received.add(event) // <2>
+            }
+
+            @Override
+            void onError(Throwable t) {
+            }
+
+            @Override
+            void onComplete() {
+            }
+        })
+        // end::clazz[]
+
+        then:
+        polling.eventually {
+            received.size() == 2
+        }
+
+        when:
+        sleep(500)
+
+        then:
+        received == ["event-0", "event-1"]
+
+        when:
+        subscription[0].request(1)
+
+        then:
+        polling.eventually {
+            received.size() == 3
+        }
+        received[2] == "event-2"
+
+        cleanup:
+        consumer.close()
+    }
+}
@@ -0,0 +1,39 @@
+package io.micronaut.jms.docs.context
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer
+// tag::imports[]
+import io.micronaut.jms.model.DeliveryOptions
+import io.micronaut.jms.model.JMSDeliveryMode
+import io.micronaut.jms.templates.JmsProducer
+// end::imports[]
+
+import static io.micronaut.jms.model.JMSDestinationType.QUEUE
+
+class ContextSpec extends AbstractJmsSpec {
+
+    void 'send with delivery options'() {
+        given:
+        def consumer = applicationContext.getBean ContextConsumer
+        def producer = new JmsProducer<String>(QUEUE, connectionPool,
+            applicationContext.getBean(DefaultSerializerDeserializer))
+
+        when:
+        // tag::clazz[]
+        DeliveryOptions options = DeliveryOptions.builder()
+            .deliveryMode(JMSDeliveryMode.NON_PERSISTENT)
+            .priority(7)
+            .build()
+        producer.send("context-queue", "urgent", options)
+        producer.send("context-queue", "regular", DeliveryOptions.DEFAULT)
+        // end::clazz[]
+
+        then:
+        polling.eventually {
+            consumer.messages.size() == 2
+        }
+        consumer.messages == ["urgent non-persistent 7", "regular persistent 4"]
+        // the context and its producer were reused for the second message
+        connectionPool.contextPool.createdCount == 1
+    }
+}
@@ -0,0 +1,22 @@
+package io.micronaut.jms.docs.customizer
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+
+@Requires(property = "spec.name", value = 'ListenerCustomizerSpec')
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class CustomizedConsumer {
+
+    final List<String> messages = new CopyOnWriteArrayList<>()
+
+    @Queue("customized")
+    void receive(@MessageBody String body) {
+        messages.add(body)
+    }
+}
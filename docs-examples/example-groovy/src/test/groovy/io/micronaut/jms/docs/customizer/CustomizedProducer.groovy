@@ -0,0 +1,15 @@
+package io.micronaut.jms.docs.customizer
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.annotations.JMSProducer
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+
+@Requires(property = "spec.name", value = 'ListenerCustomizerSpec')
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+interface CustomizedProducer {
+    @Queue("customized")
+    void send(@MessageBody String body)
+}
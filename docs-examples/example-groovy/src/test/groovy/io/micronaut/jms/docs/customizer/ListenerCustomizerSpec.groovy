@@ -0,0 +1,22 @@
+package io.micronaut.jms.docs.customizer
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+
+class ListenerCustomizerSpec extends AbstractJmsSpec {
+
+    void 'the processing hook observes each message'() {
+        given:
+        def producer = applicationContext.getBean CustomizedProducer
+        def consumer = applicationContext.getBean CustomizedConsumer
+        def customizer = applicationContext.getBean ProcessingTimeCustomizer
+
+        when:
+        producer.send("hello")
+
+        then:
+        polling.eventually {
+            consumer.messages.contains("hello")
+            customizer.lastProcessingNanos.containsKey("CustomizedConsumer#receive")
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.micronaut.jms.docs.customizer
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.inject.ExecutableMethod
+import io.micronaut.jms.configuration.JMSListenerCustomizer
+import io.micronaut.jms.listener.JMSListener
+import io.micronaut.jms.listener.JMSListenerProcessingHook
+import jakarta.inject.Singleton
+
+import java.util.concurrent.ConcurrentHashMap
+// end::imports[]
+
+@Requires(property = "spec.name", value = 'ListenerCustomizerSpec')
+// tag::clazz[]
+@Singleton
+class ProcessingTimeCustomizer implements JMSListenerCustomizer {
+
+    final Map<String, Long> lastProcessingNanos = new ConcurrentHashMap<>()
+
+    @Override
+    void customize(JMSListener listener, ExecutableMethod<?, ?> method, String connectionFactoryName) {
+        listener.addProcessingHooks({ jmsListener, session, message -> // <1>
+            long start = System.nanoTime()
+            return { -> lastProcessingNanos.put(jmsListener.id, System.nanoTime() - start) } // <2>
+        } as JMSListenerProcessingHook)
+    }
+}
+// end::clazz[]
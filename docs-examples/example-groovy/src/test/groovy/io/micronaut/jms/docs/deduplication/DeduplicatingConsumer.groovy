@@ -0,0 +1,26 @@
+package io.micronaut.jms.docs.deduplication
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+// end::imports[]
+
+@Requires(property = "spec.name", value = 'DeduplicationSpec')
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class DeduplicatingConsumer {
+
+    List<String> payments = new CopyOnWriteArrayList<>()
+
+    @Queue(value = "payments", deduplicate = true, deduplicationKey = "paymentId") // <1>
+    void receive(@MessageBody String payment) {
+        payments.add(payment)
+    }
+}
+// end::clazz[]
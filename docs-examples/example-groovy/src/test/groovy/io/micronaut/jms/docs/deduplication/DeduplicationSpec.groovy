@@ -0,0 +1,31 @@
+package io.micronaut.jms.docs.deduplication
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+import io.micronaut.jms.listener.JMSListenerRegistry
+import io.micronaut.jms.listener.MessageDeduplicator
+
+class DeduplicationSpec extends AbstractJmsSpec {
+
+    void 'duplicate messages are skipped'() {
+        given:
+        def producer = applicationContext.getBean DeduplicatingProducer
+        def consumer = applicationContext.getBean DeduplicatingConsumer
+        MessageDeduplicator deduplicator = applicationContext.getBean(JMSListenerRegistry)
+            .findListener("DeduplicatingConsumer#receive").orElseThrow()
+            .deduplicator
+
+        when:
+        producer.send("first payment", "1")
+        producer.send("first payment again", "1")
+        producer.send("second payment", "2")
+
+        then:
+        polling.eventually {
+            consumer.payments.size() == 2
+            deduplicator.hitCount + deduplicator.missCount == 3
+        }
+        consumer.payments == ["first payment", "second payment"]
+        deduplicator.hitCount == 1
+        deduplicator.store.size() == 2
+    }
+}
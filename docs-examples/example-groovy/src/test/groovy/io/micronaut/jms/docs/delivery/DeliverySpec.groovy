@@ -0,0 +1,38 @@
+package io.micronaut.jms.docs.delivery
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+import io.micronaut.jms.model.JMSDeliveryMode
+
+class DeliverySpec extends AbstractJmsSpec {
+
+    void 'the delivery options of the method are applied'() {
+        given:
+        def producer = applicationContext.getBean DeliveryProducer
+        def consumer = applicationContext.getBean DeliveryConsumer
+
+        when:
+        producer.sendTelemetry("cpu=0.5")
+
+        then:
+        polling.eventually {
+            consumer.telemetry.size() == 1
+        }
+        consumer.telemetry == ["cpu=0.5 non-persistent without timestamp"]
+    }
+
+    void 'the delivery options of the call are applied'() {
+        given:
+        def producer = applicationContext.getBean DeliveryProducer
+        def consumer = applicationContext.getBean DeliveryConsumer
+
+        when:
+        producer.sendOrder("regular", null, null)
+        producer.sendOrder("urgent", 9, JMSDeliveryMode.NON_PERSISTENT)
+
+        then:
+        polling.eventually {
+            consumer.orders.size() == 2
+        }
+        consumer.orders == ["regular persistent 6", "urgent non-persistent 9"]
+    }
+}
@@ -0,0 +1,35 @@
+package io.micronaut.jms.docs.lanes
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+import io.micronaut.jms.listener.JMSListener
+import io.micronaut.jms.listener.JMSListenerRegistry
+import spock.util.concurrent.PollingConditions
+
+class LanesSpec extends AbstractJmsSpec {
+
+    void 'the messages of a group are handled in order'() {
+        given:
+        def producer = applicationContext.getBean OrderedProducer
+        def consumer = applicationContext.getBean OrderedConsumer
+        JMSListener listener = applicationContext.getBean(JMSListenerRegistry)
+            .findListener("OrderedConsumer#receive").orElseThrow()
+
+        expect:
+        listener.laneDispatcher != null
+        listener.laneDispatcher.laneCount == 4
+
+        when:
+        50.times { int i ->
+            ["a", "b", "c"].each { customer -> producer.send(i, customer) }
+        }
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            consumer.messagesByCustomer.values()*.size().sum() == 150
+        }
+        ["a", "b", "c"].every { consumer.messagesByCustomer[it] == (0..<50).toList() }
+        polling.eventually {
+            listener.laneDispatcher.inFlight == 0
+        }
+    }
+}
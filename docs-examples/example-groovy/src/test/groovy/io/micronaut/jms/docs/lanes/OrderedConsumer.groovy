@@ -0,0 +1,29 @@
+package io.micronaut.jms.docs.lanes
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+import io.micronaut.messaging.annotation.MessageHeader
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+// end::imports[]
+
+@Requires(property = "spec.name", value = 'LanesSpec')
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class OrderedConsumer {
+
+    Map<String, List<Integer>> messagesByCustomer = new ConcurrentHashMap<>()
+
+    @Queue(value = "orders", lanes = 4, laneKey = "JMSXGroupID", maxInFlight = 100) // <1>
+    void receive(@MessageBody Integer sequence,
+                 @MessageHeader("JMSXGroupID") String customer) {
+        messagesByCustomer.computeIfAbsent(customer, { new CopyOnWriteArrayList<>() }).add(sequence) // <2>
+    }
+}
+// end::clazz[]
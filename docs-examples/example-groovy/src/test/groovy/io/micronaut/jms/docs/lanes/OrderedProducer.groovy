@@ -0,0 +1,16 @@
+package io.micronaut.jms.docs.lanes
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.annotations.JMSProducer
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+import io.micronaut.messaging.annotation.MessageHeader
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+
+@Requires(property = "spec.name", value = 'LanesSpec')
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+interface OrderedProducer {
+    @Queue("orders")
+    void send(@MessageBody Integer sequence, @MessageHeader("JMSXGroupID") String customer)
+}
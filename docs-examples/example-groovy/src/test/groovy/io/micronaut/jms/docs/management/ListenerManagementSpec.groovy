@@ -0,0 +1,50 @@
+package io.micronaut.jms.docs.management
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+import io.micronaut.jms.listener.JMSListener
+import io.micronaut.jms.listener.JMSListenerRegistry
+import io.micronaut.jms.listener.JMSListenerState
+
+class ListenerManagementSpec extends AbstractJmsSpec {
+
+    void 'pause and resume a listener'() {
+        given:
+        def producer = applicationContext.getBean PausableProducer
+        def consumer = applicationContext.getBean PausableConsumer
+        def registry = applicationContext.getBean JMSListenerRegistry
+        JMSListener listener = registry.findListener("PausableConsumer#receive").orElseThrow()
+
+        expect:
+        listener.state == JMSListenerState.RUNNING
+        listener.concurrency == 2
+        registry.getListeners("pausable-queue").size() == 1
+
+        when:
+        producer.send("before pause")
+
+        then:
+        polling.eventually {
+            consumer.messages.contains("before pause")
+        }
+
+        when:
+        registry.pause(listener.id)
+        producer.send("while paused")
+        sleep(500)
+
+        then:
+        listener.state == JMSListenerState.PAUSED
+        !consumer.messages.contains("while paused")
+
+        when:
+        registry.setConcurrency(listener.id, 1)
+        registry.resume(listener.id)
+
+        then:
+        listener.state == JMSListenerState.RUNNING
+        listener.concurrency == 1
+        polling.eventually {
+            consumer.messages.contains("while paused")
+        }
+    }
+}
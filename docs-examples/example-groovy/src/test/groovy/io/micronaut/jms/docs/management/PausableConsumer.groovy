@@ -0,0 +1,24 @@
+package io.micronaut.jms.docs.management
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+// end::imports[]
+
+@Requires(property = "spec.name", value = 'ListenerManagementSpec')
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class PausableConsumer {
+
+    Collection<String> messages = Collections.synchronizedSet(new HashSet<String>())
+
+    @Queue(value = "pausable-queue", concurrency = 2) // <1>
+    void receive(@MessageBody String message) {
+        messages.add(message)
+    }
+}
+// end::clazz[]
@@ -0,0 +1,20 @@
+package io.micronaut.jms.docs.metrics
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+
+@Requires(property = "spec.name", value = 'MetricsSpec')
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class MetricsConsumer {
+
+    @Queue("metrics-queue")
+    void receive(@MessageBody String message) {
+        if (message == "fail") {
+            throw new IllegalArgumentException("Cannot process " + message)
+        }
+    }
+}
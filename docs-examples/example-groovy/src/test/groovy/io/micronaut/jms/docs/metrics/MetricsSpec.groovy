@@ -0,0 +1,55 @@
+package io.micronaut.jms.docs.metrics
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.docs.AbstractJmsSpec
+import jakarta.inject.Singleton
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+
+class MetricsSpec extends AbstractJmsSpec {
+
+    @Override
+    protected Map<String, Object> getConfiguration() {
+        // use the registry of the spec instead of the one created by micronaut-micrometer
+        super.configuration + ['micronaut.metrics.enabled': false]
+    }
+
+    void 'metrics are recorded'() {
+        given:
+        def producer = applicationContext.getBean MetricsProducer
+        def registry = applicationContext.getBean MeterRegistry
+
+        when:
+        producer.send("succeed")
+        producer.send("fail")
+
+        then:
+        registry.get("jms.producer.send")
+            .tag("connection.factory", CONNECTION_FACTORY_BEAN_NAME)
+            .tag("destination", "metrics-queue")
+            .tag("outcome", "success")
+            .timer().count() == 2
+        polling.eventually {
+            registry.get("jms.listener.messages").tag("result", "success").counter().count() == 1
+            registry.get("jms.listener.messages").tag("result", "error").counter().count() == 1
+        }
+        registry.get("jms.listener.handle")
+            .tag("listener", "MetricsConsumer#receive")
+            .tag("outcome", "failure")
+            .timer().count() == 1
+        registry.get("jms.pool.active").tag("pool", "connection").gauge() != null
+    }
+
+    @Factory
+    @Requires(property = "spec.name", value = 'MetricsSpec')
+    static class MeterRegistryFactory {
+
+        @Singleton
+        MeterRegistry meterRegistry() {
+            new SimpleMeterRegistry()
+        }
+    }
+}
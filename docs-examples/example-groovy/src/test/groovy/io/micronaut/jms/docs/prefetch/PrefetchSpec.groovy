@@ -0,0 +1,29 @@
+package io.micronaut.jms.docs.prefetch
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+import io.micronaut.jms.listener.JMSListener
+import io.micronaut.jms.listener.JMSListenerRegistry
+import spock.util.concurrent.PollingConditions
+
+class PrefetchSpec extends AbstractJmsSpec {
+
+    void 'a listener without prefetch shares the work'() {
+        given:
+        def producer = applicationContext.getBean FairProducer
+        def consumer = applicationContext.getBean FairConsumer
+        JMSListener listener = applicationContext.getBean(JMSListenerRegistry)
+            .findListener("FairConsumer#receive").orElseThrow()
+
+        expect:
+        listener.destination == "slow-work"
+
+        when:
+        20.times { producer.send("message $it".toString()) }
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            consumer.handledBy.size() == 20
+        }
+        consumer.handledBy.values().toSet().size() > 1
+    }
+}
@@ -0,0 +1,32 @@
+package io.micronaut.jms.docs.ratelimit
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+import io.micronaut.jms.listener.JMSListener
+import io.micronaut.jms.listener.JMSListenerRegistry
+import spock.util.concurrent.PollingConditions
+
+class RateLimitSpec extends AbstractJmsSpec {
+
+    void 'the listener is rate limited'() {
+        given:
+        def producer = applicationContext.getBean RateLimitedProducer
+        def consumer = applicationContext.getBean RateLimitedConsumer
+        JMSListener listener = applicationContext.getBean(JMSListenerRegistry)
+            .findListener("RateLimitedConsumer#receive").orElseThrow()
+
+        expect:
+        listener.rateLimiter != null
+        listener.rateLimiter.rate == 5
+
+        when:
+        10.times { producer.send("message $it".toString()) }
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            consumer.receivedAt.size() == 10
+        }
+
+        and: '10 messages at 5/s take at least 0.8s'
+        (consumer.receivedAt[9] - consumer.receivedAt[0]) / 1_000_000 >= 800
+    }
+}
@@ -0,0 +1,24 @@
+package io.micronaut.jms.docs.requestreply
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.jms.annotations.RequestReply
+import io.micronaut.messaging.annotation.MessageBody
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+// end::imports[]
+
+@Requires(property = "spec.name", value = 'RequestReplySpec')
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class QuoteConsumer {
+
+    @Queue("quote-requests")
+    @RequestReply
+    String quote(@MessageBody String symbol) { // <1>
+        symbol + "=42"
+    }
+}
+// end::clazz[]
@@ -0,0 +1,37 @@
+package io.micronaut.jms.docs.requestreply
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+class RequestReplySpec extends AbstractJmsSpec {
+
+    void 'request reply'() {
+        given:
+        def producer = applicationContext.getBean QuoteProducer
+
+        expect:
+        producer.quote("ACME") == "ACME=42"
+        producer.quoteAsync("INIT").get(5, TimeUnit.SECONDS) == "INIT=42"
+    }
+
+    void 'a method without request reply only sends'() {
+        given:
+        def producer = applicationContext.getBean QuoteProducer
+
+        expect:
+        producer.publish("NOOP") == null
+    }
+
+    void 'concurrent requests share the reply queue'() {
+        given:
+        def producer = applicationContext.getBean QuoteProducer
+
+        when:
+        List<CompletableFuture<String>> replies = (0..<20).collect { producer.quoteAsync("S$it".toString()) }
+
+        then:
+        replies*.join() == (0..<20).collect { "S$it=42".toString() }
+    }
+}
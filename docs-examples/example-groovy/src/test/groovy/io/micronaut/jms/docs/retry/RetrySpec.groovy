@@ -0,0 +1,31 @@
+package io.micronaut.jms.docs.retry
+
+import io.micronaut.jms.docs.AbstractJmsSpec
+import spock.util.concurrent.PollingConditions
+
+class RetrySpec extends AbstractJmsSpec {
+
+    @Override
+    protected Map<String, Object> getConfiguration() {
+        super.configuration + [
+            'micronaut.jms.retry.max-attempts' : 3,
+            'micronaut.jms.retry.initial-delay': '10ms'
+        ]
+    }
+
+    void 'a failed message is retried then dead lettered'() {
+        given:
+        def producer = applicationContext.getBean RetryingProducer
+        def consumer = applicationContext.getBean RetryingConsumer
+
+        when:
+        producer.send("poison")
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            consumer.deadLetters.size() == 1
+        }
+        consumer.attempts.size() == 3
+        consumer.deadLetters[0] == "Cannot process poison"
+    }
+}
@@ -0,0 +1,22 @@
+package io.micronaut.jms.docs.tracing
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+// end::imports[]
+
+@Requires(property = "spec.name", value = 'TracingSpec')
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class TracingConsumer {
+
+    @Queue("tracing-queue")
+    void receive(@MessageBody String message) {
+        // runs within a consumer span continuing the trace of the producer
+    }
+}
+// end::clazz[]
@@ -0,0 +1,66 @@
+package io.micronaut.jms.docs.tracing
+
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.docs.AbstractJmsSpec
+import io.micronaut.jms.tracing.OpenTelemetryJMSTracing
+import io.opentelemetry.api.OpenTelemetry
+import io.opentelemetry.api.trace.SpanKind
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator
+import io.opentelemetry.context.propagation.ContextPropagators
+import io.opentelemetry.sdk.OpenTelemetrySdk
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter
+import io.opentelemetry.sdk.trace.SdkTracerProvider
+import io.opentelemetry.sdk.trace.data.SpanData
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor
+import jakarta.inject.Singleton
+
+class TracingSpec extends AbstractJmsSpec {
+
+    void 'the trace is propagated'() {
+        given:
+        def producer = applicationContext.getBean TracingProducer
+        def exporter = applicationContext.getBean InMemorySpanExporter
+
+        when:
+        producer.send("traced")
+
+        then:
+        polling.eventually {
+            exporter.finishedSpanItems.size() == 2
+        }
+
+        when:
+        SpanData publish = exporter.finishedSpanItems.find { it.kind == SpanKind.PRODUCER }
+        SpanData process = exporter.finishedSpanItems.find { it.kind == SpanKind.CONSUMER }
+
+        then:
+        publish.name == "tracing-queue publish"
+        process.name == "tracing-queue process"
+        publish.traceId == process.traceId
+        publish.spanId == process.parentSpanId
+        process.attributes.get(OpenTelemetryJMSTracing.QUEUE_TIME) != null
+        process.attributes.get(OpenTelemetryJMSTracing.DESERIALIZATION_TIME) != null
+        process.attributes.get(OpenTelemetryJMSTracing.HANDLER_TIME) != null
+    }
+
+    @Factory
+    @Requires(property = "spec.name", value = 'TracingSpec')
+    static class OpenTelemetryFactory {
+
+        @Singleton
+        InMemorySpanExporter spanExporter() {
+            InMemorySpanExporter.create()
+        }
+
+        @Singleton
+        OpenTelemetry openTelemetry(InMemorySpanExporter exporter) {
+            OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                    .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                    .build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build()
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.micronaut.jms.docs.configuration;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import io.micronaut.jms.pool.DestinationCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DestinationCacheSpec extends AbstractJmsSpec {
+
+    @Override
+    protected Map<String, Object> getConfiguration() {
+        Map<String, Object> config = super.getConfiguration();
+        config.put("micronaut.jms.destination-cache.pre-resolve", true);
+        return config;
+    }
+
+    @Test
+    void testDestinationsAreResolvedOnce() {
+        DestinationCache cache = getConnectionPool().getDestinationCache();
+        // resolved at startup from the @Queue of the producer
+        assertEquals(1, cache.size());
+
+        DestinationCacheProducer producer = applicationContext.getBean(DestinationCacheProducer.class);
+        producer.send("first");
+        producer.send("second");
+
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,44 @@
+package io.micronaut.jms.docs.consumer;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer;
+import io.micronaut.jms.templates.JmsProducer;
+import org.junit.jupiter.api.Test;
+// tag::imports[]
+import io.micronaut.jms.templates.JmsConsumer;
+import jakarta.jms.Message;
+
+import java.time.Duration;
+import java.util.List;
+// end::imports[]
+
+import static io.micronaut.jms.model.JMSDestinationType.QUEUE;
+import static jakarta.jms.Message.DEFAULT_TIME_TO_LIVE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ConsumerSpec extends AbstractJmsSpec {
+
+    @Test
+    void testTimedAndBatchedReceive() throws Exception {
+        DefaultSerializerDeserializer serdes = applicationContext.getBean(DefaultSerializerDeserializer.class);
+        JmsProducer<String> producer = new JmsProducer<>(QUEUE, getConnectionPool(), serdes);
+        for (int i = 0; i < 5; i++) {
+            producer.send("work", "task-" + i, DEFAULT_TIME_TO_LIVE);
+        }
+
+        // tag::clazz[]
+        try (JmsConsumer consumer = new JmsConsumer(QUEUE, getConnectionPool(), serdes)) { // <1>
+            String first = consumer.receive("work", String.class, Duration.ofSeconds(5)); // <2>
+            List<Message> batch = consumer.receiveBatch("work", 10, Duration.ofSeconds(1)); // <3>
+            Message none = consumer.receiveNoWait("work"); // <4>
+            // end::clazz[]
+
+            assertEquals("task-0", first);
+            assertEquals(4, batch.size());
+            assertEquals("task-4", serdes.deserialize(batch.get(3), String.class));
+            assertNull(none);
+            assertNull(consumer.receive("work", Duration.ofMillis(100)));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.micronaut.jms.docs.consumer;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer;
+import io.micronaut.jms.templates.JmsProducer;
+import org.junit.jupiter.api.Test;
+// tag::imports[]
+import io.micronaut.jms.templates.JmsConsumer;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+// end::imports[]
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.micronaut.jms.model.JMSDestinationType.QUEUE;
+import static jakarta.jms.Message.DEFAULT_TIME_TO_LIVE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StreamSpec extends AbstractJmsSpec {
+
+    @Test
+    void testStreamFollowsDemand() throws Exception {
+        DefaultSerializerDeserializer serdes = applicationContext.getBean(DefaultSerializerDeserializer.class);
+        JmsProducer<String> producer = new JmsProducer<>(QUEUE, getConnectionPool(), serdes);
+        for (int i = 0; i < 3; i++) {
+            producer.send("stream", "event-" + i, DEFAULT_TIME_TO_LIVE);
+        }
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        Subscription[] subscription = new Subscription[1];
+
+        try (JmsConsumer consumer = new JmsConsumer(QUEUE, getConnectionPool(), serdes)) {
+            // tag::clazz[]
+            Publisher<String> events = consumer.stream("stream", String.class);
+            events.subscribe(new Subscriber<>() {
+                @Override
+                public void onSubscribe(Subscription s) {
+                    subscription[0] = s;
+                    s.request(2); // <1>
+                }
+
+                @Override
+                public void onNext(String event) {
+                    received.add(event); // <2>
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+            // end::clazz[]
+
+            await().atMost(5, SECONDS).until(() -> received.size() == 2);
+            Thread.sleep(500);
+            assertEquals(List.of("event-0", "event-1"), received);
+
+            subscription[0].request(1);
+            await().atMost(5, SECONDS).until(() -> received.size() == 3);
+            assertEquals("event-2", received.get(2));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.micronaut.jms.docs.context;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jms.annotations.JMSListener;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.messaging.annotation.MessageHeader;
+
+import jakarta.jms.DeliveryMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME;
+import static io.micronaut.jms.model.JMSHeaders.JMS_DELIVERY_MODE;
+import static io.micronaut.jms.model.JMSHeaders.JMS_PRIORITY;
+
+@Requires(property = "spec.name", value = "ContextSpec")
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class ContextConsumer {
+
+    final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+    @Queue("context-queue")
+    void receive(@MessageBody String body,
+                 @MessageHeader(JMS_DELIVERY_MODE) int deliveryMode,
+                 @MessageHeader(JMS_PRIORITY) int priority) {
+        messages.add(body + (deliveryMode == DeliveryMode.PERSISTENT ? " persistent " : " non-persistent ") + priority);
+    }
+}
@@ -0,0 +1,41 @@
+package io.micronaut.jms.docs.context;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer;
+import org.junit.jupiter.api.Test;
+// tag::imports[]
+import io.micronaut.jms.model.DeliveryOptions;
+import io.micronaut.jms.model.JMSDeliveryMode;
+import io.micronaut.jms.templates.JmsProducer;
+// end::imports[]
+
+import java.util.List;
+
+import static io.micronaut.jms.model.JMSDestinationType.QUEUE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ContextSpec extends AbstractJmsSpec {
+
+    @Test
+    void testSendWithDeliveryOptions() {
+        ContextConsumer consumer = applicationContext.getBean(ContextConsumer.class);
+        JmsProducer<String> producer = new JmsProducer<>(QUEUE, getConnectionPool(),
+            applicationContext.getBean(DefaultSerializerDeserializer.class));
+
+        // tag::clazz[]
+        DeliveryOptions options = DeliveryOptions.builder()
+            .deliveryMode(JMSDeliveryMode.NON_PERSISTENT)
+            .priority(7)
+            .build();
+        producer.send("context-queue", "urgent", options);
+        producer.send("context-queue", "regular", DeliveryOptions.DEFAULT);
+        // end::clazz[]
+
+        await().atMost(5, SECONDS).until(() -> consumer.messages.size() == 2);
+        assertEquals(List.of("urgent non-persistent 7", "regular persistent 4"), consumer.messages);
+        // the context and its producer were reused for the second message
+        assertEquals(1, getConnectionPool().getContextPool().getCreatedCount());
+    }
+}
@@ -0,0 +1,23 @@
+package io.micronaut.jms.docs.customizer;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+
+public class ListenerCustomizerSpec extends AbstractJmsSpec {
+
+    @Test
+    void testProcessingHookObservesEachMessage() {
+        CustomizedProducer producer = applicationContext.getBean(CustomizedProducer.class);
+        CustomizedConsumer consumer = applicationContext.getBean(CustomizedConsumer.class);
+        ProcessingTimeCustomizer customizer = applicationContext.getBean(ProcessingTimeCustomizer.class);
+
+        producer.send("hello");
+
+        await().atMost(5, SECONDS).until(() -> consumer.messages.contains("hello"));
+        await().atMost(5, SECONDS).until(() ->
+            customizer.lastProcessingNanos.containsKey("CustomizedConsumer#receive"));
+    }
+}
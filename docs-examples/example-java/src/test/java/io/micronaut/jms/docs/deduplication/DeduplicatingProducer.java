@@ -0,0 +1,16 @@
+package io.micronaut.jms.docs.deduplication;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jms.annotations.JMSProducer;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.messaging.annotation.MessageHeader;
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME;
+
+@Requires(property = "spec.name", value = "DeduplicationSpec")
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+public interface DeduplicatingProducer {
+    @Queue("payments")
+    void send(@MessageBody String payment, @MessageHeader("paymentId") String paymentId);
+}
@@ -0,0 +1,34 @@
+package io.micronaut.jms.docs.deduplication;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import io.micronaut.jms.listener.JMSListenerRegistry;
+import io.micronaut.jms.listener.MessageDeduplicator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DeduplicationSpec extends AbstractJmsSpec {
+
+    @Test
+    void testDuplicateMessagesAreSkipped() {
+        DeduplicatingProducer producer = applicationContext.getBean(DeduplicatingProducer.class);
+        DeduplicatingConsumer consumer = applicationContext.getBean(DeduplicatingConsumer.class);
+        MessageDeduplicator deduplicator = applicationContext.getBean(JMSListenerRegistry.class)
+            .findListener("DeduplicatingConsumer#receive").orElseThrow()
+            .getDeduplicator();
+
+        producer.send("first payment", "1");
+        producer.send("first payment again", "1");
+        producer.send("second payment", "2");
+
+        await().atMost(5, SECONDS).until(() -> consumer.payments.size() == 2 &&
+            deduplicator.getHitCount() + deduplicator.getMissCount() == 3);
+        assertEquals(List.of("first payment", "second payment"), consumer.payments);
+        assertEquals(1, deduplicator.getHitCount());
+        assertEquals(2, deduplicator.getStore().size());
+    }
+}
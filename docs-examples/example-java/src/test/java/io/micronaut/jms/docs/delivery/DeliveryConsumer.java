@@ -0,0 +1,43 @@
+package io.micronaut.jms.docs.delivery;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jms.annotations.JMSListener;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.messaging.annotation.MessageHeader;
+
+import jakarta.jms.DeliveryMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME;
+import static io.micronaut.jms.model.JMSHeaders.JMS_DELIVERY_MODE;
+import static io.micronaut.jms.model.JMSHeaders.JMS_PRIORITY;
+import static io.micronaut.jms.model.JMSHeaders.JMS_TIMESTAMP;
+
+@Requires(property = "spec.name", value = "DeliverySpec")
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class DeliveryConsumer {
+
+    final List<String> telemetry = Collections.synchronizedList(new ArrayList<>());
+    final List<String> orders = Collections.synchronizedList(new ArrayList<>());
+
+    @Queue("telemetry")
+    void receiveTelemetry(@MessageBody String body,
+                          @MessageHeader(JMS_DELIVERY_MODE) int deliveryMode,
+                          @MessageHeader(JMS_TIMESTAMP) long timestamp) {
+        telemetry.add(body + " " + mode(deliveryMode) + (timestamp == 0 ? " without timestamp" : " with timestamp"));
+    }
+
+    @Queue("orders")
+    void receiveOrder(@MessageBody String body,
+                      @MessageHeader(JMS_DELIVERY_MODE) int deliveryMode,
+                      @MessageHeader(JMS_PRIORITY) int priority) {
+        orders.add(body + " " + mode(deliveryMode) + " " + priority);
+    }
+
+    private static String mode(int deliveryMode) {
+        return deliveryMode == DeliveryMode.PERSISTENT ? "persistent" : "non-persistent";
+    }
+}
@@ -0,0 +1,30 @@
+package io.micronaut.jms.docs.delivery;
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jms.annotations.JMSProducer;
+import io.micronaut.jms.annotations.MessageDeliveryMode;
+import io.micronaut.jms.annotations.MessagePriority;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.jms.model.JMSDeliveryMode;
+import io.micronaut.messaging.annotation.MessageBody;
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME;
+// end::imports[]
+
+@Requires(property = "spec.name", value = "DeliverySpec")
+// tag::clazz[]
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+public interface DeliveryProducer {
+
+    @Queue(value = "telemetry",
+        deliveryMode = JMSDeliveryMode.NON_PERSISTENT,
+        disableMessageTimestamp = true) // <1>
+    void sendTelemetry(@MessageBody String body);
+
+    @Queue(value = "orders", priority = 6) // <2>
+    void sendOrder(@MessageBody String body,
+                   @MessagePriority Integer priority,
+                   @MessageDeliveryMode JMSDeliveryMode deliveryMode); // <3>
+}
+// end::clazz[]
@@ -0,0 +1,37 @@
+package io.micronaut.jms.docs.delivery;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import io.micronaut.jms.model.JMSDeliveryMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DeliverySpec extends AbstractJmsSpec {
+
+    @Test
+    void testDeliveryOptionsOfTheMethod() {
+        DeliveryProducer producer = applicationContext.getBean(DeliveryProducer.class);
+        DeliveryConsumer consumer = applicationContext.getBean(DeliveryConsumer.class);
+
+        producer.sendTelemetry("cpu=0.5");
+
+        await().atMost(5, SECONDS).until(() -> consumer.telemetry.size() == 1);
+        assertEquals(List.of("cpu=0.5 non-persistent without timestamp"), consumer.telemetry);
+    }
+
+    @Test
+    void testDeliveryOptionsOfTheCall() {
+        DeliveryProducer producer = applicationContext.getBean(DeliveryProducer.class);
+        DeliveryConsumer consumer = applicationContext.getBean(DeliveryConsumer.class);
+
+        producer.sendOrder("regular", null, null);
+        producer.sendOrder("urgent", 9, JMSDeliveryMode.NON_PERSISTENT);
+
+        await().atMost(5, SECONDS).until(() -> consumer.orders.size() == 2);
+        assertEquals(List.of("regular persistent 6", "urgent non-persistent 9"), consumer.orders);
+    }
+}
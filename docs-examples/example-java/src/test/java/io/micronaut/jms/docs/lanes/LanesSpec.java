@@ -0,0 +1,42 @@
+package io.micronaut.jms.docs.lanes;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import io.micronaut.jms.listener.JMSListener;
+import io.micronaut.jms.listener.JMSListenerRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class LanesSpec extends AbstractJmsSpec {
+
+    @Test
+    void testMessagesOfAGroupAreHandledInOrder() {
+        OrderedProducer producer = applicationContext.getBean(OrderedProducer.class);
+        OrderedConsumer consumer = applicationContext.getBean(OrderedConsumer.class);
+        JMSListener listener = applicationContext.getBean(JMSListenerRegistry.class)
+            .findListener("OrderedConsumer#receive").orElseThrow();
+        assertNotNull(listener.getLaneDispatcher());
+        assertEquals(4, listener.getLaneDispatcher().getLaneCount());
+
+        for (int i = 0; i < 50; i++) {
+            for (String customer : List.of("a", "b", "c")) {
+                producer.send(i, customer);
+            }
+        }
+
+        await().atMost(10, SECONDS).until(() -> consumer.messagesByCustomer.values().stream()
+            .mapToInt(List::size).sum() == 150);
+        List<Integer> expected = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+        for (String customer : List.of("a", "b", "c")) {
+            assertEquals(expected, consumer.messagesByCustomer.get(customer));
+        }
+        await().atMost(5, SECONDS).until(() -> listener.getLaneDispatcher().getInFlight() == 0);
+    }
+}
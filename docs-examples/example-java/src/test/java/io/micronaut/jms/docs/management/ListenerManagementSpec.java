@@ -0,0 +1,45 @@
+package io.micronaut.jms.docs.management;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import io.micronaut.jms.listener.JMSListener;
+import io.micronaut.jms.listener.JMSListenerRegistry;
+import io.micronaut.jms.listener.JMSListenerState;
+import org.junit.jupiter.api.Test;
+
+import jakarta.jms.JMSException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ListenerManagementSpec extends AbstractJmsSpec {
+
+    @Test
+    void testPauseAndResumeListener() throws JMSException {
+        PausableProducer producer = applicationContext.getBean(PausableProducer.class);
+        PausableConsumer consumer = applicationContext.getBean(PausableConsumer.class);
+        JMSListenerRegistry registry = applicationContext.getBean(JMSListenerRegistry.class);
+
+        JMSListener listener = registry.findListener("PausableConsumer#receive").orElseThrow();
+        assertEquals(JMSListenerState.RUNNING, listener.getState());
+        assertEquals(2, listener.getConcurrency());
+        assertEquals(1, registry.getListeners("pausable-queue").size());
+
+        producer.send("before pause");
+        await().atMost(5, SECONDS).until(() -> consumer.messages.contains("before pause"));
+
+        registry.pause(listener.getId());
+        assertEquals(JMSListenerState.PAUSED, listener.getState());
+
+        producer.send("while paused");
+        await().pollDelay(500, MILLISECONDS).atMost(5, SECONDS).until(() -> !consumer.messages.contains("while paused"));
+
+        registry.setConcurrency(listener.getId(), 1);
+        registry.resume(listener.getId());
+        assertEquals(JMSListenerState.RUNNING, listener.getState());
+        assertEquals(1, listener.getConcurrency());
+
+        await().atMost(5, SECONDS).until(() -> consumer.messages.contains("while paused"));
+    }
+}
@@ -0,0 +1,62 @@
+package io.micronaut.jms.docs.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class MetricsSpec extends AbstractJmsSpec {
+
+    @Override
+    protected Map<String, Object> getConfiguration() {
+        Map<String, Object> config = super.getConfiguration();
+        // use the registry of the spec instead of the one created by micronaut-micrometer
+        config.put("micronaut.metrics.enabled", false);
+        return config;
+    }
+
+    @Test
+    void testMetricsAreRecorded() {
+        MetricsProducer producer = applicationContext.getBean(MetricsProducer.class);
+        MeterRegistry registry = applicationContext.getBean(MeterRegistry.class);
+
+        producer.send("succeed");
+        producer.send("fail");
+
+        assertEquals(2, registry.get("jms.producer.send")
+            .tag("connection.factory", CONNECTION_FACTORY_BEAN_NAME)
+            .tag("destination", "metrics-queue")
+            .tag("outcome", "success")
+            .timer().count());
+
+        await().atMost(5, SECONDS).until(() ->
+            registry.get("jms.listener.messages").tag("result", "success").counter().count() == 1 &&
+            registry.get("jms.listener.messages").tag("result", "error").counter().count() == 1);
+        assertEquals(1, registry.get("jms.listener.handle")
+            .tag("listener", "MetricsConsumer#receive")
+            .tag("outcome", "failure")
+            .timer().count());
+        assertNotNull(registry.get("jms.pool.active").tag("pool", "connection").gauge());
+    }
+
+    @Factory
+    @Requires(property = "spec.name", value = "MetricsSpec")
+    static class MeterRegistryFactory {
+
+        @Singleton
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
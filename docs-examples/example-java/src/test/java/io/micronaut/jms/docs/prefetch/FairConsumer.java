@@ -0,0 +1,28 @@
+package io.micronaut.jms.docs.prefetch;
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jms.annotations.JMSListener;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.messaging.annotation.MessageBody;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME;
+// end::imports[]
+
+@Requires(property = "spec.name", value = "PrefetchSpec")
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class FairConsumer {
+
+    Map<String, String> handledBy = new ConcurrentHashMap<>();
+
+    @Queue(value = "slow-work", concurrency = 2, prefetch = 0) // <1>
+    void receive(@MessageBody String message) throws InterruptedException {
+        Thread.sleep(50);
+        handledBy.put(message, Thread.currentThread().getName());
+    }
+}
+// end::clazz[]
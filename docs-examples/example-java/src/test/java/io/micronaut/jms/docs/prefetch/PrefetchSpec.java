@@ -0,0 +1,33 @@
+package io.micronaut.jms.docs.prefetch;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import io.micronaut.jms.listener.JMSListener;
+import io.micronaut.jms.listener.JMSListenerRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrefetchSpec extends AbstractJmsSpec {
+
+    @Test
+    void testListenerWithoutPrefetchSharesWork() {
+        FairProducer producer = applicationContext.getBean(FairProducer.class);
+        FairConsumer consumer = applicationContext.getBean(FairConsumer.class);
+        JMSListener listener = applicationContext.getBean(JMSListenerRegistry.class)
+            .findListener("FairConsumer#receive").orElseThrow();
+        assertEquals("slow-work", listener.getDestination());
+
+        for (int i = 0; i < 20; i++) {
+            producer.send("message " + i);
+        }
+
+        await().atMost(10, SECONDS).until(() -> consumer.handledBy.size() == 20);
+        assertTrue(new HashSet<>(consumer.handledBy.values()).size() > 1,
+            "work was handled by a single consumer");
+    }
+}
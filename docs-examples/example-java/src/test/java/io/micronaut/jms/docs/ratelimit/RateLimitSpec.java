@@ -0,0 +1,33 @@
+package io.micronaut.jms.docs.ratelimit;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import io.micronaut.jms.listener.JMSListener;
+import io.micronaut.jms.listener.JMSListenerRegistry;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RateLimitSpec extends AbstractJmsSpec {
+
+    @Test
+    void testListenerIsRateLimited() {
+        RateLimitedProducer producer = applicationContext.getBean(RateLimitedProducer.class);
+        RateLimitedConsumer consumer = applicationContext.getBean(RateLimitedConsumer.class);
+        JMSListener listener = applicationContext.getBean(JMSListenerRegistry.class)
+            .findListener("RateLimitedConsumer#receive").orElseThrow();
+        assertNotNull(listener.getRateLimiter());
+        assertEquals(5, listener.getRateLimiter().getRate());
+
+        for (int i = 0; i < 10; i++) {
+            producer.send("message " + i);
+        }
+
+        await().atMost(10, SECONDS).until(() -> consumer.receivedAt.size() == 10);
+        long elapsedMillis = (consumer.receivedAt.get(9) - consumer.receivedAt.get(0)) / 1_000_000;
+        assertTrue(elapsedMillis >= 800, "10 messages at 5/s were received in " + elapsedMillis + "ms");
+    }
+}
@@ -0,0 +1,27 @@
+package io.micronaut.jms.docs.ratelimit;
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jms.annotations.JMSListener;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.messaging.annotation.MessageBody;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME;
+// end::imports[]
+
+@Requires(property = "spec.name", value = "RateLimitSpec")
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class RateLimitedConsumer {
+
+    List<Long> receivedAt = new CopyOnWriteArrayList<>();
+
+    @Queue(value = "rate-limited-queue", rateLimit = "5/s", adaptiveRateLimit = true) // <1>
+    void receive(@MessageBody String message) {
+        receivedAt.add(System.nanoTime());
+    }
+}
+// end::clazz[]
@@ -0,0 +1,15 @@
+package io.micronaut.jms.docs.ratelimit;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jms.annotations.JMSProducer;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.messaging.annotation.MessageBody;
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME;
+
+@Requires(property = "spec.name", value = "RateLimitSpec")
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+public interface RateLimitedProducer {
+    @Queue("rate-limited-queue")
+    void send(@MessageBody String body);
+}
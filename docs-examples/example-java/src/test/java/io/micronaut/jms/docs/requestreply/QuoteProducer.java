@@ -0,0 +1,31 @@
+package io.micronaut.jms.docs.requestreply;
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jms.annotations.JMSProducer;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.jms.annotations.RequestReply;
+import io.micronaut.messaging.annotation.MessageBody;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME;
+// end::imports[]
+
+@Requires(property = "spec.name", value = "RequestReplySpec")
+// tag::clazz[]
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+public interface QuoteProducer {
+
+    @Queue("quote-requests")
+    @RequestReply
+    String quote(@MessageBody String symbol); // <1>
+
+    @Queue("quote-requests")
+    @RequestReply
+    CompletableFuture<String> quoteAsync(@MessageBody String symbol); // <2>
+
+    @Queue("quote-requests")
+    String publish(@MessageBody String symbol); // <3>
+}
+// end::clazz[]
@@ -0,0 +1,43 @@
+package io.micronaut.jms.docs.requestreply;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RequestReplySpec extends AbstractJmsSpec {
+
+    @Test
+    void testRequestReply() throws Exception {
+        QuoteProducer producer = applicationContext.getBean(QuoteProducer.class);
+
+        assertEquals("ACME=42", producer.quote("ACME"));
+        assertEquals("INIT=42", producer.quoteAsync("INIT").get(5, SECONDS));
+    }
+
+    @Test
+    void testMethodWithoutRequestReplyOnlySends() {
+        QuoteProducer producer = applicationContext.getBean(QuoteProducer.class);
+
+        assertNull(producer.publish("NOOP"));
+    }
+
+    @Test
+    void testConcurrentRequestsShareTheReplyQueue() {
+        QuoteProducer producer = applicationContext.getBean(QuoteProducer.class);
+
+        List<CompletableFuture<String>> replies = IntStream.range(0, 20)
+            .mapToObj(i -> producer.quoteAsync("S" + i))
+            .toList();
+
+        for (int i = 0; i < replies.size(); i++) {
+            assertEquals("S" + i + "=42", replies.get(i).join());
+        }
+    }
+}
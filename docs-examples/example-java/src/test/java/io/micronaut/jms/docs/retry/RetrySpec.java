@@ -0,0 +1,33 @@
+package io.micronaut.jms.docs.retry;
+
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RetrySpec extends AbstractJmsSpec {
+
+    @Override
+    protected Map<String, Object> getConfiguration() {
+        Map<String, Object> config = super.getConfiguration();
+        config.put("micronaut.jms.retry.max-attempts", 3);
+        config.put("micronaut.jms.retry.initial-delay", "10ms");
+        return config;
+    }
+
+    @Test
+    void testFailedMessageIsRetriedThenDeadLettered() {
+        RetryingProducer producer = applicationContext.getBean(RetryingProducer.class);
+        RetryingConsumer consumer = applicationContext.getBean(RetryingConsumer.class);
+
+        producer.send("poison");
+
+        await().atMost(10, SECONDS).until(() -> consumer.deadLetters.size() == 1);
+        assertEquals(3, consumer.attempts.size());
+        assertEquals("Cannot process poison", consumer.deadLetters.get(0));
+    }
+}
@@ -0,0 +1,39 @@
+package io.micronaut.jms.docs.retry;
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jms.annotations.JMSListener;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.jms.listener.RetryingJMSListenerErrorHandler;
+import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.messaging.annotation.MessageHeader;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME;
+import static io.micronaut.jms.listener.RetryingJMSListenerErrorHandler.DLQ_EXCEPTION_MESSAGE;
+// end::imports[]
+
+@Requires(property = "spec.name", value = "RetrySpec")
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class RetryingConsumer {
+
+    Collection<String> attempts = new CopyOnWriteArrayList<>();
+    List<String> deadLetters = new CopyOnWriteArrayList<>();
+
+    @Queue(value = "retry-queue", errorHandlers = RetryingJMSListenerErrorHandler.class) // <1>
+    void receive(@MessageBody String message) {
+        attempts.add(message);
+        throw new IllegalStateException("Cannot process " + message);
+    }
+
+    @Queue("retry-queue.DLQ") // <2>
+    void receiveDeadLetter(@MessageBody String message,
+                           @MessageHeader(DLQ_EXCEPTION_MESSAGE) String error) { // <3>
+        deadLetters.add(error);
+    }
+}
+// end::clazz[]
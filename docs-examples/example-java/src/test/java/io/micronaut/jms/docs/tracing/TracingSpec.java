@@ -0,0 +1,68 @@
+package io.micronaut.jms.docs.tracing;
+
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jms.docs.AbstractJmsSpec;
+import io.micronaut.jms.tracing.OpenTelemetryJMSTracing;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class TracingSpec extends AbstractJmsSpec {
+
+    @Test
+    void testTraceIsPropagated() {
+        TracingProducer producer = applicationContext.getBean(TracingProducer.class);
+        InMemorySpanExporter exporter = applicationContext.getBean(InMemorySpanExporter.class);
+
+        producer.send("traced");
+
+        await().atMost(5, SECONDS).until(() -> exporter.getFinishedSpanItems().size() == 2);
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        SpanData publish = spans.stream().filter(s -> s.getKind() == SpanKind.PRODUCER).findFirst().orElseThrow();
+        SpanData process = spans.stream().filter(s -> s.getKind() == SpanKind.CONSUMER).findFirst().orElseThrow();
+
+        assertEquals("tracing-queue publish", publish.getName());
+        assertEquals("tracing-queue process", process.getName());
+        assertEquals(publish.getTraceId(), process.getTraceId());
+        assertEquals(publish.getSpanId(), process.getParentSpanId());
+        assertNotNull(process.getAttributes().get(OpenTelemetryJMSTracing.QUEUE_TIME));
+        assertNotNull(process.getAttributes().get(OpenTelemetryJMSTracing.DESERIALIZATION_TIME));
+        assertNotNull(process.getAttributes().get(OpenTelemetryJMSTracing.HANDLER_TIME));
+    }
+
+    @Factory
+    @Requires(property = "spec.name", value = "TracingSpec")
+    static class OpenTelemetryFactory {
+
+        @Singleton
+        InMemorySpanExporter spanExporter() {
+            return InMemorySpanExporter.create();
+        }
+
+        @Singleton
+        OpenTelemetry openTelemetry(InMemorySpanExporter exporter) {
+            return OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                    .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                    .build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+        }
+    }
+}
@@ -5,6 +5,8 @@ plugins {
 }
 dependencies {
     testImplementation(libs.awaitility)
+    testImplementation(mnMicrometer.micronaut.micrometer.core)
+    testImplementation(libs.opentelemetry.sdk.testing)
 }
 micronaut {
     importMicronautPlatform.set(false)
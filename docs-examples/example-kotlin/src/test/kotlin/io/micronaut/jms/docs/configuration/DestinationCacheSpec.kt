@@ -0,0 +1,33 @@
+package io.micronaut.jms.docs.configuration
+
+import io.kotest.matchers.shouldBe
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.docs.AbstractJmsKotest
+import io.micronaut.jms.pool.JMSConnectionPool
+
+class DestinationCacheSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("destinations pre-resolved at startup") {
+        val applicationContext = startContext(
+            getDefaultConfig(specName) + ("micronaut.jms.destination-cache.pre-resolve" to true))
+        val cache = applicationContext.getBean(JMSConnectionPool::class.java, Qualifiers.byName(CONNECTION_FACTORY_BEAN_NAME))
+            .destinationCache
+
+        `when`("messages are sent to a destination") {
+            // resolved at startup from the @Queue of the producer
+            cache.size() shouldBe 1
+
+            val producer = applicationContext.getBean(DestinationCacheProducer::class.java)
+            producer.send("first")
+            producer.send("second")
+
+            then("the destination is resolved once") {
+                cache.size() shouldBe 1
+            }
+        }
+        applicationContext.stop()
+    }
+})
@@ -0,0 +1,49 @@
+package io.micronaut.jms.docs.consumer
+
+import io.kotest.matchers.shouldBe
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.docs.AbstractJmsKotest
+import io.micronaut.jms.model.JMSDestinationType.QUEUE
+import io.micronaut.jms.pool.JMSConnectionPool
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer
+import io.micronaut.jms.templates.JmsProducer
+import jakarta.jms.Message.DEFAULT_TIME_TO_LIVE
+// tag::imports[]
+import io.micronaut.jms.templates.JmsConsumer
+import java.time.Duration
+// end::imports[]
+
+class ConsumerSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("messages in a queue") {
+        val applicationContext = startContext(specName)
+        val connectionPool = applicationContext.getBean(JMSConnectionPool::class.java, Qualifiers.byName(CONNECTION_FACTORY_BEAN_NAME))
+        val serdes = applicationContext.getBean(DefaultSerializerDeserializer::class.java)
+        val producer = JmsProducer<String>(QUEUE, connectionPool, serdes)
+        for (i in 0 until 5) {
+            producer.send("work", "task-$i", DEFAULT_TIME_TO_LIVE)
+        }
+
+        `when`("they are received with timeouts and in batches") {
+            // tag::clazz[]
+            JmsConsumer(QUEUE, connectionPool, serdes).use { consumer -> // <1>
+                val first = consumer.receive("work", String::class.java, Duration.ofSeconds(5)) // <2>
+                val batch = consumer.receiveBatch("work", 10, Duration.ofSeconds(1)) // <3>
+                val none = consumer.receiveNoWait("work") // <4>
+                // end::clazz[]
+
+                then("each call returns what is available") {
+                    first shouldBe "task-0"
+                    batch.size shouldBe 4
+                    serdes.deserialize(batch[3], String::class.java) shouldBe "task-4"
+                    none shouldBe null
+                    consumer.receive("work", Duration.ofMillis(100)) shouldBe null
+                }
+            }
+        }
+        applicationContext.stop()
+    }
+})
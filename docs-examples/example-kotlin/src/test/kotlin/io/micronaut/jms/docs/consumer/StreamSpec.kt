@@ -0,0 +1,72 @@
+package io.micronaut.jms.docs.consumer
+
+import io.kotest.matchers.shouldBe
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.docs.AbstractJmsKotest
+import io.micronaut.jms.model.JMSDestinationType.QUEUE
+import io.micronaut.jms.pool.JMSConnectionPool
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer
+import io.micronaut.jms.templates.JmsProducer
+import jakarta.jms.Message.DEFAULT_TIME_TO_LIVE
+import org.awaitility.Awaitility
+import java.util.Collections
+import java.util.concurrent.TimeUnit
+// tag::imports[]
+import io.micronaut.jms.templates.JmsConsumer
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+// end::imports[]
+
+class StreamSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("messages in a queue") {
+        val applicationContext = startContext(specName)
+        val connectionPool = applicationContext.getBean(JMSConnectionPool::class.java, Qualifiers.byName(CONNECTION_FACTORY_BEAN_NAME))
+        val serdes = applicationContext.getBean(DefaultSerializerDeserializer::class.java)
+        val producer = JmsProducer<String>(QUEUE, connectionPool, serdes)
+        for (i in 0 until 3) {
+            producer.send("stream", "event-$i", DEFAULT_TIME_TO_LIVE)
+        }
+        val received: MutableList<String> = Collections.synchronizedList(ArrayList())
+        var subscription: Subscription? = null
+
+        `when`("they are streamed") {
+            JmsConsumer(QUEUE, connectionPool, serdes).use { consumer ->
+                // tag::clazz[]
+                val events: Publisher<String> = consumer.stream("stream", String::class.java)
+                events.subscribe(object : Subscriber<String> {
+                    override fun onSubscribe(s: Subscription) {
+                        subscription = s
+                        s.request(2) // <1>
+                    }
+
+                    override fun onNext(event: String) {
+                        received.add(event) // <2>
+                    }
+
+                    override fun onError(t: Throwable) {
+                    }
+
+                    override fun onComplete() {
+                    }
+                })
+                // end::clazz[]
+
+                then("the stream follows the demand") {
+                    Awaitility.await().atMost(5, TimeUnit.SECONDS).until { received.size == 2 }
+                    Thread.sleep(500)
+                    received shouldBe listOf("event-0", "event-1")
+
+                    subscription!!.request(1)
+                    Awaitility.await().atMost(5, TimeUnit.SECONDS).until { received.size == 3 }
+                    received[2] shouldBe "event-2"
+                }
+            }
+        }
+        applicationContext.stop()
+    }
+})
@@ -0,0 +1,26 @@
+package io.micronaut.jms.docs.context
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.jms.model.JMSHeaders.JMS_DELIVERY_MODE
+import io.micronaut.jms.model.JMSHeaders.JMS_PRIORITY
+import io.micronaut.messaging.annotation.MessageBody
+import io.micronaut.messaging.annotation.MessageHeader
+import jakarta.jms.DeliveryMode
+import java.util.Collections
+
+@Requires(property = "spec.name", value = "ContextSpec")
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class ContextConsumer {
+
+    val messages: MutableList<String> = Collections.synchronizedList(ArrayList())
+
+    @Queue("context-queue")
+    fun receive(@MessageBody body: String,
+                @MessageHeader(JMS_DELIVERY_MODE) deliveryMode: Int,
+                @MessageHeader(JMS_PRIORITY) priority: Int) {
+        messages.add(body + (if (deliveryMode == DeliveryMode.PERSISTENT) " persistent " else " non-persistent ") + priority)
+    }
+}
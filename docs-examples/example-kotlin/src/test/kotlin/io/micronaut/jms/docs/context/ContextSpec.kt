@@ -0,0 +1,48 @@
+package io.micronaut.jms.docs.context
+
+import io.kotest.matchers.shouldBe
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.docs.AbstractJmsKotest
+import io.micronaut.jms.model.JMSDestinationType.QUEUE
+import io.micronaut.jms.pool.JMSConnectionPool
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer
+import org.awaitility.Awaitility
+import java.util.concurrent.TimeUnit
+// tag::imports[]
+import io.micronaut.jms.model.DeliveryOptions
+import io.micronaut.jms.model.JMSDeliveryMode
+import io.micronaut.jms.templates.JmsProducer
+// end::imports[]
+
+class ContextSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("a producer template") {
+        val applicationContext = startContext(specName)
+        val connectionPool = applicationContext.getBean(JMSConnectionPool::class.java, Qualifiers.byName(CONNECTION_FACTORY_BEAN_NAME))
+        val consumer = applicationContext.getBean(ContextConsumer::class.java)
+        val producer = JmsProducer<String>(QUEUE, connectionPool,
+            applicationContext.getBean(DefaultSerializerDeserializer::class.java))
+
+        `when`("messages are sent with delivery options") {
+            // tag::clazz[]
+            val options = DeliveryOptions.builder()
+                .deliveryMode(JMSDeliveryMode.NON_PERSISTENT)
+                .priority(7)
+                .build()
+            producer.send("context-queue", "urgent", options)
+            producer.send("context-queue", "regular", DeliveryOptions.DEFAULT)
+            // end::clazz[]
+
+            then("the options are applied to each message") {
+                Awaitility.await().atMost(5, TimeUnit.SECONDS).until { consumer.messages.size == 2 }
+                consumer.messages shouldBe listOf("urgent non-persistent 7", "regular persistent 4")
+                // the context and its producer were reused for the second message
+                connectionPool.contextPool.createdCount shouldBe 1L
+            }
+        }
+        applicationContext.stop()
+    }
+})
@@ -0,0 +1,20 @@
+package io.micronaut.jms.docs.customizer
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+import java.util.concurrent.CopyOnWriteArrayList
+
+@Requires(property = "spec.name", value = "ListenerCustomizerSpec")
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class CustomizedConsumer {
+
+    val messages: MutableList<String> = CopyOnWriteArrayList()
+
+    @Queue("customized")
+    fun receive(@MessageBody body: String) {
+        messages.add(body)
+    }
+}
@@ -0,0 +1,14 @@
+package io.micronaut.jms.docs.customizer
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSProducer
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+
+@Requires(property = "spec.name", value = "ListenerCustomizerSpec")
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+interface CustomizedProducer {
+    @Queue("customized")
+    fun send(@MessageBody body: String)
+}
@@ -0,0 +1,29 @@
+package io.micronaut.jms.docs.customizer
+
+import io.micronaut.jms.docs.AbstractJmsKotest
+import org.awaitility.Awaitility
+import java.util.concurrent.TimeUnit
+
+class ListenerCustomizerSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("a customizer adding a processing hook") {
+        val applicationContext = startContext(specName)
+        val producer = applicationContext.getBean(CustomizedProducer::class.java)
+        val consumer = applicationContext.getBean(CustomizedConsumer::class.java)
+        val customizer = applicationContext.getBean(ProcessingTimeCustomizer::class.java)
+
+        `when`("a message is processed") {
+            producer.send("hello")
+
+            then("the hook observes it") {
+                Awaitility.await().atMost(5, TimeUnit.SECONDS).until { consumer.messages.contains("hello") }
+                Awaitility.await().atMost(5, TimeUnit.SECONDS).until {
+                    customizer.lastProcessingNanos.containsKey("CustomizedConsumer#receive")
+                }
+            }
+        }
+        applicationContext.stop()
+    }
+})
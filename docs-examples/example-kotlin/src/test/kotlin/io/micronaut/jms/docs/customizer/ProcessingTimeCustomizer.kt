@@ -0,0 +1,27 @@
+package io.micronaut.jms.docs.customizer
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.inject.ExecutableMethod
+import io.micronaut.jms.configuration.JMSListenerCustomizer
+import io.micronaut.jms.listener.JMSListener
+import io.micronaut.jms.listener.JMSListenerProcessingHook
+import jakarta.inject.Singleton
+import java.util.concurrent.ConcurrentHashMap
+// end::imports[]
+
+@Requires(property = "spec.name", value = "ListenerCustomizerSpec")
+// tag::clazz[]
+@Singleton
+class ProcessingTimeCustomizer : JMSListenerCustomizer {
+
+    val lastProcessingNanos: MutableMap<String, Long> = ConcurrentHashMap()
+
+    override fun customize(listener: JMSListener, method: ExecutableMethod<*, *>, connectionFactoryName: String) {
+        listener.addProcessingHooks(JMSListenerProcessingHook { jmsListener, _, _ -> // <1>
+            val start = System.nanoTime()
+            Runnable { lastProcessingNanos[jmsListener.id] = System.nanoTime() - start } // <2>
+        })
+    }
+}
+// end::clazz[]
@@ -0,0 +1,24 @@
+package io.micronaut.jms.docs.deduplication
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+import java.util.concurrent.CopyOnWriteArrayList
+// end::imports[]
+
+@Requires(property = "spec.name", value = "DeduplicationSpec")
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class DeduplicatingConsumer {
+
+    val payments: MutableList<String> = CopyOnWriteArrayList()
+
+    @Queue(value = "payments", deduplicate = true, deduplicationKey = "paymentId") // <1>
+    fun receive(@MessageBody payment: String) {
+        payments.add(payment)
+    }
+}
+// end::clazz[]
@@ -0,0 +1,15 @@
+package io.micronaut.jms.docs.deduplication
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSProducer
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+import io.micronaut.messaging.annotation.MessageHeader
+
+@Requires(property = "spec.name", value = "DeduplicationSpec")
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+interface DeduplicatingProducer {
+    @Queue("payments")
+    fun send(@MessageBody payment: String, @MessageHeader("paymentId") paymentId: String)
+}
@@ -0,0 +1,37 @@
+package io.micronaut.jms.docs.deduplication
+
+import io.kotest.matchers.shouldBe
+import io.micronaut.jms.docs.AbstractJmsKotest
+import io.micronaut.jms.listener.JMSListenerRegistry
+import org.awaitility.Awaitility
+import java.util.concurrent.TimeUnit
+
+class DeduplicationSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("a deduplicating listener") {
+        val applicationContext = startContext(specName)
+        val producer = applicationContext.getBean(DeduplicatingProducer::class.java)
+        val consumer = applicationContext.getBean(DeduplicatingConsumer::class.java)
+        val deduplicator = applicationContext.getBean(JMSListenerRegistry::class.java)
+            .findListener("DeduplicatingConsumer#receive").orElseThrow()
+            .deduplicator!!
+
+        `when`("a message is sent twice") {
+            producer.send("first payment", "1")
+            producer.send("first payment again", "1")
+            producer.send("second payment", "2")
+
+            then("the duplicate is skipped") {
+                Awaitility.await().atMost(5, TimeUnit.SECONDS).until {
+                    consumer.payments.size == 2 && deduplicator.hitCount + deduplicator.missCount == 3L
+                }
+                consumer.payments shouldBe listOf("first payment", "second payment")
+                deduplicator.hitCount shouldBe 1L
+                deduplicator.store.size() shouldBe 2L
+            }
+        }
+        applicationContext.stop()
+    }
+})
@@ -0,0 +1,38 @@
+package io.micronaut.jms.docs.delivery
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.jms.model.JMSHeaders.JMS_DELIVERY_MODE
+import io.micronaut.jms.model.JMSHeaders.JMS_PRIORITY
+import io.micronaut.jms.model.JMSHeaders.JMS_TIMESTAMP
+import io.micronaut.messaging.annotation.MessageBody
+import io.micronaut.messaging.annotation.MessageHeader
+import jakarta.jms.DeliveryMode
+import java.util.Collections
+
+@Requires(property = "spec.name", value = "DeliverySpec")
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class DeliveryConsumer {
+
+    val telemetry: MutableList<String> = Collections.synchronizedList(ArrayList())
+    val orders: MutableList<String> = Collections.synchronizedList(ArrayList())
+
+    @Queue("telemetry")
+    fun receiveTelemetry(@MessageBody body: String,
+                         @MessageHeader(JMS_DELIVERY_MODE) deliveryMode: Int,
+                         @MessageHeader(JMS_TIMESTAMP) timestamp: Long) {
+        telemetry.add("$body ${mode(deliveryMode)}" + if (timestamp == 0L) " without timestamp" else " with timestamp")
+    }
+
+    @Queue("orders")
+    fun receiveOrder(@MessageBody body: String,
+                     @MessageHeader(JMS_DELIVERY_MODE) deliveryMode: Int,
+                     @MessageHeader(JMS_PRIORITY) priority: Int) {
+        orders.add("$body ${mode(deliveryMode)} $priority")
+    }
+
+    private fun mode(deliveryMode: Int) =
+        if (deliveryMode == DeliveryMode.PERSISTENT) "persistent" else "non-persistent"
+}
@@ -0,0 +1,38 @@
+package io.micronaut.jms.docs.delivery
+
+import io.kotest.matchers.shouldBe
+import io.micronaut.jms.docs.AbstractJmsKotest
+import io.micronaut.jms.model.JMSDeliveryMode
+import org.awaitility.Awaitility
+import java.util.concurrent.TimeUnit
+
+class DeliverySpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("a producer with delivery options") {
+        val applicationContext = startContext(specName)
+        val producer = applicationContext.getBean(DeliveryProducer::class.java)
+        val consumer = applicationContext.getBean(DeliveryConsumer::class.java)
+
+        `when`("a message is sent with the options of the method") {
+            producer.sendTelemetry("cpu=0.5")
+
+            then("they are applied") {
+                Awaitility.await().atMost(5, TimeUnit.SECONDS).until { consumer.telemetry.size == 1 }
+                consumer.telemetry shouldBe listOf("cpu=0.5 non-persistent without timestamp")
+            }
+        }
+
+        `when`("messages are sent with the options of the call") {
+            producer.sendOrder("regular", null, null)
+            producer.sendOrder("urgent", 9, JMSDeliveryMode.NON_PERSISTENT)
+
+            then("they override the options of the method") {
+                Awaitility.await().atMost(5, TimeUnit.SECONDS).until { consumer.orders.size == 2 }
+                consumer.orders shouldBe listOf("regular persistent 6", "urgent non-persistent 9")
+            }
+        }
+        applicationContext.stop()
+    }
+})
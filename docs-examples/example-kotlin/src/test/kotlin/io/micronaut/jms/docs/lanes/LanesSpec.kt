@@ -0,0 +1,44 @@
+package io.micronaut.jms.docs.lanes
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.micronaut.jms.docs.AbstractJmsKotest
+import io.micronaut.jms.listener.JMSListenerRegistry
+import org.awaitility.Awaitility
+import java.util.concurrent.TimeUnit
+
+class LanesSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("a listener with lanes") {
+        val applicationContext = startContext(specName)
+        val producer = applicationContext.getBean(OrderedProducer::class.java)
+        val consumer = applicationContext.getBean(OrderedConsumer::class.java)
+        val listener = applicationContext.getBean(JMSListenerRegistry::class.java)
+            .findListener("OrderedConsumer#receive").orElseThrow()
+
+        `when`("the messages of several groups are sent") {
+            val laneDispatcher = listener.laneDispatcher
+            laneDispatcher shouldNotBe null
+            laneDispatcher!!.laneCount shouldBe 4
+
+            for (i in 0 until 50) {
+                for (customer in listOf("a", "b", "c")) {
+                    producer.send(i, customer)
+                }
+            }
+
+            then("the messages of a group are handled in order") {
+                Awaitility.await().atMost(10, TimeUnit.SECONDS).until {
+                    consumer.messagesByCustomer.values.sumOf { it.size } == 150
+                }
+                for (customer in listOf("a", "b", "c")) {
+                    consumer.messagesByCustomer[customer] shouldBe (0 until 50).toList()
+                }
+                Awaitility.await().atMost(5, TimeUnit.SECONDS).until { laneDispatcher.inFlight == 0 }
+            }
+        }
+        applicationContext.stop()
+    }
+})
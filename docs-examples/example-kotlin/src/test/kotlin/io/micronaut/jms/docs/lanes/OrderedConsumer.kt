@@ -0,0 +1,27 @@
+package io.micronaut.jms.docs.lanes
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+import io.micronaut.messaging.annotation.MessageHeader
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+// end::imports[]
+
+@Requires(property = "spec.name", value = "LanesSpec")
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class OrderedConsumer {
+
+    val messagesByCustomer: MutableMap<String, MutableList<Int>> = ConcurrentHashMap()
+
+    @Queue(value = "orders", lanes = 4, laneKey = "JMSXGroupID", maxInFlight = 100) // <1>
+    fun receive(@MessageBody sequence: Int,
+                @MessageHeader("JMSXGroupID") customer: String) {
+        messagesByCustomer.computeIfAbsent(customer) { CopyOnWriteArrayList() }.add(sequence) // <2>
+    }
+}
+// end::clazz[]
@@ -0,0 +1,15 @@
+package io.micronaut.jms.docs.lanes
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSProducer
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+import io.micronaut.messaging.annotation.MessageHeader
+
+@Requires(property = "spec.name", value = "LanesSpec")
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+interface OrderedProducer {
+    @Queue("orders")
+    fun send(@MessageBody sequence: Int, @MessageHeader("JMSXGroupID") customer: String)
+}
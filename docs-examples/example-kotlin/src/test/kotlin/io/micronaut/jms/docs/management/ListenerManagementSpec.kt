@@ -0,0 +1,48 @@
+package io.micronaut.jms.docs.management
+
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.micronaut.jms.docs.AbstractJmsKotest
+import io.micronaut.jms.listener.JMSListenerRegistry
+import io.micronaut.jms.listener.JMSListenerState
+import org.awaitility.Awaitility
+import java.util.concurrent.TimeUnit
+
+class ListenerManagementSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("a running listener") {
+        val applicationContext = startContext(specName)
+        val producer = applicationContext.getBean(PausableProducer::class.java)
+        val consumer = applicationContext.getBean(PausableConsumer::class.java)
+        val registry = applicationContext.getBean(JMSListenerRegistry::class.java)
+        val listener = registry.findListener("PausableConsumer#receive").orElseThrow()
+
+        `when`("it is paused and resumed") {
+            listener.state shouldBe JMSListenerState.RUNNING
+            listener.concurrency shouldBe 2
+            registry.getListeners("pausable-queue") shouldHaveSize 1
+
+            producer.send("before pause")
+            Awaitility.await().atMost(5, TimeUnit.SECONDS).until { consumer.messages.contains("before pause") }
+
+            registry.pause(listener.id)
+            listener.state shouldBe JMSListenerState.PAUSED
+
+            producer.send("while paused")
+            Awaitility.await().pollDelay(500, TimeUnit.MILLISECONDS).atMost(5, TimeUnit.SECONDS)
+                .until { !consumer.messages.contains("while paused") }
+
+            registry.setConcurrency(listener.id, 1)
+            registry.resume(listener.id)
+
+            then("the messages sent while paused are received") {
+                listener.state shouldBe JMSListenerState.RUNNING
+                listener.concurrency shouldBe 1
+                Awaitility.await().atMost(5, TimeUnit.SECONDS).until { consumer.messages.contains("while paused") }
+            }
+        }
+        applicationContext.stop()
+    }
+})
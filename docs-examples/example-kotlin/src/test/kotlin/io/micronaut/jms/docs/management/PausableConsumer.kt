@@ -0,0 +1,24 @@
+package io.micronaut.jms.docs.management
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+import java.util.Collections
+// end::imports[]
+
+@Requires(property = "spec.name", value = "ListenerManagementSpec")
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class PausableConsumer {
+
+    val messages: MutableSet<String> = Collections.synchronizedSet(HashSet())
+
+    @Queue(value = "pausable-queue", concurrency = 2) // <1>
+    fun receive(@MessageBody message: String) {
+        messages.add(message)
+    }
+}
+// end::clazz[]
@@ -0,0 +1,19 @@
+package io.micronaut.jms.docs.metrics
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+
+@Requires(property = "spec.name", value = "MetricsSpec")
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class MetricsConsumer {
+
+    @Queue("metrics-queue")
+    fun receive(@MessageBody message: String) {
+        if (message == "fail") {
+            throw IllegalArgumentException("Cannot process $message")
+        }
+    }
+}
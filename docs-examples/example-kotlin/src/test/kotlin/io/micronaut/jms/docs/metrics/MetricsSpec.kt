@@ -0,0 +1,57 @@
+package io.micronaut.jms.docs.metrics
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.docs.AbstractJmsKotest
+import jakarta.inject.Singleton
+import org.awaitility.Awaitility
+import java.util.concurrent.TimeUnit
+
+class MetricsSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("a meter registry") {
+        // use the registry of the spec instead of the one created by micronaut-micrometer
+        val applicationContext = startContext(getDefaultConfig(specName) + ("micronaut.metrics.enabled" to false))
+        val producer = applicationContext.getBean(MetricsProducer::class.java)
+        val registry = applicationContext.getBean(MeterRegistry::class.java)
+
+        `when`("messages are sent and processed") {
+            producer.send("succeed")
+            producer.send("fail")
+
+            then("metrics are recorded") {
+                registry.get("jms.producer.send")
+                    .tag("connection.factory", CONNECTION_FACTORY_BEAN_NAME)
+                    .tag("destination", "metrics-queue")
+                    .tag("outcome", "success")
+                    .timer().count() shouldBe 2L
+
+                Awaitility.await().atMost(5, TimeUnit.SECONDS).until {
+                    registry.get("jms.listener.messages").tag("result", "success").counter().count() == 1.0 &&
+                        registry.get("jms.listener.messages").tag("result", "error").counter().count() == 1.0
+                }
+                registry.get("jms.listener.handle")
+                    .tag("listener", "MetricsConsumer#receive")
+                    .tag("outcome", "failure")
+                    .timer().count() shouldBe 1L
+                registry.get("jms.pool.active").tag("pool", "connection").gauge() shouldNotBe null
+            }
+        }
+        applicationContext.stop()
+    }
+})
+
+@Factory
+@Requires(property = "spec.name", value = "MetricsSpec")
+class MeterRegistryFactory {
+
+    @Singleton
+    fun meterRegistry(): MeterRegistry = SimpleMeterRegistry()
+}
@@ -0,0 +1,25 @@
+package io.micronaut.jms.docs.prefetch
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+import java.util.concurrent.ConcurrentHashMap
+// end::imports[]
+
+@Requires(property = "spec.name", value = "PrefetchSpec")
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class FairConsumer {
+
+    val handledBy: MutableMap<String, String> = ConcurrentHashMap()
+
+    @Queue(value = "slow-work", concurrency = 2, prefetch = 0) // <1>
+    fun receive(@MessageBody message: String) {
+        Thread.sleep(50)
+        handledBy[message] = Thread.currentThread().name
+    }
+}
+// end::clazz[]
@@ -0,0 +1,14 @@
+package io.micronaut.jms.docs.prefetch
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSProducer
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+
+@Requires(property = "spec.name", value = "PrefetchSpec")
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+interface FairProducer {
+    @Queue("slow-work")
+    fun send(@MessageBody body: String)
+}
@@ -0,0 +1,35 @@
+package io.micronaut.jms.docs.prefetch
+
+import io.kotest.matchers.ints.shouldBeGreaterThan
+import io.kotest.matchers.shouldBe
+import io.micronaut.jms.docs.AbstractJmsKotest
+import io.micronaut.jms.listener.JMSListenerRegistry
+import org.awaitility.Awaitility
+import java.util.concurrent.TimeUnit
+
+class PrefetchSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("a listener without prefetch") {
+        val applicationContext = startContext(specName)
+        val producer = applicationContext.getBean(FairProducer::class.java)
+        val consumer = applicationContext.getBean(FairConsumer::class.java)
+        val listener = applicationContext.getBean(JMSListenerRegistry::class.java)
+            .findListener("FairConsumer#receive").orElseThrow()
+
+        `when`("slow messages are sent") {
+            listener.destination shouldBe "slow-work"
+
+            for (i in 0 until 20) {
+                producer.send("message $i")
+            }
+
+            then("the work is shared by its consumers") {
+                Awaitility.await().atMost(10, TimeUnit.SECONDS).until { consumer.handledBy.size == 20 }
+                consumer.handledBy.values.toSet().size shouldBeGreaterThan 1
+            }
+        }
+        applicationContext.stop()
+    }
+})
@@ -0,0 +1,39 @@
+package io.micronaut.jms.docs.ratelimit
+
+import io.kotest.matchers.longs.shouldBeGreaterThanOrEqual
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.micronaut.jms.docs.AbstractJmsKotest
+import io.micronaut.jms.listener.JMSListenerRegistry
+import org.awaitility.Awaitility
+import java.util.concurrent.TimeUnit
+
+class RateLimitSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("a rate limited listener") {
+        val applicationContext = startContext(specName)
+        val producer = applicationContext.getBean(RateLimitedProducer::class.java)
+        val consumer = applicationContext.getBean(RateLimitedConsumer::class.java)
+        val listener = applicationContext.getBean(JMSListenerRegistry::class.java)
+            .findListener("RateLimitedConsumer#receive").orElseThrow()
+
+        `when`("messages are sent faster than the rate") {
+            val rateLimiter = listener.rateLimiter
+            rateLimiter shouldNotBe null
+            rateLimiter!!.rate shouldBe 5.0
+
+            for (i in 0 until 10) {
+                producer.send("message $i")
+            }
+
+            then("they are received at the rate") {
+                Awaitility.await().atMost(10, TimeUnit.SECONDS).until { consumer.receivedAt.size == 10 }
+                // 10 messages at 5/s take at least 0.8s
+                (consumer.receivedAt[9] - consumer.receivedAt[0]) / 1_000_000 shouldBeGreaterThanOrEqual 800L
+            }
+        }
+        applicationContext.stop()
+    }
+})
@@ -0,0 +1,24 @@
+package io.micronaut.jms.docs.ratelimit
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+import java.util.concurrent.CopyOnWriteArrayList
+// end::imports[]
+
+@Requires(property = "spec.name", value = "RateLimitSpec")
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class RateLimitedConsumer {
+
+    val receivedAt: MutableList<Long> = CopyOnWriteArrayList()
+
+    @Queue(value = "rate-limited-queue", rateLimit = "5/s", adaptiveRateLimit = true) // <1>
+    fun receive(@MessageBody message: String) {
+        receivedAt.add(System.nanoTime())
+    }
+}
+// end::clazz[]
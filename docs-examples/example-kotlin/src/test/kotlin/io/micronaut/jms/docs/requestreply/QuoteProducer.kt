@@ -0,0 +1,29 @@
+package io.micronaut.jms.docs.requestreply
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSProducer
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.jms.annotations.RequestReply
+import io.micronaut.messaging.annotation.MessageBody
+import java.util.concurrent.CompletableFuture
+// end::imports[]
+
+@Requires(property = "spec.name", value = "RequestReplySpec")
+// tag::clazz[]
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+interface QuoteProducer {
+
+    @Queue("quote-requests")
+    @RequestReply
+    fun quote(@MessageBody symbol: String): String // <1>
+
+    @Queue("quote-requests")
+    @RequestReply
+    fun quoteAsync(@MessageBody symbol: String): CompletableFuture<String> // <2>
+
+    @Queue("quote-requests")
+    fun publish(@MessageBody symbol: String): String? // <3>
+}
+// end::clazz[]
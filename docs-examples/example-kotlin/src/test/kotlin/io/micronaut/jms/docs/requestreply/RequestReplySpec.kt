@@ -0,0 +1,37 @@
+package io.micronaut.jms.docs.requestreply
+
+import io.kotest.matchers.shouldBe
+import io.micronaut.jms.docs.AbstractJmsKotest
+import java.util.concurrent.TimeUnit
+
+class RequestReplySpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("a request reply producer") {
+        val applicationContext = startContext(specName)
+        val producer = applicationContext.getBean(QuoteProducer::class.java)
+
+        `when`("requests are sent") {
+            then("the replies are returned") {
+                producer.quote("ACME") shouldBe "ACME=42"
+                producer.quoteAsync("INIT").get(5, TimeUnit.SECONDS) shouldBe "INIT=42"
+            }
+        }
+
+        `when`("a method without request reply is called") {
+            then("it only sends") {
+                producer.publish("NOOP") shouldBe null
+            }
+        }
+
+        `when`("requests are sent concurrently") {
+            val replies = (0 until 20).map { producer.quoteAsync("S$it") }
+
+            then("they share the reply queue") {
+                replies.map { it.join() } shouldBe (0 until 20).map { "S$it=42" }
+            }
+        }
+        applicationContext.stop()
+    }
+})
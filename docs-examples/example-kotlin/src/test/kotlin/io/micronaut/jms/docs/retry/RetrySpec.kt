@@ -0,0 +1,31 @@
+package io.micronaut.jms.docs.retry
+
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.micronaut.jms.docs.AbstractJmsKotest
+import org.awaitility.Awaitility
+import java.util.concurrent.TimeUnit
+
+class RetrySpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("a listener with the retrying error handler") {
+        val applicationContext = startContext(getDefaultConfig(specName) + mapOf(
+            "micronaut.jms.retry.max-attempts" to 3,
+            "micronaut.jms.retry.initial-delay" to "10ms"))
+        val producer = applicationContext.getBean(RetryingProducer::class.java)
+        val consumer = applicationContext.getBean(RetryingConsumer::class.java)
+
+        `when`("a message keeps failing") {
+            producer.send("poison")
+
+            then("it is retried then dead lettered") {
+                Awaitility.await().atMost(10, TimeUnit.SECONDS).until { consumer.deadLetters.size == 1 }
+                consumer.attempts shouldHaveSize 3
+                consumer.deadLetters[0] shouldBe "Cannot process poison"
+            }
+        }
+        applicationContext.stop()
+    }
+})
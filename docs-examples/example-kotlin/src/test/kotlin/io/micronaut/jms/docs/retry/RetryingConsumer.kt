@@ -0,0 +1,35 @@
+package io.micronaut.jms.docs.retry
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.jms.listener.RetryingJMSListenerErrorHandler
+import io.micronaut.jms.listener.RetryingJMSListenerErrorHandler.DLQ_EXCEPTION_MESSAGE
+import io.micronaut.messaging.annotation.MessageBody
+import io.micronaut.messaging.annotation.MessageHeader
+import java.util.concurrent.CopyOnWriteArrayList
+// end::imports[]
+
+@Requires(property = "spec.name", value = "RetrySpec")
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class RetryingConsumer {
+
+    val attempts: MutableList<String> = CopyOnWriteArrayList()
+    val deadLetters: MutableList<String> = CopyOnWriteArrayList()
+
+    @Queue(value = "retry-queue", errorHandlers = [RetryingJMSListenerErrorHandler::class]) // <1>
+    fun receive(@MessageBody message: String) {
+        attempts.add(message)
+        throw IllegalStateException("Cannot process $message")
+    }
+
+    @Queue("retry-queue.DLQ") // <2>
+    fun receiveDeadLetter(@MessageBody message: String,
+                          @MessageHeader(DLQ_EXCEPTION_MESSAGE) error: String) { // <3>
+        deadLetters.add(error)
+    }
+}
+// end::clazz[]
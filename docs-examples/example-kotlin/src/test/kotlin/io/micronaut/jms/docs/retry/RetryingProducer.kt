@@ -0,0 +1,14 @@
+package io.micronaut.jms.docs.retry
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSProducer
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+
+@Requires(property = "spec.name", value = "RetrySpec")
+@JMSProducer(CONNECTION_FACTORY_BEAN_NAME)
+interface RetryingProducer {
+    @Queue("retry-queue")
+    fun send(@MessageBody body: String)
+}
@@ -0,0 +1,21 @@
+package io.micronaut.jms.docs.tracing
+
+// tag::imports[]
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+import io.micronaut.jms.annotations.JMSListener
+import io.micronaut.jms.annotations.Queue
+import io.micronaut.messaging.annotation.MessageBody
+// end::imports[]
+
+@Requires(property = "spec.name", value = "TracingSpec")
+// tag::clazz[]
+@JMSListener(CONNECTION_FACTORY_BEAN_NAME)
+class TracingConsumer {
+
+    @Queue("tracing-queue")
+    fun receive(@MessageBody message: String) {
+        // runs within a consumer span continuing the trace of the producer
+    }
+}
+// end::clazz[]
@@ -0,0 +1,67 @@
+package io.micronaut.jms.docs.tracing
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Requires
+import io.micronaut.jms.docs.AbstractJmsKotest
+import io.micronaut.jms.tracing.OpenTelemetryJMSTracing
+import io.opentelemetry.api.OpenTelemetry
+import io.opentelemetry.api.trace.SpanKind
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator
+import io.opentelemetry.context.propagation.ContextPropagators
+import io.opentelemetry.sdk.OpenTelemetrySdk
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter
+import io.opentelemetry.sdk.trace.SdkTracerProvider
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor
+import jakarta.inject.Singleton
+import org.awaitility.Awaitility
+import java.util.concurrent.TimeUnit
+
+class TracingSpec : AbstractJmsKotest({
+
+    val specName = javaClass.simpleName
+
+    given("an OpenTelemetry tracer") {
+        val applicationContext = startContext(specName)
+        val producer = applicationContext.getBean(TracingProducer::class.java)
+        val exporter = applicationContext.getBean(InMemorySpanExporter::class.java)
+
+        `when`("a message is sent and processed") {
+            producer.send("traced")
+
+            then("the trace is propagated") {
+                Awaitility.await().atMost(5, TimeUnit.SECONDS).until { exporter.finishedSpanItems.size == 2 }
+                val spans = exporter.finishedSpanItems
+                val publish = spans.first { it.kind == SpanKind.PRODUCER }
+                val process = spans.first { it.kind == SpanKind.CONSUMER }
+
+                publish.name shouldBe "tracing-queue publish"
+                process.name shouldBe "tracing-queue process"
+                process.traceId shouldBe publish.traceId
+                process.parentSpanId shouldBe publish.spanId
+                process.attributes.get(OpenTelemetryJMSTracing.QUEUE_TIME) shouldNotBe null
+                process.attributes.get(OpenTelemetryJMSTracing.DESERIALIZATION_TIME) shouldNotBe null
+                process.attributes.get(OpenTelemetryJMSTracing.HANDLER_TIME) shouldNotBe null
+            }
+        }
+        applicationContext.stop()
+    }
+})
+
+@Factory
+@Requires(property = "spec.name", value = "TracingSpec")
+class OpenTelemetryFactory {
+
+    @Singleton
+    fun spanExporter(): InMemorySpanExporter = InMemorySpanExporter.create()
+
+    @Singleton
+    fun openTelemetry(exporter: InMemorySpanExporter): OpenTelemetry =
+        OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build())
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build()
+}
@@ -19,6 +19,7 @@ import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.jms.activemq.artemis.configuration.properties.ActiveMqArtemisConfigurationProperties;
+import io.micronaut.jms.activemq.artemis.configuration.properties.ActiveMqArtemisConfigurationProperties.Preset;
 import io.micronaut.jms.annotations.JMSConnectionFactory;
 import org.apache.activemq.artemis.jms.client.ActiveMQJMSConnectionFactory;
 import org.slf4j.Logger;
@@ -44,6 +45,10 @@ public class ActiveMqArtemisConfiguration {
      */
     public static final String CONNECTION_FACTORY_BEAN_NAME = "activeMqArtemisConnectionFactory";
 
+    private static final int LOW_LATENCY_CONSUMER_WINDOW_SIZE = 64 * 1024;
+    private static final int HIGH_THROUGHPUT_WINDOW_SIZE = 1024 * 1024;
+    private static final int HIGH_THROUGHPUT_CONSUMER_WINDOW_SIZE = 4 * 1024 * 1024;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     /**
@@ -62,9 +67,80 @@ public class ActiveMqArtemisConfiguration {
 
         String username = config.getUsername();
         String password = config.getPassword();
+        ActiveMQJMSConnectionFactory connectionFactory;
         if (StringUtils.isNotEmpty(username) || StringUtils.isNotEmpty(password)) {
-            return new ActiveMQJMSConnectionFactory(config.getConnectionString(), username, password);
+            connectionFactory = new ActiveMQJMSConnectionFactory(config.getConnectionString(), username, password);
+        } else {
+            connectionFactory = new ActiveMQJMSConnectionFactory(config.getConnectionString());
+        }
+        configure(connectionFactory, config);
+        return connectionFactory;
+    }
+
+    /**
+     * Applies the preset and then the performance settings of {@link ActiveMqArtemisConfigurationProperties} to a
+     * connection factory.
+     *
+     * @param connectionFactory the connection factory
+     * @param config            config settings for ActiveMQ Artemis
+     * @since 4.1.0
+     */
+    protected void configure(ActiveMQJMSConnectionFactory connectionFactory,
+                             ActiveMqArtemisConfigurationProperties config) {
+        if (config.getPreset() != null) {
+            applyPreset(connectionFactory, config.getPreset());
+        }
+        if (config.getBlockOnDurableSend() != null) {
+            connectionFactory.setBlockOnDurableSend(config.getBlockOnDurableSend());
+        }
+        if (config.getBlockOnAcknowledge() != null) {
+            connectionFactory.setBlockOnAcknowledge(config.getBlockOnAcknowledge());
+        }
+        if (config.getProducerWindowSize() != null) {
+            connectionFactory.setProducerWindowSize(config.getProducerWindowSize());
+        }
+        if (config.getConsumerWindowSize() != null) {
+            connectionFactory.setConsumerWindowSize(config.getConsumerWindowSize());
+        }
+        if (config.getConfirmationWindowSize() != null) {
+            connectionFactory.setConfirmationWindowSize(config.getConfirmationWindowSize());
+        }
+        if (config.getDupsOkBatchSize() != null) {
+            connectionFactory.setDupsOKBatchSize(config.getDupsOkBatchSize());
+        }
+        if (config.getTransactionBatchSize() != null) {
+            connectionFactory.setTransactionBatchSize(config.getTransactionBatchSize());
+        }
+        if (config.getCacheLargeMessagesClient() != null) {
+            connectionFactory.setCacheLargeMessagesClient(config.getCacheLargeMessagesClient());
+        }
+    }
+
+    /**
+     * Applies the client settings of a preset to a connection factory.
+     *
+     * @param connectionFactory the connection factory
+     * @param preset            the preset
+     * @since 4.1.0
+     */
+    protected void applyPreset(ActiveMQJMSConnectionFactory connectionFactory, Preset preset) {
+        switch (preset) {
+            case LOW_LATENCY:
+                connectionFactory.setBlockOnDurableSend(true);
+                connectionFactory.setBlockOnAcknowledge(false);
+                connectionFactory.setConsumerWindowSize(LOW_LATENCY_CONSUMER_WINDOW_SIZE);
+                connectionFactory.setDupsOKBatchSize(0);
+                connectionFactory.setTransactionBatchSize(0);
+                break;
+            case HIGH_THROUGHPUT:
+                connectionFactory.setBlockOnDurableSend(false);
+                connectionFactory.setBlockOnAcknowledge(false);
+                connectionFactory.setConfirmationWindowSize(HIGH_THROUGHPUT_WINDOW_SIZE);
+                connectionFactory.setProducerWindowSize(HIGH_THROUGHPUT_WINDOW_SIZE);
+                connectionFactory.setConsumerWindowSize(HIGH_THROUGHPUT_CONSUMER_WINDOW_SIZE);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported preset " + preset);
         }
-        return new ActiveMQJMSConnectionFactory(config.getConnectionString());
     }
 }
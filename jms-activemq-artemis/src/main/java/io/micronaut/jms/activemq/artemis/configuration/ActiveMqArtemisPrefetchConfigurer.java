@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.activemq.artemis.configuration;
+
+import io.micronaut.jms.configuration.PrefetchConfigurer;
+import jakarta.inject.Singleton;
+import org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.ConnectionFactory;
+import java.io.IOException;
+
+/**
+ * Applies the prefetch to an Artemis {@link ActiveMQConnectionFactory}. Artemis buffers messages for consumers by
+ * size rather than by count, so only a prefetch of 0 is applied, by disabling the consumer buffer so that messages
+ * are dispatched to whichever consumer is free. Other values keep the configured consumer window size.
+ * <p>
+ * Artemis has no destination options for the consumer window, so a listener with a prefetch of 0 gets a copy of the
+ * connection factory with the consumer buffer disabled.
+ *
+ * @since 4.1.0
+ */
+@Singleton
+public class ActiveMqArtemisPrefetchConfigurer implements PrefetchConfigurer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActiveMqArtemisPrefetchConfigurer.class);
+
+    @Override
+    public boolean configure(ConnectionFactory connectionFactory, int prefetch) {
+        if (!(connectionFactory instanceof ActiveMQConnectionFactory activeMQConnectionFactory)) {
+            return false;
+        }
+        if (prefetch == 0) {
+            activeMQConnectionFactory.setConsumerWindowSize(0);
+        } else {
+            LOGGER.debug("Ignoring prefetch {}, Artemis buffers messages by size, set the consumer window size " +
+                "instead", prefetch);
+        }
+        return true;
+    }
+
+    @Override
+    public ConnectionFactory withPrefetch(ConnectionFactory connectionFactory, int prefetch) {
+        if (!(connectionFactory instanceof ActiveMQConnectionFactory activeMQConnectionFactory) || prefetch != 0) {
+            return null;
+        }
+        try {
+            ActiveMQConnectionFactory copy = new ActiveMQConnectionFactory(
+                activeMQConnectionFactory.toURI().toString(),
+                activeMQConnectionFactory.getUser(),
+                activeMQConnectionFactory.getPassword());
+            copy.setConsumerWindowSize(0);
+            return copy;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to copy the connection factory to disable the consumer buffer: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.jms.configuration.properties.JMSConfigurationProperties;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
 import static io.micronaut.jms.activemq.artemis.configuration.properties.ActiveMqArtemisConfigurationProperties.PREFIX;
@@ -73,4 +74,121 @@ public interface ActiveMqArtemisConfigurationProperties {
      */
     @Nullable
     String getPassword();
+
+    /**
+     * A set of client settings tuned for latency or throughput, applied before the individual settings below,
+     * which override it. The client defaults are used if not set.
+     *
+     * @return the preset, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    Preset getPreset();
+
+    /**
+     * Whether sending a durable message blocks until the broker has stored it. When false, durable messages are
+     * confirmed asynchronously if a {@link #getConfirmationWindowSize() confirmation window} is set, and messages in
+     * flight may otherwise be lost if the connection fails. The client default is {@code true}.
+     *
+     * @return whether durable sends block, or null for the preset or client default
+     * @since 4.1.0
+     */
+    @Nullable
+    Boolean getBlockOnDurableSend();
+
+    /**
+     * Whether acknowledging a message blocks until the broker has processed the acknowledgement. The client
+     * default is {@code false}.
+     *
+     * @return whether acknowledgements block, or null for the preset or client default
+     * @since 4.1.0
+     */
+    @Nullable
+    Boolean getBlockOnAcknowledge();
+
+    /**
+     * The number of bytes a producer may send before it waits for more credits from the broker, or -1 for no
+     * flow control. The client default is 65536.
+     *
+     * @return the producer window size in bytes, or null for the preset or client default
+     * @since 4.1.0
+     */
+    @Nullable
+    @Min(-1)
+    Integer getProducerWindowSize();
+
+    /**
+     * The number of bytes of messages buffered by each consumer ahead of their processing, -1 for no limit, or 0 to
+     * only dispatch messages to consumers which are free. The client default is 1048576.
+     *
+     * @return the consumer window size in bytes, or null for the preset or client default
+     * @since 4.1.0
+     */
+    @Nullable
+    @Min(-1)
+    Integer getConsumerWindowSize();
+
+    /**
+     * The number of bytes of commands sent to the broker before the client waits for their confirmation, which
+     * allows them to be resent after a reconnection and confirms asynchronous durable sends. Disabled with -1, the
+     * client default.
+     *
+     * @return the confirmation window size in bytes, or null for the preset or client default
+     * @since 4.1.0
+     */
+    @Nullable
+    @Min(-1)
+    Integer getConfirmationWindowSize();
+
+    /**
+     * The number of bytes of acknowledgements of {@code DUPS_OK_ACKNOWLEDGE} sessions sent to the broker as one
+     * batch. The client default is 1048576.
+     *
+     * @return the DUPS_OK batch size in bytes, or null for the preset or client default
+     * @since 4.1.0
+     */
+    @Nullable
+    @Min(0)
+    Integer getDupsOkBatchSize();
+
+    /**
+     * The number of bytes of acknowledgements of transacted sessions sent to the broker as one batch before the
+     * commit. The client default is 1048576.
+     *
+     * @return the transaction batch size in bytes, or null for the preset or client default
+     * @since 4.1.0
+     */
+    @Nullable
+    @Min(0)
+    Integer getTransactionBatchSize();
+
+    /**
+     * Whether the bodies of large messages are cached in temporary files by the client, so that they can be read
+     * more than once. The client default is {@code false}.
+     *
+     * @return whether large messages are cached, or null for the preset or client default
+     * @since 4.1.0
+     */
+    @Nullable
+    Boolean getCacheLargeMessagesClient();
+
+    /**
+     * Client settings tuned for latency or throughput.
+     *
+     * @since 4.1.0
+     */
+    enum Preset {
+
+        /**
+         * Sends and acknowledgements are flushed to the broker one by one and consumers buffer few messages, so that
+         * messages are neither held by the client nor queued behind a busy consumer.
+         */
+        LOW_LATENCY,
+
+        /**
+         * Durable messages are sent without blocking and confirmed asynchronously, and producers and consumers use
+         * larger windows, at the cost of memory and of fairness between the consumers of a queue.
+         */
+        HIGH_THROUGHPUT
+    }
 }
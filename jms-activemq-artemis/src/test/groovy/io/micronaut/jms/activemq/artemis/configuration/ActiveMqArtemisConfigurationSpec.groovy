@@ -0,0 +1,103 @@
+package io.micronaut.jms.activemq.artemis.configuration
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import jakarta.jms.ConnectionFactory
+import org.apache.activemq.artemis.api.core.client.ActiveMQClient
+import org.apache.activemq.artemis.jms.client.ActiveMQJMSConnectionFactory
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+import static io.micronaut.jms.activemq.artemis.configuration.ActiveMqArtemisConfiguration.CONNECTION_FACTORY_BEAN_NAME
+
+class ActiveMqArtemisConfigurationSpec extends Specification {
+
+    @AutoCleanup
+    private ApplicationContext context
+
+    void 'the connection factory keeps the client defaults'() {
+        when:
+        ActiveMQJMSConnectionFactory connectionFactory = connectionFactory([:])
+
+        then:
+        connectionFactory.blockOnDurableSend == ActiveMQClient.DEFAULT_BLOCK_ON_DURABLE_SEND
+        connectionFactory.blockOnAcknowledge == ActiveMQClient.DEFAULT_BLOCK_ON_ACKNOWLEDGE
+        connectionFactory.producerWindowSize == ActiveMQClient.DEFAULT_PRODUCER_WINDOW_SIZE
+        connectionFactory.consumerWindowSize == ActiveMQClient.DEFAULT_CONSUMER_WINDOW_SIZE
+        connectionFactory.confirmationWindowSize == ActiveMQClient.DEFAULT_CONFIRMATION_WINDOW_SIZE
+        connectionFactory.dupsOKBatchSize == ActiveMQClient.DEFAULT_ACK_BATCH_SIZE
+        connectionFactory.transactionBatchSize == ActiveMQClient.DEFAULT_ACK_BATCH_SIZE
+        connectionFactory.cacheLargeMessagesClient == ActiveMQClient.DEFAULT_CACHE_LARGE_MESSAGE_CLIENT
+    }
+
+    void 'the performance settings are applied to the connection factory'() {
+        when:
+        ActiveMQJMSConnectionFactory connectionFactory = connectionFactory(
+            'micronaut.jms.activemq.artemis.block-on-durable-send': false,
+            'micronaut.jms.activemq.artemis.block-on-acknowledge': true,
+            'micronaut.jms.activemq.artemis.producer-window-size': 2048,
+            'micronaut.jms.activemq.artemis.consumer-window-size': 0,
+            'micronaut.jms.activemq.artemis.confirmation-window-size': 4096,
+            'micronaut.jms.activemq.artemis.dups-ok-batch-size': 8192,
+            'micronaut.jms.activemq.artemis.transaction-batch-size': 16384,
+            'micronaut.jms.activemq.artemis.cache-large-messages-client': true)
+
+        then:
+        !connectionFactory.blockOnDurableSend
+        connectionFactory.blockOnAcknowledge
+        connectionFactory.producerWindowSize == 2048
+        connectionFactory.consumerWindowSize == 0
+        connectionFactory.confirmationWindowSize == 4096
+        connectionFactory.dupsOKBatchSize == 8192
+        connectionFactory.transactionBatchSize == 16384
+        connectionFactory.cacheLargeMessagesClient
+    }
+
+    void 'the low latency preset is applied to the connection factory'() {
+        when:
+        ActiveMQJMSConnectionFactory connectionFactory = connectionFactory(
+            'micronaut.jms.activemq.artemis.preset': 'low-latency')
+
+        then:
+        connectionFactory.blockOnDurableSend
+        !connectionFactory.blockOnAcknowledge
+        connectionFactory.consumerWindowSize == 64 * 1024
+        connectionFactory.dupsOKBatchSize == 0
+        connectionFactory.transactionBatchSize == 0
+    }
+
+    void 'the high throughput preset is applied to the connection factory'() {
+        when:
+        ActiveMQJMSConnectionFactory connectionFactory = connectionFactory(
+            'micronaut.jms.activemq.artemis.preset': 'high-throughput')
+
+        then:
+        !connectionFactory.blockOnDurableSend
+        !connectionFactory.blockOnAcknowledge
+        connectionFactory.confirmationWindowSize == 1024 * 1024
+        connectionFactory.producerWindowSize == 1024 * 1024
+        connectionFactory.consumerWindowSize == 4 * 1024 * 1024
+    }
+
+    void 'explicit settings override the preset'() {
+        when:
+        ActiveMQJMSConnectionFactory connectionFactory = connectionFactory(
+            'micronaut.jms.activemq.artemis.preset': 'high-throughput',
+            'micronaut.jms.activemq.artemis.block-on-durable-send': true,
+            'micronaut.jms.activemq.artemis.consumer-window-size': 0)
+
+        then:
+        connectionFactory.blockOnDurableSend
+        connectionFactory.consumerWindowSize == 0
+        connectionFactory.producerWindowSize == 1024 * 1024
+    }
+
+    private ActiveMQJMSConnectionFactory connectionFactory(Map<String, Object> properties) {
+        context = ApplicationContext.run([
+            'micronaut.jms.activemq.artemis.enabled'                                       : true,
+            'micronaut.jms.activemq.artemis.connection-string'                             : 'tcp://localhost:61616',
+            ('micronaut.jms.factories.' + CONNECTION_FACTORY_BEAN_NAME + '.initial-pool-size'): 0
+        ] + properties)
+        (ActiveMQJMSConnectionFactory) context.getBean(ConnectionFactory, Qualifiers.byName(CONNECTION_FACTORY_BEAN_NAME))
+    }
+}
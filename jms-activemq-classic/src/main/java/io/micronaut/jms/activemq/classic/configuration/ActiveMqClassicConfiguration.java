@@ -21,6 +21,7 @@ import io.micronaut.core.util.StringUtils;
 import io.micronaut.jms.activemq.classic.configuration.properties.ActiveMqClassicConfigurationProperties;
 import io.micronaut.jms.annotations.JMSConnectionFactory;
 import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.ActiveMQPrefetchPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,9 +62,63 @@ public class ActiveMqClassicConfiguration {
             CONNECTION_FACTORY_BEAN_NAME, config.getConnectionString());
         String username = config.getUsername();
         String password = config.getPassword();
+        ActiveMQConnectionFactory connectionFactory;
         if (StringUtils.isNotEmpty(username) || StringUtils.isNotEmpty(password)) {
-            return new ActiveMQConnectionFactory(username, password, config.getConnectionString());
+            connectionFactory = new ActiveMQConnectionFactory(username, password, config.getConnectionString());
+        } else {
+            connectionFactory = new ActiveMQConnectionFactory(config.getConnectionString());
+        }
+        configure(connectionFactory, config);
+        return connectionFactory;
+    }
+
+    /**
+     * Applies the performance settings of {@link ActiveMqClassicConfigurationProperties} to a connection factory.
+     *
+     * @param connectionFactory the connection factory
+     * @param config            config settings for ActiveMQ Classic
+     * @since 4.1.0
+     */
+    protected void configure(ActiveMQConnectionFactory connectionFactory,
+                             ActiveMqClassicConfigurationProperties config) {
+        // only the settings that are set, so that the jms.* options of the connection string are kept otherwise
+        if (config.getUseAsyncSend() != null) {
+            connectionFactory.setUseAsyncSend(config.getUseAsyncSend());
+        }
+        if (config.getProducerWindowSize() != null) {
+            connectionFactory.setProducerWindowSize(config.getProducerWindowSize());
+        }
+        if (config.getOptimizeAcknowledge() != null) {
+            connectionFactory.setOptimizeAcknowledge(config.getOptimizeAcknowledge());
+        }
+        if (config.getOptimizeAcknowledgeTimeout() != null) {
+            connectionFactory.setOptimizeAcknowledgeTimeOut(config.getOptimizeAcknowledgeTimeout().toMillis());
+        }
+        if (config.getAlwaysSessionAsync() != null) {
+            connectionFactory.setAlwaysSessionAsync(config.getAlwaysSessionAsync());
+        }
+        if (config.getUseCompression() != null) {
+            connectionFactory.setUseCompression(config.getUseCompression());
+        }
+        if (config.getDispatchAsync() != null) {
+            connectionFactory.setDispatchAsync(config.getDispatchAsync());
+        }
+        if (config.getCopyMessageOnSend() != null) {
+            connectionFactory.setCopyMessageOnSend(config.getCopyMessageOnSend());
+        }
+
+        ActiveMQPrefetchPolicy prefetchPolicy = connectionFactory.getPrefetchPolicy();
+        if (config.getQueuePrefetch() != null) {
+            prefetchPolicy.setQueuePrefetch(config.getQueuePrefetch());
+        }
+        if (config.getTopicPrefetch() != null) {
+            prefetchPolicy.setTopicPrefetch(config.getTopicPrefetch());
+        }
+        if (config.getDurableTopicPrefetch() != null) {
+            prefetchPolicy.setDurableTopicPrefetch(config.getDurableTopicPrefetch());
+        }
+        if (config.getQueueBrowserPrefetch() != null) {
+            prefetchPolicy.setQueueBrowserPrefetch(config.getQueueBrowserPrefetch());
         }
-        return new ActiveMQConnectionFactory(config.getConnectionString());
     }
 }
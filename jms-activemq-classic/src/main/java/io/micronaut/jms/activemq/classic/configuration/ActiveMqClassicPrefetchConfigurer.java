@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.activemq.classic.configuration;
+
+import io.micronaut.jms.configuration.PrefetchConfigurer;
+import jakarta.inject.Singleton;
+import org.apache.activemq.ActiveMQConnectionFactory;
+
+import jakarta.jms.ConnectionFactory;
+
+/**
+ * Applies the prefetch to the queue, topic, durable topic and queue browser prefetch limits of an
+ * {@link ActiveMQConnectionFactory}, and the prefetch of a listener with the {@code consumer.prefetchSize}
+ * destination option.
+ *
+ * @since 4.1.0
+ */
+@Singleton
+public class ActiveMqClassicPrefetchConfigurer implements PrefetchConfigurer {
+
+    /**
+     * The destination option setting the prefetch of the consumers of a destination.
+     */
+    public static final String PREFETCH_SIZE_OPTION = "consumer.prefetchSize";
+
+    @Override
+    public boolean configure(ConnectionFactory connectionFactory, int prefetch) {
+        if (connectionFactory instanceof ActiveMQConnectionFactory activeMQConnectionFactory) {
+            activeMQConnectionFactory.getPrefetchPolicy().setAll(prefetch);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String configureDestination(ConnectionFactory connectionFactory, String destination, int prefetch) {
+        if (!(connectionFactory instanceof ActiveMQConnectionFactory)) {
+            return null;
+        }
+        return destination + (destination.indexOf('?') < 0 ? '?' : '&') + PREFETCH_SIZE_OPTION + '=' + prefetch;
+    }
+}
@@ -21,7 +21,9 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.jms.configuration.properties.JMSConfigurationProperties;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import java.time.Duration;
 
 import static io.micronaut.jms.activemq.classic.configuration.properties.ActiveMqClassicConfigurationProperties.PREFIX;
 
@@ -73,4 +75,139 @@ public interface ActiveMqClassicConfigurationProperties {
      */
     @Nullable
     String getPassword();
+
+    /**
+     * Whether non-transacted persistent messages are sent without waiting for the broker to acknowledge them.
+     * Much faster, but messages still in flight are lost if the broker or the connection fails. The client default
+     * of false, or the {@code jms.useAsyncSend} option of the connection string, is used if not set.
+     *
+     * @return true to send persistent messages asynchronously, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    Boolean getUseAsyncSend();
+
+    /**
+     * The number of bytes of asynchronously sent messages a producer may have in flight before it blocks until the
+     * broker has acknowledged some of them. Limits the memory used by producers with {@link #getUseAsyncSend()} when
+     * the broker applies producer flow control. Not limited if not set.
+     *
+     * @return the producer window size in bytes, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    @Min(0)
+    Integer getProducerWindowSize();
+
+    /**
+     * Whether {@code AUTO_ACKNOWLEDGE} and {@code DUPS_OK_ACKNOWLEDGE} consumers acknowledge messages in batches of
+     * 65% of their prefetch instead of one by one. Messages received since the last acknowledgement are redelivered
+     * if the consumer fails. The client default of false, or the {@code jms.optimizeAcknowledge} option of the
+     * connection string, is used if not set.
+     *
+     * @return true to acknowledge messages in batches, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    Boolean getOptimizeAcknowledge();
+
+    /**
+     * The maximum time a batch of acknowledgements is held with {@link #getOptimizeAcknowledge()}. The client
+     * default of 300ms, or the {@code jms.optimizeAcknowledgeTimeOut} option of the connection string, is used if
+     * not set.
+     *
+     * @return the optimize acknowledge timeout, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    Duration getOptimizeAcknowledgeTimeout();
+
+    /**
+     * Whether messages are always handed to message listeners by a separate session thread. When false, messages
+     * are delivered on the transport thread if a session has a single consumer, which saves a context switch per
+     * message but blocks the connection while a listener is busy. The client default of true, or the
+     * {@code jms.alwaysSessionAsync} option of the connection string, is used if not set.
+     *
+     * @return true to always deliver messages on the session thread, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    Boolean getAlwaysSessionAsync();
+
+    /**
+     * Whether the bodies of the messages sent are compressed. Reduces the network traffic of large, compressible
+     * messages at the cost of CPU time on both sides. The client default of false, or the {@code jms.useCompression}
+     * option of the connection string, is used if not set.
+     *
+     * @return true to compress message bodies, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    Boolean getUseCompression();
+
+    /**
+     * Whether the broker dispatches messages to the consumers of this client asynchronously, so that a slow consumer
+     * doesn't block the broker. Disabling it lowers the latency of fast consumers. The client default of true, or
+     * the {@code jms.dispatchAsync} option of the connection string, is used if not set.
+     *
+     * @return true to have messages dispatched asynchronously, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    Boolean getDispatchAsync();
+
+    /**
+     * Whether a message is copied when sent, so that the application can modify and resend it. The messages built
+     * by this module are never modified after being sent, so disabling it saves a copy per message. The client
+     * default of true, or the {@code jms.copyMessageOnSend} option of the connection string, is used if not set.
+     *
+     * @return true to copy messages when sent, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    Boolean getCopyMessageOnSend();
+
+    /**
+     * The number of messages pushed to each queue consumer ahead of their processing. The client default of 1000
+     * is used if not set.
+     *
+     * @return the queue prefetch, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    @Min(0)
+    Integer getQueuePrefetch();
+
+    /**
+     * The number of messages pushed to each non-durable topic subscriber ahead of their processing. The client
+     * default of 32767 is used if not set.
+     *
+     * @return the topic prefetch, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    @Min(0)
+    Integer getTopicPrefetch();
+
+    /**
+     * The number of messages pushed to each durable topic subscriber ahead of their processing. The client default
+     * of 100 is used if not set.
+     *
+     * @return the durable topic prefetch, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    @Min(0)
+    Integer getDurableTopicPrefetch();
+
+    /**
+     * The number of messages pushed to each queue browser ahead of their processing. The client default of 500 is
+     * used if not set.
+     *
+     * @return the queue browser prefetch, or null
+     * @since 4.1.0
+     */
+    @Nullable
+    @Min(0)
+    Integer getQueueBrowserPrefetch();
 }
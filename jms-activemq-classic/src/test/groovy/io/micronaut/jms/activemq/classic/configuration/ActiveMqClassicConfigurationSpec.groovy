@@ -0,0 +1,101 @@
+package io.micronaut.jms.activemq.classic.configuration
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import jakarta.jms.ConnectionFactory
+import org.apache.activemq.ActiveMQConnectionFactory
+import org.apache.activemq.ActiveMQPrefetchPolicy
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+import static io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME
+
+class ActiveMqClassicConfigurationSpec extends Specification {
+
+    @AutoCleanup
+    private ApplicationContext context
+
+    void 'the connection factory keeps the client defaults'() {
+        when:
+        ActiveMQConnectionFactory connectionFactory = connectionFactory([:])
+
+        then:
+        connectionFactory.brokerURL == 'tcp://localhost:61616'
+        !connectionFactory.useAsyncSend
+        connectionFactory.producerWindowSize == 0
+        !connectionFactory.optimizeAcknowledge
+        connectionFactory.optimizeAcknowledgeTimeOut == 300
+        connectionFactory.alwaysSessionAsync
+        !connectionFactory.useCompression
+        connectionFactory.dispatchAsync
+        connectionFactory.copyMessageOnSend
+        connectionFactory.prefetchPolicy.queuePrefetch == ActiveMQPrefetchPolicy.DEFAULT_QUEUE_PREFETCH
+        connectionFactory.prefetchPolicy.topicPrefetch == ActiveMQPrefetchPolicy.DEFAULT_TOPIC_PREFETCH
+        connectionFactory.prefetchPolicy.durableTopicPrefetch == ActiveMQPrefetchPolicy.DEFAULT_DURABLE_TOPIC_PREFETCH
+        connectionFactory.prefetchPolicy.queueBrowserPrefetch == ActiveMQPrefetchPolicy.DEFAULT_QUEUE_BROWSER_PREFETCH
+    }
+
+    void 'the performance settings are applied to the connection factory'() {
+        when:
+        ActiveMQConnectionFactory connectionFactory = connectionFactory(
+            'micronaut.jms.activemq.classic.use-async-send': true,
+            'micronaut.jms.activemq.classic.producer-window-size': 1048576,
+            'micronaut.jms.activemq.classic.optimize-acknowledge': true,
+            'micronaut.jms.activemq.classic.optimize-acknowledge-timeout': '2s',
+            'micronaut.jms.activemq.classic.always-session-async': false,
+            'micronaut.jms.activemq.classic.use-compression': true,
+            'micronaut.jms.activemq.classic.dispatch-async': false,
+            'micronaut.jms.activemq.classic.copy-message-on-send': false,
+            'micronaut.jms.activemq.classic.queue-prefetch': 10,
+            'micronaut.jms.activemq.classic.topic-prefetch': 20,
+            'micronaut.jms.activemq.classic.durable-topic-prefetch': 30,
+            'micronaut.jms.activemq.classic.queue-browser-prefetch': 40)
+
+        then:
+        connectionFactory.useAsyncSend
+        connectionFactory.producerWindowSize == 1048576
+        connectionFactory.optimizeAcknowledge
+        connectionFactory.optimizeAcknowledgeTimeOut == 2000
+        !connectionFactory.alwaysSessionAsync
+        connectionFactory.useCompression
+        !connectionFactory.dispatchAsync
+        !connectionFactory.copyMessageOnSend
+        connectionFactory.prefetchPolicy.queuePrefetch == 10
+        connectionFactory.prefetchPolicy.topicPrefetch == 20
+        connectionFactory.prefetchPolicy.durableTopicPrefetch == 30
+        connectionFactory.prefetchPolicy.queueBrowserPrefetch == 40
+    }
+
+    void 'the options of the connection string are kept unless the settings are set'() {
+        when:
+        ActiveMQConnectionFactory connectionFactory = connectionFactory(
+            'micronaut.jms.activemq.classic.connection-string':
+                'tcp://localhost:61616?jms.useAsyncSend=true&jms.copyMessageOnSend=false&jms.dispatchAsync=false',
+            'micronaut.jms.activemq.classic.dispatch-async': true)
+
+        then:
+        connectionFactory.useAsyncSend
+        !connectionFactory.copyMessageOnSend
+        connectionFactory.dispatchAsync
+    }
+
+    void 'the credentials are applied to the connection factory'() {
+        when:
+        ActiveMQConnectionFactory connectionFactory = connectionFactory(
+            'micronaut.jms.activemq.classic.username': 'user',
+            'micronaut.jms.activemq.classic.password': 'secret')
+
+        then:
+        connectionFactory.userName == 'user'
+        connectionFactory.password == 'secret'
+    }
+
+    private ActiveMQConnectionFactory connectionFactory(Map<String, Object> properties) {
+        context = ApplicationContext.run([
+            'micronaut.jms.activemq.classic.enabled'                                       : true,
+            'micronaut.jms.activemq.classic.connection-string'                             : 'tcp://localhost:61616',
+            ('micronaut.jms.factories.' + CONNECTION_FACTORY_BEAN_NAME + '.initial-pool-size'): 0
+        ] + properties)
+        (ActiveMQConnectionFactory) context.getBean(ConnectionFactory, Qualifiers.byName(CONNECTION_FACTORY_BEAN_NAME))
+    }
+}
@@ -9,4 +9,7 @@ dependencies {
     api(libs.managed.jakarta.jms.api)
     api(libs.commons.pool2)
     implementation(mn.micronaut.jackson.databind)
+    compileOnly(mn.micronaut.management)
+    compileOnly(mnMicrometer.micronaut.micrometer.core)
+    compileOnly(libs.opentelemetry.api)
 }
@@ -19,12 +19,15 @@ import io.micronaut.context.annotation.AliasFor;
 import io.micronaut.context.annotation.Executable;
 import io.micronaut.jms.listener.JMSListenerErrorHandler;
 import io.micronaut.jms.listener.JMSListenerSuccessHandler;
+import io.micronaut.jms.model.JMSDeliveryMode;
 import io.micronaut.messaging.annotation.MessageMapping;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
+import static jakarta.jms.Message.DEFAULT_DELIVERY_DELAY;
+import static jakarta.jms.Message.DEFAULT_PRIORITY;
 import static jakarta.jms.Session.AUTO_ACKNOWLEDGE;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
@@ -36,17 +39,14 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * <pre>
  * &#64;JMSListener("myConnectionFactory")
  * public class Listener {
- *      &#64;Queue(
- *          destination = "my-queue",
- *          executor = "micronaut-executor-service"
- *      )
+ *      &#64;Queue("my-queue")
  *      public &lt;T&gt; void handle(T body, @Header(JMSHeaders.JMS_MESSAGE_ID) String messageID) {
  *          // do some logic with body and messageID
  *      }
  *
  *      &#64;Queue(
- *          destination = "my-queue-2",
- *          concurrency = "1-5",
+ *          value = "my-queue-2",
+ *          concurrency = 5,
  *          transacted = true,
  *          acknowledgeMode = Session.CLIENT_ACKNOWLEDGE
  *      )
@@ -103,6 +103,144 @@ public @interface Queue {
      */
     String messageSelector() default "";
 
+    /**
+     * The number of concurrent consumers of the queue. Each consumer has its own
+     * {@link jakarta.jms.Session}. The concurrency can be changed at runtime with the
+     * {@link io.micronaut.jms.listener.JMSListenerRegistry}.
+     *
+     * @return the number of concurrent consumers
+     * @since 4.1.0
+     */
+    int concurrency() default 1;
+
+    /**
+     * The maximum rate at which the listener receives messages, in the form
+     * {@code <permits>/<period>} where the period is one of {@code ms}, {@code s},
+     * {@code m} or {@code h}, optionally preceded by an amount (e.g. {@code "200/s"}
+     * or {@code "50/10s"}). A rate limited listener pulls messages from the broker
+     * only when a permit is available, so messages above the rate stay on the broker.
+     * If empty, the rate is not limited.
+     *
+     * @return the rate limit
+     * @see io.micronaut.jms.listener.RateLimiter
+     * @since 4.1.0
+     */
+    String rateLimit() default "";
+
+    /**
+     * Whether the {@link #rateLimit()} is reduced while the error handlers are invoked
+     * for an increasing share of the messages and restored once they succeed again.
+     *
+     * @return true if the rate limit is adaptive
+     * @see io.micronaut.jms.listener.AdaptiveRateLimiter
+     * @since 4.1.0
+     */
+    boolean adaptiveRateLimit() default false;
+
+    /**
+     * The number of single-threaded lanes the messages are handled on. Messages with the
+     * same value of the {@link #laneKey()} header are handled in order by the same lane,
+     * while messages with different values are handled in parallel. If 0, no lanes are used.
+     * Lanes require the {@code AUTO_ACKNOWLEDGE} or {@code DUPS_OK_ACKNOWLEDGE} mode.
+     *
+     * @return the number of lanes
+     * @see io.micronaut.jms.listener.LaneDispatcher
+     * @since 4.1.0
+     */
+    int lanes() default 0;
+
+    /**
+     * @return the name of the header the lane of a message is computed from
+     * @since 4.1.0
+     */
+    String laneKey() default "JMSXGroupID";
+
+    /**
+     * The maximum number of messages waiting in or being handled by the {@link #lanes()}.
+     * Once reached, no further messages are received until a lane has finished a message.
+     *
+     * @return the maximum number of in-flight messages
+     * @since 4.1.0
+     */
+    int maxInFlight() default 1000;
+
+    /**
+     * The number of messages the provider pushes to each consumer of the listener ahead of their processing,
+     * overriding the prefetch of the connection factory for this listener. 0 disables prefetching: each consumer
+     * then receives a message only once it is free, so slow work is spread fairly across consumers. The prefetch is
+     * applied by the provider module, e.g. as destination options or with dedicated connections, and is ignored with
+     * a warning if the provider doesn't support it. If negative, the prefetch of the connection factory is used.
+     *
+     * @return the prefetch of the listener
+     * @see io.micronaut.jms.configuration.PrefetchConfigurer
+     * @since 4.1.0
+     */
+    int prefetch() default -1;
+
+    /**
+     * Whether messages that have already been processed, identified by the
+     * {@link #deduplicationKey()} header, are acknowledged without invoking the method.
+     * The keys of processed messages are kept in the
+     * {@link io.micronaut.jms.listener.MessageDeduplicationStore} bean.
+     *
+     * @return true if duplicates are skipped
+     * @since 4.1.0
+     */
+    boolean deduplicate() default false;
+
+    /**
+     * @return the name of the header identifying a message for {@link #deduplicate()}
+     * @since 4.1.0
+     */
+    String deduplicationKey() default "JMSMessageID";
+
+    /**
+     * The delivery mode of the messages sent by a {@link JMSProducer} method. Non-persistent messages
+     * are not written to stable storage by the broker, so they are sent much faster but may be lost.
+     * Can be overridden per call with a {@link MessageDeliveryMode} argument.
+     *
+     * @return the delivery mode of sent messages
+     * @since 4.1.0
+     */
+    JMSDeliveryMode deliveryMode() default JMSDeliveryMode.PERSISTENT;
+
+    /**
+     * The priority, from 0 to 9, of the messages sent by a {@link JMSProducer} method. Can be
+     * overridden per call with a {@link MessagePriority} argument.
+     *
+     * @return the priority of sent messages
+     * @since 4.1.0
+     */
+    int priority() default DEFAULT_PRIORITY;
+
+    /**
+     * The minimum time in milliseconds the broker waits before delivering the messages sent by a
+     * {@link JMSProducer} method. Requires a JMS 2.0 provider. Can be overridden per call with a
+     * {@link MessageDelay} argument.
+     *
+     * @return the delivery delay of sent messages in milliseconds
+     * @since 4.1.0
+     */
+    long deliveryDelay() default DEFAULT_DELIVERY_DELAY;
+
+    /**
+     * Whether the provider may skip generating the {@code JMSMessageID} of the messages sent by a
+     * {@link JMSProducer} method, which the provider may ignore.
+     *
+     * @return true if message IDs may be skipped
+     * @since 4.1.0
+     */
+    boolean disableMessageId() default false;
+
+    /**
+     * Whether the provider may skip generating the {@code JMSTimestamp} of the messages sent by a
+     * {@link JMSProducer} method, which the provider may ignore.
+     *
+     * @return true if message timestamps may be skipped
+     * @since 4.1.0
+     */
+    boolean disableMessageTimestamp() default false;
+
     /**
      * The success handlers to be injected into the message handling logic.
      * @return the classes of the success handlers to be added. These handlers must be present as {@link jakarta.inject.Singleton}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * An annotation that can be applied to a {@link JMSProducer} method returning a value to send a request and
+ * return its reply. The request is sent with a {@code JMSReplyTo} header, and the calling thread waits for the
+ * reply unless the method returns a {@link java.util.concurrent.CompletionStage} or a
+ * {@link org.reactivestreams.Publisher}. Methods without this annotation only send the message.
+ * <p>
+ * It can also be applied to a {@link JMSListener} method returning a value, or a
+ * {@link java.util.concurrent.CompletionStage} of a value, to send that value to the {@code JMSReplyTo}
+ * destination of each message carrying one. Listener methods without this annotation don't reply.
+ *
+ * @see io.micronaut.jms.templates.JmsRequestReply
+ * @since 4.1.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface RequestReply {
+}
@@ -18,40 +18,77 @@ package io.micronaut.jms.configuration;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.processor.ExecutableMethodProcessor;
 import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.bind.BoundExecutable;
 import io.micronaut.core.bind.DefaultExecutableBinder;
 import io.micronaut.core.type.Executable;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.jms.annotations.JMSListener;
+import io.micronaut.jms.annotations.JMSProducer;
+import io.micronaut.jms.annotations.RequestReply;
+import io.micronaut.jms.configuration.properties.JMSDestinationCacheConfigurationProperties;
 import io.micronaut.jms.bind.JMSArgumentBinderRegistry;
+import io.micronaut.jms.listener.AdaptiveRateLimiter;
+import io.micronaut.jms.listener.BindingMessageListener;
 import io.micronaut.jms.listener.JMSListenerErrorHandler;
 import io.micronaut.jms.listener.JMSListenerRegistry;
 import io.micronaut.jms.listener.JMSListenerSuccessHandler;
+import io.micronaut.jms.listener.LaneDispatcher;
+import io.micronaut.jms.listener.MessageDeduplicationStore;
+import io.micronaut.jms.listener.MessageDeduplicator;
+import io.micronaut.jms.listener.RateLimiter;
+import io.micronaut.jms.metrics.JMSMetrics;
 import io.micronaut.jms.model.JMSDestinationType;
+import io.micronaut.jms.model.MessageHeader;
 import io.micronaut.jms.pool.JMSConnectionPool;
+import io.micronaut.jms.serdes.DefaultSerializerDeserializer;
+import io.micronaut.jms.serdes.Serializer;
+import io.micronaut.jms.templates.JmsProducer;
+import io.micronaut.jms.tracing.JMSTracing;
 import io.micronaut.jms.util.Assert;
 import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.messaging.exceptions.MessageListenerException;
+import io.micronaut.messaging.exceptions.MessagingClientException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.MessageListener;
+import jakarta.jms.Session;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static io.micronaut.jms.model.JMSHeaders.JMS_CORRELATION_ID;
+import static jakarta.jms.Message.DEFAULT_TIME_TO_LIVE;
+
 /**
  * Abstract {@link ExecutableMethodProcessor} for annotations related to
  * {@link JMSListener}. Registers a {@link io.micronaut.jms.listener.JMSListener}
  * if the method annotated with {@code <T>} is part of a bean annotated with {@link JMSListener}.
+ * <p>
+ * If the method is annotated with {@link RequestReply} and returns a value, or a
+ * {@link CompletionStage} of a value, it is sent back as the reply to the {@code JMSReplyTo}
+ * destination of the messages having one, with the {@code JMSCorrelationID} of the message,
+ * or its {@code JMSMessageID} if it has none. Transacted listeners send the reply in their
+ * transaction.
  *
  * @param <T> the destination type annotation
  * @author Elliott Pope, sbodvanski
@@ -66,6 +103,7 @@ public abstract class AbstractJMSListenerMethodProcessor<T extends Annotation>
 
     private final JMSArgumentBinderRegistry jmsArgumentBinderRegistry;
     private final Class<T> clazz;
+    private final List<Connection> prefetchConnections = new CopyOnWriteArrayList<>();
 
     protected AbstractJMSListenerMethodProcessor(BeanContext beanContext,
                                                  JMSArgumentBinderRegistry registry,
@@ -81,6 +119,9 @@ public abstract class AbstractJMSListenerMethodProcessor<T extends Annotation>
 
         AnnotationValue<JMSListener> listenerAnnotation = beanDefinition.getAnnotation(JMSListener.class);
         if (listenerAnnotation == null) {
+            if (method.hasAnnotation(JMSProducer.class)) {
+                preResolveDestination(method);
+            }
             return;
         }
 
@@ -96,6 +137,51 @@ public abstract class AbstractJMSListenerMethodProcessor<T extends Annotation>
 
     protected abstract ExecutorService getExecutorService(AnnotationValue<T> value);
 
+    /**
+     * Closes the dedicated connections of the listeners whose prefetch is applied per connection factory.
+     *
+     * @since 4.1.0
+     */
+    @PreDestroy
+    public void close() {
+        for (Connection connection : prefetchConnections) {
+            try {
+                connection.close();
+            } catch (JMSException e) {
+                logger.warn("Failed to close listener connection: {}", e.getMessage(), e);
+            }
+        }
+        prefetchConnections.clear();
+    }
+
+    /**
+     * Creates and caches the destination of a {@link JMSProducer} method at startup if
+     * {@link JMSDestinationCacheConfigurationProperties#isPreResolve()} is enabled, so that its first send
+     * doesn't resolve it. A destination which can't be resolved yet is resolved by the first send instead.
+     *
+     * @param method the producer method
+     */
+    private void preResolveDestination(ExecutableMethod<?, ?> method) {
+        boolean preResolve = beanContext.findBean(JMSDestinationCacheConfigurationProperties.class)
+            .map(JMSDestinationCacheConfigurationProperties::isPreResolve)
+            .orElse(false);
+        Optional<String> connectionFactoryName = method.stringValue(JMSProducer.class);
+        Optional<String> destination = method.stringValue(clazz);
+        if (!preResolve || connectionFactoryName.isEmpty() || destination.isEmpty()) {
+            return;
+        }
+        beanContext.findBean(JMSConnectionPool.class, Qualifiers.byName(connectionFactoryName.get())).ifPresent(pool -> {
+            try {
+                pool.getDestinationCache().preResolve(getDestinationType(), destination.get(), pool);
+                logger.debug("Resolved {} {} of ConnectionFactory '{}'",
+                    getDestinationType().name().toLowerCase(), destination.get(), connectionFactoryName.get());
+            } catch (JMSException | RuntimeException e) {
+                logger.warn("Failed to resolve {} {} at startup, it will be resolved when first used: {}",
+                    getDestinationType().name().toLowerCase(), destination.get(), e.getMessage());
+            }
+        });
+    }
+
     protected abstract JMSDestinationType getDestinationType();
 
     private void validateArguments(ExecutableMethod<?, ?> method) {
@@ -111,15 +197,95 @@ public abstract class AbstractJMSListenerMethodProcessor<T extends Annotation>
     }
 
     private MessageListener generateAndBindListener(Object bean,
-                                                    Executable<?, ?> method) {
+                                                    Executable<?, ?> method,
+                                                    JmsProducer<Object> replyProducer) {
 
-        return message -> {
+        return (BindingMessageListener) (session, message) -> {
             DefaultExecutableBinder<Message> binder = new DefaultExecutableBinder<>();
             BoundExecutable boundExecutable = binder.bind(method, jmsArgumentBinderRegistry, message);
-            boundExecutable.invoke(bean);
+            if (replyProducer == null) {
+                return () -> boundExecutable.invoke(bean);
+            }
+            return () -> reply(session, message, await(boundExecutable.invoke(bean)), replyProducer);
         };
     }
 
+    private static Object await(Object result) {
+        if (!(result instanceof CompletionStage<?> stage)) {
+            return result;
+        }
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new MessageListenerException("Problem completing the reply", e.getCause());
+        }
+    }
+
+    private JmsProducer<Object> createReplyProducer(ExecutableMethod<?, ?> method,
+                                                    AnnotationValue<T> destinationAnnotation,
+                                                    JMSDestinationType type,
+                                                    JMSConnectionPool connectionPool) {
+        if (method.getReturnType().isVoid() || !method.hasAnnotation(RequestReply.class)) {
+            return null;
+        }
+        if (Publishers.isConvertibleToPublisher(method.getReturnType().getType())) {
+            throw new IllegalStateException("Methods annotated with @" + clazz.getSimpleName() + " and @" +
+                RequestReply.class.getSimpleName() + " must return a value or a CompletionStage, not a Publisher: " +
+                method.getDeclaringType().getSimpleName() + "." + method.getMethodName());
+        }
+        Serializer serializer = destinationAnnotation.stringValue("serializer")
+            .filter(StringUtils::isNotEmpty)
+            .map(name -> beanContext.getBean(Serializer.class, Qualifiers.byName(name)))
+            .orElseGet(() -> beanContext.getBean(DefaultSerializerDeserializer.class));
+        return new JmsProducer<>(type, connectionPool, serializer, false, Session.AUTO_ACKNOWLEDGE, null,
+            beanContext.findBean(JMSTracing.class).orElse(null));
+    }
+
+    private static void reply(Session session, Message request, Object result, JmsProducer<Object> replyProducer) {
+        if (result == null) {
+            return;
+        }
+        Destination replyTo;
+        String correlationId;
+        boolean onSession;
+        try {
+            replyTo = request.getJMSReplyTo();
+            if (replyTo == null) {
+                return;
+            }
+            correlationId = request.getJMSCorrelationID() == null
+                ? request.getJMSMessageID()
+                : request.getJMSCorrelationID();
+            // a transacted listener replies on its own session, so the reply is rolled back with the request;
+            // other sessions may be shared by the threads handling the messages, and gain nothing from it
+            onSession = session != null && session.getTransacted();
+        } catch (JMSException e) {
+            throw new MessagingClientException("Problem reading the reply destination of the message", e);
+        }
+        MessageHeader correlation = new MessageHeader(JMS_CORRELATION_ID, correlationId);
+        if (onSession) {
+            replyProducer.send(session, replyTo, result, correlation);
+        } else {
+            replyProducer.send(replyTo, result, DEFAULT_TIME_TO_LIVE, correlation);
+        }
+    }
+
+    private static String prefetchDestination(Collection<PrefetchConfigurer> configurers,
+                                              ConnectionFactory connectionFactory,
+                                              String destination,
+                                              int prefetch) {
+        for (PrefetchConfigurer configurer : configurers) {
+            String configured = configurer.configureDestination(connectionFactory, destination, prefetch);
+            if (configured != null) {
+                return configured;
+            }
+        }
+        return null;
+    }
+
     private void registerListener(ExecutableMethod<?, ?> method,
                                   String connectionFactoryName,
                                   BeanDefinition<?> beanDefinition,
@@ -132,6 +298,14 @@ public abstract class AbstractJMSListenerMethodProcessor<T extends Annotation>
         final int acknowledgeMode = destinationAnnotation.getRequiredValue("acknowledgeMode", Integer.class);
         final boolean transacted = destinationAnnotation.getRequiredValue("transacted", Boolean.class);
         final Optional<String> messageSelector = destinationAnnotation.get("messageSelector", String.class);
+        final int concurrency = destinationAnnotation.intValue("concurrency").orElse(1);
+        final RateLimiter rateLimiter = destinationAnnotation.stringValue("rateLimit")
+                .filter(StringUtils::isNotEmpty)
+                .map(RateLimiter::parseRate)
+                .map(rate -> destinationAnnotation.isTrue("adaptiveRateLimit") ? new AdaptiveRateLimiter(rate) : new RateLimiter(rate))
+                .orElse(null);
+        final int lanes = destinationAnnotation.intValue("lanes").orElse(0);
+        final int prefetch = destinationAnnotation.intValue("prefetch").orElse(-1);
 
         final JMSListenerRegistry registry = beanContext
                 .findBean(JMSListenerRegistry.class)
@@ -141,7 +315,8 @@ public abstract class AbstractJMSListenerMethodProcessor<T extends Annotation>
         final Object bean = beanContext.getBean(beanDefinition.getBeanType());
         final ExecutorService executor = getExecutorService(destinationAnnotation);
 
-        MessageListener listener = generateAndBindListener(bean, method);
+        MessageListener listener = generateAndBindListener(bean, method,
+            createReplyProducer(method, destinationAnnotation, type, connectionPool));
 
         Set<JMSListenerErrorHandler> errorHandlers = Stream.concat(
                         Arrays.stream(destinationAnnotation.classValues("errorHandlers")),
@@ -163,12 +338,76 @@ public abstract class AbstractJMSListenerMethodProcessor<T extends Annotation>
                 .map(Optional::get)
                 .collect(Collectors.toSet());
 
+        final String listenerId = beanDefinition.getBeanType().getSimpleName() + "#" + method.getMethodName();
+
         try {
-            Connection connection = connectionPool.createConnection();
+            // the provider-specific name is only used to create the consumers, the listener keeps the logical name
+            String consumerDestination = destination;
+            Connection connection = null;
+            boolean dedicatedConnection = false;
+            ConnectionFactory connectionFactory = connectionPool.getConnectionFactory();
+            Collection<PrefetchConfigurer> prefetchConfigurers = beanContext.getBeansOfType(PrefetchConfigurer.class);
+            if (prefetch >= 0) {
+                ConnectionFactory prefetchFactory = null;
+                for (PrefetchConfigurer configurer : prefetchConfigurers) {
+                    String configured = configurer.configureDestination(connectionFactory, destination, prefetch);
+                    if (configured != null) {
+                        consumerDestination = configured;
+                        break;
+                    }
+                    prefetchFactory = configurer.withPrefetch(connectionFactory, prefetch);
+                    if (prefetchFactory != null) {
+                        break;
+                    }
+                }
+                if (prefetchFactory != null) {
+                    connection = prefetchFactory.createConnection();
+                    prefetchConnections.add(connection);
+                    dedicatedConnection = true;
+                } else if (consumerDestination.equals(destination)) {
+                    logger.warn("prefetch {} of listener {} is not supported for ConnectionFactory '{}' ({}), " +
+                        "configure it on the factory instead", prefetch, listenerId, connectionFactoryName,
+                        connectionFactory.getClass().getName());
+                }
+            }
+            if (connection == null) {
+                connection = connectionPool.createConnection();
+            }
             io.micronaut.jms.listener.JMSListener registeredListener = registry.register(
-                    connection, type, destination, transacted, acknowledgeMode, listener, executor, true, messageSelector);
+                    listenerId, connection, type, destination, transacted, acknowledgeMode, listener, executor, false, messageSelector);
+            if (!dedicatedConnection) {
+                // the prefetch of consumers on a pooled connection can be changed at runtime through the destination
+                registeredListener.setPrefetchDestination(prefetchValue ->
+                    prefetchDestination(prefetchConfigurers, connectionFactory, destination, prefetchValue));
+            }
+            if (!consumerDestination.equals(destination)) {
+                registeredListener.setPrefetch(prefetch);
+            }
             registeredListener.addSuccessHandlers(successHandlers);
             registeredListener.addErrorHandlers(errorHandlers);
+            if (destinationAnnotation.isTrue("deduplicate")) {
+                registeredListener.setDeduplicator(new MessageDeduplicator(registeredListener.getId(),
+                    destinationAnnotation.stringValue("deduplicationKey").orElse(MessageDeduplicator.DEFAULT_KEY),
+                    beanContext.getBean(MessageDeduplicationStore.class)));
+            }
+            if (lanes > 0) {
+                registeredListener.setLanes(lanes,
+                    destinationAnnotation.stringValue("laneKey").orElse(LaneDispatcher.DEFAULT_KEY),
+                    destinationAnnotation.intValue("maxInFlight").orElse(LaneDispatcher.DEFAULT_MAX_IN_FLIGHT));
+            }
+            registeredListener.setRateLimiter(rateLimiter);
+            if (consumerDestination.equals(destination)) {
+                registeredListener.setPull(prefetch == 0);
+            }
+            beanContext.findBean(JMSMetrics.class)
+                .ifPresent(metrics -> metrics.bindListener(connectionFactoryName, registeredListener));
+            beanContext.findBean(JMSTracing.class).ifPresent(registeredListener::setTracing);
+            registeredListener.setDestinationCache(connectionPool.getDestinationCache());
+            for (JMSListenerCustomizer customizer : beanContext.getBeansOfType(JMSListenerCustomizer.class)) {
+                customizer.customize(registeredListener, method, connectionFactoryName);
+            }
+            registeredListener.setConcurrency(concurrency);
+            registeredListener.start();
         } catch (JMSException e) {
             logger.error("Failed to register listener for destination " + destination, e);
         }
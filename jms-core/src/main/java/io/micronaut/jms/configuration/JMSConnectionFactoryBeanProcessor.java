@@ -23,17 +23,44 @@ import io.micronaut.context.processor.BeanDefinitionProcessor;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.jms.annotations.JMSConnectionFactory;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.jms.configuration.properties.JMSConfigurationProperties;
+import io.micronaut.jms.configuration.properties.JMSConnectionFactoryConfigurationProperties;
+import io.micronaut.jms.configuration.properties.JMSDestinationCacheConfigurationProperties;
+import io.micronaut.jms.configuration.properties.JMSPoolConfigurationProperties;
+import io.micronaut.jms.metrics.JMSMetrics;
+import io.micronaut.jms.pool.DestinationCache;
 import io.micronaut.jms.pool.JMSConnectionPool;
+import io.micronaut.jms.pool.JMSContextPool;
+import io.micronaut.jms.pool.MessageProducerPoolFactory;
+import io.micronaut.jms.pool.PoolConfiguration;
+import io.micronaut.jms.pool.SessionPoolFactory;
 import io.micronaut.jms.util.Assert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.jms.ConnectionFactory;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Creates a {@link JMSConnectionPool} from each registered
- * {@link ConnectionFactory} in the context.
+ * {@link ConnectionFactory} in the context, sized and configured by the
+ * global settings, overridden by the
+ * {@link JMSConnectionFactoryConfigurationProperties} of the factory if any.
+ * <p>
+ * The pools are warmed up and kept filled with their initial connections
+ * by a dedicated thread, instead of blocking threads of the common pool
+ * on network I/O.
  *
  * @author Elliott Pope
  * @since 1.0.0
@@ -45,9 +72,18 @@ public class JMSConnectionFactoryBeanProcessor implements BeanDefinitionProcesso
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final JMSConfigurationProperties properties;
+    private final JMSPoolConfigurationProperties poolProperties;
+    private final Map<String, JMSConnectionPool> pools = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService poolExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jms-pool-filler");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    public JMSConnectionFactoryBeanProcessor(JMSConfigurationProperties properties) {
+    public JMSConnectionFactoryBeanProcessor(JMSConfigurationProperties properties,
+                                             JMSPoolConfigurationProperties poolProperties) {
         this.properties = properties;
+        this.poolProperties = poolProperties;
     }
 
     @Override
@@ -62,15 +98,189 @@ public class JMSConnectionFactoryBeanProcessor implements BeanDefinitionProcesso
             .orElseThrow(() -> new ConfigurationException(
                 "@JMSConnectionFactory must specify a name for the bean."));
 
-        context.registerSingleton(
-            JMSConnectionPool.class,
-            new JMSConnectionPool(
-                connectionFactory,
-                properties.getInitialPoolSize(),
-                properties.getMaxPoolSize()),
-            Qualifiers.byName(name));
+        final JMSConnectionFactoryConfigurationProperties factoryProperties = context.findBean(
+            JMSConnectionFactoryConfigurationProperties.class, Qualifiers.byName(name)).orElse(null);
+        final PoolConfiguration poolConfiguration = factoryProperties == null ?
+            poolProperties :
+            new FactoryPoolConfiguration(factoryProperties, poolProperties);
+
+        final MessageProducerPoolFactory producerPoolFactory = new MessageProducerPoolFactory(
+            valueOf(factoryProperties == null ? null : factoryProperties.getProducerInitialPoolSize(),
+                MessageProducerPoolFactory.DEFAULT_POOL_INITIAL_SIZE),
+            valueOf(factoryProperties == null ? null : factoryProperties.getProducerMaxPoolSize(),
+                MessageProducerPoolFactory.DEFAULT_POOL_MAX_SIZE),
+            poolConfiguration);
+        final SessionPoolFactory sessionPoolFactory = new SessionPoolFactory(
+            producerPoolFactory,
+            valueOf(factoryProperties == null ? null : factoryProperties.getSessionInitialPoolSize(),
+                SessionPoolFactory.DEFAULT_POOL_INITIAL_SIZE),
+            valueOf(factoryProperties == null ? null : factoryProperties.getSessionMaxPoolSize(),
+                SessionPoolFactory.DEFAULT_POOL_MAX_SIZE),
+            poolConfiguration);
+
+        if (factoryProperties != null && factoryProperties.getPrefetch() != null) {
+            applyPrefetch(name, connectionFactory, factoryProperties.getPrefetch(), context);
+        }
+
+        final int maxPoolSize = valueOf(factoryProperties == null ? null : factoryProperties.getMaxPoolSize(),
+            properties.getMaxPoolSize());
+        final JMSConnectionPool pool = new JMSConnectionPool(
+            connectionFactory,
+            valueOf(factoryProperties == null ? null : factoryProperties.getInitialPoolSize(),
+                properties.getInitialPoolSize()),
+            maxPoolSize,
+            poolConfiguration,
+            sessionPoolFactory,
+            valueOf(factoryProperties == null ? null : factoryProperties.getContextInitialPoolSize(),
+                JMSContextPool.DEFAULT_POOL_INITIAL_SIZE),
+            valueOf(factoryProperties == null ? null : factoryProperties.getContextMaxPoolSize(), maxPoolSize));
+        final JMSDestinationCacheConfigurationProperties destinationCacheProperties =
+            context.getBean(JMSDestinationCacheConfigurationProperties.class);
+        pool.setDestinationCache(new DestinationCache(
+            destinationCacheProperties.isEnabled(), destinationCacheProperties.getMaxSize()));
+        pools.put(name, pool);
+        context.registerSingleton(JMSConnectionPool.class, pool, Qualifiers.byName(name));
+        context.findBean(JMSMetrics.class)
+            .ifPresent(metrics -> {
+                metrics.bindPool(name, JMSMetrics.CONNECTION_POOL, pool);
+                metrics.bindPool(name, JMSMetrics.CONTEXT_POOL, pool.getContextPool());
+                sessionPoolFactory.bindMetrics(name, metrics);
+                producerPoolFactory.bindMetrics(name, metrics);
+            });
+        warmUp(name, pool);
 
         logger.debug("created JMSConnectionPool bean '{}' for ConnectionFactory {}",
             name, connectionFactory.getClass().getName());
     }
+
+    /**
+     * @return the created pools by connection factory name
+     * @since 4.1.0
+     */
+    public Map<String, JMSConnectionPool> getPools() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    /**
+     * Closes the created pools, stopping their evictors and closing their idle connections.
+     */
+    @PreDestroy
+    public void close() {
+        poolExecutor.shutdownNow();
+        for (JMSConnectionPool pool : pools.values()) {
+            try {
+                pool.close();
+            } catch (Exception e) {
+                logger.warn("failed to close JMSConnectionPool: {}", e.getMessage(), e);
+            }
+        }
+        pools.clear();
+    }
+
+    private void applyPrefetch(String name, ConnectionFactory connectionFactory, int prefetch, BeanContext context) {
+        for (PrefetchConfigurer configurer : context.getBeansOfType(PrefetchConfigurer.class)) {
+            if (configurer.configure(connectionFactory, prefetch)) {
+                logger.debug("applied prefetch {} to ConnectionFactory '{}'", prefetch, name);
+                return;
+            }
+        }
+        logger.warn("prefetch is not supported for ConnectionFactory '{}' ({}), configure it on the factory instead",
+            name, connectionFactory.getClass().getName());
+    }
+
+    private void warmUp(String name, JMSConnectionPool pool) {
+        CompletableFuture<Void> warmUp = pool.warmUp(poolExecutor).whenComplete((result, e) -> {
+            if (e != null) {
+                logger.warn("failed to warm up JMSConnectionPool '{}': {}", name, e.getMessage(), e);
+            } else {
+                logger.debug("warmed up JMSConnectionPool '{}'", name);
+            }
+        });
+
+        Duration fillInterval = poolProperties.getFillInterval();
+        if (!fillInterval.isZero() && !fillInterval.isNegative()) {
+            poolExecutor.scheduleWithFixedDelay(() -> fill(name, pool),
+                fillInterval.toMillis(), fillInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        if (poolProperties.isAwaitWarmUp()) {
+            Duration timeout = poolProperties.getWarmUpTimeout();
+            try {
+                warmUp.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                logger.warn("JMSConnectionPool '{}' was not warmed up within {}", name, timeout);
+            } catch (ExecutionException e) {
+                // already logged
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void fill(String name, JMSConnectionPool pool) {
+        try {
+            pool.ensureMinIdle();
+        } catch (RuntimeException e) {
+            // keep the task scheduled, the broker may be back for the next run
+            logger.debug("failed to fill JMSConnectionPool '{}': {}", name, e.getMessage(), e);
+        }
+    }
+
+    private static <T> T valueOf(@Nullable T value, T defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * The pool settings of a connection factory, falling back to the global settings.
+     */
+    static final class FactoryPoolConfiguration implements PoolConfiguration {
+
+        private final JMSConnectionFactoryConfigurationProperties factoryProperties;
+        private final PoolConfiguration defaults;
+
+        FactoryPoolConfiguration(JMSConnectionFactoryConfigurationProperties factoryProperties,
+                                         PoolConfiguration defaults) {
+            this.factoryProperties = factoryProperties;
+            this.defaults = defaults;
+        }
+
+        @Override
+        public boolean isTestOnBorrow() {
+            return valueOf(factoryProperties.getTestOnBorrow(), defaults.isTestOnBorrow());
+        }
+
+        @Override
+        public boolean isTestOnReturn() {
+            return valueOf(factoryProperties.getTestOnReturn(), defaults.isTestOnReturn());
+        }
+
+        @Override
+        public Duration getEvictionInterval() {
+            return valueOf(factoryProperties.getEvictionInterval(), defaults.getEvictionInterval());
+        }
+
+        @Override
+        public Duration getIdleTimeout() {
+            return valueOf(factoryProperties.getIdleTimeout(), defaults.getIdleTimeout());
+        }
+
+        @Override
+        public Duration getMaxLifetime() {
+            return factoryProperties.getMaxLifetime() == null ?
+                defaults.getMaxLifetime() :
+                factoryProperties.getMaxLifetime();
+        }
+
+        @Override
+        public double getMaxLifetimeJitter() {
+            return valueOf(factoryProperties.getMaxLifetimeJitter(), defaults.getMaxLifetimeJitter());
+        }
+
+        @Override
+        public Duration getBorrowTimeout() {
+            return factoryProperties.getBorrowTimeout() == null ?
+                defaults.getBorrowTimeout() :
+                factoryProperties.getBorrowTimeout();
+        }
+    }
 }
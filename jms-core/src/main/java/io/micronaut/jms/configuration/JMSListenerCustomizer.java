@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.configuration;
+
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.jms.listener.JMSListener;
+
+/**
+ * Customizes the {@link JMSListener} registered for a {@code @Queue} or {@code @Topic} method before it is started,
+ * typically from annotations of the method that are specific to a provider. Implementations are registered as beans,
+ * usually by the provider modules.
+ *
+ * @since 4.1.0
+ */
+@FunctionalInterface
+public interface JMSListenerCustomizer {
+
+    /**
+     * @param listener              the listener, not started yet
+     * @param method                the listener method
+     * @param connectionFactoryName the name of the connection factory the listener consumes from
+     */
+    void customize(JMSListener listener, ExecutableMethod<?, ?> method, String connectionFactoryName);
+}
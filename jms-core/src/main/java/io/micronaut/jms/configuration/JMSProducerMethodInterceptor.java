@@ -15,38 +15,73 @@
  */
 package io.micronaut.jms.configuration;
 
+import io.micronaut.aop.InterceptedMethod;
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
 import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.jms.annotations.JMSProducer;
+import io.micronaut.jms.annotations.MessageDelay;
+import io.micronaut.jms.annotations.MessageDeliveryMode;
+import io.micronaut.jms.annotations.MessagePriority;
 import io.micronaut.jms.annotations.MessageTTL;
 import io.micronaut.jms.annotations.Queue;
+import io.micronaut.jms.annotations.RequestReply;
 import io.micronaut.jms.annotations.Topic;
+import io.micronaut.jms.configuration.properties.JMSRequestReplyConfigurationProperties;
+import io.micronaut.jms.metrics.JMSMetrics;
+import io.micronaut.jms.metrics.JMSTimingRecorder;
+import io.micronaut.jms.model.DeliveryOptions;
+import io.micronaut.jms.model.JMSDeliveryMode;
 import io.micronaut.jms.model.JMSDestinationType;
 import io.micronaut.jms.model.MessageHeader;
 import io.micronaut.jms.pool.JMSConnectionPool;
 import io.micronaut.jms.serdes.DefaultSerializerDeserializer;
+import io.micronaut.jms.serdes.Deserializer;
 import io.micronaut.jms.serdes.Serializer;
 import io.micronaut.jms.templates.JmsProducer;
+import io.micronaut.jms.templates.JmsRequestReply;
+import io.micronaut.jms.tracing.JMSTracing;
 import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.messaging.exceptions.MessagingClientException;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import jakarta.jms.Message;
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 
 import static io.micronaut.jms.model.JMSDestinationType.QUEUE;
 import static io.micronaut.jms.model.JMSDestinationType.TOPIC;
-import static jakarta.jms.Message.DEFAULT_TIME_TO_LIVE;
+import static io.micronaut.jms.model.JMSHeaders.JMS_CORRELATION_ID;
+import static io.micronaut.jms.model.JMSHeaders.JMS_REPLY_TO;
+import static jakarta.jms.Message.DEFAULT_PRIORITY;
+import static jakarta.jms.Session.AUTO_ACKNOWLEDGE;
 
 /**
  * Sends messages to a broker. Requires that the interface be annotated with
  * {@link JMSProducer} and have at least one method annotated with
  * {@link Queue} or {@link Topic}.
+ * <p>
+ * Methods annotated with {@link RequestReply} and returning a value, or a
+ * {@link java.util.concurrent.CompletionStage} or
+ * {@link org.reactivestreams.Publisher} of a value, send a request and
+ * return its reply. The replies of all the requests sent through a connection
+ * factory are received on a single temporary queue, see {@link JmsRequestReply}.
+ * Other methods only send the message and return null.
  *
  * @author Elliott Pope
  * @since 1.0.0
@@ -55,9 +90,49 @@ import static jakarta.jms.Message.DEFAULT_TIME_TO_LIVE;
 public class JMSProducerMethodInterceptor implements MethodInterceptor<Object, Object> {
 
     private final BeanContext beanContext;
+    private final JMSMetrics metrics;
+    private final JMSTracing tracing;
+    private final ConversionService conversionService;
+    private final Duration replyTimeout;
+    private final Map<ExecutableMethod<?, ?>, JMSTimingRecorder> sendRecorders = new ConcurrentHashMap<>();
+    private final Map<ExecutableMethod<?, ?>, DeliveryOptions> methodDeliveryOptions = new ConcurrentHashMap<>();
+    private final Map<String, JmsRequestReply> requestReplies = new ConcurrentHashMap<>();
 
     public JMSProducerMethodInterceptor(BeanContext beanContext) {
+        this(beanContext, null, null);
+    }
+
+    /**
+     * @param beanContext the bean context
+     * @param metrics     the metrics to record sent messages with, or null
+     * @param tracing     the tracing to start a span for each sent message with, or null
+     * @since 4.1.0
+     */
+    public JMSProducerMethodInterceptor(BeanContext beanContext,
+                                        @Nullable JMSMetrics metrics,
+                                        @Nullable JMSTracing tracing) {
+        this(beanContext, metrics, tracing, ConversionService.SHARED, null);
+    }
+
+    /**
+     * @param beanContext       the bean context
+     * @param metrics           the metrics to record sent messages with, or null
+     * @param tracing           the tracing to start a span for each sent message with, or null
+     * @param conversionService the conversion service adapting replies to the return types
+     * @param requestReply      the request-reply settings, or null to use the defaults
+     * @since 4.1.0
+     */
+    @Inject
+    public JMSProducerMethodInterceptor(BeanContext beanContext,
+                                        @Nullable JMSMetrics metrics,
+                                        @Nullable JMSTracing tracing,
+                                        ConversionService conversionService,
+                                        @Nullable JMSRequestReplyConfigurationProperties requestReply) {
         this.beanContext = beanContext;
+        this.metrics = metrics;
+        this.tracing = tracing;
+        this.conversionService = conversionService;
+        this.replyTimeout = requestReply == null ? JmsRequestReply.DEFAULT_TIMEOUT : requestReply.getTimeout();
     }
 
     @Override
@@ -113,22 +188,178 @@ public class JMSProducerMethodInterceptor implements MethodInterceptor<Object, O
                 return new MessageHeader(headerName, parameterValueMap.get(argName));
             }).toArray(MessageHeader[]::new);
 
-        long timeToLive = timeToLive(method, parameterValueMap);
+        DeliveryOptions methodOptions = methodDeliveryOptions.get(method);
+        if (methodOptions == null) {
+            methodOptions = methodDeliveryOptions.computeIfAbsent(method, m -> methodDeliveryOptions(m, annotationType));
+        }
+        DeliveryOptions options = deliveryOptions(methodOptions, method, parameterValueMap);
         JMSConnectionPool pool = beanContext.getBean(JMSConnectionPool.class, Qualifiers.byName(connectionFactory));
 
-        JmsProducer producer = new JmsProducer(destinationType, pool, serializer);
-        producer.send(destinationName, body, timeToLive, headers);
+        JMSTimingRecorder sendRecorder = null;
+        if (metrics != null) {
+            sendRecorder = sendRecorders.get(method);
+            if (sendRecorder == null) {
+                sendRecorder = sendRecorders.computeIfAbsent(method,
+                    m -> metrics.producerRecorder(connectionFactory, destinationType, destinationName));
+            }
+        }
+
+        JmsProducer producer = new JmsProducer(destinationType, pool, serializer, false, AUTO_ACKNOWLEDGE, sendRecorder, tracing);
+
+        InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
+        Argument<?> replyType = interceptedMethod.returnTypeValue();
+        CompletableFuture<Object> result;
+        if (replyType.isVoid() || !method.hasAnnotation(RequestReply.class)) {
+            producer.sendWithSession(destinationName, body, options, headers);
+            if (interceptedMethod.resultType() == InterceptedMethod.ResultType.SYNCHRONOUS) {
+                return null;
+            }
+            result = CompletableFuture.completedFuture(null);
+        } else {
+            JmsRequestReply requestReply = requestReplies.computeIfAbsent(connectionFactory,
+                name -> new JmsRequestReply(pool.getConnectionFactory(), replyTimeout));
+            Deserializer deserializer = serializer instanceof Deserializer d
+                ? d
+                : beanContext.getBean(DefaultSerializerDeserializer.class);
+            result = request(requestReply, producer, destinationName, body, options, headers)
+                .handle((reply, e) -> {
+                    if (e != null) {
+                        throw replyFailure(destinationName, e);
+                    }
+                    return readReply(reply, replyType, deserializer);
+                });
+        }
+
+        return switch (interceptedMethod.resultType()) {
+            case COMPLETION_STAGE -> interceptedMethod.handleResult(result);
+            case PUBLISHER -> interceptedMethod.handleResult(Publishers.fromCompletableFuture(() -> result));
+            default -> awaitReply(result);
+        };
+    }
 
-        return null;
+    /**
+     * Closes the reply queues.
+     *
+     * @since 4.1.0
+     */
+    @PreDestroy
+    public void close() {
+        requestReplies.values().forEach(JmsRequestReply::close);
+        requestReplies.clear();
     }
 
-    private long timeToLive(ExecutableMethod<?, ?> method, Map<String, Object> parameterValueMap) {
-        return Arrays.stream(method.getArguments())
-            .filter(arg -> arg.isDeclaredAnnotationPresent(MessageTTL.class))
-            .map(arg -> parameterValueMap.get(arg.getName()))
-            .map(arg -> (arg instanceof Number n) ? n.longValue() : null)
-            .filter(Objects::nonNull)
+    private CompletableFuture<Message> request(JmsRequestReply requestReply,
+                                               JmsProducer producer,
+                                               String destinationName,
+                                               Object body,
+                                               DeliveryOptions options,
+                                               MessageHeader[] headers) {
+        // an explicit correlation ID is kept, e.g. to correlate the request with an upstream message
+        String correlationId = Arrays.stream(headers)
+            .filter(header -> JMS_CORRELATION_ID.equals(header.getKey()) && header.getValue() instanceof String)
+            .map(header -> (String) header.getValue())
             .findFirst()
-            .orElse(DEFAULT_TIME_TO_LIVE);
+            .orElse(null);
+        MessageHeader[] requestHeaders = Arrays.copyOf(headers, headers.length + (correlationId == null ? 2 : 1));
+        if (correlationId == null) {
+            correlationId = JmsRequestReply.newCorrelationId();
+            requestHeaders[requestHeaders.length - 2] = new MessageHeader(JMS_CORRELATION_ID, correlationId);
+        }
+        requestHeaders[requestHeaders.length - 1] = new MessageHeader(JMS_REPLY_TO, requestReply.getReplyQueue());
+
+        CompletableFuture<Message> reply = requestReply.expectReply(correlationId);
+        try {
+            producer.sendWithSession(destinationName, body, options, requestHeaders);
+        } catch (RuntimeException e) {
+            reply.completeExceptionally(e);
+        }
+        return reply;
+    }
+
+    private Object readReply(Message reply, Argument<?> replyType, Deserializer deserializer) {
+        if (Message.class.isAssignableFrom(replyType.getType())) {
+            return reply;
+        }
+        Object value = deserializer.deserialize(reply, replyType.getWrapperType());
+        if (value == null || replyType.getWrapperType().isInstance(value)) {
+            return value;
+        }
+        return conversionService.convertRequired(value, replyType);
+    }
+
+    private RuntimeException replyFailure(String destinationName, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof TimeoutException) {
+            return new MessagingClientException("No reply received from " + destinationName +
+                " within " + replyTimeout);
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new MessagingClientException("Problem receiving the reply from " + destinationName, cause);
+    }
+
+    private static Object awaitReply(CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static DeliveryOptions methodDeliveryOptions(ExecutableMethod<?, ?> method,
+                                                         Class<? extends Annotation> annotationType) {
+        DeliveryOptions.Builder builder = DeliveryOptions.builder();
+        // only the settings differing from the JMS defaults are applied, so the default options are a no-op
+        method.enumValue(annotationType, "deliveryMode", JMSDeliveryMode.class)
+            .filter(mode -> mode != JMSDeliveryMode.PERSISTENT)
+            .ifPresent(builder::deliveryMode);
+        int priority = method.intValue(annotationType, "priority").orElse(DEFAULT_PRIORITY);
+        if (priority != DEFAULT_PRIORITY) {
+            builder.priority(priority);
+        }
+        long deliveryDelay = method.longValue(annotationType, "deliveryDelay").orElse(0);
+        if (deliveryDelay > 0) {
+            builder.deliveryDelay(deliveryDelay);
+        }
+        return builder
+            .disableMessageID(method.isTrue(annotationType, "disableMessageId"))
+            .disableMessageTimestamp(method.isTrue(annotationType, "disableMessageTimestamp"))
+            .build();
+    }
+
+    private DeliveryOptions deliveryOptions(DeliveryOptions methodOptions,
+                                            ExecutableMethod<?, ?> method,
+                                            Map<String, Object> parameterValueMap) {
+        DeliveryOptions.Builder builder = null;
+        for (Argument<?> argument : method.getArguments()) {
+            Object value = parameterValueMap.get(argument.getName());
+            if (value == null) {
+                continue;
+            }
+            if (argument.isDeclaredAnnotationPresent(MessageTTL.class)) {
+                if (value instanceof Number timeToLive) {
+                    builder = builderOf(builder, methodOptions).timeToLive(timeToLive.longValue());
+                }
+            } else if (argument.isDeclaredAnnotationPresent(MessageDeliveryMode.class)) {
+                builder = builderOf(builder, methodOptions).deliveryMode(value instanceof JMSDeliveryMode mode
+                    ? mode
+                    : JMSDeliveryMode.from(conversionService.convertRequired(value, Integer.class)));
+            } else if (argument.isDeclaredAnnotationPresent(MessagePriority.class)) {
+                builder = builderOf(builder, methodOptions).priority(conversionService.convertRequired(value, Integer.class));
+            } else if (argument.isDeclaredAnnotationPresent(MessageDelay.class)) {
+                builder = builderOf(builder, methodOptions).deliveryDelay(value instanceof Duration delay
+                    ? delay.toMillis()
+                    : conversionService.convertRequired(value, Long.class));
+            }
+        }
+        return builder == null ? methodOptions : builder.build();
+    }
+
+    private static DeliveryOptions.Builder builderOf(DeliveryOptions.Builder builder, DeliveryOptions options) {
+        return builder == null ? options.toBuilder() : builder;
     }
 }
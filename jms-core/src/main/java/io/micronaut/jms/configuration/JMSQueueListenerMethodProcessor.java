@@ -21,19 +21,12 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.jms.annotations.Queue;
 import io.micronaut.jms.bind.JMSArgumentBinderRegistry;
 import io.micronaut.jms.model.JMSDestinationType;
-import io.micronaut.jms.util.Assert;
 import jakarta.inject.Singleton;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static io.micronaut.jms.model.JMSDestinationType.QUEUE;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Registers a {@link io.micronaut.jms.listener.JMSListener} for
@@ -45,9 +38,6 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 @Singleton
 public class JMSQueueListenerMethodProcessor extends AbstractJMSListenerMethodProcessor<Queue> {
 
-    private static final Pattern CONCURRENCY_PATTERN = Pattern.compile("([0-9]+)-([0-9]+)");
-    private static final long DEFAULT_KEEP_ALIVE_TIME = 500; // TODO BB
-
     public JMSQueueListenerMethodProcessor(BeanContext beanContext,
                                            JMSArgumentBinderRegistry registry) {
         super(beanContext, registry, Queue.class);
@@ -56,7 +46,6 @@ public class JMSQueueListenerMethodProcessor extends AbstractJMSListenerMethodPr
     @Override
     protected ExecutorService getExecutorService(AnnotationValue<Queue> value) {
         final Optional<String> executorName = value.stringValue("executor");
-        final Optional<String> concurrency = value.stringValue("concurrency");
 
         if (executorName.isPresent() && !executorName.get().isEmpty()) {
 
@@ -67,27 +56,6 @@ public class JMSQueueListenerMethodProcessor extends AbstractJMSListenerMethodPr
                     "No ExecutorService bean found with name " + executorName.get()));
         }
 
-        if (concurrency.isPresent()) {
-
-            logger.warn("The deprecated 'concurrency' option of 'io.micronaut.jms.annotations.Queue' annotation is being used. Note that It will be removed soon.");
-
-            final Matcher matcher = CONCURRENCY_PATTERN.matcher(concurrency.get());
-            Assert.isTrue(matcher.find() && matcher.groupCount() == 2,
-                () -> "Concurrency must be of the form int-int (e.g. \"1-10\"). " +
-                    "Concurrency provided was " + concurrency.get());
-
-            int numThreads = Integer.parseInt(matcher.group(1));
-            int maxThreads = Integer.parseInt(matcher.group(2));
-
-            return new ThreadPoolExecutor(
-                numThreads,
-                maxThreads,
-                DEFAULT_KEEP_ALIVE_TIME,
-                MILLISECONDS,
-                new LinkedBlockingQueue<>(numThreads),
-                Executors.defaultThreadFactory());
-        }
-
        return null;
     }
 
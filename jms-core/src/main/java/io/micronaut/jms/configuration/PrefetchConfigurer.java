@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.configuration;
+
+import io.micronaut.core.annotation.Nullable;
+
+import jakarta.jms.ConnectionFactory;
+
+/**
+ * Applies the {@code prefetch} setting of
+ * {@link io.micronaut.jms.configuration.properties.JMSConnectionFactoryConfigurationProperties} to a
+ * {@link ConnectionFactory}, which is specific to each provider. Implementations are registered as beans by the
+ * provider modules. The {@code prefetch} of a {@code @Queue} or {@code @Topic} listener is applied with
+ * {@link #configureDestination} if the provider supports options on destination names, otherwise with
+ * {@link #withPrefetch}.
+ *
+ * @since 4.1.0
+ */
+public interface PrefetchConfigurer {
+
+    /**
+     * Applies the prefetch to the consumers created from the given connection factory.
+     *
+     * @param connectionFactory the connection factory
+     * @param prefetch          the number of messages pushed to each consumer ahead of their processing
+     * @return whether the connection factory is supported by this configurer
+     */
+    boolean configure(ConnectionFactory connectionFactory, int prefetch);
+
+    /**
+     * Applies the prefetch to the consumers of a single destination, for providers that accept consumer options in
+     * destination names.
+     *
+     * @param connectionFactory the connection factory of the consumers
+     * @param destination       the name of the destination
+     * @param prefetch          the number of messages pushed to each consumer ahead of their processing
+     * @return the name to create the destination of the consumers with, or null if the connection factory isn't
+     * supported or the provider has no destination options
+     * @since 4.1.0
+     */
+    @Nullable
+    default String configureDestination(ConnectionFactory connectionFactory, String destination, int prefetch) {
+        return null;
+    }
+
+    /**
+     * Creates a connection factory like the given one whose consumers use the given prefetch, for providers that
+     * only support the prefetch per connection factory. The connections of the returned factory aren't pooled.
+     *
+     * @param connectionFactory the connection factory of the consumers
+     * @param prefetch          the number of messages pushed to each consumer ahead of their processing
+     * @return the connection factory, or null if the connection factory isn't supported or the prefetch can't be
+     * applied
+     * @since 4.1.0
+     */
+    @Nullable
+    default ConnectionFactory withPrefetch(ConnectionFactory connectionFactory, int prefetch) {
+        return null;
+    }
+}
@@ -31,6 +31,9 @@ import static io.micronaut.jms.configuration.properties.JMSConfigurationProperti
  * {@link io.micronaut.jms.pool.SessionPool}, and {@link io.micronaut.jms.pool.MessageProducerPool}.
  * - maxPoolSize: the maximum size of the {@link io.micronaut.jms.pool.JMSConnectionPool},
  * {@link io.micronaut.jms.pool.SessionPool}, and {@link io.micronaut.jms.pool.MessageProducerPool}.
+ * <p>
+ * Both can be overridden for a single connection factory with
+ * {@link JMSConnectionFactoryConfigurationProperties}.
  *
  * @author Elliott Pope
  * @since 1.0.0
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.configuration.properties;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.Nullable;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+
+import static io.micronaut.jms.configuration.properties.JMSConnectionFactoryConfigurationProperties.PREFIX;
+
+/**
+ * Pool settings of a single {@link io.micronaut.jms.annotations.JMSConnectionFactory}, configured under
+ * {@code micronaut.jms.factories.<name>} where the name is the one of the connection factory bean, e.g.
+ * {@code activeMqConnectionFactory}.
+ * <p>
+ * Settings which are not set fall back to the global ones of {@link JMSConfigurationProperties} and
+ * {@link JMSPoolConfigurationProperties}, or to the defaults of the session and producer pools.
+ *
+ * @since 4.1.0
+ */
+@EachProperty(PREFIX)
+public class JMSConnectionFactoryConfigurationProperties {
+
+    /**
+     * Prefix for the settings of each connection factory.
+     */
+    public static final String PREFIX = JMSConfigurationProperties.PREFIX + ".factories";
+
+    private final String name;
+
+    @Min(0)
+    private Integer initialPoolSize;
+
+    @Min(1)
+    private Integer maxPoolSize;
+
+    @Min(0)
+    private Integer sessionInitialPoolSize;
+
+    @Min(1)
+    private Integer sessionMaxPoolSize;
+
+    @Min(0)
+    private Integer producerInitialPoolSize;
+
+    @Min(1)
+    private Integer producerMaxPoolSize;
+
+    @Min(0)
+    private Integer contextInitialPoolSize;
+
+    @Min(1)
+    private Integer contextMaxPoolSize;
+
+    private Duration borrowTimeout;
+    private Boolean testOnBorrow;
+    private Boolean testOnReturn;
+    private Duration evictionInterval;
+    private Duration idleTimeout;
+    private Duration maxLifetime;
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private Double maxLifetimeJitter;
+
+    @Min(0)
+    private Integer prefetch;
+
+    public JMSConnectionFactoryConfigurationProperties(@Parameter String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return the name of the connection factory bean
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of connections kept idle, defaults to {@code micronaut.jms.initialPoolSize}
+     */
+    @Nullable
+    public Integer getInitialPoolSize() {
+        return initialPoolSize;
+    }
+
+    /**
+     * @param initialPoolSize the number of connections kept idle
+     */
+    public void setInitialPoolSize(@Nullable Integer initialPoolSize) {
+        this.initialPoolSize = initialPoolSize;
+    }
+
+    /**
+     * @return the maximum number of connections, defaults to {@code micronaut.jms.maxPoolSize}
+     */
+    @Nullable
+    public Integer getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * @param maxPoolSize the maximum number of connections
+     */
+    public void setMaxPoolSize(@Nullable Integer maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    /**
+     * @return the number of sessions kept idle per connection and session mode, defaults to 1
+     */
+    @Nullable
+    public Integer getSessionInitialPoolSize() {
+        return sessionInitialPoolSize;
+    }
+
+    /**
+     * @param sessionInitialPoolSize the number of sessions kept idle per connection and session mode
+     */
+    public void setSessionInitialPoolSize(@Nullable Integer sessionInitialPoolSize) {
+        this.sessionInitialPoolSize = sessionInitialPoolSize;
+    }
+
+    /**
+     * @return the maximum number of sessions per connection, defaults to 20
+     */
+    @Nullable
+    public Integer getSessionMaxPoolSize() {
+        return sessionMaxPoolSize;
+    }
+
+    /**
+     * @param sessionMaxPoolSize the maximum number of sessions per connection
+     */
+    public void setSessionMaxPoolSize(@Nullable Integer sessionMaxPoolSize) {
+        this.sessionMaxPoolSize = sessionMaxPoolSize;
+    }
+
+    /**
+     * @return the number of producers kept idle per session and destination, defaults to 1
+     */
+    @Nullable
+    public Integer getProducerInitialPoolSize() {
+        return producerInitialPoolSize;
+    }
+
+    /**
+     * @param producerInitialPoolSize the number of producers kept idle per session and destination
+     */
+    public void setProducerInitialPoolSize(@Nullable Integer producerInitialPoolSize) {
+        this.producerInitialPoolSize = producerInitialPoolSize;
+    }
+
+    /**
+     * @return the maximum number of producers per session, defaults to 20
+     */
+    @Nullable
+    public Integer getProducerMaxPoolSize() {
+        return producerMaxPoolSize;
+    }
+
+    /**
+     * @param producerMaxPoolSize the maximum number of producers per session
+     */
+    public void setProducerMaxPoolSize(@Nullable Integer producerMaxPoolSize) {
+        this.producerMaxPoolSize = producerMaxPoolSize;
+    }
+
+    /**
+     * @return the number of {@link jakarta.jms.JMSContext}s kept idle per session mode, each holding its own
+     * connection, defaults to 0
+     */
+    @Nullable
+    public Integer getContextInitialPoolSize() {
+        return contextInitialPoolSize;
+    }
+
+    /**
+     * @param contextInitialPoolSize the number of contexts kept idle per session mode
+     */
+    public void setContextInitialPoolSize(@Nullable Integer contextInitialPoolSize) {
+        this.contextInitialPoolSize = contextInitialPoolSize;
+    }
+
+    /**
+     * @return the maximum number of {@link jakarta.jms.JMSContext}s, defaults to the maximum number of connections
+     */
+    @Nullable
+    public Integer getContextMaxPoolSize() {
+        return contextMaxPoolSize;
+    }
+
+    /**
+     * @param contextMaxPoolSize the maximum number of contexts
+     */
+    public void setContextMaxPoolSize(@Nullable Integer contextMaxPoolSize) {
+        this.contextMaxPoolSize = contextMaxPoolSize;
+    }
+
+    /**
+     * @return how long requests wait for a connection, session or producer once the pool is exhausted, defaults
+     * to {@code micronaut.jms.pool.borrow-timeout}
+     */
+    @Nullable
+    public Duration getBorrowTimeout() {
+        return borrowTimeout;
+    }
+
+    /**
+     * @param borrowTimeout how long requests wait once the pool is exhausted
+     */
+    public void setBorrowTimeout(@Nullable Duration borrowTimeout) {
+        this.borrowTimeout = borrowTimeout;
+    }
+
+    /**
+     * @return whether pooled objects are validated when requested, defaults to
+     * {@code micronaut.jms.pool.test-on-borrow}
+     */
+    @Nullable
+    public Boolean getTestOnBorrow() {
+        return testOnBorrow;
+    }
+
+    /**
+     * @param testOnBorrow whether pooled objects are validated when requested
+     */
+    public void setTestOnBorrow(@Nullable Boolean testOnBorrow) {
+        this.testOnBorrow = testOnBorrow;
+    }
+
+    /**
+     * @return whether pooled objects are validated when released, defaults to
+     * {@code micronaut.jms.pool.test-on-return}
+     */
+    @Nullable
+    public Boolean getTestOnReturn() {
+        return testOnReturn;
+    }
+
+    /**
+     * @param testOnReturn whether pooled objects are validated when released
+     */
+    public void setTestOnReturn(@Nullable Boolean testOnReturn) {
+        this.testOnReturn = testOnReturn;
+    }
+
+    /**
+     * @return the interval at which idle objects are validated and evicted, defaults to
+     * {@code micronaut.jms.pool.eviction-interval}
+     */
+    @Nullable
+    public Duration getEvictionInterval() {
+        return evictionInterval;
+    }
+
+    /**
+     * @param evictionInterval the interval at which idle objects are validated and evicted
+     */
+    public void setEvictionInterval(@Nullable Duration evictionInterval) {
+        this.evictionInterval = evictionInterval;
+    }
+
+    /**
+     * @return how long objects may stay idle beyond the initial size of their pool, defaults to
+     * {@code micronaut.jms.pool.idle-timeout}
+     */
+    @Nullable
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * @param idleTimeout how long objects may stay idle beyond the initial size of their pool
+     */
+    public void setIdleTimeout(@Nullable Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * @return the time after which objects are closed instead of being reused, defaults to
+     * {@code micronaut.jms.pool.max-lifetime}
+     */
+    @Nullable
+    public Duration getMaxLifetime() {
+        return maxLifetime;
+    }
+
+    /**
+     * @param maxLifetime the time after which objects are closed instead of being reused
+     */
+    public void setMaxLifetime(@Nullable Duration maxLifetime) {
+        this.maxLifetime = maxLifetime;
+    }
+
+    /**
+     * @return the fraction by which the lifetime of each object is randomly shortened, defaults to
+     * {@code micronaut.jms.pool.max-lifetime-jitter}
+     */
+    @Nullable
+    public Double getMaxLifetimeJitter() {
+        return maxLifetimeJitter;
+    }
+
+    /**
+     * @param maxLifetimeJitter the fraction by which the lifetime of each object is randomly shortened
+     */
+    public void setMaxLifetimeJitter(@Nullable Double maxLifetimeJitter) {
+        this.maxLifetimeJitter = maxLifetimeJitter;
+    }
+
+    /**
+     * @return the number of messages the broker pushes to each consumer ahead of their processing, or 0 to only
+     * dispatch a message once the previous one was processed. Defaults to the setting of the provider.
+     */
+    @Nullable
+    public Integer getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * @param prefetch the number of messages the broker pushes to each consumer ahead of their processing
+     */
+    public void setPrefetch(@Nullable Integer prefetch) {
+        this.prefetch = prefetch;
+    }
+}
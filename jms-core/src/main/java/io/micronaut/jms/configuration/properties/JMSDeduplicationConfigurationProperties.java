@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.configuration.properties;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+import static io.micronaut.jms.configuration.properties.JMSDeduplicationConfigurationProperties.PREFIX;
+
+/**
+ * Configuration of the {@link io.micronaut.jms.listener.InMemoryMessageDeduplicationStore}.
+ *
+ * @since 4.1.0
+ */
+@ConfigurationProperties(PREFIX)
+public interface JMSDeduplicationConfigurationProperties {
+
+    /**
+     * Prefix for JMS deduplication settings.
+     */
+    String PREFIX = JMSConfigurationProperties.PREFIX + ".deduplication";
+
+    /**
+     * The maximum number of message keys kept, shared by all listeners. Default value: 10000.
+     *
+     * @return the maximum number of keys
+     */
+    @NotNull
+    @Min(1)
+    @Bindable(defaultValue = "10000")
+    Integer getMaxSize();
+
+    /**
+     * How long the key of a processed message is kept. Default value: 1h.
+     *
+     * @return the expiry of a key
+     */
+    @NotNull
+    @Bindable(defaultValue = "1h")
+    Duration getExpireAfter();
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.configuration.properties;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import jakarta.validation.constraints.Min;
+
+import static io.micronaut.jms.configuration.properties.JMSDestinationCacheConfigurationProperties.PREFIX;
+
+/**
+ * Settings of the {@link io.micronaut.jms.pool.DestinationCache} of each
+ * {@link io.micronaut.jms.pool.JMSConnectionPool}.
+ *
+ * @since 4.1.0
+ */
+@ConfigurationProperties(PREFIX)
+public interface JMSDestinationCacheConfigurationProperties {
+
+    /**
+     * Prefix for JMS destination cache settings.
+     */
+    String PREFIX = JMSConfigurationProperties.PREFIX + ".destination-cache";
+
+    /**
+     * Whether destinations are cached by name, instead of being created for every send or consumer.
+     * Default value: true.
+     *
+     * @return whether destinations are cached
+     */
+    @Bindable(defaultValue = "true")
+    boolean isEnabled();
+
+    /**
+     * The maximum number of cached queues, and of cached topics, of each connection factory. Default value: 1000.
+     *
+     * @return the maximum number of cached destinations
+     */
+    @Min(1)
+    @Bindable(defaultValue = "1000")
+    int getMaxSize();
+
+    /**
+     * Whether the destinations of the {@link io.micronaut.jms.annotations.JMSProducer} methods are created and
+     * cached at startup, instead of by their first send. Default value: false.
+     *
+     * @return whether the destinations of producers are resolved at startup
+     */
+    @Bindable(defaultValue = "false")
+    boolean isPreResolve();
+}
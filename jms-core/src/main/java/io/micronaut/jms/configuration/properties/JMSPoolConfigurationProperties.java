@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.configuration.properties;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.jms.pool.PoolConfiguration;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+
+import static io.micronaut.jms.configuration.properties.JMSPoolConfigurationProperties.PREFIX;
+
+/**
+ * Health settings of the {@link io.micronaut.jms.pool.JMSConnectionPool}s.
+ *
+ * @since 4.1.0
+ */
+@ConfigurationProperties(PREFIX)
+public interface JMSPoolConfigurationProperties extends PoolConfiguration {
+
+    /**
+     * Prefix for JMS pool settings.
+     */
+    String PREFIX = JMSConfigurationProperties.PREFIX + ".pool";
+
+    /**
+     * Whether connections are validated before being handed out, replacing invalid ones. Default value: true.
+     *
+     * @return whether connections are validated when requested
+     */
+    @Override
+    @Bindable(defaultValue = "true")
+    boolean isTestOnBorrow();
+
+    /**
+     * Whether connections are validated when released, destroying invalid ones. Default value: true.
+     *
+     * @return whether connections are validated when released
+     */
+    @Override
+    @Bindable(defaultValue = "true")
+    boolean isTestOnReturn();
+
+    /**
+     * The interval at which idle connections are validated and evicted, or 0 to disable the evictor.
+     * Default value: 30s.
+     *
+     * @return the eviction interval
+     */
+    @Override
+    @NotNull
+    @Bindable(defaultValue = "30s")
+    Duration getEvictionInterval();
+
+    /**
+     * How long a connection may stay idle before being evicted if the pool has more idle connections than its
+     * initial size. Default value: 5m.
+     *
+     * @return the idle timeout
+     */
+    @Override
+    @NotNull
+    @Bindable(defaultValue = "5m")
+    Duration getIdleTimeout();
+
+    /**
+     * The time after which connections are closed instead of being reused, e.g. to rebalance them across the nodes
+     * of a cluster. Not set by default.
+     *
+     * @return the maximum lifetime
+     */
+    @Override
+    @Nullable
+    Duration getMaxLifetime();
+
+    /**
+     * The fraction of the maximum lifetime by which the lifetime of each connection is randomly shortened, so that
+     * connections created together are not all replaced at once. Default value: 0.1.
+     *
+     * @return the maximum lifetime jitter
+     */
+    @Override
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    @Bindable(defaultValue = "0.1")
+    double getMaxLifetimeJitter();
+
+    /**
+     * How long requests wait for a connection, session or producer to be released once their pool is exhausted.
+     * Not set by default, so that requests fail immediately.
+     *
+     * @return the borrow timeout
+     */
+    @Override
+    @Nullable
+    Duration getBorrowTimeout();
+
+    /**
+     * The interval at which pools are topped up to their initial size in the background, e.g. after connections
+     * were evicted or failed or while the broker was unavailable, or 0 to disable it. The evictor only tops up pools
+     * that hold connections, so it doesn't replace this once the broker is back. Default value: 5s.
+     *
+     * @return the fill interval
+     */
+    @NotNull
+    @Bindable(defaultValue = "5s")
+    Duration getFillInterval();
+
+    /**
+     * Whether the startup waits until the pools hold their initial connections and sessions. Otherwise, the pools
+     * are filled in the background and the readiness health indicator reports them as down until then.
+     * Default value: false.
+     *
+     * @return whether to wait for the warm-up of the pools
+     */
+    @Bindable(defaultValue = "false")
+    boolean isAwaitWarmUp();
+
+    /**
+     * How long the startup waits for the warm-up of each pool if {@link #isAwaitWarmUp()} is enabled.
+     * Default value: 30s.
+     *
+     * @return the warm-up timeout
+     */
+    @NotNull
+    @Bindable(defaultValue = "30s")
+    Duration getWarmUpTimeout();
+}
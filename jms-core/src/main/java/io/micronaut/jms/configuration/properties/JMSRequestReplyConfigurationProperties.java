@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.configuration.properties;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+
+import static io.micronaut.jms.configuration.properties.JMSRequestReplyConfigurationProperties.PREFIX;
+
+/**
+ * Settings of the request-reply exchanges of {@link io.micronaut.jms.annotations.JMSProducer} methods returning a
+ * value.
+ *
+ * @since 4.1.0
+ */
+@ConfigurationProperties(PREFIX)
+public interface JMSRequestReplyConfigurationProperties {
+
+    /**
+     * Prefix for JMS request-reply settings.
+     */
+    String PREFIX = JMSConfigurationProperties.PREFIX + ".request-reply";
+
+    /**
+     * How long to wait for the reply to a request before failing it. Default value: 30s.
+     *
+     * @return the reply timeout
+     */
+    @NotNull
+    @Bindable(defaultValue = "30s")
+    Duration getTimeout();
+}
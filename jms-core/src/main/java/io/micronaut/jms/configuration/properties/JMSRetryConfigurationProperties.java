@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.configuration.properties;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+import static io.micronaut.jms.configuration.properties.JMSRetryConfigurationProperties.PREFIX;
+
+/**
+ * Configuration of the {@link io.micronaut.jms.listener.RetryingJMSListenerErrorHandler}.
+ *
+ * @since 4.1.0
+ */
+@ConfigurationProperties(PREFIX)
+public interface JMSRetryConfigurationProperties {
+
+    /**
+     * Prefix for JMS retry settings.
+     */
+    String PREFIX = JMSConfigurationProperties.PREFIX + ".retry";
+
+    /**
+     * The number of times a message is processed, including the first delivery, before it is sent to the
+     * dead-letter queue. Default value: 5.
+     *
+     * @return the maximum number of attempts
+     */
+    @NotNull
+    @Min(1)
+    @Bindable(defaultValue = "5")
+    Integer getMaxAttempts();
+
+    /**
+     * The delivery delay of the first retry. Default value: 1s.
+     *
+     * @return the initial delay
+     */
+    @NotNull
+    @Bindable(defaultValue = "1s")
+    Duration getInitialDelay();
+
+    /**
+     * The factor the delay is multiplied by for each further retry. Default value: 2.
+     *
+     * @return the backoff multiplier
+     */
+    @NotNull
+    @DecimalMin("1.0")
+    @Bindable(defaultValue = "2.0")
+    Double getMultiplier();
+
+    /**
+     * The maximum delivery delay of a retry. Default value: 5m.
+     *
+     * @return the maximum delay
+     */
+    @NotNull
+    @Bindable(defaultValue = "5m")
+    Duration getMaxDelay();
+
+    /**
+     * The name of the queue messages are sent to once all attempts have failed. If not set, messages are sent to
+     * a queue named after the queue they were received from with a {@code .DLQ} suffix.
+     *
+     * @return the dead-letter queue name
+     */
+    @Nullable
+    String getDeadLetterQueue();
+}
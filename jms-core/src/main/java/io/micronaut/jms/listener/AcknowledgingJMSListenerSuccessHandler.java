@@ -26,7 +26,8 @@ import jakarta.jms.Session;
 /**
  *
  * Success handler to acknowledge that the listener has received and processed the message successfully.
- *  Handler should be enabled if the listener uses the {@link Session#CLIENT_ACKNOWLEDGE} mode.
+ *  Handler should be enabled if the listener uses the {@link Session#CLIENT_ACKNOWLEDGE} mode, or a provider specific
+ *  mode that acknowledges messages individually, such as {@code SQSSession.UNORDERED_ACKNOWLEDGE}.
  *
  * @author Elliott Pope
  * @since 3.0.0
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.listener;
+
+/**
+ * {@link RateLimiter} that backs off when the error handlers of its {@link JMSListener} are invoked for a rising
+ *  share of the messages, e.g. because a downstream API starts rejecting requests.
+ * The outcomes are counted over one second windows. When the error ratio of a window exceeds the threshold the
+ *  rate is halved (but not below {@link #MIN_RATE_FRACTION} of the configured rate), otherwise it is increased by
+ *  a tenth of the configured rate until the configured rate is reached again.
+ *
+ * @since 4.1.0
+ */
+public class AdaptiveRateLimiter extends RateLimiter {
+
+    /**
+     * The share of failed messages in a window above which the rate is reduced.
+     */
+    public static final double DEFAULT_ERROR_THRESHOLD = 0.1;
+
+    /**
+     * The lowest fraction of the configured rate the limiter backs off to.
+     */
+    public static final double MIN_RATE_FRACTION = 0.01;
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+    private static final double BACKOFF_FACTOR = 0.5;
+    private static final double RECOVERY_STEP = 0.1;
+
+    private final double maxPermitsPerSecond;
+    private final double errorThreshold;
+    private long windowStart = System.nanoTime();
+    private int successes;
+    private int errors;
+
+    /**
+     * @param permitsPerSecond the maximum number of messages that may be received per second
+     */
+    public AdaptiveRateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, DEFAULT_ERROR_THRESHOLD);
+    }
+
+    /**
+     * @param permitsPerSecond the maximum number of messages that may be received per second
+     * @param errorThreshold   the share of failed messages in a window above which the rate is reduced
+     */
+    public AdaptiveRateLimiter(double permitsPerSecond, double errorThreshold) {
+        super(permitsPerSecond);
+        if (errorThreshold < 0 || errorThreshold > 1) {
+            throw new IllegalArgumentException("Error threshold must be between 0 and 1 but was " + errorThreshold);
+        }
+        this.maxPermitsPerSecond = permitsPerSecond;
+        this.errorThreshold = errorThreshold;
+    }
+
+    @Override
+    public synchronized void onSuccess() {
+        successes++;
+        adjust();
+    }
+
+    @Override
+    public synchronized void onError() {
+        errors++;
+        adjust();
+    }
+
+    /**
+     * @return the configured maximum rate in permits per second
+     */
+    public double getMaxRate() {
+        return maxPermitsPerSecond;
+    }
+
+    private void adjust() {
+        long now = System.nanoTime();
+        if (now - windowStart < WINDOW_NANOS) {
+            return;
+        }
+        double rate = getRate();
+        if (errors > (successes + errors) * errorThreshold) {
+            setRate(Math.max(maxPermitsPerSecond * MIN_RATE_FRACTION, rate * BACKOFF_FACTOR));
+        } else if (rate < maxPermitsPerSecond) {
+            setRate(Math.min(maxPermitsPerSecond, rate + maxPermitsPerSecond * RECOVERY_STEP));
+        }
+        windowStart = now;
+        successes = 0;
+        errors = 0;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.listener;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import jakarta.jms.Message;
+import jakarta.jms.MessageListener;
+import jakarta.jms.Session;
+
+/**
+ * {@link MessageListener} whose handling of a message is split into binding the message to the listener arguments,
+ *  including deserializing its body, and invoking the listener, so that the {@link JMSListener} can trace both
+ *  steps separately, and which is given the {@link Session} the message was received on, e.g. to send a reply as
+ *  part of its transaction.
+ *
+ * @since 4.1.0
+ */
+public interface BindingMessageListener extends MessageListener {
+
+    /**
+     * Binds the message to the listener arguments.
+     *
+     * @param session the session the message was received on, or null if unknown
+     * @param message the message
+     * @return the invocation of the listener with the bound arguments
+     */
+    @NonNull
+    Runnable bind(@Nullable Session session, @NonNull Message message);
+
+    @Override
+    default void onMessage(Message message) {
+        bind(null, message).run();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.listener;
+
+import io.micronaut.context.annotation.Secondary;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.jms.configuration.properties.JMSDeduplicationConfigurationProperties;
+import jakarta.inject.Singleton;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link MessageDeduplicationStore} holding a bounded number of keys in memory, each for a fixed time. Once the
+ *  maximum size is reached, the oldest keys are evicted first.
+ *
+ * @since 4.1.0
+ */
+@Singleton
+@Secondary
+public class InMemoryMessageDeduplicationStore implements MessageDeduplicationStore {
+
+    // approximate size of a map entry, the key String and its array header, and the expiry Long
+    private static final long ENTRY_OVERHEAD_BYTES = 112;
+
+    private final int maxSize;
+    private final long expireAfterNanos;
+    private final LinkedHashMap<String, Long> expiries = new LinkedHashMap<>();
+    private final Set<String> claims = new HashSet<>();
+    private long estimatedMemoryBytes;
+
+    /**
+     * @param configuration the deduplication configuration
+     */
+    public InMemoryMessageDeduplicationStore(JMSDeduplicationConfigurationProperties configuration) {
+        this.maxSize = configuration.getMaxSize();
+        this.expireAfterNanos = configuration.getExpireAfter().toNanos();
+    }
+
+    @Override
+    public synchronized boolean contains(@NonNull String key) {
+        Long expiry = expiries.get(key);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry - System.nanoTime() <= 0) {
+            remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean claim(@NonNull String key) {
+        return !contains(key) && claims.add(key);
+    }
+
+    @Override
+    public synchronized void release(@NonNull String key) {
+        claims.remove(key);
+    }
+
+    @Override
+    public synchronized void add(@NonNull String key) {
+        claims.remove(key);
+        long now = System.nanoTime();
+        // re-insert so that the insertion order stays the expiry order
+        if (expiries.remove(key) != null) {
+            estimatedMemoryBytes -= sizeOf(key);
+        }
+        expiries.put(key, now + expireAfterNanos);
+        estimatedMemoryBytes += sizeOf(key);
+        Iterator<Map.Entry<String, Long>> iterator = expiries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (expiries.size() <= maxSize && eldest.getValue() - now > 0) {
+                break;
+            }
+            iterator.remove();
+            estimatedMemoryBytes -= sizeOf(eldest.getKey());
+        }
+    }
+
+    @Override
+    public synchronized long size() {
+        return expiries.size();
+    }
+
+    /**
+     * @return the approximate number of bytes used by the keys in the store
+     */
+    public synchronized long getEstimatedMemoryBytes() {
+        return estimatedMemoryBytes;
+    }
+
+    private void remove(String key) {
+        expiries.remove(key);
+        estimatedMemoryBytes -= sizeOf(key);
+    }
+
+    private static long sizeOf(String key) {
+        return ENTRY_OVERHEAD_BYTES + 2L * key.length();
+    }
+}
@@ -15,11 +15,17 @@
  */
 package io.micronaut.jms.listener;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.order.OrderUtil;
+import io.micronaut.jms.metrics.JMSTimingRecorder;
 import io.micronaut.jms.model.JMSDestinationType;
+import io.micronaut.jms.pool.DestinationCache;
+import io.micronaut.jms.tracing.JMSSpan;
+import io.micronaut.jms.tracing.JMSTracing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.jms.Connection;
 import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
@@ -31,9 +37,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
 
 import static io.micronaut.jms.model.JMSDestinationType.QUEUE;
+import static jakarta.jms.Session.AUTO_ACKNOWLEDGE;
+import static jakarta.jms.Session.DUPS_OK_ACKNOWLEDGE;
 
 /**
  * Sets up and manages {@link MessageListener}s created by the {@link io.micronaut.jms.annotations.JMSListener} and
@@ -48,6 +60,17 @@ import static io.micronaut.jms.model.JMSDestinationType.QUEUE;
  * If any error is thrown during message handling (either by the listener itself, or by a success handler), then all the
  * {@link JMSListenerErrorHandler}s are called sequentially.
  *
+ * A listener created from a {@link Connection} can run several consumers concurrently, each with its own {@link Session},
+ *  and can be paused and resumed at runtime (see {@link JMSListener#pause()}, {@link JMSListener#resume()} and
+ *  {@link JMSListener#setConcurrency(int)}). Pausing closes the consumers so that unprocessed messages stay on the broker.
+ * If a {@link RateLimiter} is set, each consumer pulls messages with {@link MessageConsumer#receive(long)} on a dedicated
+ *  thread after acquiring a permit, instead of having them pushed to a {@link MessageListener}.
+ * If lanes are set (see {@link JMSListener#setLanes(int, String, int)}), messages are handled by a {@link LaneDispatcher}
+ *  that keeps the order of messages with the same key, e.g. the same {@code JMSXGroupID}, while handling messages with
+ *  different keys in parallel.
+ * If a {@link MessageDeduplicator} is set, messages that have already been processed are passed to the success handlers
+ *  without invoking the {@link JMSListener#delegate}.
+ *
  * Note: To handle the special cases (e.g.the negative acknowledger feature in the AWS SQS base implementation), an error handler could throw an error to expose it to the base implementation.
  * However, it must be ensured that the error handler executes after all other error handlers.
  *
@@ -57,21 +80,41 @@ import static io.micronaut.jms.model.JMSDestinationType.QUEUE;
 public class JMSListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JMSListener.class);
+    private static final AtomicInteger ID_SEQUENCE = new AtomicInteger();
+    private static final long RECEIVE_TIMEOUT_MILLIS = 1000;
 
+    private final String id;
+    private final Connection connection;
     private final Session session;
+    private final boolean transacted;
+    private final int acknowledgeMode;
     private final MessageListener delegate;
-    private MessageConsumer consumer;
     private final JMSDestinationType destinationType;
     private final String destination;
     private final ExecutorService executor;
     private final List<JMSListenerSuccessHandler> successHandlers = new ArrayList<>();
     private final List<JMSListenerErrorHandler> errorHandlers = new ArrayList<>();
+    private final List<JMSListenerProcessingHook> processingHooks = new CopyOnWriteArrayList<>();
     private final Optional<String> messageSelector;
+    private final List<ListenerConsumer> consumers = new ArrayList<>();
+    private volatile JMSListenerState state = JMSListenerState.CREATED;
+    private volatile int concurrency = 1;
+    private volatile RateLimiter rateLimiter;
+    private volatile MessageDeduplicator deduplicator;
+    private volatile JMSTimingRecorder timingRecorder;
+    private volatile JMSTracing tracing;
+    private volatile DestinationCache destinationCache;
+    private volatile boolean pull;
+    private volatile String consumerDestination;
+    private volatile int prefetch = -1;
+    private volatile IntFunction<String> prefetchDestination;
+    private LaneDispatcher laneDispatcher;
 
     /**
      * Creates a {@link JMSListener} instance. This instance will not begin listening for messages until
      *  {@link JMSListener#start()} is called. The provided session's parent {@link jakarta.jms.Connection}
      *  must be started ({@link jakarta.jms.Connection#start()}) for the message listener to receive messages.
+     * A listener created with this constructor is bound to the given session and so cannot have a concurrency greater than 1.
      * @param session - the {@link Session} for the messages to be consumed on
      * @param delegate - the listener logic to be invoked. All concurrency, success, and error handling is provided.
      *                 This {@link MessageListener} should extract the necessary data from the {@link jakarta.jms.Message}
@@ -83,7 +126,51 @@ public class JMSListener {
      * @param messageSelector the message selector for the listener
      */
     public JMSListener(Session session, MessageListener delegate, JMSDestinationType destinationType, String destination, ExecutorService executor, Optional<String> messageSelector) {
+        this.id = destinationType.name().toLowerCase() + "-" + destination + "-" + ID_SEQUENCE.incrementAndGet();
+        this.connection = null;
         this.session = session;
+        this.transacted = false;
+        this.acknowledgeMode = AUTO_ACKNOWLEDGE;
+        this.delegate = delegate;
+        this.destinationType = destinationType;
+        this.destination = destination;
+        this.executor = executor;
+        this.messageSelector = messageSelector;
+    }
+
+    /**
+     * Creates a {@link JMSListener} instance. This instance will not begin listening for messages until
+     *  {@link JMSListener#start()} is called. The provided {@link jakarta.jms.Connection} must be started
+     *  ({@link jakarta.jms.Connection#start()}) for the message listener to receive messages. A new {@link Session}
+     *  is created on the connection for each concurrent consumer.
+     * @param id - the unique identifier of the listener
+     * @param connection - the {@link Connection} to create the consumer sessions on
+     * @param transacted - whether the consumer sessions are transacted
+     * @param acknowledgeMode - the acknowledge mode of the consumer sessions
+     * @param delegate - the listener logic to be invoked. All concurrency, success, and error handling is provided.
+     *                 This {@link MessageListener} should extract the necessary data from the {@link jakarta.jms.Message}
+     *                 and perform application specific logic.
+     * @param destinationType - the {@link JMSDestinationType} of the target destination
+     * @param destination - the name of the target destination
+     * @param executor - the {@link ExecutorService} to perform the message handling logic on. The message handling, including
+     *                 success and error handling, is performed on threads managed by this executor.
+     * @param messageSelector the message selector for the listener
+     * @since 4.1.0
+     */
+    public JMSListener(String id,
+                       Connection connection,
+                       boolean transacted,
+                       int acknowledgeMode,
+                       MessageListener delegate,
+                       JMSDestinationType destinationType,
+                       String destination,
+                       ExecutorService executor,
+                       Optional<String> messageSelector) {
+        this.id = id;
+        this.connection = connection;
+        this.session = null;
+        this.transacted = transacted;
+        this.acknowledgeMode = acknowledgeMode;
         this.delegate = delegate;
         this.destinationType = destinationType;
         this.destination = destination;
@@ -124,32 +211,445 @@ public class JMSListener {
     }
 
     /**
-     * Configures the listener to begin listening for messages and processing them.
+     * @param hooks - add the given hooks, called around the processing of each message by this listener.
+     * @since 4.1.0
+     */
+    public void addProcessingHooks(JMSListenerProcessingHook... hooks) {
+        processingHooks.addAll(Arrays.asList(hooks));
+    }
+
+    /**
+     * @return the connection the consumer sessions are created on, or null if the listener is bound to a single session
+     * @since 4.1.0
+     */
+    @Nullable
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Configures the listener to begin listening for messages and processing them. Calling this method on a listener
+     *  that is already running has no effect.
      *
      * @throws JMSException - if any JMS related exception occurs while configuring the listener.
      */
-    @SuppressWarnings("java:S2095") // The consumer is closed in the stop method
-    public void start() throws JMSException {
-        MessageConsumer messageConsumer;
-        if (messageSelector.isPresent() && !messageSelector.get().isEmpty()) {
-            messageConsumer = session.createConsumer(lookupDestination(destinationType, destination, session), messageSelector.get());
-        } else {
-            messageConsumer = session.createConsumer(lookupDestination(destinationType, destination, session));
+    public synchronized void start() throws JMSException {
+        if (state == JMSListenerState.RUNNING) {
+            return;
+        }
+        if (state == JMSListenerState.STOPPED) {
+            throw new IllegalStateException("Listener " + id + " has been stopped and cannot be restarted");
+        }
+        while (consumers.size() < concurrency) {
+            consumers.add(new ListenerConsumer(createSession()));
+        }
+        for (ListenerConsumer listenerConsumer : consumers) {
+            listenerConsumer.open();
+        }
+        state = JMSListenerState.RUNNING;
+    }
+
+    /**
+     * Pauses the listener by closing its consumers. Messages that have not been delivered to the listener,
+     *  including any prefetched by the consumers, remain on the broker for other consumers. The sessions are kept
+     *  open so that the listener can be resumed with {@link JMSListener#resume()}.
+     *
+     * @throws JMSException - if any error occurs while closing the consumers.
+     * @since 4.1.0
+     */
+    public synchronized void pause() throws JMSException {
+        if (state != JMSListenerState.RUNNING) {
+            return;
+        }
+        try {
+            for (ListenerConsumer listenerConsumer : consumers) {
+                listenerConsumer.closeConsumer();
+            }
+        } finally {
+            state = JMSListenerState.PAUSED;
+        }
+        LOGGER.debug("Paused listener {} on {} {}", id, destinationType, destination);
+    }
+
+    /**
+     * Resumes a listener paused with {@link JMSListener#pause()}, or starts a listener that has not been started yet.
+     *
+     * @throws JMSException - if any error occurs while recreating the consumers.
+     * @since 4.1.0
+     */
+    public synchronized void resume() throws JMSException {
+        if (state == JMSListenerState.PAUSED || state == JMSListenerState.CREATED) {
+            start();
+            LOGGER.debug("Resumed listener {} on {} {}", id, destinationType, destination);
+        } else if (state == JMSListenerState.STOPPED) {
+            throw new IllegalStateException("Listener " + id + " has been stopped and cannot be resumed");
+        }
+    }
+
+    /**
+     * Changes the number of concurrent consumers of this listener. Each consumer has its own {@link Session} so that
+     *  messages are processed in parallel without sharing a session between threads. If the listener is running, the
+     *  consumers are added or closed immediately.
+     *
+     * @param concurrency - the number of concurrent consumers, at least 1
+     * @throws JMSException - if any error occurs while creating or closing the consumers.
+     * @since 4.1.0
+     */
+    public synchronized void setConcurrency(int concurrency) throws JMSException {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1 but was " + concurrency);
+        }
+        if (concurrency > 1 && connection == null) {
+            throw new IllegalStateException("Listener " + id + " is bound to a single session and cannot be run concurrently");
+        }
+        if (concurrency > 1 && destinationType != QUEUE) {
+            throw new IllegalArgumentException("Concurrent consumers are only supported for queues. " +
+                "Each consumer of a topic receives every message.");
+        }
+        this.concurrency = concurrency;
+        if (state != JMSListenerState.RUNNING && state != JMSListenerState.PAUSED) {
+            return;
+        }
+        while (consumers.size() > concurrency) {
+            consumers.remove(consumers.size() - 1).close();
+        }
+        while (consumers.size() < concurrency) {
+            ListenerConsumer listenerConsumer = new ListenerConsumer(createSession());
+            consumers.add(listenerConsumer);
+            if (state == JMSListenerState.RUNNING) {
+                listenerConsumer.open();
+            }
+        }
+        LOGGER.debug("Changed concurrency of listener {} on {} {} to {}", id, destinationType, destination, concurrency);
+    }
+
+    /**
+     * Limits the rate at which the listener receives messages. The limiter is shared by all consumers of the listener
+     *  and applies to consumers opened after this call, so it should be set before the listener is started or the
+     *  listener should be paused and resumed.
+     *
+     * @param rateLimiter - the {@link RateLimiter} to acquire a permit from before each message is received, or null
+     *                    to have messages delivered as fast as the consumers process them.
+     * @since 4.1.0
+     */
+    public synchronized void setRateLimiter(@Nullable RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Skips messages that have already been processed by the listener. Duplicates are passed to the success handlers,
+     *  so that they are acknowledged or committed, without invoking the listener.
+     *
+     * @param deduplicator - the {@link MessageDeduplicator} to check messages with, or null to process every message.
+     * @since 4.1.0
+     */
+    public void setDeduplicator(@Nullable MessageDeduplicator deduplicator) {
+        this.deduplicator = deduplicator;
+    }
+
+    /**
+     * @param timingRecorder - the {@link JMSTimingRecorder} to record the time taken to handle each message with,
+     *                       including the success and error handlers, or null to not time the messages.
+     * @since 4.1.0
+     */
+    public void setTimingRecorder(@Nullable JMSTimingRecorder timingRecorder) {
+        this.timingRecorder = timingRecorder;
+    }
+
+    /**
+     * @param tracing - the {@link JMSTracing} to start a span for each message with, or null to not trace the messages.
+     * @since 4.1.0
+     */
+    public void setTracing(@Nullable JMSTracing tracing) {
+        this.tracing = tracing;
+    }
+
+    /**
+     * @param destinationCache - the {@link DestinationCache} to look the destination up in, or null to create it for
+     *                         each consumer.
+     * @since 4.1.0
+     */
+    public void setDestinationCache(@Nullable DestinationCache destinationCache) {
+        this.destinationCache = destinationCache;
+    }
+
+    /**
+     * Makes each consumer of the listener receive its messages one at a time on its own thread and handle them on that
+     *  thread rather than the executor, so that a consumer only takes a message from the provider once it is free.
+     *  Used for listeners with a prefetch of 0, which some providers only support for synchronous receives. Applies to
+     *  consumers opened after this call; messages are still handed to the lanes, if any.
+     *
+     * @param pull - whether the consumers pull their messages
+     * @since 4.1.0
+     */
+    public void setPull(boolean pull) {
+        this.pull = pull;
+    }
+
+    /**
+     * Sets the provider-specific name the consumers of the listener are created with, e.g. a destination name with
+     *  options such as the prefetch of ActiveMQ "Classic", while the listener keeps the name it was registered with in
+     *  {@link #getDestination()}. Applies to consumers opened after this call.
+     *
+     * @param consumerDestination - the name to create the consumers with, or null to use the destination name
+     * @since 4.1.0
+     */
+    public void setConsumerDestination(@Nullable String consumerDestination) {
+        this.consumerDestination = consumerDestination;
+    }
+
+    /**
+     * Makes the prefetch of the listener changeable with {@link #setPrefetch(int)}, for providers that accept the
+     *  prefetch as an option of the destination the consumers are created with.
+     *
+     * @param prefetchDestination - returns the name to create the consumers with for a given prefetch, or null if the
+     *                            prefetch can't be applied, e.g. with
+     *                            {@link io.micronaut.jms.configuration.PrefetchConfigurer#configureDestination}
+     * @since 4.1.0
+     */
+    public void setPrefetchDestination(@Nullable IntFunction<String> prefetchDestination) {
+        this.prefetchDestination = prefetchDestination;
+    }
+
+    /**
+     * Changes the prefetch of the listener. If the listener is running, its consumers are closed and recreated with
+     *  the new prefetch, so the messages prefetched by the closed consumers are released to the broker. The sessions
+     *  are kept open. A prefetch of 0 makes the consumers pull their messages, see {@link #setPull(boolean)}.
+     *
+     * @param prefetch - the number of messages pushed to each consumer ahead of their processing, or a negative value
+     *                 for the prefetch of the connection factory
+     * @throws JMSException - if any error occurs while recreating the consumers.
+     * @throws IllegalStateException - if the provider doesn't support changing the prefetch of the consumers, e.g.
+     *                               because it only supports it per connection factory
+     * @since 4.1.0
+     */
+    public synchronized void setPrefetch(int prefetch) throws JMSException {
+        IntFunction<String> destinations = prefetchDestination;
+        String name = destinations == null || prefetch < 0 ? null : destinations.apply(prefetch);
+        if (destinations == null || (prefetch >= 0 && name == null)) {
+            throw new IllegalStateException("The prefetch of listener " + id + " can't be changed, " +
+                "its provider only supports the prefetch per connection factory");
+        }
+        this.prefetch = prefetch;
+        consumerDestination = name;
+        pull = prefetch == 0;
+        if (state == JMSListenerState.RUNNING) {
+            for (ListenerConsumer listenerConsumer : consumers) {
+                listenerConsumer.closeConsumer();
+                listenerConsumer.open();
+            }
+        }
+        LOGGER.debug("Changed prefetch of listener {} on {} {} to {}", id, destinationType, destination, prefetch);
+    }
+
+    /**
+     * Handles the messages of the listener on the given number of single-threaded lanes instead of the executor. Messages
+     *  with the same value of the key header are handled in order by the same lane. Lanes can only be set before the
+     *  listener is started, and only for listeners in {@link Session#AUTO_ACKNOWLEDGE} or
+     *  {@link Session#DUPS_OK_ACKNOWLEDGE} mode, which acknowledge the messages once they are handed to a lane. In the
+     *  other modes the lanes would acknowledge or commit on the consumer session from several threads, and a client
+     *  acknowledgement would also cover the messages still waiting in the other lanes.
+     *
+     * @param lanes - the number of lanes
+     * @param key - the name of the header to compute the lane of a message from, e.g. {@code JMSXGroupID}
+     * @param maxInFlight - the maximum number of messages waiting in or being handled by the lanes, above which the
+     *                    consumers stop receiving messages
+     * @since 4.1.0
+     */
+    public synchronized void setLanes(int lanes, String key, int maxInFlight) {
+        if (state != JMSListenerState.CREATED) {
+            throw new IllegalStateException("Lanes of listener " + id + " can only be set before it is started");
+        }
+        if (transacted || (acknowledgeMode != AUTO_ACKNOWLEDGE && acknowledgeMode != DUPS_OK_ACKNOWLEDGE)) {
+            throw new IllegalStateException("Lanes are only supported in AUTO_ACKNOWLEDGE or DUPS_OK_ACKNOWLEDGE mode, "
+                + "not by listener " + id);
+        }
+        laneDispatcher = new LaneDispatcher("jms-listener-" + id, lanes, key, maxInFlight);
+    }
+
+    /**
+     * Stops the listener from consuming messages and attempts to clean up any resources used.
+     *
+     * @throws JMSException - if any error occurs while shutting down the listener.
+     */
+    public synchronized void stop() throws JMSException {
+        state = JMSListenerState.STOPPED;
+        JMSException failure = null;
+        for (ListenerConsumer listenerConsumer : consumers) {
+            try {
+                listenerConsumer.close();
+            } catch (JMSException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        consumers.clear();
+        if (laneDispatcher != null) {
+            laneDispatcher.shutdown();
         }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @return the unique identifier of this listener
+     * @since 4.1.0
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the {@link JMSDestinationType} of the target destination
+     * @since 4.1.0
+     */
+    public JMSDestinationType getDestinationType() {
+        return destinationType;
+    }
+
+    /**
+     * @return the name of the target destination
+     * @since 4.1.0
+     */
+    public String getDestination() {
+        return destination;
+    }
+
+    /**
+     * @return the message selector for the listener
+     * @since 4.1.0
+     */
+    public Optional<String> getMessageSelector() {
+        return messageSelector;
+    }
+
+    /**
+     * @return the current {@link JMSListenerState} of the listener
+     * @since 4.1.0
+     */
+    public JMSListenerState getState() {
+        return state;
+    }
+
+    /**
+     * @return the number of concurrent consumers of the listener
+     * @since 4.1.0
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return the {@link RateLimiter} of the listener, or null if the listener is not rate limited
+     * @since 4.1.0
+     */
+    @Nullable
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
 
-        if (executor == null) {
-            messageConsumer.setMessageListener(this::handleMessage);
-        } else {
-            messageConsumer.setMessageListener(msg -> executor.submit(
-                () -> handleMessage(msg)));
+    /**
+     * @return the prefetch set with {@link #setPrefetch(int)}, or -1 if the listener uses the prefetch of its
+     *  connection
+     * @since 4.1.0
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * @return the {@link LaneDispatcher} of the listener, or null if the listener does not use lanes
+     * @since 4.1.0
+     */
+    @Nullable
+    public synchronized LaneDispatcher getLaneDispatcher() {
+        return laneDispatcher;
+    }
+
+    /**
+     * @return the {@link MessageDeduplicator} of the listener, or null if the listener does not filter duplicates
+     * @since 4.1.0
+     */
+    @Nullable
+    public MessageDeduplicator getDeduplicator() {
+        return deduplicator;
+    }
+
+    @Override
+    public String toString() {
+        return "JMSListener{" +
+            "id='" + id + '\'' +
+            ", destinationType=" + destinationType +
+            ", destination='" + destination + '\'' +
+            ", state=" + state +
+            ", concurrency=" + concurrency +
+            ", rateLimiter=" + rateLimiter +
+            '}';
+    }
+
+    private void handleMessage(Session session, Message msg) {
+        if (processingHooks.isEmpty()) {
+            observeMessage(session, msg);
+            return;
+        }
+        List<Runnable> callbacks = new ArrayList<>(processingHooks.size());
+        try {
+            for (JMSListenerProcessingHook hook : processingHooks) {
+                Runnable callback = hook.beforeProcessing(this, session, msg);
+                if (callback != null) {
+                    callbacks.add(callback);
+                }
+            }
+            observeMessage(session, msg);
+        } finally {
+            for (Runnable callback : callbacks) {
+                try {
+                    callback.run();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Processing hook of listener " + id + " failed: " + e.getMessage(), e);
+                }
+            }
         }
+    }
 
-        this.consumer = messageConsumer;
+    private void observeMessage(Session session, Message msg) {
+        JMSTimingRecorder recorder = timingRecorder;
+        JMSTracing tracer = tracing;
+        if (recorder == null && tracer == null) {
+            processMessage(session, msg, null);
+            return;
+        }
+        long start = System.nanoTime();
+        JMSSpan span = tracer == null ? null : tracer.startReceive(this, msg);
+        boolean success = false;
+        try (JMSSpan.Scope ignored = span == null ? null : span.makeCurrent()) {
+            success = processMessage(session, msg, span);
+        } finally {
+            if (span != null) {
+                span.end();
+            }
+            if (recorder != null) {
+                recorder.record(System.nanoTime() - start, success);
+            }
+        }
     }
 
-    private void handleMessage(Message msg) {
+    private boolean processMessage(Session session, Message msg, JMSSpan span) {
+        RateLimiter limiter = rateLimiter;
+        MessageDeduplicator dedup = deduplicator;
+        String claimedKey = null;
         try {
-            delegate.onMessage(msg);
+            String dedupKey = dedup == null ? null : dedup.keyOf(msg);
+            if (dedupKey != null && dedup.isDuplicate(dedupKey)) {
+                LOGGER.debug("Skipping duplicate message {} on listener {}", dedupKey, id);
+            } else {
+                claimedKey = dedupKey;
+                invokeDelegate(session, msg, span);
+            }
             Throwable ex = new Throwable();
             successHandlers.forEach(handler -> {
                 try {
@@ -160,21 +660,82 @@ public class JMSListener {
                 }
             });
             if (ex.getSuppressed().length > 0) {
+                if (claimedKey != null) {
+                    dedup.release(claimedKey);
+                }
+                if (span != null) {
+                    span.error(ex);
+                }
                 errorHandlers.forEach(handler -> handler.handle(session, msg, ex));
+                if (limiter != null) {
+                    limiter.onError();
+                }
+                return false;
+            }
+            if (claimedKey != null) {
+                // only once acknowledged or committed, as the message is redelivered otherwise
+                dedup.markProcessed(claimedKey);
             }
+            if (limiter != null) {
+                limiter.onSuccess();
+            }
+            return true;
         } catch (Exception e) {
+            if (claimedKey != null) {
+                dedup.release(claimedKey);
+            }
+            if (span != null) {
+                span.error(e);
+            }
             errorHandlers.forEach(handler -> handler.handle(session, msg, e));
+            if (limiter != null) {
+                limiter.onError();
+            }
+            return false;
         }
     }
 
-    /**
-     * Stops the listener from consuming messages and attempts to clean up any resources used.
-     *
-     * @throws JMSException - if any error occurs while shutting down the listener.
-     */
-    public void stop() throws JMSException {
-        consumer.close();
-        session.close();
+    private void invokeDelegate(Session session, Message msg, JMSSpan span) {
+        if (!(delegate instanceof BindingMessageListener bindingListener)) {
+            delegate.onMessage(msg);
+            return;
+        }
+        if (span == null) {
+            bindingListener.bind(session, msg).run();
+            return;
+        }
+        long start = System.nanoTime();
+        Runnable invocation = bindingListener.bind(session, msg);
+        long bound = System.nanoTime();
+        span.recordDeserialization(bound - start);
+        try {
+            invocation.run();
+        } finally {
+            span.recordHandling(System.nanoTime() - bound);
+        }
+    }
+
+    private Session createSession() throws JMSException {
+        if (connection != null) {
+            return connection.createSession(transacted, acknowledgeMode);
+        }
+        if (consumers.isEmpty()) {
+            return session;
+        }
+        throw new IllegalStateException("Listener " + id + " is bound to a single session");
+    }
+
+    @SuppressWarnings("java:S2095") // The consumer is closed in the closeConsumer method
+    private MessageConsumer createConsumer(Session consumerSession) throws JMSException {
+        DestinationCache cache = destinationCache;
+        String name = consumerDestination == null ? destination : consumerDestination;
+        Destination target = cache == null ?
+                lookupDestination(destinationType, name, consumerSession) :
+                cache.lookup(destinationType, name, consumerSession);
+        if (messageSelector.isPresent() && !messageSelector.get().isEmpty()) {
+            return consumerSession.createConsumer(target, messageSelector.get());
+        }
+        return consumerSession.createConsumer(target);
     }
 
     private static Destination lookupDestination(JMSDestinationType destinationType,
@@ -190,5 +751,109 @@ public class JMSListener {
         existingList.sort(OrderUtil.REVERSE_COMPARATOR);
     }
 
-}
+    /**
+     * A {@link Session} of the listener together with the {@link MessageConsumer} currently open on it.
+     */
+    private final class ListenerConsumer {
 
+        private final Session consumerSession;
+        private volatile MessageConsumer consumer;
+        private Thread poller;
+
+        private ListenerConsumer(Session consumerSession) {
+            this.consumerSession = consumerSession;
+        }
+
+        private void open() throws JMSException {
+            if (consumer != null) {
+                return;
+            }
+            MessageConsumer messageConsumer = createConsumer(consumerSession);
+            MessageListener listener;
+            if (laneDispatcher != null) {
+                LaneDispatcher lanes = laneDispatcher;
+                listener = msg -> lanes.dispatch(msg, () -> handleMessage(consumerSession, msg));
+            } else if (executor == null || pull) {
+                listener = msg -> handleMessage(consumerSession, msg);
+            } else {
+                listener = msg -> executor.submit(() -> handleMessage(consumerSession, msg));
+            }
+            RateLimiter limiter = rateLimiter;
+            consumer = messageConsumer;
+            if (limiter == null && !pull) {
+                messageConsumer.setMessageListener(listener);
+            } else {
+                poller = new Thread(() -> poll(messageConsumer, listener, limiter), "jms-listener-" + id);
+                poller.setDaemon(true);
+                poller.start();
+            }
+        }
+
+        private void poll(MessageConsumer messageConsumer, MessageListener listener, RateLimiter limiter) {
+            while (consumer == messageConsumer) {
+                try {
+                    // bounded, so that a closed consumer is noticed without waiting for a permit at a low rate
+                    if (limiter != null && !limiter.tryAcquire(RECEIVE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        continue;
+                    }
+                    Message msg = messageConsumer.receive(RECEIVE_TIMEOUT_MILLIS);
+                    if (msg == null) {
+                        if (limiter != null) {
+                            limiter.release();
+                        }
+                    } else {
+                        listener.onMessage(msg);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (JMSException | RuntimeException e) {
+                    if (consumer != messageConsumer) {
+                        return;
+                    }
+                    LOGGER.error("Failed to receive message for listener " + id + ": " + e.getMessage(), e);
+                    try {
+                        Thread.sleep(RECEIVE_TIMEOUT_MILLIS);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void closeConsumer() throws JMSException {
+            MessageConsumer messageConsumer = consumer;
+            if (messageConsumer == null) {
+                return;
+            }
+            consumer = null;
+            try {
+                messageConsumer.close();
+            } finally {
+                awaitPoller();
+            }
+        }
+
+        private void awaitPoller() {
+            Thread thread = poller;
+            poller = null;
+            if (thread == null || thread == Thread.currentThread()) {
+                return;
+            }
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void close() throws JMSException {
+            try {
+                closeConsumer();
+            } finally {
+                consumerSession.close();
+            }
+        }
+    }
+}
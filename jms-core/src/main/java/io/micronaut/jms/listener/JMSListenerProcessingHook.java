@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.listener;
+
+import io.micronaut.core.annotation.Nullable;
+
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+/**
+ * Observes the processing of each message by a {@link JMSListener}, from before the listener logic is invoked until
+ *  the success or error handlers have run.
+ *
+ * @since 4.1.0
+ * @see JMSListener#addProcessingHooks(JMSListenerProcessingHook...)
+ */
+@FunctionalInterface
+public interface JMSListenerProcessingHook {
+
+    /**
+     * Called before the message is handed to the listener logic, on the thread processing it.
+     *
+     * @param listener - the listener processing the message
+     * @param session - the session the message was received on
+     * @param message - the message
+     * @return a callback to run once the message has been processed and its success or error handlers have run,
+     *  or null if there is nothing to do
+     */
+    @Nullable
+    Runnable beforeProcessing(JMSListener listener, Session session, Message message);
+}
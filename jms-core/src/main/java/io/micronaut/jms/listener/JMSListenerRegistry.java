@@ -26,17 +26,22 @@ import jakarta.jms.Connection;
 import jakarta.jms.JMSException;
 import jakarta.jms.MessageListener;
 import jakarta.jms.Session;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 
 /**
  * Registry for all {@link JMSListener}s managed by Micronaut JMS. Listeners can be dynamically registered
  *  using the {@link JMSListenerRegistry#register(Connection, JMSDestinationType, String, boolean, int, MessageListener, ExecutorService, boolean, Optional)}
  *  method. When the application context closes, all open connections, listeners, and sessions, are closed.
+ * Registered listeners can be looked up by id or destination, and paused, resumed, resized, or have their prefetch
+ *  changed at runtime.
  *
  * @author Elliott Pope
  * @since 2.1.1
@@ -45,7 +50,7 @@ import java.util.concurrent.ExecutorService;
 public class JMSListenerRegistry {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JMSListenerRegistry.class);
-    private final Set<JMSListener> listeners = Collections.synchronizedSet(new HashSet<>());
+    private final Map<String, JMSListener> listeners = new ConcurrentHashMap<>();
     private final Collection<GlobalJMSListenerSuccessHandler> globalSuccessHandlers;
     private final Collection<GlobalJMSListenerErrorHandler> globalErrorHandlers;
 
@@ -62,12 +67,16 @@ public class JMSListenerRegistry {
      * @param listener - the listener to be registered
      * @param autoStart - whether the listener should be automatically started when registered
      * @throws JMSException - if the listener fails to start
+     * @throws IllegalStateException - if a listener with the same id is already registered
      */
-    public void register(JMSListener listener, boolean autoStart) throws JMSException {
+    public synchronized void register(JMSListener listener, boolean autoStart) throws JMSException {
+        if (listeners.containsKey(listener.getId())) {
+            throw new IllegalStateException("A listener with id '" + listener.getId() + "' is already registered");
+        }
         if (autoStart) {
             listener.start();
         }
-        listeners.add(listener);
+        listeners.put(listener.getId(), listener);
     }
 
     /**
@@ -95,9 +104,42 @@ public class JMSListenerRegistry {
             ExecutorService executor,
             boolean autoStart,
             Optional<String> messageSelector) throws JMSException {
+        return register(destinationType.name().toLowerCase() + "-" + destination, connection, destinationType,
+            destination, transacted, acknowledgeMode, delegate, executor, autoStart, messageSelector);
+    }
+
+    /**
+     * Creates and registers a new listener to be managed by Micronaut JMS. If a listener is already registered
+     *  with the given {@code id} then a numeric suffix is appended to make it unique.
+     *
+     * @param id - the identifier of the listener
+     * @param connection - the {@link Connection} the listener will be linked to
+     * @param destinationType - the {@link JMSDestinationType} of the target destination
+     * @param destination - the name of the target destination
+     * @param transacted - whether the listener should commit the transaction once the message is received
+     * @param acknowledgeMode - whether the message receipt should be acknowledged
+     * @param delegate - the underlying handler to delegate to
+     * @param executor - the {@link ExecutorService} to perform the message handling logic on.
+     * @param autoStart -  whether the listener should be automatically started when registered
+     * @param messageSelector - the message selector for the listener
+     * @return the listener that has been registered
+     * @throws JMSException - if the listener fails to start
+     * @since 4.1.0
+     */
+    public synchronized JMSListener register(
+            String id,
+            Connection connection,
+            JMSDestinationType destinationType,
+            String destination,
+            final boolean transacted,
+            final int acknowledgeMode,
+            MessageListener delegate,
+            ExecutorService executor,
+            boolean autoStart,
+            Optional<String> messageSelector) throws JMSException {
         connection.start();
-        Session session = connection.createSession(transacted, acknowledgeMode);
-        JMSListener listener = new JMSListener(session, delegate, destinationType, destination, executor, messageSelector);
+        JMSListener listener = new JMSListener(uniqueId(id), connection, transacted, acknowledgeMode,
+            delegate, destinationType, destination, executor, messageSelector);
         if (CollectionUtils.isNotEmpty(globalSuccessHandlers)) {
             listener.addSuccessHandlers(globalSuccessHandlers);
         }
@@ -108,7 +150,8 @@ public class JMSListenerRegistry {
             listener.addSuccessHandlers(new TransactionalJMSListenerSuccessHandler());
             listener.addErrorHandlers(new TransactionalJMSListenerErrorHandler());
         }
-        if (acknowledgeMode == Session.CLIENT_ACKNOWLEDGE) {
+        if (!transacted && acknowledgeMode != Session.AUTO_ACKNOWLEDGE && acknowledgeMode != Session.DUPS_OK_ACKNOWLEDGE) {
+            // CLIENT_ACKNOWLEDGE and provider specific modes such as SQS' UNORDERED_ACKNOWLEDGE
             listener.addSuccessHandlers(new AcknowledgingJMSListenerSuccessHandler());
         }
         listener.addErrorHandlers(new LoggingJMSListenerErrorHandler());
@@ -116,12 +159,93 @@ public class JMSListenerRegistry {
         return listener;
     }
 
+    /**
+     * @return all registered listeners
+     * @since 4.1.0
+     */
+    public Collection<JMSListener> getListeners() {
+        return Collections.unmodifiableList(new ArrayList<>(listeners.values()));
+    }
+
+    /**
+     * @param destination - the name of the destination
+     * @return the registered listeners consuming from the given destination
+     * @since 4.1.0
+     */
+    public List<JMSListener> getListeners(String destination) {
+        return listeners.values().stream()
+            .filter(listener -> listener.getDestination().equals(destination))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @param id - the identifier of the listener
+     * @return the listener registered with the given id, if any
+     * @since 4.1.0
+     */
+    public Optional<JMSListener> findListener(String id) {
+        return Optional.ofNullable(listeners.get(id));
+    }
+
+    /**
+     * Pauses the listener with the given id, see {@link JMSListener#pause()}.
+     *
+     * @param id - the identifier of the listener
+     * @throws JMSException - if the listener fails to pause
+     * @throws IllegalArgumentException - if no listener is registered with the given id
+     * @since 4.1.0
+     */
+    public void pause(String id) throws JMSException {
+        getListener(id).pause();
+    }
+
+    /**
+     * Resumes the listener with the given id, see {@link JMSListener#resume()}.
+     *
+     * @param id - the identifier of the listener
+     * @throws JMSException - if the listener fails to resume
+     * @throws IllegalArgumentException - if no listener is registered with the given id
+     * @since 4.1.0
+     */
+    public void resume(String id) throws JMSException {
+        getListener(id).resume();
+    }
+
+    /**
+     * Changes the number of concurrent consumers of the listener with the given id,
+     *  see {@link JMSListener#setConcurrency(int)}.
+     *
+     * @param id - the identifier of the listener
+     * @param concurrency - the number of concurrent consumers
+     * @throws JMSException - if the consumers cannot be created or closed
+     * @throws IllegalArgumentException - if no listener is registered with the given id
+     * @since 4.1.0
+     */
+    public void setConcurrency(String id, int concurrency) throws JMSException {
+        getListener(id).setConcurrency(concurrency);
+    }
+
+    /**
+     * Changes the prefetch of the listener with the given id, see {@link JMSListener#setPrefetch(int)}.
+     *
+     * @param id - the identifier of the listener
+     * @param prefetch - the number of messages pushed to each consumer ahead of their processing, or a negative value
+     *                 for the prefetch of the connection factory
+     * @throws JMSException - if the consumers cannot be recreated
+     * @throws IllegalArgumentException - if no listener is registered with the given id
+     * @throws IllegalStateException - if the provider of the listener doesn't support changing its prefetch
+     * @since 4.1.0
+     */
+    public void setPrefetch(String id, int prefetch) throws JMSException {
+        getListener(id).setPrefetch(prefetch);
+    }
+
     /**
      * Shuts down all registered {@link JMSListener}s. If a listener fails to shut down then it is logged and skipped.
      */
     @PreDestroy
     public void shutdown() {
-        listeners.forEach(listener -> {
+        listeners.values().forEach(listener -> {
             try {
                 listener.stop();
             } catch (JMSException e) {
@@ -130,4 +254,18 @@ public class JMSListenerRegistry {
         });
         listeners.clear();
     }
+
+    private JMSListener getListener(String id) {
+        return findListener(id).orElseThrow(() -> new IllegalArgumentException(
+            "No listener registered with id '" + id + "'"));
+    }
+
+    private String uniqueId(String id) {
+        String candidate = id;
+        int suffix = 2;
+        while (listeners.containsKey(candidate)) {
+            candidate = id + "-" + suffix++;
+        }
+        return candidate;
+    }
 }
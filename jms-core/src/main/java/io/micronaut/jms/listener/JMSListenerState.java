@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.listener;
+
+/**
+ * The lifecycle states of a {@link JMSListener}.
+ *
+ * @see JMSListenerRegistry
+ * @since 4.1.0
+ */
+public enum JMSListenerState {
+
+    /**
+     * The listener has been created but has not yet been started.
+     */
+    CREATED,
+
+    /**
+     * The listener has open consumers and is receiving messages.
+     */
+    RUNNING,
+
+    /**
+     * The listener's consumers have been closed so that messages remain on
+     * the broker. The sessions are kept open so the listener can be resumed.
+     */
+    PAUSED,
+
+    /**
+     * The listener has been shut down and cannot be restarted.
+     */
+    STOPPED
+}
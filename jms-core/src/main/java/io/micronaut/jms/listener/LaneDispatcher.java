@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.listener;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.jms.model.JMSHeaders;
+import io.micronaut.messaging.exceptions.MessageListenerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.Message;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dispatches the messages of a {@link JMSListener} onto a fixed number of single-threaded lanes by the hash of a
+ *  key header (the {@code JMSXGroupID} by default). Messages with the same key are always handled by the same lane and
+ *  therefore in the order they were received, while messages with different keys are handled in parallel. Messages
+ *  without a key are spread across the lanes.
+ * The number of messages waiting in or being handled by the lanes is bounded; once the bound is reached, the thread
+ *  delivering messages blocks until a lane has finished a message, so the consumer stops receiving from the broker.
+ *
+ * @since 4.1.0
+ */
+public class LaneDispatcher {
+
+    /**
+     * The default key header.
+     */
+    public static final String DEFAULT_KEY = "JMSXGroupID";
+
+    /**
+     * The default maximum number of in-flight messages.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LaneDispatcher.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final String key;
+    private final int maxInFlight;
+    private final ThreadPoolExecutor[] lanes;
+    private final Semaphore inFlight;
+    private final AtomicInteger unkeyed = new AtomicInteger();
+
+    /**
+     * @param name        the name of the lanes, used for the names of the lane threads
+     * @param lanes       the number of lanes
+     * @param key         the name of the header to compute the lane of a message from
+     * @param maxInFlight the maximum number of messages waiting in or being handled by the lanes
+     */
+    public LaneDispatcher(@NonNull String name, int lanes, @NonNull String key, int maxInFlight) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Lanes must be at least 1 but was " + lanes);
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Max in-flight messages must be at least 1 but was " + maxInFlight);
+        }
+        this.key = key;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.lanes = new ThreadPoolExecutor[lanes];
+        for (int i = 0; i < lanes; i++) {
+            String threadName = name + "-lane-" + i;
+            this.lanes[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Submits the handling of a message to the lane of its key, blocking while the maximum number of in-flight
+     *  messages is reached.
+     *
+     * @param message the message
+     * @param handler the handling of the message
+     */
+    public void dispatch(@NonNull Message message, @NonNull Runnable handler) {
+        int lane = laneOf(message);
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessageListenerException("Interrupted while waiting for a free lane", e);
+        }
+        try {
+            lanes[lane].execute(() -> {
+                try {
+                    handler.run();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the name of the header the lane of a message is computed from
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the number of lanes
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * @return the number of messages waiting in each lane, excluding the message being handled
+     */
+    public int[] getQueueDepths() {
+        int[] depths = new int[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            depths[i] = lanes[i].getQueue().size();
+        }
+        return depths;
+    }
+
+    /**
+     * @return the number of messages waiting in or being handled by the lanes
+     */
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /**
+     * @return the maximum number of messages waiting in or being handled by the lanes
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Stops accepting messages and waits for the messages already dispatched to be handled.
+     */
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                if (!lane.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Timed out waiting for {} messages in lane to be handled", lane.getQueue().size());
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int laneOf(Message message) {
+        String value = JMSHeaders.getHeader(key, message, String.class);
+        if (value == null) {
+            return Math.floorMod(unkeyed.getAndIncrement(), lanes.length);
+        }
+        return Math.floorMod(value.hashCode(), lanes.length);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.listener;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Stores the keys of messages that have been processed by a listener with deduplication enabled, so that
+ *  redelivered or duplicated messages are acknowledged without being processed again. The keys are namespaced by
+ *  listener id. The default implementation is the {@link InMemoryMessageDeduplicationStore}; a shared implementation,
+ *  e.g. backed by a distributed cache, can be provided as a bean for applications running on several nodes.
+ *
+ * @see MessageDeduplicator
+ * @since 4.1.0
+ */
+public interface MessageDeduplicationStore {
+
+    /**
+     * @param key the key of the message
+     * @return true if a message with the key has been processed and the key has not expired
+     */
+    boolean contains(@NonNull String key);
+
+    /**
+     * Atomically claims the key of a message about to be processed, so that concurrent deliveries of the same
+     * message aren't processed twice. The claim is confirmed with {@link #add(String)} once the message is
+     * processed and acknowledged, or given up with {@link #release(String)} if processing failed.
+     *
+     * @param key the key of the message
+     * @return true if the key was claimed, false if a message with the key has been processed or is being processed
+     */
+    boolean claim(@NonNull String key);
+
+    /**
+     * Gives up the claim on a key whose message failed to be processed, so that its redelivery is processed.
+     *
+     * @param key the key of the message
+     */
+    void release(@NonNull String key);
+
+    /**
+     * Records that a message with the given key has been processed, confirming its claim if any.
+     *
+     * @param key the key of the message
+     */
+    void add(@NonNull String key);
+
+    /**
+     * @return the number of keys in the store, or -1 if unknown
+     */
+    default long size() {
+        return -1;
+    }
+}
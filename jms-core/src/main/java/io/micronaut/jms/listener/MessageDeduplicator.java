@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.listener;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.jms.model.JMSHeaders;
+
+import jakarta.jms.Message;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filters out messages of a {@link JMSListener} that have already been processed, identified by the value of a key
+ *  header ({@code JMSMessageID} by default). The key of a message is claimed in a {@link MessageDeduplicationStore}
+ *  before it is processed, and recorded once the message was processed and acknowledged or committed; the claim is
+ *  released if that fails, so that the redelivered message is processed. Duplicates, including messages whose key
+ *  is claimed by a concurrent delivery, are passed to the success handlers, and so acknowledged or committed, without
+ *  invoking the listener.
+ *
+ * @since 4.1.0
+ */
+public class MessageDeduplicator {
+
+    /**
+     * The default key header.
+     */
+    public static final String DEFAULT_KEY = JMSHeaders.JMS_MESSAGE_ID;
+
+    private final String namespace;
+    private final String key;
+    private final MessageDeduplicationStore store;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param namespace the namespace of the keys in the store, usually the id of the listener
+     * @param key       the name of the header identifying a message
+     * @param store     the store of the keys of processed messages
+     */
+    public MessageDeduplicator(@NonNull String namespace, @NonNull String key, @NonNull MessageDeduplicationStore store) {
+        this.namespace = namespace;
+        this.key = key;
+        this.store = store;
+    }
+
+    /**
+     * @param message the message
+     * @return the key of the message in the store, or null if the message does not have the key header
+     */
+    @Nullable
+    public String keyOf(@NonNull Message message) {
+        String value = JMSHeaders.getHeader(key, message, String.class);
+        return value == null ? null : namespace + ':' + value;
+    }
+
+    /**
+     * Claims the key of a message about to be processed.
+     *
+     * @param storeKey the key of the message as returned by {@link #keyOf(Message)}
+     * @return true if the message is a duplicate, i.e. it has already been processed or is being processed
+     */
+    public boolean isDuplicate(@NonNull String storeKey) {
+        boolean duplicate = !store.claim(storeKey);
+        if (duplicate) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return duplicate;
+    }
+
+    /**
+     * Records a message whose key was claimed with {@link #isDuplicate(String)} as processed. Called once the
+     * message has been acknowledged or committed.
+     *
+     * @param storeKey the key of the successfully processed message as returned by {@link #keyOf(Message)}
+     */
+    public void markProcessed(@NonNull String storeKey) {
+        store.add(storeKey);
+    }
+
+    /**
+     * Releases the claim on the key of a message that failed to be processed, acknowledged or committed, so that
+     * its redelivery is processed.
+     *
+     * @param storeKey the key of the message as returned by {@link #keyOf(Message)}
+     */
+    public void release(@NonNull String storeKey) {
+        store.release(storeKey);
+    }
+
+    /**
+     * @return the name of the header identifying a message
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the store of the keys of processed messages
+     */
+    public MessageDeduplicationStore getStore() {
+        return store;
+    }
+
+    /**
+     * @return the number of messages found to be duplicates
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of messages found not to be duplicates
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the share of checked messages that were duplicates, or 0 if no message has been checked
+     */
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+}
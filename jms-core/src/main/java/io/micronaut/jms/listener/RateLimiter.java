@@ -0,0 +1,216 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.listener;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Token bucket used by a {@link JMSListener} to limit the number of messages it receives per second. A rate
+ *  limited listener acquires a permit before it pulls the next message from the broker, so messages that exceed
+ *  the rate stay on the broker instead of being fetched and held by a sleeping thread.
+ * The bucket holds up to one second worth of permits, which allows short bursts after idle periods.
+ *
+ * @see AdaptiveRateLimiter
+ * @since 4.1.0
+ */
+public class RateLimiter {
+
+    private static final Pattern RATE_PATTERN = Pattern.compile("\\s*(\\d+(?:\\.\\d+)?)\\s*/\\s*(\\d*)\\s*(ms|s|m|h)\\s*");
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private double permitsPerSecond;
+    private double storedPermits;
+    private long lastRefill;
+
+    /**
+     * @param permitsPerSecond the number of messages that may be received per second
+     */
+    public RateLimiter(double permitsPerSecond) {
+        checkRate(permitsPerSecond);
+        this.permitsPerSecond = permitsPerSecond;
+        this.storedPermits = maxStoredPermits();
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Parses a rate limit expression of the form {@code <permits>/<period>}, for example {@code 200/s},
+     *  {@code 1000/m}, {@code 50/10s} or {@code 5/100ms}.
+     *
+     * @param rateLimit the rate limit expression
+     * @return the rate in permits per second
+     * @throws IllegalArgumentException if the expression is not valid
+     */
+    public static double parseRate(@NonNull String rateLimit) {
+        Matcher matcher = RATE_PATTERN.matcher(rateLimit);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Rate limit must be of the form <permits>/<period> (e.g. \"200/s\"). " +
+                "Rate limit provided was " + rateLimit);
+        }
+        double permits = Double.parseDouble(matcher.group(1));
+        long amount = matcher.group(2).isEmpty() ? 1 : Long.parseLong(matcher.group(2));
+        TimeUnit unit;
+        switch (matcher.group(3)) {
+            case "ms":
+                unit = TimeUnit.MILLISECONDS;
+                break;
+            case "m":
+                unit = TimeUnit.MINUTES;
+                break;
+            case "h":
+                unit = TimeUnit.HOURS;
+                break;
+            default:
+                unit = TimeUnit.SECONDS;
+        }
+        double rate = permits * NANOS_PER_SECOND / unit.toNanos(amount);
+        checkRate(rate);
+        return rate;
+    }
+
+    /**
+     * Acquires a permit, blocking until one is available.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve(Long.MAX_VALUE);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Acquires a permit if one is available within the given time, blocking until then. Unlike
+     *  {@link #acquire()}, no permit is reserved if it would only be available later, so that the caller can check
+     *  whether it should still wait, e.g. whether its consumer was closed in the meantime.
+     *
+     * @param timeout the maximum time to wait for a permit
+     * @param unit    the unit of the timeout
+     * @return true if the permit was acquired, false if none was available within the timeout
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long timeoutNanos = unit.toNanos(timeout);
+        long waitNanos = reserve(timeoutNanos);
+        if (waitNanos < 0) {
+            TimeUnit.NANOSECONDS.sleep(timeoutNanos);
+            return false;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return true;
+    }
+
+    /**
+     * Acquires a permit if one is immediately available.
+     *
+     * @return true if the permit was acquired
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (storedPermits >= 1) {
+            storedPermits -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a permit that was acquired but not used, e.g. because no message was available.
+     */
+    public synchronized void release() {
+        refill();
+        storedPermits = Math.min(storedPermits + 1, maxStoredPermits());
+    }
+
+    /**
+     * @return the current rate in permits per second
+     */
+    public synchronized double getRate() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Changes the rate. Permits already stored are kept up to the new maximum.
+     *
+     * @param permitsPerSecond the number of messages that may be received per second
+     */
+    public synchronized void setRate(double permitsPerSecond) {
+        checkRate(permitsPerSecond);
+        refill();
+        this.permitsPerSecond = permitsPerSecond;
+        storedPermits = Math.min(storedPermits, maxStoredPermits());
+    }
+
+    /**
+     * Called by the listener when a message has been handled successfully.
+     */
+    public void onSuccess() {
+        // no-op
+    }
+
+    /**
+     * Called by the listener when the error handlers have been invoked for a message.
+     */
+    public void onError() {
+        // no-op
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{permitsPerSecond=" + getRate() + '}';
+    }
+
+    /**
+     * Reserves a permit, allowing the stored permits to become negative so that concurrent consumers are
+     *  served in order.
+     *
+     * @param maxWaitNanos the maximum time in nanoseconds the caller waits for the permit
+     * @return the time in nanoseconds to wait until the reserved permit may be used, or -1 if it would take longer
+     *  than the maximum wait, in which case no permit is reserved
+     */
+    private synchronized long reserve(long maxWaitNanos) {
+        refill();
+        double remaining = storedPermits - 1;
+        long waitNanos = remaining >= 0 ? 0 : (long) (-remaining * NANOS_PER_SECOND / permitsPerSecond);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        storedPermits = remaining;
+        return waitNanos;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        storedPermits = Math.min(maxStoredPermits(), storedPermits + (now - lastRefill) * permitsPerSecond / NANOS_PER_SECOND);
+        lastRefill = now;
+    }
+
+    private double maxStoredPermits() {
+        return Math.max(1, permitsPerSecond);
+    }
+
+    private static void checkRate(double permitsPerSecond) {
+        if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+            throw new IllegalArgumentException("Rate limit must be positive but was " + permitsPerSecond);
+        }
+    }
+}
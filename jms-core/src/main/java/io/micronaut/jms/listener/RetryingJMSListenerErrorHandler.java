@@ -0,0 +1,220 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.listener;
+
+import io.micronaut.jms.configuration.properties.JMSRetryConfigurationProperties;
+import io.micronaut.messaging.exceptions.MessagingSystemException;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import java.time.Duration;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static jakarta.jms.Session.AUTO_ACKNOWLEDGE;
+import static jakarta.jms.Session.DUPS_OK_ACKNOWLEDGE;
+
+/**
+ * Retries failed messages with an exponentially increasing delay instead of having the broker redeliver them
+ *  immediately, and sends them to a dead-letter queue once all attempts have failed.
+ * The attempt of a message is determined from the {@link #RETRY_ATTEMPTS} property set on retried messages and
+ *  from the {@code JMSXDeliveryCount} property (or {@link Message#getJMSRedelivered()} if the provider does not set
+ *  it). A failed message is republished to the queue it was received from with a delivery delay (see
+ *  {@link MessageProducer#setDeliveryDelay(long)}), and the original message is then committed or acknowledged
+ *  according to the mode of the session. Messages sent to the dead-letter queue carry the original destination and
+ *  the error as properties.
+ * Only messages received from queues are retried; messages received from topics are left to the other error handlers.
+ * The handler is added to a listener with the {@code errorHandlers} attribute of
+ *  {@link io.micronaut.jms.annotations.JMSListener}, {@link io.micronaut.jms.annotations.Queue} or
+ *  {@link io.micronaut.jms.annotations.Topic}, and configured with {@link JMSRetryConfigurationProperties}.
+ *
+ * @since 4.1.0
+ */
+@Singleton
+public class RetryingJMSListenerErrorHandler implements JMSListenerErrorHandler {
+
+    /**
+     * The order of the handler, so that it runs before the logging and transactional error handlers.
+     */
+    public static final int POSITION = 100;
+
+    /**
+     * Property holding the number of attempts already made before the message was republished.
+     */
+    public static final String RETRY_ATTEMPTS = "MN_RETRY_ATTEMPTS";
+
+    /**
+     * Property of dead-lettered messages holding the name of the queue the message was received from.
+     */
+    public static final String DLQ_ORIGINAL_DESTINATION = "MN_DLQ_ORIGINAL_DESTINATION";
+
+    /**
+     * Property of dead-lettered messages holding the class name of the error.
+     */
+    public static final String DLQ_EXCEPTION_CLASS = "MN_DLQ_EXCEPTION_CLASS";
+
+    /**
+     * Property of dead-lettered messages holding the (truncated) message of the error.
+     */
+    public static final String DLQ_EXCEPTION_MESSAGE = "MN_DLQ_EXCEPTION_MESSAGE";
+
+    /**
+     * Property of dead-lettered messages holding the epoch millisecond at which the last attempt failed.
+     */
+    public static final String DLQ_FAILED_AT = "MN_DLQ_FAILED_AT";
+
+    /**
+     * Suffix of the default dead-letter queue name.
+     */
+    public static final String DLQ_SUFFIX = ".DLQ";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetryingJMSListenerErrorHandler.class);
+    private static final String JMSX_DELIVERY_COUNT = "JMSXDeliveryCount";
+    private static final String JMSX_PREFIX = "JMSX";
+    private static final String JMSX_GROUP_ID = "JMSXGroupID";
+    private static final String JMSX_GROUP_SEQ = "JMSXGroupSeq";
+    private static final int MAX_EXCEPTION_MESSAGE_LENGTH = 1024;
+
+    private final JMSRetryConfigurationProperties configuration;
+
+    /**
+     * @param configuration the retry configuration
+     */
+    public RetryingJMSListenerErrorHandler(JMSRetryConfigurationProperties configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void handle(Session session, Message message, Throwable ex) {
+        boolean transacted = false;
+        try {
+            transacted = session.getTransacted();
+            Destination source = message.getJMSDestination();
+            if (!(source instanceof Queue)) {
+                LOGGER.debug("Not retrying message {} received from non-queue destination {}", message, source);
+                return;
+            }
+            int attempt = getAttempt(message);
+            if (attempt < configuration.getMaxAttempts()) {
+                Duration delay = getDelay(attempt);
+                LOGGER.debug("Retrying message {} in {} after attempt {} failed", message, delay, attempt);
+                republish(session, message, source, delay, copyProperties(message, attempt));
+            } else {
+                String deadLetterQueue = getDeadLetterQueue((Queue) source);
+                LOGGER.warn("Sending message {} to dead-letter queue {} after {} failed attempts", message, deadLetterQueue, attempt);
+                Map<String, Object> properties = copyProperties(message, attempt);
+                properties.put(DLQ_ORIGINAL_DESTINATION, ((Queue) source).getQueueName());
+                properties.put(DLQ_EXCEPTION_CLASS, ex.getClass().getName());
+                properties.put(DLQ_EXCEPTION_MESSAGE, truncate(String.valueOf(ex.getMessage())));
+                properties.put(DLQ_FAILED_AT, System.currentTimeMillis());
+                republish(session, message, session.createQueue(deadLetterQueue), Duration.ZERO, properties);
+            }
+            complete(session, message);
+        } catch (JMSException | RuntimeException e) {
+            LOGGER.error("Failed to schedule retry of message: " + e.getMessage(), e);
+            if (!transacted) {
+                // let the provider redeliver the message; transacted sessions are rolled back by the
+                // TransactionalJMSListenerErrorHandler
+                throw new MessagingSystemException("Failed to schedule retry of message", e);
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return POSITION;
+    }
+
+    /**
+     * @param attempt the number of attempts made so far
+     * @return the delivery delay of the next attempt
+     */
+    protected Duration getDelay(int attempt) {
+        double delay = configuration.getInitialDelay().toMillis() * Math.pow(configuration.getMultiplier(), attempt - 1);
+        return Duration.ofMillis((long) Math.min(delay, configuration.getMaxDelay().toMillis()));
+    }
+
+    private String getDeadLetterQueue(Queue source) throws JMSException {
+        String deadLetterQueue = configuration.getDeadLetterQueue();
+        return deadLetterQueue == null ? source.getQueueName() + DLQ_SUFFIX : deadLetterQueue;
+    }
+
+    private static int getAttempt(Message message) throws JMSException {
+        int previousAttempts = message.propertyExists(RETRY_ATTEMPTS) ? message.getIntProperty(RETRY_ATTEMPTS) : 0;
+        int deliveryCount;
+        if (message.propertyExists(JMSX_DELIVERY_COUNT)) {
+            deliveryCount = message.getIntProperty(JMSX_DELIVERY_COUNT);
+        } else {
+            deliveryCount = message.getJMSRedelivered() ? 2 : 1;
+        }
+        return previousAttempts + deliveryCount;
+    }
+
+    private static Map<String, Object> copyProperties(Message message, int attempt) throws JMSException {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        Enumeration<?> names = message.getPropertyNames();
+        while (names.hasMoreElements()) {
+            String name = (String) names.nextElement();
+            if (!name.startsWith(JMSX_PREFIX) || JMSX_GROUP_ID.equals(name) || JMSX_GROUP_SEQ.equals(name)) {
+                properties.put(name, message.getObjectProperty(name));
+            }
+        }
+        properties.put(RETRY_ATTEMPTS, attempt);
+        return properties;
+    }
+
+    private static void republish(Session session,
+                                  Message message,
+                                  Destination destination,
+                                  Duration delay,
+                                  Map<String, Object> properties) throws JMSException {
+        // properties of a received message are read-only until they are cleared
+        message.clearProperties();
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            message.setObjectProperty(property.getKey(), property.getValue());
+        }
+        try (MessageProducer producer = session.createProducer(null)) {
+            if (!delay.isZero()) {
+                producer.setDeliveryDelay(delay.toMillis());
+            }
+            producer.send(destination, message, message.getJMSDeliveryMode(), message.getJMSPriority(),
+                Message.DEFAULT_TIME_TO_LIVE);
+        }
+    }
+
+    private static void complete(Session session, Message message) throws JMSException {
+        if (session.getTransacted()) {
+            session.commit();
+            return;
+        }
+        int acknowledgeMode = session.getAcknowledgeMode();
+        if (acknowledgeMode != AUTO_ACKNOWLEDGE && acknowledgeMode != DUPS_OK_ACKNOWLEDGE) {
+            message.acknowledge();
+        }
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_EXCEPTION_MESSAGE_LENGTH ? value.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH) : value;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.management;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.jms.listener.InMemoryMessageDeduplicationStore;
+import io.micronaut.jms.listener.JMSListener;
+import io.micronaut.jms.listener.JMSListenerRegistry;
+import io.micronaut.jms.listener.JMSListenerState;
+import io.micronaut.jms.listener.LaneDispatcher;
+import io.micronaut.jms.listener.MessageDeduplicator;
+import io.micronaut.jms.listener.RateLimiter;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import io.micronaut.management.endpoint.annotation.Selector;
+import io.micronaut.management.endpoint.annotation.Write;
+import io.micronaut.messaging.exceptions.MessagingSystemException;
+
+import jakarta.jms.JMSException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exposes the {@link JMSListener}s registered in the {@link JMSListenerRegistry}, grouped by destination, and
+ * allows them to be paused, resumed, resized, or have their prefetch changed at runtime.
+ * <p>
+ * Usage:
+ * <pre>
+ * GET  /jmslisteners                  lists all listeners by destination
+ * GET  /jmslisteners/{id}             shows a single listener
+ * POST /jmslisteners/{id}             with a body such as {"state": "PAUSED"}, {"concurrency": 4} or {"prefetch": 0}
+ * </pre>
+ *
+ * @since 4.1.0
+ */
+@Endpoint(id = JMSListenersEndpoint.NAME, defaultSensitive = true)
+@Requires(classes = Endpoint.class)
+public class JMSListenersEndpoint {
+
+    /**
+     * The id of the endpoint.
+     */
+    public static final String NAME = "jmslisteners";
+
+    private final JMSListenerRegistry registry;
+
+    public JMSListenersEndpoint(JMSListenerRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * @return the registered listeners grouped by destination name
+     */
+    @Read
+    public Map<String, List<Map<String, Object>>> listeners() {
+        Map<String, List<Map<String, Object>>> listenersByDestination = new TreeMap<>();
+        registry.getListeners().stream()
+            .sorted(Comparator.comparing(JMSListener::getId))
+            .forEach(listener -> listenersByDestination
+                .computeIfAbsent(listener.getDestination(), destination -> new ArrayList<>())
+                .add(describe(listener)));
+        return listenersByDestination;
+    }
+
+    /**
+     * @param id the id of the listener
+     * @return the state of the listener, or null if no listener is registered with the id
+     */
+    @Read
+    @Nullable
+    public Map<String, Object> listener(@Selector String id) {
+        return registry.findListener(id).map(this::describe).orElse(null);
+    }
+
+    /**
+     * Changes the state, the concurrency and/or the prefetch of a listener.
+     *
+     * @param id          the id of the listener
+     * @param state       the requested state, either {@link JMSListenerState#RUNNING} or {@link JMSListenerState#PAUSED}
+     * @param concurrency the requested number of concurrent consumers
+     * @param prefetch    the requested prefetch, or a negative value for the prefetch of the connection factory
+     * @return the updated state of the listener, or null if no listener is registered with the id
+     */
+    @Write
+    @Nullable
+    public Map<String, Object> updateListener(@Selector String id,
+                                              @Nullable JMSListenerState state,
+                                              @Nullable Integer concurrency,
+                                              @Nullable Integer prefetch) {
+        JMSListener listener = registry.findListener(id).orElse(null);
+        if (listener == null) {
+            return null;
+        }
+        try {
+            if (concurrency != null) {
+                listener.setConcurrency(concurrency);
+            }
+            if (prefetch != null) {
+                listener.setPrefetch(prefetch);
+            }
+            if (state == JMSListenerState.PAUSED) {
+                listener.pause();
+            } else if (state == JMSListenerState.RUNNING) {
+                listener.resume();
+            } else if (state != null) {
+                throw new IllegalArgumentException("A listener can only be set to RUNNING or PAUSED but was " + state);
+            }
+        } catch (JMSException e) {
+            throw new MessagingSystemException("Problem updating listener '" + id + "'", e);
+        }
+        return describe(listener);
+    }
+
+    private Map<String, Object> describe(JMSListener listener) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("id", listener.getId());
+        description.put("destinationType", listener.getDestinationType());
+        description.put("destination", listener.getDestination());
+        description.put("state", listener.getState());
+        description.put("concurrency", listener.getConcurrency());
+        if (listener.getPrefetch() >= 0) {
+            description.put("prefetch", listener.getPrefetch());
+        }
+        listener.getMessageSelector()
+            .filter(selector -> !selector.isEmpty())
+            .ifPresent(selector -> description.put("messageSelector", selector));
+        RateLimiter rateLimiter = listener.getRateLimiter();
+        if (rateLimiter != null) {
+            description.put("rateLimit", rateLimiter.getRate());
+        }
+        LaneDispatcher lanes = listener.getLaneDispatcher();
+        if (lanes != null) {
+            Map<String, Object> laneDescription = new LinkedHashMap<>();
+            laneDescription.put("key", lanes.getKey());
+            laneDescription.put("queueDepths", lanes.getQueueDepths());
+            laneDescription.put("inFlight", lanes.getInFlight());
+            laneDescription.put("maxInFlight", lanes.getMaxInFlight());
+            description.put("lanes", laneDescription);
+        }
+        MessageDeduplicator deduplicator = listener.getDeduplicator();
+        if (deduplicator != null) {
+            Map<String, Object> deduplication = new LinkedHashMap<>();
+            deduplication.put("key", deduplicator.getKey());
+            deduplication.put("hits", deduplicator.getHitCount());
+            deduplication.put("misses", deduplicator.getMissCount());
+            deduplication.put("hitRate", deduplicator.getHitRate());
+            deduplication.put("storeSize", deduplicator.getStore().size());
+            if (deduplicator.getStore() instanceof InMemoryMessageDeduplicationStore inMemoryStore) {
+                deduplication.put("storeMemoryBytes", inMemoryStore.getEstimatedMemoryBytes());
+            }
+            description.put("deduplication", deduplication);
+        }
+        return description;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.management;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.jms.configuration.JMSConnectionFactoryBeanProcessor;
+import io.micronaut.jms.pool.JMSConnectionPool;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reports the application as not ready until each {@link JMSConnectionPool} holds its initial connections and
+ * their sessions, so that no traffic is routed to it before the first messages can be sent without paying for the
+ * creation of connections.
+ *
+ * @since 4.1.0
+ */
+@Singleton
+@Readiness
+@Requires(classes = HealthIndicator.class)
+@Requires(property = JMSPoolReadinessIndicator.ENABLED, notEquals = StringUtils.FALSE)
+public class JMSPoolReadinessIndicator implements HealthIndicator {
+
+    /**
+     * The name of the indicator.
+     */
+    public static final String NAME = "jms";
+
+    /**
+     * Property to disable the indicator.
+     */
+    public static final String ENABLED = "endpoints.health.jms.enabled";
+
+    private final JMSConnectionFactoryBeanProcessor connectionFactoryProcessor;
+
+    public JMSPoolReadinessIndicator(JMSConnectionFactoryBeanProcessor connectionFactoryProcessor) {
+        this.connectionFactoryProcessor = connectionFactoryProcessor;
+    }
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        boolean ready = true;
+        Map<String, Object> details = new TreeMap<>();
+        for (Map.Entry<String, JMSConnectionPool> entry : connectionFactoryProcessor.getPools().entrySet()) {
+            JMSConnectionPool pool = entry.getValue();
+            boolean warm = pool.isWarm();
+            ready &= warm;
+
+            Map<String, Object> poolDetails = new LinkedHashMap<>();
+            poolDetails.put("status", warm ? HealthStatus.UP.getName() : HealthStatus.DOWN.getName());
+            poolDetails.put("idle", pool.getIdleCount());
+            poolDetails.put("active", pool.getActiveCount());
+            poolDetails.put("minIdle", pool.getInitialSize());
+            details.put(entry.getKey(), poolDetails);
+        }
+        return Publishers.just(HealthResult.builder(NAME, ready ? HealthStatus.UP : HealthStatus.DOWN)
+            .details(details)
+            .build());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.metrics;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.jms.listener.JMSListener;
+import io.micronaut.jms.model.JMSDestinationType;
+import io.micronaut.jms.pool.AbstractPool;
+
+/**
+ * Binds metrics to JMS producers, listeners and pools. If no bean of this type is present, nothing is instrumented.
+ *
+ * @see MicrometerJMSMetrics
+ * @since 4.1.0
+ */
+public interface JMSMetrics {
+
+    /**
+     * Name of the connection pool type.
+     */
+    String CONNECTION_POOL = "connection";
+
+    /**
+     * Name of the session pool type.
+     */
+    String SESSION_POOL = "session";
+
+    /**
+     * Name of the producer pool type.
+     */
+    String PRODUCER_POOL = "producer";
+
+    /**
+     * Name of the {@link jakarta.jms.JMSContext} pool type.
+     */
+    String CONTEXT_POOL = "context";
+
+    /**
+     * @param connectionFactory the name of the connection factory
+     * @param destinationType   the type of the destination
+     * @param destination       the name of the destination
+     * @return the recorder of the messages sent to the destination
+     */
+    @NonNull
+    JMSTimingRecorder producerRecorder(@NonNull String connectionFactory,
+                                       @NonNull JMSDestinationType destinationType,
+                                       @NonNull String destination);
+
+    /**
+     * Instruments a listener, e.g. by setting its {@link JMSListener#setTimingRecorder(JMSTimingRecorder) timing
+     * recorder} and adding success and error handlers.
+     *
+     * @param connectionFactory the name of the connection factory of the listener
+     * @param listener          the listener
+     */
+    void bindListener(@NonNull String connectionFactory, @NonNull JMSListener listener);
+
+    /**
+     * Instruments a pool.
+     *
+     * @param connectionFactory the name of the connection factory of the pool
+     * @param poolType          the type of the pool, e.g. {@link #CONNECTION_POOL}
+     * @param pool              the pool
+     */
+    void bindPool(@NonNull String connectionFactory, @NonNull String poolType, @NonNull AbstractPool<?> pool);
+}
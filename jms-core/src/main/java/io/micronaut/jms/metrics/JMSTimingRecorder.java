@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.metrics;
+
+/**
+ * Records the duration and outcome of an operation, e.g. sending or handling a message. Instances are resolved once
+ *  per producer method or listener, so that recording does not need to look up or allocate meters.
+ *
+ * @since 4.1.0
+ */
+@FunctionalInterface
+public interface JMSTimingRecorder {
+
+    /**
+     * @param durationNanos the duration of the operation in nanoseconds
+     * @param success       whether the operation succeeded
+     */
+    void record(long durationNanos, boolean success);
+}
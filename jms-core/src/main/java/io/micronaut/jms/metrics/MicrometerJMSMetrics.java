@@ -0,0 +1,262 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.jms.configuration.properties.JMSConfigurationProperties;
+import io.micronaut.jms.listener.InMemoryMessageDeduplicationStore;
+import io.micronaut.jms.listener.JMSListener;
+import io.micronaut.jms.listener.LaneDispatcher;
+import io.micronaut.jms.listener.MessageDeduplicator;
+import io.micronaut.jms.listener.RateLimiter;
+import io.micronaut.jms.model.JMSDestinationType;
+import io.micronaut.jms.pool.AbstractPool;
+import jakarta.inject.Singleton;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link JMSMetrics} registering Micrometer meters, enabled when a {@link MeterRegistry} bean is present. All meters
+ *  are tagged with the connection factory, and the producer and listener meters with the destination type and name.
+ * Can be disabled with {@code micronaut.jms.metrics.enabled=false}.
+ *
+ * @since 4.1.0
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = MicrometerJMSMetrics.ENABLED, notEquals = StringUtils.FALSE)
+public class MicrometerJMSMetrics implements JMSMetrics {
+
+    /**
+     * Property to disable the metrics.
+     */
+    public static final String ENABLED = JMSConfigurationProperties.PREFIX + ".metrics.enabled";
+
+    private static final String PREFIX = "jms.";
+    private static final String TAG_CONNECTION_FACTORY = "connection.factory";
+    private static final String TAG_DESTINATION_TYPE = "destination.type";
+    private static final String TAG_DESTINATION = "destination";
+    private static final String TAG_LISTENER = "listener";
+    private static final String TAG_POOL = "pool";
+    private static final String TAG_OUTCOME = "outcome";
+    private static final String TAG_RESULT = "result";
+
+    private final MeterRegistry registry;
+    private final Map<Tags, PoolGroup> poolGroups = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry the meter registry
+     */
+    public MicrometerJMSMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @NonNull
+    @Override
+    public JMSTimingRecorder producerRecorder(@NonNull String connectionFactory,
+                                              @NonNull JMSDestinationType destinationType,
+                                              @NonNull String destination) {
+        Tags tags = destinationTags(connectionFactory, destinationType, destination);
+        return timingRecorder(PREFIX + "producer.send", "Time taken to send a message", tags);
+    }
+
+    @Override
+    public void bindListener(@NonNull String connectionFactory, @NonNull JMSListener listener) {
+        Tags tags = destinationTags(connectionFactory, listener.getDestinationType(), listener.getDestination())
+            .and(TAG_LISTENER, listener.getId());
+
+        JMSTimingRecorder handleRecorder = timingRecorder(PREFIX + "listener.handle",
+            "Time taken to handle a message, including the success and error handlers", tags);
+        Counter successes = Counter.builder(PREFIX + "listener.messages")
+            .description("Number of messages handled by the listener")
+            .tags(tags.and(TAG_RESULT, "success"))
+            .register(registry);
+        Counter errors = Counter.builder(PREFIX + "listener.messages")
+            .description("Number of messages handled by the listener")
+            .tags(tags.and(TAG_RESULT, "error"))
+            .register(registry);
+        // recorded once the message was acknowledged or committed by the success handlers, or passed to the error
+        // handlers, so that a failed acknowledgement counts as an error only
+        listener.setTimingRecorder((durationNanos, successful) -> {
+            handleRecorder.record(durationNanos, successful);
+            (successful ? successes : errors).increment();
+        });
+
+        RateLimiter rateLimiter = listener.getRateLimiter();
+        if (rateLimiter != null) {
+            Gauge.builder(PREFIX + "listener.rate.limit", rateLimiter, RateLimiter::getRate)
+                .description("Current rate limit of the listener in messages per second")
+                .tags(tags)
+                .register(registry);
+        }
+
+        LaneDispatcher lanes = listener.getLaneDispatcher();
+        if (lanes != null) {
+            Gauge.builder(PREFIX + "listener.lanes.in.flight", lanes, LaneDispatcher::getInFlight)
+                .description("Number of messages waiting in or being handled by the lanes")
+                .tags(tags)
+                .register(registry);
+            Gauge.builder(PREFIX + "listener.lanes.queued", lanes, l -> Arrays.stream(l.getQueueDepths()).sum())
+                .description("Number of messages waiting in the lanes")
+                .tags(tags)
+                .register(registry);
+            Gauge.builder(PREFIX + "listener.lanes.queued.max", lanes, l -> Arrays.stream(l.getQueueDepths()).max().orElse(0))
+                .description("Number of messages waiting in the fullest lane")
+                .tags(tags)
+                .register(registry);
+        }
+
+        MessageDeduplicator deduplicator = listener.getDeduplicator();
+        if (deduplicator != null) {
+            FunctionCounter.builder(PREFIX + "listener.deduplication", deduplicator, MessageDeduplicator::getHitCount)
+                .description("Number of messages checked for duplicates")
+                .tags(tags.and(TAG_RESULT, "hit"))
+                .register(registry);
+            FunctionCounter.builder(PREFIX + "listener.deduplication", deduplicator, MessageDeduplicator::getMissCount)
+                .description("Number of messages checked for duplicates")
+                .tags(tags.and(TAG_RESULT, "miss"))
+                .register(registry);
+            if (deduplicator.getStore() instanceof InMemoryMessageDeduplicationStore store) {
+                // the store is shared by the listeners, so each listener reports the same values
+                Gauge.builder(PREFIX + "deduplication.store.size", store, InMemoryMessageDeduplicationStore::size)
+                    .description("Number of message keys in the in-memory deduplication store")
+                    .tags(tags)
+                    .register(registry);
+                Gauge.builder(PREFIX + "deduplication.store.memory", store, InMemoryMessageDeduplicationStore::getEstimatedMemoryBytes)
+                    .description("Approximate memory used by the in-memory deduplication store")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(registry);
+            }
+        }
+    }
+
+    @Override
+    public void bindPool(@NonNull String connectionFactory, @NonNull String poolType, @NonNull AbstractPool<?> pool) {
+        Tags tags = Tags.of(TAG_CONNECTION_FACTORY, connectionFactory, TAG_POOL, poolType);
+        PoolGroup group = poolGroups.get(tags);
+        if (group == null) {
+            group = poolGroups.computeIfAbsent(tags, this::registerPoolGroup);
+        }
+        group.add(pool);
+    }
+
+    private PoolGroup registerPoolGroup(Tags tags) {
+        PoolGroup group = new PoolGroup();
+        Gauge.builder(PREFIX + "pool.idle", group, g -> g.sum(AbstractPool::getIdleCount))
+            .description("Number of objects available in the pool")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder(PREFIX + "pool.active", group, g -> g.sum(AbstractPool::getActiveCount))
+            .description("Number of objects requested from the pool")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder(PREFIX + "pool.max", group, g -> g.sum(AbstractPool::getMaxSize))
+            .description("Maximum number of active objects of the pool")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder(PREFIX + "pool.created", group, PoolGroup::getCreatedCount)
+            .description("Number of objects created by the pool")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder(PREFIX + "pool.destroyed", group, PoolGroup::getDestroyedCount)
+            .description("Number of objects destroyed by the pool")
+            .tags(tags)
+            .register(registry);
+        return group;
+    }
+
+    private JMSTimingRecorder timingRecorder(String name, String description, Tags tags) {
+        Timer success = Timer.builder(name)
+            .description(description)
+            .tags(tags.and(TAG_OUTCOME, "success"))
+            .register(registry);
+        Timer failure = Timer.builder(name)
+            .description(description)
+            .tags(tags.and(TAG_OUTCOME, "failure"))
+            .register(registry);
+        return (durationNanos, successful) -> (successful ? success : failure).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Tags destinationTags(String connectionFactory, JMSDestinationType destinationType, String destination) {
+        return Tags.of(
+            TAG_CONNECTION_FACTORY, connectionFactory,
+            TAG_DESTINATION_TYPE, destinationType.name().toLowerCase(),
+            TAG_DESTINATION, destination);
+    }
+
+    /**
+     * The pools of a type of a connection factory, e.g. the session pools of all its connections, reported as one.
+     * Closed pools are dropped, and their created and destroyed objects kept in the totals.
+     */
+    private static final class PoolGroup {
+
+        private final Set<AbstractPool<?>> pools = new HashSet<>();
+        private long retiredCreated;
+        private long retiredDestroyed;
+
+        synchronized void add(AbstractPool<?> pool) {
+            pools.add(pool);
+        }
+
+        synchronized double sum(ToDoubleFunction<AbstractPool<?>> value) {
+            prune();
+            double sum = 0;
+            for (AbstractPool<?> pool : pools) {
+                sum += value.applyAsDouble(pool);
+            }
+            return sum;
+        }
+
+        synchronized double getCreatedCount() {
+            prune();
+            return retiredCreated + sum(AbstractPool::getCreatedCount);
+        }
+
+        synchronized double getDestroyedCount() {
+            prune();
+            return retiredDestroyed + sum(AbstractPool::getDestroyedCount);
+        }
+
+        private void prune() {
+            Iterator<AbstractPool<?>> iterator = pools.iterator();
+            while (iterator.hasNext()) {
+                AbstractPool<?> pool = iterator.next();
+                if (pool.isClosed()) {
+                    retiredCreated += pool.getCreatedCount();
+                    retiredDestroyed += pool.getDestroyedCount();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.model;
+
+import io.micronaut.core.annotation.Nullable;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.JMSProducer;
+import jakarta.jms.MessageProducer;
+import java.util.Objects;
+
+/**
+ * Options applied to a single send, on top of the defaults of the producer. Options which are not set keep the
+ * default of the provider.
+ * <p>
+ * Usage:
+ * <pre>
+ * DeliveryOptions options = DeliveryOptions.builder()
+ *     .deliveryMode(JMSDeliveryMode.NON_PERSISTENT)
+ *     .timeToLive(30_000L)
+ *     .build();
+ * </pre>
+ *
+ * @since 4.1.0
+ */
+public final class DeliveryOptions {
+
+    /**
+     * Options keeping all the defaults of the provider.
+     */
+    public static final DeliveryOptions DEFAULT = builder().build();
+
+    private final JMSDeliveryMode deliveryMode;
+    private final Integer priority;
+    private final Long timeToLive;
+    private final Long deliveryDelay;
+    private final boolean disableMessageID;
+    private final boolean disableMessageTimestamp;
+
+    private DeliveryOptions(Builder builder) {
+        this.deliveryMode = builder.deliveryMode;
+        this.priority = builder.priority;
+        this.timeToLive = builder.timeToLive;
+        this.deliveryDelay = builder.deliveryDelay;
+        this.disableMessageID = builder.disableMessageID;
+        this.disableMessageTimestamp = builder.disableMessageTimestamp;
+    }
+
+    /**
+     * @return a builder of options
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a builder initialized with these options
+     */
+    public Builder toBuilder() {
+        return new Builder()
+            .deliveryMode(deliveryMode)
+            .priority(priority)
+            .timeToLive(timeToLive)
+            .deliveryDelay(deliveryDelay)
+            .disableMessageID(disableMessageID)
+            .disableMessageTimestamp(disableMessageTimestamp);
+    }
+
+    /**
+     * @return the delivery mode, or null for the default of the producer
+     */
+    @Nullable
+    public JMSDeliveryMode getDeliveryMode() {
+        return deliveryMode;
+    }
+
+    /**
+     * @return the priority from 0 to 9, or null for the default of the producer
+     */
+    @Nullable
+    public Integer getPriority() {
+        return priority;
+    }
+
+    /**
+     * @return the time to live in milliseconds, or null for the default of the producer
+     */
+    @Nullable
+    public Long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * @return the delivery delay in milliseconds, or null for the default of the producer
+     */
+    @Nullable
+    public Long getDeliveryDelay() {
+        return deliveryDelay;
+    }
+
+    /**
+     * @return whether the provider may skip generating a message ID
+     */
+    public boolean isDisableMessageID() {
+        return disableMessageID;
+    }
+
+    /**
+     * @return whether the provider may skip generating a message timestamp
+     */
+    public boolean isDisableMessageTimestamp() {
+        return disableMessageTimestamp;
+    }
+
+    /**
+     * Applies the options which are set to the given producer.
+     *
+     * @param producer the producer
+     * @return the producer
+     */
+    public JMSProducer applyTo(JMSProducer producer) {
+        if (deliveryMode != null) {
+            producer.setDeliveryMode(deliveryMode.getValue());
+        }
+        if (priority != null) {
+            producer.setPriority(priority);
+        }
+        if (timeToLive != null) {
+            producer.setTimeToLive(timeToLive);
+        }
+        if (deliveryDelay != null) {
+            producer.setDeliveryDelay(deliveryDelay);
+        }
+        if (disableMessageID) {
+            producer.setDisableMessageID(true);
+        }
+        if (disableMessageTimestamp) {
+            producer.setDisableMessageTimestamp(true);
+        }
+        return producer;
+    }
+
+    /**
+     * Applies the options which are set to the given {@link MessageProducer}
+     * of the JMS 1.1 API. The producer should be reset by its pool, or
+     * discarded, after the send.
+     *
+     * @param producer the producer
+     * @return the producer
+     * @throws JMSException if the provider fails to apply an option
+     */
+    public MessageProducer applyTo(MessageProducer producer) throws JMSException {
+        if (deliveryMode != null) {
+            producer.setDeliveryMode(deliveryMode.getValue());
+        }
+        if (priority != null) {
+            producer.setPriority(priority);
+        }
+        if (timeToLive != null) {
+            producer.setTimeToLive(timeToLive);
+        }
+        if (deliveryDelay != null) {
+            producer.setDeliveryDelay(deliveryDelay);
+        }
+        if (disableMessageID) {
+            producer.setDisableMessageID(true);
+        }
+        if (disableMessageTimestamp) {
+            producer.setDisableMessageTimestamp(true);
+        }
+        return producer;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DeliveryOptions that)) {
+            return false;
+        }
+        return disableMessageID == that.disableMessageID &&
+            disableMessageTimestamp == that.disableMessageTimestamp &&
+            deliveryMode == that.deliveryMode &&
+            Objects.equals(priority, that.priority) &&
+            Objects.equals(timeToLive, that.timeToLive) &&
+            Objects.equals(deliveryDelay, that.deliveryDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(deliveryMode, priority, timeToLive, deliveryDelay,
+            disableMessageID, disableMessageTimestamp);
+    }
+
+    @Override
+    public String toString() {
+        return "DeliveryOptions{" +
+            "deliveryMode=" + deliveryMode +
+            ", priority=" + priority +
+            ", timeToLive=" + timeToLive +
+            ", deliveryDelay=" + deliveryDelay +
+            ", disableMessageID=" + disableMessageID +
+            ", disableMessageTimestamp=" + disableMessageTimestamp +
+            '}';
+    }
+
+    /**
+     * Builder of {@link DeliveryOptions}.
+     */
+    public static final class Builder {
+
+        private JMSDeliveryMode deliveryMode;
+        private Integer priority;
+        private Long timeToLive;
+        private Long deliveryDelay;
+        private boolean disableMessageID;
+        private boolean disableMessageTimestamp;
+
+        private Builder() {
+        }
+
+        /**
+         * @param deliveryMode the delivery mode
+         * @return this builder
+         */
+        public Builder deliveryMode(@Nullable JMSDeliveryMode deliveryMode) {
+            this.deliveryMode = deliveryMode;
+            return this;
+        }
+
+        /**
+         * @param priority the priority from 0 to 9
+         * @return this builder
+         */
+        public Builder priority(@Nullable Integer priority) {
+            if (priority != null && (priority < 0 || priority > 9)) {
+                throw new IllegalArgumentException("Priority must be between 0 and 9, was " + priority);
+            }
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * @param timeToLive the time to live in milliseconds, 0 for no expiration
+         * @return this builder
+         */
+        public Builder timeToLive(@Nullable Long timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * @param deliveryDelay the delivery delay in milliseconds
+         * @return this builder
+         */
+        public Builder deliveryDelay(@Nullable Long deliveryDelay) {
+            this.deliveryDelay = deliveryDelay;
+            return this;
+        }
+
+        /**
+         * @param disableMessageID whether the provider may skip generating a message ID
+         * @return this builder
+         */
+        public Builder disableMessageID(boolean disableMessageID) {
+            this.disableMessageID = disableMessageID;
+            return this;
+        }
+
+        /**
+         * @param disableMessageTimestamp whether the provider may skip generating a message timestamp
+         * @return this builder
+         */
+        public Builder disableMessageTimestamp(boolean disableMessageTimestamp) {
+            this.disableMessageTimestamp = disableMessageTimestamp;
+            return this;
+        }
+
+        /**
+         * @return the options
+         */
+        public DeliveryOptions build() {
+            return new DeliveryOptions(this);
+        }
+    }
+}
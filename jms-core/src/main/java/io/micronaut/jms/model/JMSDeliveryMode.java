@@ -46,6 +46,14 @@ public enum JMSDeliveryMode {
         this.value = value;
     }
 
+    /**
+     * @return the {@link DeliveryMode} constant
+     * @since 4.1.0
+     */
+    public int getValue() {
+        return value;
+    }
+
     public static JMSDeliveryMode from(int value) {
         for (JMSDeliveryMode mode : values()) {
             if (mode.value == value) {
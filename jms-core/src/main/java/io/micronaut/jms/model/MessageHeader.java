@@ -111,6 +111,22 @@ public class MessageHeader {
         }
     }
 
+    /**
+     * @return the header name
+     * @since 4.1.0
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the header value
+     * @since 4.1.0
+     */
+    public Object getValue() {
+        return value;
+    }
+
     @Override
     public String toString() {
         return "MessageHeader{" +
@@ -15,62 +15,232 @@
  */
 package io.micronaut.jms.pool;
 
+import io.micronaut.messaging.exceptions.MessagingSystemException;
+import org.apache.commons.pool2.BaseKeyedPooledObjectFactory;
+import org.apache.commons.pool2.DestroyMode;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericKeyedObjectPool;
+import org.apache.commons.pool2.impl.GenericKeyedObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Base class for object pool implementations.
+ * Base class for object pool implementations, backed by a commons-pool2 {@link GenericKeyedObjectPool}. Objects are
+ * kept apart by the arguments they were created with, validated when requested and released according to the
+ * {@link PoolConfiguration}, and destroyed when they fail validation, exceed their maximum lifetime, stay idle beyond
+ * the initial size of the pool, or are {@link PooledObject#markFailed() marked as failed}.
  *
  * @param <T> the {@link PooledObject} type
  * @author Elliott Pope
  * @since 1.0.0
  */
-public abstract class AbstractPool<T extends PooledObject<?>> {
+public abstract class AbstractPool<T extends PooledObject<?>> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractPool.class);
 
-    protected final List<T> pool = Collections.synchronizedList(new LinkedList<>());
     protected final int initialSize;
     protected final int maxSize;
 
-    private final List<T> active = Collections.synchronizedList(new LinkedList<>());
+    private final PoolConfiguration configuration;
+    private final GenericKeyedObjectPool<List<Object>, T> pool;
 
     protected AbstractPool(int initialSize,
                            int maxSize) {
+        this(initialSize, maxSize, PoolConfiguration.DEFAULT);
+    }
+
+    /**
+     * @param initialSize   the number of idle objects kept per key by the evictor
+     * @param maxSize       the maximum number of active and idle objects
+     * @param configuration the health settings
+     * @since 4.1.0
+     */
+    protected AbstractPool(int initialSize,
+                           int maxSize,
+                           PoolConfiguration configuration) {
         this.initialSize = initialSize;
         this.maxSize = maxSize;
+        this.configuration = configuration;
+
+        GenericKeyedObjectPoolConfig<T> config = new GenericKeyedObjectPoolConfig<>();
+        config.setMaxTotal(maxSize);
+        config.setMaxTotalPerKey(maxSize);
+        config.setMaxIdlePerKey(maxSize);
+        config.setMinIdlePerKey(initialSize);
+        Duration borrowTimeout = configuration.getBorrowTimeout();
+        if (borrowTimeout != null && !borrowTimeout.isZero() && !borrowTimeout.isNegative()) {
+            config.setBlockWhenExhausted(true);
+            config.setMaxWait(borrowTimeout);
+        } else {
+            config.setBlockWhenExhausted(false);
+        }
+        config.setTestOnBorrow(configuration.isTestOnBorrow());
+        config.setTestOnReturn(configuration.isTestOnReturn());
+        config.setTestWhileIdle(true);
+        config.setJmxEnabled(false);
+        Duration evictionInterval = configuration.getEvictionInterval();
+        if (evictionInterval != null && !evictionInterval.isZero() && !evictionInterval.isNegative()) {
+            config.setTimeBetweenEvictionRuns(evictionInterval);
+            config.setNumTestsPerEvictionRun(-1); // all idle objects
+        }
+        // only evict idle objects beyond the initial size, expired and invalid objects are evicted by validation
+        config.setMinEvictableIdleDuration(Duration.ofMillis(-1));
+        config.setSoftMinEvictableIdleDuration(configuration.getIdleTimeout());
+        pool = new GenericKeyedObjectPool<>(new Factory(), config);
     }
 
     /**
      * Requests an object {@code <T>} from the pool. Adds a new instance to
-     * the pool if the pool is empty.
+     * the pool if the pool has no idle object created with the same arguments.
      *
-     * @param args the arguments to pass to the create method, or to help
-     *             select an object from the pool.
+     * @param args the arguments to pass to the create method, and to select
+     *             an object created with the same arguments from the pool.
      * @return a {@link PooledObject} from the pool.
      * @throws IllegalStateException if the number of active instances exceeds
-     *                               the configured size
+     *                               the configured size, after waiting for the
+     *                               borrow timeout if any
      */
     public T request(Object... args) {
-        if (pool.isEmpty()) {
-            if (active.size() >= maxSize) {
-                throw new IllegalStateException("Maximum pool size reached");
+        try {
+            return pool.borrowObject(keyOf(args));
+        } catch (NoSuchElementException e) {
+            if (pool.getNumActive() >= maxSize) {
+                throw new IllegalStateException("Maximum pool size reached", e);
             }
-            pool.add(create(args));
+            throw new MessagingSystemException("Unable to obtain a valid object from the pool", e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MessagingSystemException("Problem requesting an object from the pool", e);
         }
-        T object = pool.remove(0);
-        active.add(object);
-        return object;
     }
 
     /**
-     * Release the provided object and return it to the pool.
+     * Release the provided object and return it to the pool, or destroy it
+     * if it is marked as failed or no longer valid.
      *
      * @param pooledObject the object to return to the pool
      */
+    @SuppressWarnings("unchecked")
     public void release(T pooledObject) {
-        active.remove(pooledObject);
-        reset(pooledObject);
-        pool.add(pooledObject);
+        List<Object> key = (List<Object>) pooledObject.getKey();
+        try {
+            if (pooledObject.isFailed()) {
+                pool.invalidateObject(key, pooledObject);
+            } else {
+                pool.returnObject(key, pooledObject);
+            }
+        } catch (IllegalStateException e) {
+            LOGGER.debug("Ignoring the release of {} which is not active in the pool", pooledObject, e);
+        } catch (Exception e) {
+            LOGGER.warn("Problem destroying {}", pooledObject, e);
+        }
+    }
+
+    /**
+     * Creates an object with the given arguments and adds it to the idle objects of the pool.
+     *
+     * @param args the arguments to be provided to the create method.
+     * @since 4.1.0
+     */
+    public void addObject(Object... args) {
+        try {
+            pool.addObject(keyOf(args));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MessagingSystemException("Problem adding an object to the pool", e);
+        }
+    }
+
+    /**
+     * Creates objects with the given arguments until the pool holds as many idle objects for them as its initial
+     * size, so that the next requests do not pay for their creation.
+     *
+     * @param args the arguments to be provided to the create method.
+     * @since 4.1.0
+     */
+    public void ensureMinIdle(Object... args) {
+        try {
+            pool.preparePool(keyOf(args));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MessagingSystemException("Problem filling the pool", e);
+        }
+    }
+
+    /**
+     * Destroys the idle objects and stops the evictor. Objects released afterwards are destroyed.
+     *
+     * @since 4.1.0
+     */
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    /**
+     * @return whether the pool was closed
+     * @since 4.1.0
+     */
+    public boolean isClosed() {
+        return pool.isClosed();
+    }
+
+    /**
+     * @return the number of objects available in the pool
+     * @since 4.1.0
+     */
+    public int getIdleCount() {
+        return pool.getNumIdle();
+    }
+
+    /**
+     * @return the number of objects currently requested from the pool
+     * @since 4.1.0
+     */
+    public int getActiveCount() {
+        return pool.getNumActive();
+    }
+
+    /**
+     * @return the total number of objects created by the pool
+     * @since 4.1.0
+     */
+    public long getCreatedCount() {
+        return pool.getCreatedCount();
+    }
+
+    /**
+     * @return the total number of objects destroyed by the pool, e.g. because they were invalid or idle
+     * @since 4.1.0
+     */
+    public long getDestroyedCount() {
+        return pool.getDestroyedCount();
+    }
+
+    /**
+     * @return the number of idle objects kept per set of arguments
+     * @since 4.1.0
+     */
+    public int getInitialSize() {
+        return initialSize;
+    }
+
+    /**
+     * @return the maximum number of active objects
+     * @since 4.1.0
+     */
+    public int getMaxSize() {
+        return maxSize;
     }
 
     /**
@@ -87,4 +257,102 @@ public abstract class AbstractPool<T extends PooledObject<?>> {
      * @param pooledObject the object
      */
     protected abstract void reset(T pooledObject);
+
+    /**
+     * Checks whether the provided object can still be used. Objects failing validation are destroyed.
+     *
+     * @param pooledObject the object
+     * @return whether the object is valid
+     * @since 4.1.0
+     */
+    protected boolean validate(T pooledObject) {
+        return true;
+    }
+
+    /**
+     * Releases the resources of the provided object once it is removed from the pool.
+     *
+     * @param pooledObject the object
+     * @since 4.1.0
+     */
+    protected void destroy(T pooledObject) {
+        // nothing to release by default
+    }
+
+    private static List<Object> keyOf(Object... args) {
+        return args == null || args.length == 0 ? Collections.emptyList() : Arrays.asList(args);
+    }
+
+    /**
+     * Adapts the create, reset, validate and destroy methods to commons-pool2.
+     */
+    private final class Factory extends BaseKeyedPooledObjectFactory<List<Object>, T> {
+
+        @Override
+        public T create(List<Object> key) {
+            T object = AbstractPool.this.create(key.toArray());
+            object.setKey(key);
+            return object;
+        }
+
+        @Override
+        public org.apache.commons.pool2.PooledObject<T> wrap(T value) {
+            return new Entry<>(value, lifetime());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean validateObject(List<Object> key, org.apache.commons.pool2.PooledObject<T> p) {
+            T object = p.getObject();
+            if (object.isFailed() || ((Entry<T>) p).isExpired()) {
+                return false;
+            }
+            try {
+                return validate(object);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Problem validating {}", object, e);
+                return false;
+            }
+        }
+
+        @Override
+        public void passivateObject(List<Object> key, org.apache.commons.pool2.PooledObject<T> p) {
+            reset(p.getObject());
+        }
+
+        @Override
+        public void destroyObject(List<Object> key, org.apache.commons.pool2.PooledObject<T> p, DestroyMode mode) {
+            LOGGER.debug("Destroying {} ({})", p.getObject(), mode);
+            destroy(p.getObject());
+        }
+
+        private long lifetime() {
+            Duration maxLifetime = configuration.getMaxLifetime();
+            if (maxLifetime == null || maxLifetime.isZero() || maxLifetime.isNegative()) {
+                return Long.MAX_VALUE;
+            }
+            double jitter = ThreadLocalRandom.current().nextDouble() * configuration.getMaxLifetimeJitter();
+            return (long) (maxLifetime.toNanos() * (1 - jitter));
+        }
+    }
+
+    /**
+     * Pooled object expiring after its maximum lifetime.
+     *
+     * @param <T> the {@link PooledObject} type
+     */
+    private static final class Entry<T> extends DefaultPooledObject<T> {
+
+        private final long createdAt = System.nanoTime();
+        private final long lifetime;
+
+        private Entry(T object, long lifetime) {
+            super(object);
+            this.lifetime = lifetime;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - createdAt > lifetime;
+        }
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.pool;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.jms.model.JMSDestinationType;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.micronaut.jms.model.JMSDestinationType.QUEUE;
+import static jakarta.jms.Session.AUTO_ACKNOWLEDGE;
+
+/**
+ * Caches the {@link Destination}s of a connection factory by type and name,
+ * so that a destination is created once instead of for every send or
+ * consumer. Creating a destination is a network round-trip with some
+ * providers, e.g. SQS resolves the URL of the queue.
+ * <p>
+ * Destinations are not bound to the session they were created with, so
+ * they are reused by all the sessions and contexts of the connection
+ * factory. Once {@code maxSize} destinations are cached, further
+ * destinations are created without being cached.
+ *
+ * @since 4.1.0
+ */
+public class DestinationCache {
+
+    /**
+     * The default maximum number of cached destinations of each type.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final Map<String, Destination> queues = new ConcurrentHashMap<>();
+    private final Map<String, Destination> topics = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an enabled cache of up to {@link #DEFAULT_MAX_SIZE} destinations of each type.
+     */
+    public DestinationCache() {
+        this(true, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param enabled whether destinations are cached, or created on every lookup
+     * @param maxSize the maximum number of cached destinations of each type
+     */
+    public DestinationCache(boolean enabled, int maxSize) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached destination, creating it with the session if needed.
+     *
+     * @param type    the type of the destination
+     * @param name    the name of the destination
+     * @param session the session to create the destination with
+     * @return the destination
+     * @throws JMSException if the provider fails to create the destination
+     */
+    @NonNull
+    public Destination lookup(@NonNull JMSDestinationType type,
+                              @NonNull String name,
+                              @NonNull Session session) throws JMSException {
+        Map<String, Destination> destinations = destinations(type);
+        Destination destination = enabled ? destinations.get(name) : null;
+        if (destination == null) {
+            destination = type == QUEUE ? session.createQueue(name) : session.createTopic(name);
+            cache(destinations, name, destination);
+        }
+        return destination;
+    }
+
+    /**
+     * Returns the cached destination, creating it with the context if needed.
+     *
+     * @param type    the type of the destination
+     * @param name    the name of the destination
+     * @param context the context to create the destination with
+     * @return the destination
+     */
+    @NonNull
+    public Destination lookup(@NonNull JMSDestinationType type,
+                              @NonNull String name,
+                              @NonNull JMSContext context) {
+        Map<String, Destination> destinations = destinations(type);
+        Destination destination = enabled ? destinations.get(name) : null;
+        if (destination == null) {
+            destination = type == QUEUE ? context.createQueue(name) : context.createTopic(name);
+            cache(destinations, name, destination);
+        }
+        return destination;
+    }
+
+    /**
+     * Creates and caches the destination ahead of its first use, with a connection of the given factory.
+     *
+     * @param type              the type of the destination
+     * @param name              the name of the destination
+     * @param connectionFactory the factory of the connection to create the destination with
+     * @throws JMSException if the provider fails to create the destination
+     */
+    public void preResolve(@NonNull JMSDestinationType type,
+                           @NonNull String name,
+                           @NonNull ConnectionFactory connectionFactory) throws JMSException {
+        if (!enabled || destinations(type).containsKey(name)) {
+            return;
+        }
+        try (Connection connection = connectionFactory.createConnection();
+             Session session = connection.createSession(false, AUTO_ACKNOWLEDGE)) {
+            lookup(type, name, session);
+        }
+    }
+
+    /**
+     * @return whether destinations are cached
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the number of cached destinations
+     */
+    public int size() {
+        return queues.size() + topics.size();
+    }
+
+    /**
+     * Removes all the cached destinations.
+     */
+    public void clear() {
+        queues.clear();
+        topics.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "DestinationCache{" +
+            "enabled=" + enabled +
+            ", maxSize=" + maxSize +
+            ", queues=" + queues.size() +
+            ", topics=" + topics.size() +
+            '}';
+    }
+
+    private Map<String, Destination> destinations(JMSDestinationType type) {
+        return type == QUEUE ? queues : topics;
+    }
+
+    private void cache(Map<String, Destination> destinations, String name, Destination destination) {
+        if (enabled && destinations.size() < maxSize) {
+            destinations.putIfAbsent(name, destination);
+        }
+    }
+}
@@ -15,13 +15,18 @@
  */
 package io.micronaut.jms.pool;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.messaging.exceptions.MessagingSystemException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.JMSContext;
 import jakarta.jms.JMSException;
+import jakarta.jms.Session;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Decorator of the provided {@link ConnectionFactory} to ensure maximum reuse
@@ -32,23 +37,112 @@ import java.util.concurrent.CompletableFuture;
  */
 public class JMSConnectionPool extends AbstractPool<PooledObject<Connection>> implements ConnectionFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(JMSConnectionPool.class);
+
     private final ConnectionFactory connectionFactory;
+    private final SessionPoolFactory sessionPoolFactory;
+    private final JMSContextPool contextPool;
+    private volatile DestinationCache destinationCache = new DestinationCache();
 
     public JMSConnectionPool(ConnectionFactory connectionFactory,
                              int initialPoolSize,
                              int maxPoolSize) {
-        super(initialPoolSize, maxPoolSize);
+        this(connectionFactory, initialPoolSize, maxPoolSize, PoolConfiguration.DEFAULT);
+    }
+
+    /**
+     * @param connectionFactory the factory of the pooled connections
+     * @param initialPoolSize   the number of connections kept idle
+     * @param maxPoolSize       the maximum number of connections
+     * @param configuration     the health settings of the pool
+     * @since 4.1.0
+     */
+    public JMSConnectionPool(ConnectionFactory connectionFactory,
+                             int initialPoolSize,
+                             int maxPoolSize,
+                             PoolConfiguration configuration) {
+        this(connectionFactory, initialPoolSize, maxPoolSize, configuration, null);
+    }
+
+    /**
+     * @param connectionFactory  the factory of the pooled connections
+     * @param initialPoolSize    the number of connections kept idle
+     * @param maxPoolSize        the maximum number of connections
+     * @param configuration      the health settings of the pool
+     * @param sessionPoolFactory the factory of the session pool of each connection, or null to not pool sessions
+     * @since 4.1.0
+     */
+    public JMSConnectionPool(ConnectionFactory connectionFactory,
+                             int initialPoolSize,
+                             int maxPoolSize,
+                             PoolConfiguration configuration,
+                             @Nullable SessionPoolFactory sessionPoolFactory) {
+        this(connectionFactory, initialPoolSize, maxPoolSize, configuration, sessionPoolFactory,
+            JMSContextPool.DEFAULT_POOL_INITIAL_SIZE, maxPoolSize);
+    }
+
+    /**
+     * @param connectionFactory      the factory of the pooled connections
+     * @param initialPoolSize        the number of connections kept idle
+     * @param maxPoolSize            the maximum number of connections
+     * @param configuration          the health settings of the pool
+     * @param sessionPoolFactory     the factory of the session pool of each connection, or null to not pool sessions
+     * @param contextInitialPoolSize the number of contexts kept idle per session mode, each holding its own
+     *                               connection besides the pooled connections
+     * @param contextMaxPoolSize     the maximum number of contexts
+     * @since 4.1.0
+     */
+    public JMSConnectionPool(ConnectionFactory connectionFactory,
+                             int initialPoolSize,
+                             int maxPoolSize,
+                             PoolConfiguration configuration,
+                             @Nullable SessionPoolFactory sessionPoolFactory,
+                             int contextInitialPoolSize,
+                             int contextMaxPoolSize) {
+        super(initialPoolSize, maxPoolSize, configuration);
         this.connectionFactory = connectionFactory;
-        for (int i = 0; i < initialPoolSize; i++) {
-            CompletableFuture.runAsync(() -> pool.add(create()));
-        }
+        this.sessionPoolFactory = sessionPoolFactory;
+        this.contextPool = new JMSContextPool(connectionFactory, contextInitialPoolSize, contextMaxPoolSize,
+            configuration);
+    }
+
+    /**
+     * Creates the initial connections of the pool, with their idle sessions, on the given executor.
+     *
+     * @param executor the executor creating the connections
+     * @return a future completing once the initial connections are created
+     * @since 4.1.0
+     */
+    public CompletableFuture<Void> warmUp(Executor executor) {
+        return CompletableFuture.runAsync(this::ensureMinIdle, executor);
+    }
+
+    /**
+     * @return whether the pool currently holds at least its initial connections, idle or in use, e.g. once warmed
+     * up or topped up again after the broker was unavailable
+     * @since 4.1.0
+     */
+    public boolean isWarm() {
+        return getIdleCount() + getActiveCount() >= initialSize;
     }
 
     private PooledConnection doCreate() {
         try {
             Connection connection = connectionFactory.createConnection();
-            connection.start(); // TODO config autostart
-            return new PooledConnection(connection, this);
+            SessionPool sessionPool = sessionPoolFactory == null ? null : sessionPoolFactory.getSessionPool(connection);
+            PooledConnection pooledConnection = new PooledConnection(connection, this, sessionPool);
+            try {
+                connection.setExceptionListener(pooledConnection::onException);
+                connection.start(); // TODO config autostart
+                if (sessionPool != null) {
+                    // the sessions used by producers, so that the first send does not pay for their creation
+                    sessionPool.ensureMinIdle(false, Session.AUTO_ACKNOWLEDGE);
+                }
+            } catch (JMSException | RuntimeException e) {
+                destroy(pooledConnection);
+                throw e;
+            }
+            return pooledConnection;
         } catch (JMSException | RuntimeException e) {
             throw new MessagingSystemException("Problem creating pooled Connection", e);
         }
@@ -60,7 +154,12 @@ public class JMSConnectionPool extends AbstractPool<PooledObject<Connection>> im
     }
 
     private void doReset(PooledConnection pooledConnection) {
-        // TODO
+        try {
+            // the listener is only notified while the connection is in use
+            pooledConnection.setExceptionListener(null);
+        } catch (JMSException e) {
+            throw new MessagingSystemException("Problem resetting pooled Connection", e);
+        }
     }
 
     @Override
@@ -68,6 +167,31 @@ public class JMSConnectionPool extends AbstractPool<PooledObject<Connection>> im
         doReset(PooledConnection.of(pooledObject));
     }
 
+    @Override
+    protected boolean validate(PooledObject<Connection> pooledObject) {
+        try {
+            // fails once the connection is closed, or failed for some providers
+            pooledObject.get().getClientID();
+            return true;
+        } catch (JMSException e) {
+            LOGGER.debug("Pooled Connection {} is no longer valid", pooledObject, e);
+            return false;
+        }
+    }
+
+    @Override
+    protected void destroy(PooledObject<Connection> pooledObject) {
+        SessionPool sessionPool = PooledConnection.of(pooledObject).getSessionPool();
+        if (sessionPool != null) {
+            sessionPool.close();
+        }
+        try {
+            pooledObject.get().close();
+        } catch (JMSException | RuntimeException e) {
+            LOGGER.debug("Problem closing pooled Connection {}", pooledObject, e);
+        }
+    }
+
     @Override
     public Connection createConnection() throws JMSException {
         return PooledConnection.of(request());
@@ -80,9 +204,14 @@ public class JMSConnectionPool extends AbstractPool<PooledObject<Connection>> im
             "All credentials must be configured in the ConnectionFactory");
     }
 
+    /**
+     * Requests a {@link JMSContext} from the pool of contexts, which is returned to the pool when closed.
+     *
+     * @return a pooled context with the {@link JMSContext#AUTO_ACKNOWLEDGE} session mode
+     */
     @Override
     public JMSContext createContext() {
-        return connectionFactory.createContext();
+        return createContext(JMSContext.AUTO_ACKNOWLEDGE);
     }
 
     @Override
@@ -98,9 +227,48 @@ public class JMSConnectionPool extends AbstractPool<PooledObject<Connection>> im
         return connectionFactory.createContext(userName, password, sessionMode);
     }
 
+    /**
+     * Requests a {@link JMSContext} from the pool of contexts, which is returned to the pool when closed.
+     *
+     * @param sessionMode the session mode of the context
+     * @return a pooled context
+     */
     @Override
     public JMSContext createContext(int sessionMode) {
-        return connectionFactory.createContext(sessionMode);
+        return PooledJMSContext.of(contextPool.request(sessionMode));
+    }
+
+    /**
+     * @return the pool of the contexts returned by {@link #createContext(int)}
+     * @since 4.1.0
+     */
+    public JMSContextPool getContextPool() {
+        return contextPool;
+    }
+
+    /**
+     * @return the cache of the destinations of the connection factory
+     * @since 4.1.0
+     */
+    public DestinationCache getDestinationCache() {
+        return destinationCache;
+    }
+
+    /**
+     * @param destinationCache the cache of the destinations of the connection factory
+     * @since 4.1.0
+     */
+    public void setDestinationCache(DestinationCache destinationCache) {
+        this.destinationCache = destinationCache;
+    }
+
+    /**
+     * Closes the idle connections and contexts.
+     */
+    @Override
+    public void close() {
+        contextPool.close();
+        super.close();
     }
 
     /**
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.pool;
+
+import io.micronaut.messaging.exceptions.MessagingSystemException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSRuntimeException;
+import java.util.Arrays;
+
+/**
+ * Pool of {@link JMSContext}s, the JMS 2.0 simplified API combining a connection and a session, kept apart by
+ * session mode.
+ *
+ * @see PooledJMSContext
+ * @see JMSConnectionPool#createContext(int)
+ * @since 4.1.0
+ */
+public class JMSContextPool extends AbstractPool<PooledObject<JMSContext>> {
+
+    /**
+     * The default number of contexts kept idle per session mode. Each context holds its own physical connection,
+     * so none are created until requested.
+     */
+    public static final int DEFAULT_POOL_INITIAL_SIZE = 0;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JMSContextPool.class);
+
+    private final ConnectionFactory connectionFactory;
+
+    /**
+     * @param connectionFactory the factory of the pooled contexts
+     * @param initialSize       the number of contexts kept idle per session mode
+     * @param maxSize           the maximum number of contexts
+     * @param configuration     the health settings of the pool
+     */
+    public JMSContextPool(ConnectionFactory connectionFactory,
+                          int initialSize,
+                          int maxSize,
+                          PoolConfiguration configuration) {
+        super(initialSize, maxSize, configuration);
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    protected PooledObject<JMSContext> create(Object... args) {
+        try {
+            JMSContext context;
+            if (args == null || args.length == 0) {
+                context = connectionFactory.createContext();
+            } else if (args.length == 1) {
+                context = connectionFactory.createContext((Integer) args[0]);
+            } else {
+                throw new IllegalArgumentException(
+                    "Unable to create a JMSContext from arguments " + Arrays.toString(args));
+            }
+            PooledJMSContext pooledContext = new PooledJMSContext(this, context);
+            context.setExceptionListener(pooledContext::onException);
+            return pooledContext;
+        } catch (RuntimeException e) {
+            throw new MessagingSystemException("Problem creating a JMSContext", e);
+        }
+    }
+
+    @Override
+    protected void reset(PooledObject<JMSContext> pooledObject) {
+        try {
+            PooledJMSContext pooledContext = PooledJMSContext.of(pooledObject);
+            pooledContext.setExceptionListener(null);
+            if (pooledContext.getTransacted()) {
+                // discard the work left uncommitted by the previous user
+                pooledContext.rollback();
+            }
+            // so the settings of the previous user do not roll over
+            pooledContext.resetProducer();
+        } catch (JMSRuntimeException e) {
+            throw new MessagingSystemException("Problem resetting a JMSContext", e);
+        }
+    }
+
+    @Override
+    protected boolean validate(PooledObject<JMSContext> pooledObject) {
+        try {
+            // fails once the context is closed
+            pooledObject.get().getClientID();
+            return true;
+        } catch (JMSRuntimeException e) {
+            LOGGER.debug("Pooled JMSContext {} is no longer valid", pooledObject, e);
+            return false;
+        }
+    }
+
+    @Override
+    protected void destroy(PooledObject<JMSContext> pooledObject) {
+        try {
+            pooledObject.get().close();
+        } catch (RuntimeException e) {
+            LOGGER.debug("Problem closing pooled JMSContext {}", pooledObject, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JMSContextPool{" +
+            "initialSize=" + initialSize +
+            ", maxSize=" + maxSize +
+            ", connectionFactory=" + connectionFactory +
+            '}';
+    }
+}
@@ -16,9 +16,13 @@
 package io.micronaut.jms.pool;
 
 import io.micronaut.messaging.exceptions.MessagingClientException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import jakarta.jms.DeliveryMode;
 import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
+import jakarta.jms.Message;
 import jakarta.jms.MessageProducer;
 import jakarta.jms.Session;
 
@@ -33,12 +37,28 @@ import jakarta.jms.Session;
  */
 public class MessageProducerPool extends AbstractPool<PooledObject<MessageProducer>> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageProducerPool.class);
+
     private final Session session;
 
     public MessageProducerPool(int initialSize,
                                int maxSize,
                                Session session) {
-        super(initialSize, maxSize);
+        this(initialSize, maxSize, session, PoolConfiguration.DEFAULT);
+    }
+
+    /**
+     * @param initialSize   the number of producers kept idle per destination
+     * @param maxSize       the maximum number of producers
+     * @param session       the session creating the producers
+     * @param configuration the health settings of the pool
+     * @since 4.1.0
+     */
+    public MessageProducerPool(int initialSize,
+                               int maxSize,
+                               Session session,
+                               PoolConfiguration configuration) {
+        super(initialSize, maxSize, configuration);
         this.session = session;
     }
 
@@ -62,6 +82,38 @@ public class MessageProducerPool extends AbstractPool<PooledObject<MessageProduc
 
     @Override
     protected void reset(PooledObject<MessageProducer> pooledObject) {
-        // TODO: implement sensible actions to reset the MessageProducer to avoid rolling over specialized configuration.
+        try {
+            // restore the JMS defaults so the settings of the previous user do not roll over
+            MessageProducer producer = pooledObject.get();
+            producer.setDeliveryMode(DeliveryMode.PERSISTENT);
+            producer.setPriority(Message.DEFAULT_PRIORITY);
+            producer.setTimeToLive(Message.DEFAULT_TIME_TO_LIVE);
+            producer.setDeliveryDelay(Message.DEFAULT_DELIVERY_DELAY);
+            producer.setDisableMessageID(false);
+            producer.setDisableMessageTimestamp(false);
+        } catch (JMSException e) {
+            throw new MessagingClientException("Problem resetting a MessageProducer", e);
+        }
+    }
+
+    @Override
+    protected boolean validate(PooledObject<MessageProducer> pooledObject) {
+        try {
+            // fails once the producer or its session is closed
+            pooledObject.get().getDeliveryMode();
+            return true;
+        } catch (JMSException e) {
+            LOGGER.debug("Pooled MessageProducer {} is no longer valid", pooledObject, e);
+            return false;
+        }
+    }
+
+    @Override
+    protected void destroy(PooledObject<MessageProducer> pooledObject) {
+        try {
+            pooledObject.get().close();
+        } catch (JMSException | RuntimeException e) {
+            LOGGER.debug("Problem closing pooled MessageProducer {}", pooledObject, e);
+        }
     }
 }
@@ -16,6 +16,8 @@
 package io.micronaut.jms.pool;
 
 import io.micronaut.context.annotation.Context;
+import io.micronaut.jms.metrics.JMSMetrics;
+import jakarta.inject.Inject;
 
 import jakarta.jms.Session;
 
@@ -31,8 +33,44 @@ import jakarta.jms.Session;
 @Context
 public class MessageProducerPoolFactory {
 
-    private static final int DEFAULT_POOL_INITIAL_SIZE = 1; // TODO configurable
-    private static final int DEFAULT_POOL_MAX_SIZE = 20; // TODO configurable
+    /**
+     * The default number of producers kept idle per session and destination.
+     *
+     * @since 4.1.0
+     */
+    public static final int DEFAULT_POOL_INITIAL_SIZE = 1;
+
+    /**
+     * The default maximum number of producers per session.
+     *
+     * @since 4.1.0
+     */
+    public static final int DEFAULT_POOL_MAX_SIZE = 20;
+
+    private final int initialPoolSize;
+    private final int maxPoolSize;
+    private final PoolConfiguration configuration;
+    private volatile JMSMetrics metrics;
+    private volatile String connectionFactoryName;
+
+    @Inject
+    public MessageProducerPoolFactory() {
+        this(DEFAULT_POOL_INITIAL_SIZE, DEFAULT_POOL_MAX_SIZE, PoolConfiguration.DEFAULT);
+    }
+
+    /**
+     * @param initialPoolSize the number of producers kept idle per session and destination
+     * @param maxPoolSize     the maximum number of producers per session
+     * @param configuration   the health settings of the producer pools
+     * @since 4.1.0
+     */
+    public MessageProducerPoolFactory(int initialPoolSize,
+                                      int maxPoolSize,
+                                      PoolConfiguration configuration) {
+        this.initialPoolSize = initialPoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.configuration = configuration;
+    }
 
     /**
      * Generates and configures a {@link MessageProducerPool} given a {@link Session}.
@@ -41,6 +79,23 @@ public class MessageProducerPoolFactory {
      * @return a {@link MessageProducerPool} from the provided {@code session}
      */
     public MessageProducerPool getProducerPool(Session session) {
-        return new MessageProducerPool(DEFAULT_POOL_INITIAL_SIZE, DEFAULT_POOL_MAX_SIZE, session);
+        MessageProducerPool producerPool = new MessageProducerPool(initialPoolSize, maxPoolSize, session, configuration);
+        JMSMetrics poolMetrics = metrics;
+        if (poolMetrics != null) {
+            poolMetrics.bindPool(connectionFactoryName, JMSMetrics.PRODUCER_POOL, producerPool);
+        }
+        return producerPool;
+    }
+
+    /**
+     * Binds the metrics of the pools created from now on.
+     *
+     * @param connectionFactoryName the name of the connection factory of the pools
+     * @param metrics               the metrics
+     * @since 4.1.0
+     */
+    public void bindMetrics(String connectionFactoryName, JMSMetrics metrics) {
+        this.connectionFactoryName = connectionFactoryName;
+        this.metrics = metrics;
     }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.pool;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Health settings of an {@link AbstractPool}. The defaults validate objects when they are requested and released,
+ *  and evict objects idle for more than 5 minutes beyond the initial size of the pool.
+ *
+ * @since 4.1.0
+ */
+public interface PoolConfiguration {
+
+    /**
+     * The default settings.
+     */
+    PoolConfiguration DEFAULT = new PoolConfiguration() { };
+
+    /**
+     * @return whether objects are validated before being handed out, replacing invalid ones
+     */
+    default boolean isTestOnBorrow() {
+        return true;
+    }
+
+    /**
+     * @return whether objects are validated when released, destroying invalid ones
+     */
+    default boolean isTestOnReturn() {
+        return true;
+    }
+
+    /**
+     * @return the interval at which idle objects are validated and evicted, or zero to disable the evictor
+     */
+    default Duration getEvictionInterval() {
+        return Duration.ofSeconds(30);
+    }
+
+    /**
+     * @return how long an object may stay idle before being evicted if the pool has more idle objects than its
+     *  initial size
+     */
+    default Duration getIdleTimeout() {
+        return Duration.ofMinutes(5);
+    }
+
+    /**
+     * @return the maximum time after which objects are destroyed instead of being reused, or null for no limit
+     */
+    @Nullable
+    default Duration getMaxLifetime() {
+        return null;
+    }
+
+    /**
+     * @return the fraction of the maximum lifetime by which the lifetime of each object is randomly shortened, so
+     *  that objects created together are not all replaced at once
+     */
+    default double getMaxLifetimeJitter() {
+        return 0.1;
+    }
+
+    /**
+     * @return how long requests wait for an object to be released once the pool is exhausted, or null to fail
+     *  immediately
+     */
+    @Nullable
+    default Duration getBorrowTimeout() {
+        return null;
+    }
+}
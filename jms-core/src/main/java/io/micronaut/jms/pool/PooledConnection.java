@@ -15,6 +15,8 @@
  */
 package io.micronaut.jms.pool;
 
+import io.micronaut.core.annotation.Nullable;
+
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionConsumer;
 import jakarta.jms.ConnectionMetaData;
@@ -36,9 +38,25 @@ import jakarta.jms.Topic;
  */
 public class PooledConnection extends PooledObject<Connection> implements Connection {
 
+    private final SessionPool sessionPool;
+    private volatile ExceptionListener exceptionListener;
+
     public PooledConnection(Connection connection,
                             AbstractPool<PooledObject<Connection>> connectionPool) {
+        this(connection, connectionPool, null);
+    }
+
+    /**
+     * @param connection     the pooled connection
+     * @param connectionPool the pool of the connection
+     * @param sessionPool    the pool of sessions of the connection, or null to not pool sessions
+     * @since 4.1.0
+     */
+    public PooledConnection(Connection connection,
+                            AbstractPool<PooledObject<Connection>> connectionPool,
+                            @Nullable SessionPool sessionPool) {
         super(connectionPool, connection);
+        this.sessionPool = sessionPool;
     }
 
     public static PooledConnection of(PooledObject<Connection> pooledObject) {
@@ -61,6 +79,24 @@ public class PooledConnection extends PooledObject<Connection> implements Connec
         return get().createSession();
     }
 
+    /**
+     * Requests a session from the session pool of the connection, which is returned to the pool when closed. Creates
+     * a session which is not pooled if the connection has no session pool.
+     *
+     * @param transacted      whether the session is transacted
+     * @param acknowledgeMode the acknowledge mode of the session
+     * @return the session
+     * @throws JMSException if the session can't be created
+     * @since 4.1.0
+     */
+    public Session requestSession(boolean transacted,
+                                  int acknowledgeMode) throws JMSException {
+        if (sessionPool == null) {
+            return createSession(transacted, acknowledgeMode);
+        }
+        return (PooledSession) sessionPool.request(transacted, acknowledgeMode);
+    }
+
     @Override
     public String getClientID() throws JMSException {
         return get().getClientID();
@@ -76,14 +112,21 @@ public class PooledConnection extends PooledObject<Connection> implements Connec
         return get().getMetaData();
     }
 
+    /**
+     * Returns the listener set with {@link #setExceptionListener(ExceptionListener)}, which is notified by the
+     * listener the pool sets on the underlying connection.
+     */
     @Override
     public ExceptionListener getExceptionListener() throws JMSException {
-        return get().getExceptionListener();
+        return exceptionListener;
     }
 
+    /**
+     * Sets the listener to notify of failures of the connection until it is returned to the pool.
+     */
     @Override
     public void setExceptionListener(ExceptionListener listener) throws JMSException {
-        get().setExceptionListener(listener);
+        exceptionListener = listener;
     }
 
     @Override
@@ -135,4 +178,25 @@ public class PooledConnection extends PooledObject<Connection> implements Connec
     public String toString() {
         return "PooledConnection{Connection=" + get() + '}';
     }
+
+    /**
+     * @return the pool of sessions of the connection, if any
+     */
+    @Nullable
+    SessionPool getSessionPool() {
+        return sessionPool;
+    }
+
+    /**
+     * Marks the connection as failed and notifies the listener set with {@link #setExceptionListener(ExceptionListener)}.
+     *
+     * @param exception the failure of the underlying connection
+     */
+    void onException(JMSException exception) {
+        markFailed();
+        ExceptionListener listener = exceptionListener;
+        if (listener != null) {
+            listener.onException(exception);
+        }
+    }
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.pool;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.ConnectionMetaData;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.Destination;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.JMSConsumer;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.JMSProducer;
+import jakarta.jms.JMSRuntimeException;
+import jakarta.jms.MapMessage;
+import jakarta.jms.Message;
+import jakarta.jms.ObjectMessage;
+import jakarta.jms.Queue;
+import jakarta.jms.QueueBrowser;
+import jakarta.jms.StreamMessage;
+import jakarta.jms.TemporaryQueue;
+import jakarta.jms.TemporaryTopic;
+import jakarta.jms.TextMessage;
+import jakarta.jms.Topic;
+import java.io.Serializable;
+
+/**
+ * Wrapper for {@link JMSContext} that returns it to the {@link JMSContextPool} with a call to {@link #close()}.
+ * {@link #createProducer()} returns the same {@link JMSProducer} until the context is returned to the pool, and
+ * the producer keeps being reused by the next users of the context unless its settings were changed.
+ *
+ * @see JMSContextPool
+ * @since 4.1.0
+ */
+public class PooledJMSContext extends PooledObject<JMSContext> implements JMSContext {
+
+    private volatile JMSProducer producer;
+    private volatile ExceptionListener exceptionListener;
+
+    public PooledJMSContext(AbstractPool<PooledObject<JMSContext>> pool,
+                            JMSContext context) {
+        super(pool, context);
+        this.producer = context.createProducer();
+    }
+
+    public static PooledJMSContext of(PooledObject<JMSContext> pooledObject) {
+        return (PooledJMSContext) pooledObject;
+    }
+
+    @Override
+    public JMSContext createContext(int sessionMode) {
+        return get().createContext(sessionMode);
+    }
+
+    /**
+     * @return the producer of this context, created once and reused
+     */
+    @Override
+    public JMSProducer createProducer() {
+        return producer;
+    }
+
+    @Override
+    public String getClientID() {
+        return get().getClientID();
+    }
+
+    @Override
+    public void setClientID(String clientID) {
+        get().setClientID(clientID);
+    }
+
+    @Override
+    public ConnectionMetaData getMetaData() {
+        return get().getMetaData();
+    }
+
+    /**
+     * Returns the listener set with {@link #setExceptionListener(ExceptionListener)}, which is notified by the
+     * listener the pool sets on the underlying context.
+     */
+    @Override
+    public ExceptionListener getExceptionListener() {
+        return exceptionListener;
+    }
+
+    /**
+     * Sets the listener to notify of failures of the context until it is returned to the pool.
+     */
+    @Override
+    public void setExceptionListener(ExceptionListener listener) {
+        exceptionListener = listener;
+    }
+
+    @Override
+    public void start() {
+        get().start();
+    }
+
+    @Override
+    public void stop() {
+        get().stop();
+    }
+
+    @Override
+    public void setAutoStart(boolean autoStart) {
+        get().setAutoStart(autoStart);
+    }
+
+    @Override
+    public boolean getAutoStart() {
+        return get().getAutoStart();
+    }
+
+    /**
+     * Returns the context to the pool.
+     */
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+    }
+
+    @Override
+    public BytesMessage createBytesMessage() {
+        return get().createBytesMessage();
+    }
+
+    @Override
+    public MapMessage createMapMessage() {
+        return get().createMapMessage();
+    }
+
+    @Override
+    public Message createMessage() {
+        return get().createMessage();
+    }
+
+    @Override
+    public ObjectMessage createObjectMessage() {
+        return get().createObjectMessage();
+    }
+
+    @Override
+    public ObjectMessage createObjectMessage(Serializable object) {
+        return get().createObjectMessage(object);
+    }
+
+    @Override
+    public StreamMessage createStreamMessage() {
+        return get().createStreamMessage();
+    }
+
+    @Override
+    public TextMessage createTextMessage() {
+        return get().createTextMessage();
+    }
+
+    @Override
+    public TextMessage createTextMessage(String text) {
+        return get().createTextMessage(text);
+    }
+
+    @Override
+    public boolean getTransacted() {
+        return get().getTransacted();
+    }
+
+    @Override
+    public int getSessionMode() {
+        return get().getSessionMode();
+    }
+
+    @Override
+    public void commit() {
+        get().commit();
+    }
+
+    @Override
+    public void rollback() {
+        get().rollback();
+    }
+
+    @Override
+    public void recover() {
+        get().recover();
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination) {
+        return get().createConsumer(destination);
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination,
+                                     String messageSelector) {
+        return get().createConsumer(destination, messageSelector);
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination,
+                                     String messageSelector,
+                                     boolean noLocal) {
+        return get().createConsumer(destination, messageSelector, noLocal);
+    }
+
+    @Override
+    public Queue createQueue(String queueName) {
+        return get().createQueue(queueName);
+    }
+
+    @Override
+    public Topic createTopic(String topicName) {
+        return get().createTopic(topicName);
+    }
+
+    @Override
+    public JMSConsumer createDurableConsumer(Topic topic,
+                                            String name) {
+        return get().createDurableConsumer(topic, name);
+    }
+
+    @Override
+    public JMSConsumer createDurableConsumer(Topic topic,
+                                            String name,
+                                            String messageSelector,
+                                            boolean noLocal) {
+        return get().createDurableConsumer(topic, name, messageSelector, noLocal);
+    }
+
+    @Override
+    public JMSConsumer createSharedDurableConsumer(Topic topic,
+                                                  String name) {
+        return get().createSharedDurableConsumer(topic, name);
+    }
+
+    @Override
+    public JMSConsumer createSharedDurableConsumer(Topic topic,
+                                                  String name,
+                                                  String messageSelector) {
+        return get().createSharedDurableConsumer(topic, name, messageSelector);
+    }
+
+    @Override
+    public JMSConsumer createSharedConsumer(Topic topic,
+                                           String sharedSubscriptionName) {
+        return get().createSharedConsumer(topic, sharedSubscriptionName);
+    }
+
+    @Override
+    public JMSConsumer createSharedConsumer(Topic topic,
+                                           String sharedSubscriptionName,
+                                           String messageSelector) {
+        return get().createSharedConsumer(topic, sharedSubscriptionName, messageSelector);
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue) {
+        return get().createBrowser(queue);
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue,
+                                      String messageSelector) {
+        return get().createBrowser(queue, messageSelector);
+    }
+
+    @Override
+    public TemporaryQueue createTemporaryQueue() {
+        return get().createTemporaryQueue();
+    }
+
+    @Override
+    public TemporaryTopic createTemporaryTopic() {
+        return get().createTemporaryTopic();
+    }
+
+    @Override
+    public void unsubscribe(String name) {
+        get().unsubscribe(name);
+    }
+
+    @Override
+    public void acknowledge() {
+        get().acknowledge();
+    }
+
+    @Override
+    public String toString() {
+        return "PooledJMSContext{JMSContext=" + get() + '}';
+    }
+
+    /**
+     * Clears the completion listener of the producer, and replaces the producer with a new one if its other
+     * settings differ from the JMS defaults, since not all providers allow restoring them, e.g. unsetting the
+     * JMSCorrelationID.
+     */
+    void resetProducer() {
+        JMSProducer current = producer;
+        if (current.getAsync() != null) {
+            current.setAsync(null);
+        }
+        if (current.getDeliveryMode() != DeliveryMode.PERSISTENT ||
+            current.getPriority() != Message.DEFAULT_PRIORITY ||
+            current.getTimeToLive() != Message.DEFAULT_TIME_TO_LIVE ||
+            current.getDeliveryDelay() != Message.DEFAULT_DELIVERY_DELAY ||
+            current.getDisableMessageID() ||
+            current.getDisableMessageTimestamp() ||
+            current.getJMSCorrelationID() != null ||
+            current.getJMSType() != null ||
+            current.getJMSReplyTo() != null ||
+            !current.getPropertyNames().isEmpty()) {
+            producer = get().createProducer();
+        }
+    }
+
+    /**
+     * Marks the context as failed and notifies the listener set with {@link #setExceptionListener(ExceptionListener)}.
+     *
+     * @param exception the failure of the underlying connection
+     */
+    void onException(JMSException exception) {
+        markFailed();
+        ExceptionListener listener = exceptionListener;
+        if (listener != null) {
+            listener.onException(exception);
+        }
+    }
+}
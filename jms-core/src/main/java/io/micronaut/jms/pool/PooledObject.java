@@ -28,6 +28,8 @@ public abstract class PooledObject<T> implements AutoCloseable {
 
     private final AbstractPool<PooledObject<T>> pool;
     private final T object;
+    private volatile boolean failed;
+    private volatile Object key;
 
     protected PooledObject(AbstractPool<PooledObject<T>> pool,
                            T object) {
@@ -44,8 +46,36 @@ public abstract class PooledObject<T> implements AutoCloseable {
         return object;
     }
 
+    /**
+     * Marks the object as failed, so that it is destroyed instead of being returned to the pool when released.
+     *
+     * @since 4.1.0
+     */
+    public void markFailed() {
+        failed = true;
+    }
+
+    /**
+     * @return whether the object failed and will be destroyed when released
+     * @since 4.1.0
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
     @Override
     public void close() throws JMSException {
         pool.release(this);
     }
+
+    /**
+     * @return the key of the object in its pool
+     */
+    Object getKey() {
+        return key;
+    }
+
+    void setKey(Object key) {
+        this.key = key;
+    }
 }
@@ -246,6 +246,13 @@ public class PooledSession extends PooledObject<Session> implements Session {
         get().unsubscribe(name);
     }
 
+    /**
+     * @return the pool of the producers of the session
+     */
+    MessageProducerPool getProducerPool() {
+        return producerPool;
+    }
+
     @Override
     public String toString() {
         return "PooledSession{" +
@@ -16,6 +16,8 @@
 package io.micronaut.jms.pool;
 
 import io.micronaut.messaging.exceptions.MessagingSystemException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import jakarta.jms.Connection;
 import jakarta.jms.JMSException;
@@ -32,6 +34,8 @@ import java.util.Arrays;
  */
 public class SessionPool extends AbstractPool<PooledObject<Session>> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionPool.class);
+
     private final Connection connection;
     private final MessageProducerPoolFactory producerPoolFactory;
 
@@ -39,7 +43,23 @@ public class SessionPool extends AbstractPool<PooledObject<Session>> {
                        int maxSize,
                        Connection connection,
                        MessageProducerPoolFactory producerPoolFactory) {
-        super(initialSize, maxSize);
+        this(initialSize, maxSize, connection, producerPoolFactory, PoolConfiguration.DEFAULT);
+    }
+
+    /**
+     * @param initialSize         the number of sessions kept idle per session mode
+     * @param maxSize             the maximum number of sessions
+     * @param connection          the connection creating the sessions
+     * @param producerPoolFactory the factory of the producer pool of each session
+     * @param configuration       the health settings of the pool
+     * @since 4.1.0
+     */
+    public SessionPool(int initialSize,
+                       int maxSize,
+                       Connection connection,
+                       MessageProducerPoolFactory producerPoolFactory,
+                       PoolConfiguration configuration) {
+        super(initialSize, maxSize, configuration);
         this.connection = connection;
         this.producerPoolFactory = producerPoolFactory;
     }
@@ -77,6 +97,38 @@ public class SessionPool extends AbstractPool<PooledObject<Session>> {
 
     @Override
     protected void reset(PooledObject<Session> pooledObject) {
-        // TODO:  implement sensible actions to reset a Session so it can be reused.
+        try {
+            Session session = pooledObject.get();
+            if (session.getTransacted()) {
+                // discard the work left uncommitted by the previous user
+                session.rollback();
+            }
+        } catch (JMSException e) {
+            throw new MessagingSystemException("Problem resetting a Session", e);
+        }
+    }
+
+    @Override
+    protected boolean validate(PooledObject<Session> pooledObject) {
+        try {
+            // fails once the session or its connection is closed
+            pooledObject.get().getAcknowledgeMode();
+            return true;
+        } catch (JMSException e) {
+            LOGGER.debug("Pooled Session {} is no longer valid", pooledObject, e);
+            return false;
+        }
+    }
+
+    @Override
+    protected void destroy(PooledObject<Session> pooledObject) {
+        if (pooledObject instanceof PooledSession pooledSession) {
+            pooledSession.getProducerPool().close();
+        }
+        try {
+            pooledObject.get().close();
+        } catch (JMSException | RuntimeException e) {
+            LOGGER.debug("Problem closing pooled Session {}", pooledObject, e);
+        }
     }
 }
@@ -16,6 +16,8 @@
 package io.micronaut.jms.pool;
 
 import io.micronaut.context.annotation.Context;
+import io.micronaut.jms.metrics.JMSMetrics;
+import jakarta.inject.Inject;
 
 import jakarta.jms.Connection;
 
@@ -30,13 +32,47 @@ import jakarta.jms.Connection;
 @Context
 public class SessionPoolFactory {
 
-    private static final int DEFAULT_POOL_INITIAL_SIZE = 1; // TODO configurable
-    private static final int DEFAULT_POOL_MAX_SIZE = 20; // TODO configurable
+    /**
+     * The default number of sessions kept idle per connection and session mode.
+     *
+     * @since 4.1.0
+     */
+    public static final int DEFAULT_POOL_INITIAL_SIZE = 1;
+
+    /**
+     * The default maximum number of sessions per connection.
+     *
+     * @since 4.1.0
+     */
+    public static final int DEFAULT_POOL_MAX_SIZE = 20;
 
     private final MessageProducerPoolFactory producerPoolFactory;
+    private final int initialPoolSize;
+    private final int maxPoolSize;
+    private final PoolConfiguration configuration;
+    private volatile JMSMetrics metrics;
+    private volatile String connectionFactoryName;
 
+    @Inject
     public SessionPoolFactory(MessageProducerPoolFactory producerPoolFactory) {
+        this(producerPoolFactory, DEFAULT_POOL_INITIAL_SIZE, DEFAULT_POOL_MAX_SIZE, PoolConfiguration.DEFAULT);
+    }
+
+    /**
+     * @param producerPoolFactory the factory of the producer pool of each session
+     * @param initialPoolSize     the number of sessions kept idle per connection and session mode
+     * @param maxPoolSize         the maximum number of sessions per connection
+     * @param configuration       the health settings of the session pools
+     * @since 4.1.0
+     */
+    public SessionPoolFactory(MessageProducerPoolFactory producerPoolFactory,
+                              int initialPoolSize,
+                              int maxPoolSize,
+                              PoolConfiguration configuration) {
         this.producerPoolFactory = producerPoolFactory;
+        this.initialPoolSize = initialPoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.configuration = configuration;
     }
 
     /**
@@ -46,6 +82,24 @@ public class SessionPoolFactory {
      * @return a {@link SessionPool} from the provided {@code connection}.
      */
     public SessionPool getSessionPool(Connection connection) {
-        return new SessionPool(DEFAULT_POOL_INITIAL_SIZE, DEFAULT_POOL_MAX_SIZE, connection, producerPoolFactory);
+        SessionPool sessionPool = new SessionPool(initialPoolSize, maxPoolSize, connection, producerPoolFactory,
+            configuration);
+        JMSMetrics poolMetrics = metrics;
+        if (poolMetrics != null) {
+            poolMetrics.bindPool(connectionFactoryName, JMSMetrics.SESSION_POOL, sessionPool);
+        }
+        return sessionPool;
+    }
+
+    /**
+     * Binds the metrics of the pools created from now on.
+     *
+     * @param connectionFactoryName the name of the connection factory of the pools
+     * @param metrics               the metrics
+     * @since 4.1.0
+     */
+    public void bindMetrics(String connectionFactoryName, JMSMetrics metrics) {
+        this.connectionFactoryName = connectionFactoryName;
+        this.metrics = metrics;
     }
 }
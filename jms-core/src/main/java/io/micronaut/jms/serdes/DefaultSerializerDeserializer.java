@@ -25,6 +25,7 @@ import io.micronaut.messaging.exceptions.MessagingClientException;
 import jakarta.inject.Singleton;
 
 import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSContext;
 import jakarta.jms.JMSException;
 import jakarta.jms.MapMessage;
 import jakarta.jms.Message;
@@ -123,22 +124,81 @@ public final class DefaultSerializerDeserializer implements Serializer, Deserial
 
     @Override
     public Message serialize(Session session, Object body) {
+        return createMessage(new MessageFactory() {
+            @Override
+            public MapMessage createMapMessage() throws JMSException {
+                return session.createMapMessage();
+            }
+
+            @Override
+            public TextMessage createTextMessage(String text) throws JMSException {
+                return session.createTextMessage(text);
+            }
+
+            @Override
+            public BytesMessage createBytesMessage() throws JMSException {
+                return session.createBytesMessage();
+            }
+
+            @Override
+            public ObjectMessage createObjectMessage(Serializable object) throws JMSException {
+                return session.createObjectMessage(object);
+            }
+
+            @Override
+            public StreamMessage createStreamMessage() throws JMSException {
+                return session.createStreamMessage();
+            }
+        }, body);
+    }
+
+    @Override
+    public Message serialize(JMSContext context, Object body) {
+        return createMessage(new MessageFactory() {
+            @Override
+            public MapMessage createMapMessage() {
+                return context.createMapMessage();
+            }
+
+            @Override
+            public TextMessage createTextMessage(String text) {
+                return context.createTextMessage(text);
+            }
+
+            @Override
+            public BytesMessage createBytesMessage() {
+                return context.createBytesMessage();
+            }
+
+            @Override
+            public ObjectMessage createObjectMessage(Serializable object) {
+                return context.createObjectMessage(object);
+            }
+
+            @Override
+            public StreamMessage createStreamMessage() {
+                return context.createStreamMessage();
+            }
+        }, body);
+    }
+
+    private Message createMessage(MessageFactory factory, Object body) {
         try {
             switch (MessageType.fromObject(body)) {
                 case MAP:
-                    return serializeMap(session, (Map<?, ?>) body);
+                    return serializeMap(factory, (Map<?, ?>) body);
                 case TEXT:
-                    return serializeText(session, (String) body);
+                    return serializeText(factory, (String) body);
                 case BYTES:
-                    return serializeBytes(session, (byte[]) body);
+                    return serializeBytes(factory, (byte[]) body);
                 case OBJECT:
                     if (body instanceof Serializable) {
-                        return serializeObject(session, (Serializable) body);
+                        return serializeObject(factory, (Serializable) body);
                     } else {
-                        return serializeText(session, new String(objectMapperSupplier.get().writeValueAsBytes(body), StandardCharsets.UTF_8));
+                        return serializeText(factory, new String(objectMapperSupplier.get().writeValueAsBytes(body), StandardCharsets.UTF_8));
                     }
                 case STREAM:
-                    return serializeStream(session, (Object[]) body);
+                    return serializeStream(factory, (Object[]) body);
                 default:
                     throw new IllegalArgumentException("No known serialization of message " + body);
             }
@@ -147,9 +207,9 @@ public final class DefaultSerializerDeserializer implements Serializer, Deserial
         }
     }
 
-    private MapMessage serializeMap(final Session session,
+    private MapMessage serializeMap(final MessageFactory factory,
                                     final Map<?, ?> body) throws JMSException {
-        final MapMessage message = session.createMapMessage();
+        final MapMessage message = factory.createMapMessage();
         for (Map.Entry<?, ?> entry : body.entrySet()) {
             if (!(entry.getKey() instanceof CharSequence)) {
                 throw new IllegalArgumentException(
@@ -162,29 +222,45 @@ public final class DefaultSerializerDeserializer implements Serializer, Deserial
         return message;
     }
 
-    private TextMessage serializeText(final Session session,
+    private TextMessage serializeText(final MessageFactory factory,
                                       final String body) throws JMSException {
-        return session.createTextMessage(body);
+        return factory.createTextMessage(body);
     }
 
-    private BytesMessage serializeBytes(final Session session,
+    private BytesMessage serializeBytes(final MessageFactory factory,
                                         final byte[] body) throws JMSException {
-        final BytesMessage message = session.createBytesMessage();
+        final BytesMessage message = factory.createBytesMessage();
         message.writeBytes(body);
         return message;
     }
 
-    private ObjectMessage serializeObject(final Session session,
+    private ObjectMessage serializeObject(final MessageFactory factory,
                                           final Serializable body) throws JMSException {
-        return session.createObjectMessage(body);
+        return factory.createObjectMessage(body);
     }
 
-    private StreamMessage serializeStream(final Session session,
+    private StreamMessage serializeStream(final MessageFactory factory,
                                           final Object[] body) throws JMSException {
-        StreamMessage message = session.createStreamMessage();
+        StreamMessage message = factory.createStreamMessage();
         for (Object o : body) {
             message.writeObject(o);
         }
         return message;
     }
+
+    /**
+     * Creates messages from either a {@link Session} or a {@link JMSContext}.
+     */
+    private interface MessageFactory {
+
+        MapMessage createMapMessage() throws JMSException;
+
+        TextMessage createTextMessage(String text) throws JMSException;
+
+        BytesMessage createBytesMessage() throws JMSException;
+
+        ObjectMessage createObjectMessage(Serializable object) throws JMSException;
+
+        StreamMessage createStreamMessage() throws JMSException;
+    }
 }
@@ -15,6 +15,7 @@
  */
 package io.micronaut.jms.serdes;
 
+import jakarta.jms.JMSContext;
 import jakarta.jms.Message;
 import jakarta.jms.Session;
 
@@ -35,4 +36,19 @@ public interface Serializer {
      * @return the message
      */
     Message serialize(Session session, Object body);
+
+    /**
+     * Create a message from the body with the JMS 2.0 simplified API. Serializers
+     * not overriding this method are not supported with {@link JMSContext}, and
+     * {@link io.micronaut.jms.templates.JmsProducer} sends their messages through
+     * a {@link Session} instead.
+     *
+     * @param context the JMS context
+     * @param body the message body
+     * @return the message
+     * @since 4.1.0
+     */
+    default Message serialize(JMSContext context, Object body) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support JMSContext");
+    }
 }
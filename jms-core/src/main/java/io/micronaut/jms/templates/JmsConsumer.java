@@ -17,11 +17,18 @@ package io.micronaut.jms.templates;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.jms.model.JMSDestinationType;
 import io.micronaut.jms.pool.JMSConnectionPool;
+import io.micronaut.jms.pool.PooledConnection;
 import io.micronaut.jms.serdes.Deserializer;
 import io.micronaut.messaging.exceptions.MessageListenerException;
 import io.micronaut.messaging.exceptions.MessagingSystemException;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import jakarta.jms.Connection;
 import jakarta.jms.Destination;
@@ -29,26 +36,67 @@ import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.MessageConsumer;
 import jakarta.jms.Session;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 
-import static io.micronaut.jms.model.JMSDestinationType.QUEUE;
 import static jakarta.jms.Session.AUTO_ACKNOWLEDGE;
 import static jakarta.jms.Session.CLIENT_ACKNOWLEDGE;
 
 /**
  * Helper class that receives messages, configuring JMS connections, sessions,
  * etc. for you.
+ * <p>
+ * The {@link MessageConsumer} of each destination is opened on the first
+ * receive and reused by the following ones, together with its connection and
+ * session, until it stays idle for the idle timeout or {@link #close()} is
+ * called, so that the messages the provider prefetched to it are released to
+ * other consumers. Receives from the same destination are serialized; use
+ * several instances to receive from a destination in parallel.
+ * <p>
+ * {@link #stream(String, Class)} receives from a destination as a
+ * {@link Publisher} instead, pulling messages only as requested by its
+ * subscriber.
  *
  * TODO rename with JmsProducer
  * @author Elliott Pope
  * @since 1.0.0
  */
-public class JmsConsumer {
+public class JmsConsumer implements AutoCloseable {
+
+    /**
+     * The default time after which the consumer of a destination that received nothing is closed.
+     *
+     * @since 4.1.0
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JmsConsumer.class);
+    private static final long STREAM_POLL_TIMEOUT_MILLIS = 1000;
+    private static final ScheduledExecutorService IDLE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jms-consumer-idle");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final JMSDestinationType type;
     private final JMSConnectionPool connectionPool;
     private final Deserializer deserializer;
     private final boolean sessionTransacted;
     private final int sessionAcknowledgeMode;
+    private final long idleTimeoutMillis;
+    private final Map<String, CachedConsumer> consumers = new ConcurrentHashMap<>();
+    private final Set<StreamSubscription<?>> subscriptions = ConcurrentHashMap.newKeySet();
 
     public JmsConsumer(JMSDestinationType type,
                        JMSConnectionPool connectionPool,
@@ -61,47 +109,180 @@ public class JmsConsumer {
                        Deserializer deserializer,
                        boolean sessionTransacted,
                        int sessionAcknowledgeMode) {
+        this(type, connectionPool, deserializer, sessionTransacted, sessionAcknowledgeMode, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * @param type                   the type of the destinations
+     * @param connectionPool         the pool of the connections to receive with
+     * @param deserializer           the deserializer of the messages
+     * @param sessionTransacted      whether the sessions are transacted
+     * @param sessionAcknowledgeMode the acknowledge mode of the sessions
+     * @param idleTimeout            the time after which the consumer of a destination that received nothing is
+     *                               closed, or 0 to keep it open until {@link #close()}
+     * @since 4.1.0
+     */
+    public JmsConsumer(JMSDestinationType type,
+                       JMSConnectionPool connectionPool,
+                       Deserializer deserializer,
+                       boolean sessionTransacted,
+                       int sessionAcknowledgeMode,
+                       @NonNull Duration idleTimeout) {
+        ArgumentUtils.requireNonNull("idleTimeout", idleTimeout);
         this.type = type;
         this.connectionPool = connectionPool;
         this.deserializer = deserializer;
         this.sessionTransacted = sessionTransacted;
         this.sessionAcknowledgeMode = sessionAcknowledgeMode;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
     }
 
     /**
      * Receives a {@link Message} from the broker and and converts it to
-     * an instance of type {@code <T>}.
+     * an instance of type {@code <T>}, waiting until a message arrives.
      *
      * @param destination the queue or topic name
      * @param clazz       the class
      * @param <T>         the class type
      * @return the message from the broker as an object instance of type {@code <T>}.
+     * @see #receive(String, Class, Duration)
      */
     public <T> T receive(@NonNull String destination,
                          Class<T> clazz) {
-        try (Connection connection = createConnection();
-             Session session = createSession(connection)) {
-            connection.start();
-            return deserializer.deserialize(receive(session, lookupDestination(destination)), clazz);
-        } catch (JMSException | RuntimeException e) {
-            throw new MessageListenerException("Problem receiving message", e);
-        }
+        return deserialize(receive(destination), clazz);
     }
 
     /**
-     * Receives a {@link Message} from the broker.
+     * Receives a {@link Message} from the broker, waiting until a message
+     * arrives.
      *
      * @param destination the queue or topic name
      * @return the message
+     * @see #receive(String, Duration)
      */
     public Message receive(@NonNull String destination) {
-        try (Connection connection = createConnection();
-             Session session = createSession(connection)) {
-            connection.start();
-            return receive(session, lookupDestination(destination));
-        } catch (JMSException | RuntimeException e) {
-            throw new MessageListenerException("Problem receiving message", e);
+        return consumer(destination).receive(0);
+    }
+
+    /**
+     * Receives a {@link Message} from the broker and converts it to an
+     * instance of type {@code <T>}, waiting at most for the given timeout.
+     *
+     * @param destination the queue or topic name
+     * @param clazz       the class
+     * @param timeout     how long to wait for a message
+     * @param <T>         the class type
+     * @return the message as an object instance of type {@code <T>}, or null
+     * if no message arrived within the timeout
+     * @since 4.1.0
+     */
+    @Nullable
+    public <T> T receive(@NonNull String destination,
+                         Class<T> clazz,
+                         @NonNull Duration timeout) {
+        return deserialize(receive(destination, timeout), clazz);
+    }
+
+    /**
+     * Receives a {@link Message} from the broker, waiting at most for the
+     * given timeout.
+     *
+     * @param destination the queue or topic name
+     * @param timeout     how long to wait for a message
+     * @return the message, or null if no message arrived within the timeout
+     * @since 4.1.0
+     */
+    @Nullable
+    public Message receive(@NonNull String destination,
+                           @NonNull Duration timeout) {
+        return consumer(destination).receive(timeoutMillis(timeout));
+    }
+
+    /**
+     * Receives a {@link Message} from the broker if one is immediately
+     * available.
+     *
+     * @param destination the queue or topic name
+     * @return the message, or null if no message is available
+     * @since 4.1.0
+     */
+    @Nullable
+    public Message receiveNoWait(@NonNull String destination) {
+        return consumer(destination).receive(-1);
+    }
+
+    /**
+     * Receives up to {@code max} messages from the broker. Waits at most for
+     * the given timeout for the first message, then only adds the messages
+     * which are immediately available, so that a batch is returned as soon as
+     * the destination is drained. Transacted sessions are committed and
+     * {@link Session#CLIENT_ACKNOWLEDGE} sessions acknowledged once for the
+     * whole batch.
+     *
+     * @param destination the queue or topic name
+     * @param max         the maximum number of messages
+     * @param timeout     how long to wait for the first message
+     * @return the messages, empty if no message arrived within the timeout
+     * @since 4.1.0
+     */
+    @NonNull
+    public List<Message> receiveBatch(@NonNull String destination,
+                                      int max,
+                                      @NonNull Duration timeout) {
+        if (max < 1) {
+            throw new IllegalArgumentException("The maximum batch size must be positive, was " + max);
         }
+        return consumer(destination).receiveBatch(max, timeoutMillis(timeout));
+    }
+
+    /**
+     * Returns a {@link Publisher} of the messages of the destination converted
+     * to instances of type {@code <T>}. Each subscription opens its own
+     * consumer, on a dedicated thread, which only receives messages while the
+     * subscriber has outstanding demand, so a slow subscriber is not overrun.
+     * Each message is acknowledged, or its transaction committed, once
+     * {@link Subscriber#onNext(Object)} returns. A message whose processing
+     * fails is recovered and redelivered, and cancels the subscription.
+     * Unless the sessions are transacted, the stream therefore always uses
+     * {@link Session#CLIENT_ACKNOWLEDGE} and ignores the acknowledge mode of
+     * this consumer: in the other modes a message would already be
+     * acknowledged when received, and lost if the subscriber fails.
+     * <p>
+     * The subscription completes when this consumer is closed, and fails if a
+     * message can't be received or converted.
+     *
+     * @param destination the queue or topic name
+     * @param clazz       the class
+     * @param <T>         the class type
+     * @return the publisher of the messages
+     * @since 4.1.0
+     */
+    @NonNull
+    public <T> Publisher<T> stream(@NonNull String destination,
+                                   @NonNull Class<T> clazz) {
+        ArgumentUtils.requireNonNull("destination", destination);
+        ArgumentUtils.requireNonNull("clazz", clazz);
+        return subscriber -> {
+            ArgumentUtils.requireNonNull("subscriber", subscriber);
+            StreamSubscription<T> subscription = new StreamSubscription<>(destination, clazz, subscriber);
+            subscriptions.add(subscription);
+            subscription.start();
+        };
+    }
+
+    /**
+     * Closes the consumers of all the destinations and releases their
+     * connections, once the receives in progress returned, and completes the
+     * subscriptions to the {@link #stream(String, Class) streams}. The
+     * consumers are reopened by the next receive.
+     *
+     * @since 4.1.0
+     */
+    @Override
+    public void close() {
+        consumers.values().forEach(CachedConsumer::close);
+        consumers.clear();
+        subscriptions.forEach(StreamSubscription::complete);
     }
 
     @Override
@@ -112,30 +293,32 @@ public class JmsConsumer {
             ", deserializer=" + deserializer +
             ", sessionTransacted=" + sessionTransacted +
             ", sessionAcknowledgeMode=" + sessionAcknowledgeMode +
+            ", idleTimeoutMillis=" + idleTimeoutMillis +
             '}';
     }
 
-    @Nullable
-    private Message receive(@NonNull Session session,
-                            @NonNull Destination destination) throws JMSException {
-        try (MessageConsumer consumer = session.createConsumer(destination)) {
-            Message message = consumer.receive();
-            if (sessionTransacted) {
-                session.commit();
-            }
-            if (message != null && session.getAcknowledgeMode() == CLIENT_ACKNOWLEDGE) {
-                message.acknowledge();
-            }
-            return message;
+    private <T> T deserialize(Message message, Class<T> clazz) {
+        return message == null ? null : deserializer.deserialize(message, clazz);
+    }
+
+    private CachedConsumer consumer(String destination) {
+        ArgumentUtils.requireNonNull("destination", destination);
+        CachedConsumer consumer = consumers.get(destination);
+        if (consumer == null) {
+            consumer = consumers.computeIfAbsent(destination, CachedConsumer::new);
         }
+        return consumer;
+    }
+
+    private static long timeoutMillis(Duration timeout) {
+        ArgumentUtils.requireNonNull("timeout", timeout);
+        // a timeout of 0 waits forever, so round sub-millisecond timeouts up
+        return Math.max(1, timeout.toMillis());
     }
 
-    private Destination lookupDestination(String destination) {
-        try (Connection connection = createConnection();
-             Session session = createSession(connection)) {
-            return type == QUEUE ?
-                session.createQueue(destination) :
-                session.createTopic(destination);
+    private Destination lookupDestination(String destination, Session session) {
+        try {
+            return connectionPool.getDestinationCache().lookup(type, destination, session);
         } catch (JMSException | RuntimeException e) {
             throw new MessagingSystemException(
                 "Problem looking up destination " + destination, e);
@@ -143,10 +326,320 @@ public class JmsConsumer {
     }
 
     private Session createSession(Connection connection) throws JMSException {
-        return connection.createSession(sessionTransacted, sessionAcknowledgeMode);
+        try {
+            return connection.createSession(sessionTransacted, sessionAcknowledgeMode);
+        } catch (JMSException e) {
+            if (connection instanceof PooledConnection pooledConnection) {
+                // the connection is unusable, so destroy it instead of handing it out again
+                pooledConnection.markFailed();
+            }
+            throw e;
+        }
     }
 
     private Connection createConnection() throws JMSException {
         return connectionPool.createConnection();
     }
+
+    /**
+     * A subscription to a {@link #stream(String, Class) stream}, whose consumer
+     * is polled by a dedicated thread while the subscriber has demand. All the
+     * signals to the subscriber are sent by that thread.
+     *
+     * @param <T> the type of the elements
+     */
+    private final class StreamSubscription<T> implements Subscription, Runnable {
+
+        private final String destination;
+        private final Class<T> clazz;
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private volatile Throwable invalidRequest;
+        private volatile boolean cancelled;
+        private volatile boolean completed;
+        private Thread poller;
+
+        private StreamSubscription(String destination,
+                                   Class<T> clazz,
+                                   Subscriber<? super T> subscriber) {
+            this.destination = destination;
+            this.clazz = clazz;
+            this.subscriber = subscriber;
+        }
+
+        private void start() {
+            poller = new Thread(this, "jms-stream-" + destination);
+            poller.setDaemon(true);
+            poller.start();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " elements, must be positive");
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            LockSupport.unpark(poller);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            LockSupport.unpark(poller);
+        }
+
+        private void complete() {
+            completed = true;
+            LockSupport.unpark(poller);
+        }
+
+        @Override
+        public void run() {
+            subscriber.onSubscribe(this);
+            Connection connection = null;
+            Session session = null;
+            try {
+                connection = createConnection();
+                // not the acknowledge mode of the consumer, so that a message is only acknowledged once processed
+                session = sessionTransacted
+                    ? connection.createSession(true, Session.SESSION_TRANSACTED)
+                    : connection.createSession(false, CLIENT_ACKNOWLEDGE);
+                MessageConsumer consumer = session.createConsumer(lookupDestination(destination, session));
+                connection.start();
+                poll(session, consumer);
+            } catch (JMSException | RuntimeException e) {
+                if (!cancelled) {
+                    cancelled = true;
+                    subscriber.onError(new MessageListenerException("Problem receiving message from " + destination, e));
+                }
+            } finally {
+                subscriptions.remove(this);
+                closeQuietly(session);
+                closeQuietly(connection);
+            }
+        }
+
+        private void poll(Session session, MessageConsumer consumer) throws JMSException {
+            while (!cancelled) {
+                if (invalidRequest != null) {
+                    cancelled = true;
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+                if (completed) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                    return;
+                }
+                if (demand.get() == 0) {
+                    // nothing is received until requested, although the provider may prefetch to the consumer
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(STREAM_POLL_TIMEOUT_MILLIS));
+                    continue;
+                }
+                Message message = consumer.receive(STREAM_POLL_TIMEOUT_MILLIS);
+                if (message != null) {
+                    emit(session, message);
+                }
+            }
+        }
+
+        private void emit(Session session, Message message) throws JMSException {
+            T element = deserializer.deserialize(message, clazz);
+            if (demand.get() != Long.MAX_VALUE) {
+                demand.decrementAndGet();
+            }
+            try {
+                subscriber.onNext(element);
+            } catch (RuntimeException e) {
+                LOGGER.error("Subscriber of {} failed to process a message, cancelling the subscription", destination, e);
+                cancelled = true;
+                if (sessionTransacted) {
+                    session.rollback();
+                } else {
+                    session.recover();
+                }
+                return;
+            }
+            if (sessionTransacted) {
+                session.commit();
+            } else {
+                message.acknowledge();
+            }
+        }
+
+        private void closeQuietly(AutoCloseable closeable) {
+            if (closeable == null) {
+                return;
+            }
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                LOGGER.debug("Problem closing the stream of {}", destination, e);
+            }
+        }
+    }
+
+    /**
+     * The connection, session and consumer receiving from a destination. They
+     * are released once idle for the idle timeout, and reopened by the next
+     * receive.
+     */
+    private final class CachedConsumer {
+
+        private final String destination;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Connection connection;
+        private volatile Session session;
+        private volatile MessageConsumer consumer;
+        private volatile boolean closed;
+        private long lastReceiveNanos;
+        private volatile ScheduledFuture<?> idleCheck;
+
+        private CachedConsumer(String destination) {
+            this.destination = destination;
+        }
+
+        /**
+         * @param timeoutMillis the timeout in milliseconds, 0 to wait forever or a negative value not to wait
+         */
+        private Message receive(long timeoutMillis) {
+            lock.lock();
+            try {
+                Message message = receiveNext(timeoutMillis);
+                complete(message);
+                return message;
+            } catch (JMSException | RuntimeException e) {
+                discard();
+                throw new MessageListenerException("Problem receiving message", e);
+            } finally {
+                received();
+                lock.unlock();
+            }
+        }
+
+        private List<Message> receiveBatch(int max, long timeoutMillis) {
+            lock.lock();
+            try {
+                List<Message> messages = new ArrayList<>(Math.min(max, 64));
+                Message message = receiveNext(timeoutMillis);
+                while (message != null) {
+                    messages.add(message);
+                    message = messages.size() < max && !closed ? receiveNext(-1) : null;
+                }
+                complete(messages.isEmpty() ? null : messages.get(messages.size() - 1));
+                return messages;
+            } catch (JMSException | RuntimeException e) {
+                discard();
+                throw new MessageListenerException("Problem receiving messages", e);
+            } finally {
+                received();
+                lock.unlock();
+            }
+        }
+
+        private Message receiveNext(long timeoutMillis) throws JMSException {
+            MessageConsumer messageConsumer = open();
+            if (timeoutMillis < 0) {
+                return messageConsumer.receiveNoWait();
+            }
+            return timeoutMillis == 0 ? messageConsumer.receive() : messageConsumer.receive(timeoutMillis);
+        }
+
+        private void complete(Message last) throws JMSException {
+            if (sessionTransacted) {
+                session.commit();
+            }
+            // acknowledging a message acknowledges all the messages received before it by the session
+            if (last != null && session.getAcknowledgeMode() == CLIENT_ACKNOWLEDGE) {
+                last.acknowledge();
+            }
+        }
+
+        private MessageConsumer open() throws JMSException {
+            if (closed) {
+                throw new IllegalStateException("The consumer of " + destination + " is closed");
+            }
+            if (consumer == null) {
+                connection = createConnection();
+                session = createSession(connection);
+                consumer = session.createConsumer(lookupDestination(destination, session));
+                connection.start();
+                LOGGER.debug("Opened consumer of {} {}", type.name().toLowerCase(), destination);
+            }
+            return consumer;
+        }
+
+        private void received() {
+            lastReceiveNanos = System.nanoTime();
+            if (idleCheck == null && consumer != null && !closed && idleTimeoutMillis > 0) {
+                idleCheck = IDLE_EXECUTOR.schedule(this::releaseIfIdle, idleTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void releaseIfIdle() {
+            if (!lock.tryLock()) {
+                // a receive is in progress
+                idleCheck = IDLE_EXECUTOR.schedule(this::releaseIfIdle, idleTimeoutMillis, TimeUnit.MILLISECONDS);
+                return;
+            }
+            try {
+                idleCheck = null;
+                if (consumer == null || closed) {
+                    return;
+                }
+                long idleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastReceiveNanos);
+                if (idleMillis < idleTimeoutMillis) {
+                    idleCheck = IDLE_EXECUTOR.schedule(this::releaseIfIdle, idleTimeoutMillis - idleMillis, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                LOGGER.debug("Closing idle consumer of {} {}", type.name().toLowerCase(), destination);
+                release();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void discard() {
+            // the consumer may be unusable, so the next receive opens a new one
+            consumers.remove(destination, this);
+            close();
+        }
+
+        private void close() {
+            closed = true;
+            // closing the consumer makes a blocked receive return, which then completes before the session is closed
+            closeQuietly(consumer);
+            lock.lock();
+            try {
+                if (idleCheck != null) {
+                    idleCheck.cancel(false);
+                    idleCheck = null;
+                }
+                release();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void release() {
+            closeQuietly(consumer);
+            closeQuietly(session);
+            closeQuietly(connection);
+            consumer = null;
+            session = null;
+            connection = null;
+        }
+
+        private void closeQuietly(AutoCloseable closeable) {
+            if (closeable == null) {
+                return;
+            }
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                LOGGER.debug("Problem closing the consumer of {}", destination, e);
+            }
+        }
+    }
 }
@@ -16,29 +16,39 @@
 package io.micronaut.jms.templates;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.jms.metrics.JMSTimingRecorder;
+import io.micronaut.jms.model.DeliveryOptions;
 import io.micronaut.jms.model.JMSDestinationType;
 import io.micronaut.jms.model.MessageHeader;
 import io.micronaut.jms.pool.JMSConnectionPool;
+import io.micronaut.jms.pool.PooledConnection;
 import io.micronaut.jms.serdes.Serializer;
+import io.micronaut.jms.tracing.JMSSpan;
+import io.micronaut.jms.tracing.JMSTracing;
 import io.micronaut.messaging.exceptions.MessageListenerException;
 import io.micronaut.messaging.exceptions.MessagingClientException;
 import io.micronaut.messaging.exceptions.MessagingSystemException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.jms.CompletionListener;
 import jakarta.jms.Connection;
 import jakarta.jms.Destination;
+import jakarta.jms.JMSContext;
 import jakarta.jms.JMSException;
+import jakarta.jms.JMSProducer;
 import jakarta.jms.Message;
 import jakarta.jms.MessageProducer;
 import jakarta.jms.Session;
 
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
-import static io.micronaut.jms.model.JMSDestinationType.QUEUE;
-import static jakarta.jms.Message.DEFAULT_DELIVERY_MODE;
+import static jakarta.jms.Message.DEFAULT_TIME_TO_LIVE;
 import static jakarta.jms.Session.AUTO_ACKNOWLEDGE;
 
 /**
@@ -60,6 +70,8 @@ public class JmsProducer<T> {
     private final Serializer serializer;
     private final boolean sessionTransacted;
     private final int sessionAcknowledgeMode;
+    private final JMSTimingRecorder timingRecorder;
+    private final JMSTracing tracing;
 
     @SuppressWarnings("unchecked")
     public JmsProducer(JMSDestinationType type,
@@ -73,11 +85,51 @@ public class JmsProducer<T> {
                        Serializer serializer,
                        boolean sessionTransacted,
                        int sessionAcknowledgeMode) {
+        this(type, connectionPool, serializer, sessionTransacted, sessionAcknowledgeMode, null);
+    }
+
+    /**
+     * @param type                   the type of the destinations
+     * @param connectionPool         the pool to get connections from
+     * @param serializer             the serializer of message bodies
+     * @param sessionTransacted      whether the sessions are transacted
+     * @param sessionAcknowledgeMode the acknowledge mode of the sessions
+     * @param timingRecorder         the recorder of the time taken to send each message, or null
+     * @since 4.1.0
+     */
+    public JmsProducer(JMSDestinationType type,
+                       JMSConnectionPool connectionPool,
+                       Serializer serializer,
+                       boolean sessionTransacted,
+                       int sessionAcknowledgeMode,
+                       @Nullable JMSTimingRecorder timingRecorder) {
+        this(type, connectionPool, serializer, sessionTransacted, sessionAcknowledgeMode, timingRecorder, null);
+    }
+
+    /**
+     * @param type                   the type of the destinations
+     * @param connectionPool         the pool to get connections from
+     * @param serializer             the serializer of message bodies
+     * @param sessionTransacted      whether the sessions are transacted
+     * @param sessionAcknowledgeMode the acknowledge mode of the sessions
+     * @param timingRecorder         the recorder of the time taken to send each message, or null
+     * @param tracing                the tracing to start a span for each message with, or null
+     * @since 4.1.0
+     */
+    public JmsProducer(JMSDestinationType type,
+                       JMSConnectionPool connectionPool,
+                       Serializer serializer,
+                       boolean sessionTransacted,
+                       int sessionAcknowledgeMode,
+                       @Nullable JMSTimingRecorder timingRecorder,
+                       @Nullable JMSTracing tracing) {
         this.type = type;
         this.connectionPool = connectionPool;
         this.serializer = serializer;
         this.sessionTransacted = sessionTransacted;
         this.sessionAcknowledgeMode = sessionAcknowledgeMode;
+        this.timingRecorder = timingRecorder;
+        this.tracing = tracing;
     }
 
     /**
@@ -99,16 +151,21 @@ public class JmsProducer<T> {
             LOGGER.debug("Sending message {} to destination {} of type {} with headers [{}]",
                     body, destination, type.name(), joinedHeaders);
         }
+        long start = timingRecorder == null ? 0 : System.nanoTime();
+        boolean success = false;
         try (Connection connection = connectionPool.createConnection();
              Session session = createSession(connection)) {
             send(session, lookupDestination(destination, session),
-                serializer.serialize(session, body), timeToLive, headers);
+                serializer.serialize(session, body), timeToLive, DeliveryOptions.DEFAULT, headers);
+            success = true;
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Sent message {} to destination {} of type {} with headers [{}]",
                         body, destination, type.name(), joinedHeaders);
             }
         } catch (JMSException | RuntimeException e) {
             throw new MessagingClientException("Problem sending message to " + destination, e);
+        } finally {
+            recordSend(start, success);
         }
     }
 
@@ -131,15 +188,20 @@ public class JmsProducer<T> {
             LOGGER.debug("Sending message {} to destination {} of type {} with headers [{}]",
                     message, destination, type.name(), joinedHeaders);
         }
+        long start = timingRecorder == null ? 0 : System.nanoTime();
+        boolean success = false;
         try (Connection connection = connectionPool.createConnection();
              Session session = createSession(connection)) {
-            send(session, lookupDestination(destination, session), message, timeToLive, headers);
+            send(session, lookupDestination(destination, session), message, timeToLive, DeliveryOptions.DEFAULT, headers);
+            success = true;
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Sent message {} to destination {} of type {} with headers [{}]",
                         message, destination, type.name(), joinedHeaders);
             }
         } catch (JMSException | RuntimeException e) {
             throw new MessagingClientException("Problem sending message to " + destination, e);
+        } finally {
+            recordSend(start, success);
         }
     }
 
@@ -165,16 +227,165 @@ public class JmsProducer<T> {
             LOGGER.debug("Sending message {} to destination {} of type {} with headers [{}]",
                     message, destination, type.name(), joinedHeaders);
         }
+        long start = timingRecorder == null ? 0 : System.nanoTime();
+        boolean success = false;
         try (Connection connection = connectionPool.createConnection();
              Session session = createSession(connection)) {
-            send(session, destination, message, timeToLive, headers);
+            send(session, destination, message, timeToLive, DeliveryOptions.DEFAULT, headers);
+            success = true;
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Sent message {} to destination {} of type {} with headers [{}]",
                         message, destination, type.name(), joinedHeaders);
             }
         } catch (JMSException | RuntimeException e) {
             throw new MessagingClientException("Problem sending message ", e);
+        } finally {
+            recordSend(start, success);
+        }
+    }
+
+    /**
+     * Creates a {@link Message} from the {@code body} and sends it to the
+     * {@code destination}, e.g. the {@code JMSReplyTo} of a request, with
+     * the given {@code headers}.
+     *
+     * @param destination the destination
+     * @param body        the body
+     * @param timeToLive  time to live parameter in milliseconds
+     * @param headers     optional headers
+     * @since 4.1.0
+     */
+    public void send(@NonNull Destination destination,
+                     @NonNull T body,
+                     long timeToLive,
+                     MessageHeader... headers) {
+        ArgumentUtils.requireNonNull("destination", destination);
+        ArgumentUtils.requireNonNull("body", body);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Sending message {} to destination {} with headers [{}]", body, destination,
+                Arrays.stream(headers).map(MessageHeader::toString).collect(Collectors.joining(",")));
+        }
+        long start = timingRecorder == null ? 0 : System.nanoTime();
+        boolean success = false;
+        try (Connection connection = connectionPool.createConnection();
+             Session session = createSession(connection)) {
+            send(session, destination, serializer.serialize(session, body), timeToLive, DeliveryOptions.DEFAULT, headers);
+            success = true;
+        } catch (JMSException | RuntimeException e) {
+            throw new MessagingClientException("Problem sending message to " + destination, e);
+        } finally {
+            recordSend(start, success);
+        }
+    }
+
+    /**
+     * Creates a {@link Message} from the {@code body} and sends it to the
+     * {@code destination}, e.g. the {@code JMSReplyTo} of a request, with the
+     * given {@code headers} through the given {@link Session}, e.g. the
+     * session a request was received on. The send is not committed, so that
+     * it is part of the transaction of a transacted session.
+     *
+     * @param session     the session to send the message through
+     * @param destination the destination
+     * @param body        the body
+     * @param headers     optional headers
+     * @since 4.1.0
+     */
+    public void send(@NonNull Session session,
+                     @NonNull Destination destination,
+                     @NonNull T body,
+                     MessageHeader... headers) {
+        ArgumentUtils.requireNonNull("destination", destination);
+        ArgumentUtils.requireNonNull("body", body);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Sending message {} to destination {} with headers [{}]", body, destination,
+                Arrays.stream(headers).map(MessageHeader::toString).collect(Collectors.joining(",")));
+        }
+        long start = timingRecorder == null ? 0 : System.nanoTime();
+        boolean success = false;
+        try {
+            send(session, destination, serializer.serialize(session, body), DEFAULT_TIME_TO_LIVE,
+                DeliveryOptions.DEFAULT, false, headers);
+            success = true;
+        } catch (JMSException | RuntimeException e) {
+            throw new MessagingClientException("Problem sending message to " + destination, e);
+        } finally {
+            recordSend(start, success);
+        }
+    }
+
+    /**
+     * Creates a {@link Message} from the {@code body} and sends it to the
+     * {@code destination} with the {@code options} and {@code headers},
+     * through a pooled {@link Session} and its {@link MessageProducer}.
+     * Unlike {@link #send(String, Object, DeliveryOptions, MessageHeader...)}
+     * this also works with JMS 1.1 providers, which may not support all the
+     * options, e.g. the delivery delay.
+     *
+     * @param destination the queue or topic name
+     * @param body        the body
+     * @param options     the delivery options of this message
+     * @param headers     optional headers
+     * @since 4.1.0
+     */
+    public void sendWithSession(@NonNull String destination,
+                                @NonNull T body,
+                                @NonNull DeliveryOptions options,
+                                MessageHeader... headers) {
+        ArgumentUtils.requireNonNull("options", options);
+        sendWithPooledSession(destination, body, options, headers);
+    }
+
+    /**
+     * Creates a {@link Message} from the {@code body} and sends it to the
+     * {@code destination} with the {@code options} and {@code headers},
+     * through a pooled {@link JMSContext} and its {@link JMSProducer}. This
+     * requires a JMS 2.0 provider. If the {@link Serializer} doesn't support
+     * {@link JMSContext}, the message is sent through a pooled {@link Session}.
+     *
+     * @param destination the queue or topic name
+     * @param body        the body
+     * @param options     the delivery options of this message
+     * @param headers     optional headers
+     * @since 4.1.0
+     */
+    public void send(@NonNull String destination,
+                     @NonNull T body,
+                     @NonNull DeliveryOptions options,
+                     MessageHeader... headers) {
+        sendWithContext(destination, body, options, null, headers);
+    }
+
+    /**
+     * Creates a {@link Message} from the {@code body} and sends it to the
+     * {@code destination} with the {@code options} and {@code headers},
+     * without waiting for the acknowledgement of the broker, through a pooled
+     * {@link JMSContext} and its {@link JMSProducer}. This requires a JMS 2.0
+     * provider. If the {@link Serializer} doesn't support {@link JMSContext},
+     * the message is sent and acknowledged through a pooled {@link Session}
+     * before this method returns.
+     *
+     * @param destination the queue or topic name
+     * @param body        the body
+     * @param options     the delivery options of this message
+     * @param headers     optional headers
+     * @return a future completed with the sent message once the broker
+     * acknowledged it, or completed exceptionally if the send failed
+     * @since 4.1.0
+     */
+    public CompletableFuture<Message> sendAsync(@NonNull String destination,
+                                                @NonNull T body,
+                                                @NonNull DeliveryOptions options,
+                                                MessageHeader... headers) {
+        CompletableFuture<Message> future = new CompletableFuture<>();
+        try {
+            sendWithContext(destination, body, options, future, headers);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
         }
+        return future;
     }
 
     @Override
@@ -191,24 +402,47 @@ public class JmsProducer<T> {
     private void send(@NonNull Session session,
                       @NonNull Destination destination,
                       @NonNull Message message,
-                      @NonNull long timeToLive,
+                      long timeToLive,
+                      @NonNull DeliveryOptions options,
+                      MessageHeader... headers) throws JMSException {
+        send(session, destination, message, timeToLive, options, sessionTransacted, headers);
+    }
+
+    private void send(@NonNull Session session,
+                      @NonNull Destination destination,
+                      @NonNull Message message,
+                      long timeToLive,
+                      @NonNull DeliveryOptions options,
+                      boolean commit,
                       MessageHeader... headers) throws JMSException {
         ArgumentUtils.requireNonNull("session", session);
 
+        JMSSpan span = null;
         try (MessageProducer producer = session.createProducer(destination)) {
 
             for (MessageHeader header : headers) {
                 header.apply(message);
             }
 
-            // TODO support specifying delivery mode
-            producer.send(message, DEFAULT_DELIVERY_MODE, message.getJMSPriority(), timeToLive);
+            if (tracing != null) {
+                span = tracing.startSend(destination, message);
+            }
 
-            if (sessionTransacted) {
+            // pooled producers are reset when released, so the options don't leak into the next send
+            options.applyTo(producer);
+            producer.send(message,
+                producer.getDeliveryMode(),
+                options.getPriority() == null ? message.getJMSPriority() : options.getPriority(),
+                options.getTimeToLive() == null ? timeToLive : options.getTimeToLive());
+
+            if (commit) {
                 session.commit();
             }
         } catch (JMSException | RuntimeException e) {
-            if (sessionTransacted) {
+            if (span != null) {
+                span.error(e);
+            }
+            if (commit) {
                 try {
                     session.rollback();
                 } catch (JMSException | RuntimeException e2) {
@@ -217,14 +451,129 @@ public class JmsProducer<T> {
                 }
             }
             throw new MessagingClientException("Problem sending the message", e);
+        } finally {
+            if (span != null) {
+                span.end();
+            }
+        }
+    }
+
+    private void sendWithContext(@NonNull String destination,
+                                 @NonNull T body,
+                                 @NonNull DeliveryOptions options,
+                                 @Nullable CompletableFuture<Message> future,
+                                 MessageHeader... headers) {
+        ArgumentUtils.requireNonNull("destination", destination);
+        ArgumentUtils.requireNonNull("options", options);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Sending message {} to destination {} of type {} with options {} and headers [{}]",
+                    body, destination, type.name(), options,
+                    Arrays.stream(headers).map(MessageHeader::toString).collect(Collectors.joining(",")));
+        }
+        long start = timingRecorder == null ? 0 : System.nanoTime();
+        boolean success = false;
+        boolean pending = false;
+        JMSSpan span = null;
+        int sessionMode = sessionTransacted ? JMSContext.SESSION_TRANSACTED : sessionAcknowledgeMode;
+        JMSContext context = connectionPool.createContext(sessionMode);
+        Message message;
+        try {
+            message = serializer.serialize(context, body);
+        } catch (RuntimeException e) {
+            context.close();
+            if (!(e instanceof UnsupportedOperationException)) {
+                recordSend(start, false);
+                throw new MessagingClientException("Problem sending message to " + destination, e);
+            }
+            // e.g. a custom serializer written for sessions only
+            LOGGER.debug("Serializer {} does not support JMSContext, sending through a session", serializer);
+            Message sent = sendWithPooledSession(destination, body, options, headers);
+            if (future != null) {
+                future.complete(sent);
+            }
+            return;
+        }
+        try {
+            for (MessageHeader header : headers) {
+                header.apply(message);
+            }
+            Destination jmsDestination = connectionPool.getDestinationCache().lookup(type, destination, context);
+
+            if (tracing != null) {
+                span = tracing.startSend(jmsDestination, message);
+            }
+
+            JMSProducer producer = options.applyTo(context.createProducer());
+            if (future != null) {
+                // a transacted context is committed, and so released, by this thread once the send completed
+                producer.setAsync(new ContextCompletionListener(
+                    sessionTransacted ? null : context, destination, start, span, future));
+            }
+            producer.send(jmsDestination, message);
+            // the span is ended and the send recorded by the listener from now on, and the context of a
+            // non-transacted send is only released by the listener so that nobody else uses its session meanwhile
+            pending = future != null;
+
+            if (sessionTransacted) {
+                // blocks until the completion listener has returned
+                context.commit();
+            }
+            success = true;
+            LOGGER.debug("Sent message {} to destination {} of type {}", body, destination, type.name());
+        } catch (RuntimeException e) {
+            // transacted contexts are rolled back when returned to the pool
+            if (span != null && !pending) {
+                span.error(e);
+            }
+            throw new MessagingClientException("Problem sending message to " + destination, e);
+        } finally {
+            if (!pending) {
+                if (span != null) {
+                    span.end();
+                }
+                recordSend(start, success);
+            }
+            if (!pending || sessionTransacted) {
+                context.close();
+            }
+        }
+    }
+
+    private Message sendWithPooledSession(@NonNull String destination,
+                                          @NonNull T body,
+                                          @NonNull DeliveryOptions options,
+                                          MessageHeader... headers) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Sending message {} to destination {} of type {} with options {} and headers [{}]",
+                    body, destination, type.name(), options,
+                    Arrays.stream(headers).map(MessageHeader::toString).collect(Collectors.joining(",")));
+        }
+        long start = timingRecorder == null ? 0 : System.nanoTime();
+        boolean success = false;
+        try (Connection connection = connectionPool.createConnection();
+             Session session = createSession(connection)) {
+            Message message = serializer.serialize(session, body);
+            send(session, lookupDestination(destination, session), message, DEFAULT_TIME_TO_LIVE, options, headers);
+            success = true;
+            LOGGER.debug("Sent message {} to destination {} of type {}", body, destination, type.name());
+            return message;
+        } catch (JMSException | RuntimeException e) {
+            throw new MessagingClientException("Problem sending message to " + destination, e);
+        } finally {
+            recordSend(start, success);
+        }
+    }
+
+    private void recordSend(long start, boolean success) {
+        if (timingRecorder != null) {
+            timingRecorder.record(System.nanoTime() - start, success);
         }
     }
 
     private Destination lookupDestination(String destination, Session session) {
         try {
-            return type == QUEUE ?
-                session.createQueue(destination) :
-                session.createTopic(destination);
+            return connectionPool.getDestinationCache().lookup(type, destination, session);
         } catch (JMSException | RuntimeException e) {
             throw new MessagingSystemException("Problem creating " +
                 type.name().toLowerCase() + " '" + destination + "'", e);
@@ -232,6 +581,79 @@ public class JmsProducer<T> {
     }
 
     private Session createSession(Connection connection) throws JMSException {
-        return connection.createSession(sessionTransacted, sessionAcknowledgeMode);
+        try {
+            if (connection instanceof PooledConnection pooledConnection) {
+                // reuse the sessions, and their producers, of the connection
+                return pooledConnection.requestSession(sessionTransacted, sessionAcknowledgeMode);
+            }
+            return connection.createSession(sessionTransacted, sessionAcknowledgeMode);
+        } catch (JMSException | MessagingSystemException e) {
+            if (connection instanceof PooledConnection pooledConnection) {
+                // the connection is unusable, so destroy it instead of handing it out again
+                pooledConnection.markFailed();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Completes the future of an asynchronous send, ending its span and recording its duration, and returns the
+     * context of a non-transacted send to its pool. The context is returned from another thread, as the pool may
+     * close it, which is not allowed from its own completion listener.
+     */
+    private final class ContextCompletionListener implements CompletionListener {
+
+        private final JMSContext context;
+        private final String destination;
+        private final long start;
+        private final JMSSpan span;
+        private final CompletableFuture<Message> future;
+
+        private ContextCompletionListener(@Nullable JMSContext context,
+                                          String destination,
+                                          long start,
+                                          @Nullable JMSSpan span,
+                                          CompletableFuture<Message> future) {
+            this.context = context;
+            this.destination = destination;
+            this.start = start;
+            this.span = span;
+            this.future = future;
+        }
+
+        @Override
+        public void onCompletion(Message message) {
+            if (span != null) {
+                span.end();
+            }
+            recordSend(start, true);
+            release();
+            future.complete(message);
+        }
+
+        @Override
+        public void onException(Message message, Exception exception) {
+            if (span != null) {
+                span.error(exception);
+                span.end();
+            }
+            recordSend(start, false);
+            release();
+            future.completeExceptionally(
+                new MessagingClientException("Problem sending message to " + destination, exception));
+        }
+
+        private void release() {
+            if (context == null) {
+                return;
+            }
+            ForkJoinPool.commonPool().execute(() -> {
+                try {
+                    context.close();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Problem releasing the JMSContext of an asynchronous send to {}", destination, e);
+                }
+            });
+        }
     }
 }
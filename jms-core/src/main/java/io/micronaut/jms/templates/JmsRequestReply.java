@@ -0,0 +1,223 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.templates;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.messaging.exceptions.MessagingSystemException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+import jakarta.jms.TemporaryQueue;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static jakarta.jms.Session.AUTO_ACKNOWLEDGE;
+
+/**
+ * Correlates the replies to request messages. All replies are received on a
+ * single {@link TemporaryQueue} opened on a dedicated connection the first
+ * time it is needed, and are matched to the pending requests by their
+ * {@code JMSCorrelationID}, so no queue or consumer is created per request.
+ * <p>
+ * A request is sent with the {@link #getReplyQueue() reply queue} as its
+ * {@code JMSReplyTo} header and the correlation ID passed to
+ * {@link #expectReply(String)} as its {@code JMSCorrelationID} header. The
+ * returned future is completed with the reply, or exceptionally with a
+ * {@link java.util.concurrent.TimeoutException} if no reply is received
+ * within the timeout.
+ *
+ * @since 4.1.0
+ */
+public class JmsRequestReply implements AutoCloseable {
+
+    /**
+     * The default time to wait for a reply.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JmsRequestReply.class);
+
+    private final ConnectionFactory connectionFactory;
+    private final Duration timeout;
+    private final Map<String, CompletableFuture<Message>> pendingReplies = new ConcurrentHashMap<>();
+
+    private Connection connection;
+    private TemporaryQueue replyQueue;
+    private boolean closed;
+
+    /**
+     * @param connectionFactory the factory of the connection the replies are received on
+     * @param timeout           how long to wait for each reply
+     */
+    public JmsRequestReply(@NonNull ConnectionFactory connectionFactory,
+                           @NonNull Duration timeout) {
+        ArgumentUtils.requireNonNull("connectionFactory", connectionFactory);
+        ArgumentUtils.requireNonNull("timeout", timeout);
+        this.connectionFactory = connectionFactory;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @return a new unique correlation ID
+     */
+    @NonNull
+    public static String newCorrelationId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Returns the queue the replies are received on, opening it and its
+     * connection if needed.
+     *
+     * @return the reply queue
+     */
+    @NonNull
+    public synchronized Destination getReplyQueue() {
+        if (closed) {
+            throw new IllegalStateException("The reply queue is closed");
+        }
+        if (replyQueue == null) {
+            open();
+        }
+        return replyQueue;
+    }
+
+    /**
+     * Registers a request expecting a reply with the given correlation ID.
+     * Must be called before the request is sent so that a fast reply is not
+     * missed.
+     *
+     * @param correlationId the correlation ID of the request
+     * @return the future completed with the reply
+     */
+    @NonNull
+    public CompletableFuture<Message> expectReply(@NonNull String correlationId) {
+        ArgumentUtils.requireNonNull("correlationId", correlationId);
+        CompletableFuture<Message> reply = new CompletableFuture<>();
+        if (pendingReplies.putIfAbsent(correlationId, reply) != null) {
+            throw new IllegalArgumentException("A reply to correlation ID " + correlationId + " is already expected");
+        }
+        reply.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .whenComplete((message, e) -> pendingReplies.remove(correlationId, reply));
+        return reply;
+    }
+
+    /**
+     * @return how long to wait for each reply
+     */
+    @NonNull
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @return the number of requests waiting for their reply
+     */
+    public int getPendingCount() {
+        return pendingReplies.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        closeConnection(new MessagingSystemException("The reply queue was closed"));
+    }
+
+    @Override
+    public String toString() {
+        return "JmsRequestReply{" +
+            "replyQueue=" + replyQueue +
+            ", timeout=" + timeout +
+            ", pending=" + pendingReplies.size() +
+            '}';
+    }
+
+    private void open() {
+        Connection newConnection = null;
+        try {
+            newConnection = connectionFactory.createConnection();
+            Session session = newConnection.createSession(false, AUTO_ACKNOWLEDGE);
+            TemporaryQueue queue = session.createTemporaryQueue();
+            MessageConsumer consumer = session.createConsumer(queue);
+            consumer.setMessageListener(this::onReply);
+            final Connection failing = newConnection;
+            newConnection.setExceptionListener(e -> onConnectionFailure(failing, e));
+            newConnection.start();
+            connection = newConnection;
+            replyQueue = queue;
+            LOGGER.debug("Opened reply queue {}", queue);
+        } catch (JMSException | RuntimeException e) {
+            if (newConnection != null) {
+                closeQuietly(newConnection);
+            }
+            throw new MessagingSystemException("Problem opening the reply queue", e);
+        }
+    }
+
+    private void onReply(Message message) {
+        String correlationId;
+        try {
+            correlationId = message.getJMSCorrelationID();
+        } catch (JMSException e) {
+            LOGGER.warn("Discarding reply without a readable correlation ID", e);
+            return;
+        }
+        CompletableFuture<Message> reply = correlationId == null ? null : pendingReplies.remove(correlationId);
+        if (reply == null) {
+            LOGGER.debug("Discarding late or unexpected reply with correlation ID {}", correlationId);
+        } else {
+            reply.complete(message);
+        }
+    }
+
+    private synchronized void onConnectionFailure(Connection failed, JMSException e) {
+        if (failed != connection) {
+            return;
+        }
+        LOGGER.warn("The connection of reply queue {} failed, it will be reopened by the next request", replyQueue, e);
+        closeConnection(new MessagingSystemException("The connection of the reply queue failed", e));
+    }
+
+    private void closeConnection(RuntimeException cause) {
+        if (connection != null) {
+            closeQuietly(connection);
+            connection = null;
+            replyQueue = null;
+        }
+        // the replies can no longer be received, so fail the requests instead of letting them time out
+        pendingReplies.values().forEach(reply -> reply.completeExceptionally(cause));
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (JMSException | RuntimeException e) {
+            LOGGER.debug("Problem closing the reply connection", e);
+        }
+    }
+}
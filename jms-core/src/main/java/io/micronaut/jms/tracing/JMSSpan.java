@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.tracing;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Span of a sent or received message started by {@link JMSTracing}.
+ *
+ * @since 4.1.0
+ */
+public interface JMSSpan {
+
+    /**
+     * Makes the span the current span of the calling thread, so that spans started while handling the message
+     *  become its children.
+     *
+     * @return the scope to close once the span is no longer current
+     */
+    @NonNull
+    Scope makeCurrent();
+
+    /**
+     * @param durationNanos the time taken to bind the message, including deserializing its body, in nanoseconds
+     */
+    default void recordDeserialization(long durationNanos) {
+        // no-op
+    }
+
+    /**
+     * @param durationNanos the time taken by the listener method, in nanoseconds
+     */
+    default void recordHandling(long durationNanos) {
+        // no-op
+    }
+
+    /**
+     * Marks the span as failed.
+     *
+     * @param error the error
+     */
+    void error(@NonNull Throwable error);
+
+    /**
+     * Ends the span.
+     */
+    void end();
+
+    /**
+     * Scope of a current span.
+     */
+    @FunctionalInterface
+    interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.tracing;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.jms.listener.JMSListener;
+
+import jakarta.jms.Destination;
+import jakarta.jms.Message;
+
+/**
+ * Traces messages sent by {@link io.micronaut.jms.templates.JmsProducer} and handled by {@link JMSListener}s,
+ *  propagating the trace context through message properties. If no bean of this type is present, nothing is traced.
+ *
+ * @see OpenTelemetryJMSTracing
+ * @since 4.1.0
+ */
+public interface JMSTracing {
+
+    /**
+     * Starts the span of a message about to be sent and adds its context to the message properties.
+     *
+     * @param destination the destination the message is sent to
+     * @param message     the message, with its headers already applied
+     * @return the span, ended once the message has been sent
+     */
+    @NonNull
+    JMSSpan startSend(@NonNull Destination destination, @NonNull Message message);
+
+    /**
+     * Starts the span of a received message, continuing the trace context found in the message properties.
+     *
+     * @param listener the listener handling the message
+     * @param message  the message
+     * @return the span, ended once the message has been handled
+     */
+    @NonNull
+    JMSSpan startReceive(@NonNull JMSListener listener, @NonNull Message message);
+}
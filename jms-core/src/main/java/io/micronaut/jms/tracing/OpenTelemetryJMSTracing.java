@@ -0,0 +1,247 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.tracing;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.jms.configuration.properties.JMSConfigurationProperties;
+import io.micronaut.jms.listener.JMSListener;
+import io.micronaut.jms.model.MessageHeader;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Queue;
+import jakarta.jms.Topic;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.micronaut.jms.util.HeaderNameUtils.decode;
+import static io.micronaut.jms.util.HeaderNameUtils.encode;
+
+/**
+ * {@link JMSTracing} starting OpenTelemetry spans, enabled when an {@link OpenTelemetry} bean is present. The trace
+ *  context is written to the message properties by the configured propagators (W3C {@code traceparent} and
+ *  {@code tracestate} by default), with the hyphens and dots of their names escaped by
+ *  {@link io.micronaut.jms.util.HeaderNameUtils}. Can be disabled with {@code micronaut.jms.tracing.enabled=false}.
+ *
+ * @since 4.1.0
+ */
+@Singleton
+@Requires(classes = OpenTelemetry.class)
+@Requires(beans = OpenTelemetry.class)
+@Requires(property = OpenTelemetryJMSTracing.ENABLED, notEquals = StringUtils.FALSE)
+public class OpenTelemetryJMSTracing implements JMSTracing {
+
+    /**
+     * Property to disable the tracing.
+     */
+    public static final String ENABLED = JMSConfigurationProperties.PREFIX + ".tracing.enabled";
+
+    /**
+     * Time between the message being sent and its handling starting, in milliseconds.
+     */
+    public static final AttributeKey<Long> QUEUE_TIME = AttributeKey.longKey("messaging.jms.queue_time_ms");
+
+    /**
+     * Time taken to bind the message, including deserializing its body, in milliseconds.
+     */
+    public static final AttributeKey<Double> DESERIALIZATION_TIME =
+        AttributeKey.doubleKey("messaging.jms.deserialization_time_ms");
+
+    /**
+     * Time taken by the listener method, in milliseconds.
+     */
+    public static final AttributeKey<Double> HANDLER_TIME = AttributeKey.doubleKey("messaging.jms.handler_time_ms");
+
+    private static final String INSTRUMENTATION_NAME = "io.micronaut.jms";
+    private static final String SYSTEM = "jms";
+    private static final AttributeKey<String> MESSAGING_SYSTEM = AttributeKey.stringKey("messaging.system");
+    private static final AttributeKey<String> MESSAGING_OPERATION = AttributeKey.stringKey("messaging.operation");
+    private static final AttributeKey<String> MESSAGING_DESTINATION =
+        AttributeKey.stringKey("messaging.destination.name");
+    private static final AttributeKey<String> MESSAGING_MESSAGE_ID = AttributeKey.stringKey("messaging.message.id");
+    private static final AttributeKey<String> MESSAGING_CONSUMER_ID =
+        AttributeKey.stringKey("messaging.consumer.id");
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenTelemetryJMSTracing.class);
+
+    private static final TextMapSetter<Message> SETTER = (message, key, value) -> {
+        if (message != null) {
+            new MessageHeader(key, value).apply(message);
+        }
+    };
+
+    private static final TextMapGetter<Message> GETTER = new TextMapGetter<>() {
+
+        @Override
+        public Iterable<String> keys(Message message) {
+            List<String> keys = new ArrayList<>();
+            try {
+                Enumeration<?> names = message.getPropertyNames();
+                while (names.hasMoreElements()) {
+                    keys.add(decode((String) names.nextElement()));
+                }
+            } catch (JMSException | RuntimeException e) {
+                LOGGER.debug("Unable to read the property names of message {}", message, e);
+                return Collections.emptyList();
+            }
+            return keys;
+        }
+
+        @Override
+        public String get(Message message, String key) {
+            if (message == null) {
+                return null;
+            }
+            try {
+                return message.getStringProperty(encode(key));
+            } catch (JMSException | RuntimeException e) {
+                LOGGER.debug("Unable to read the property {} of message {}", key, message, e);
+                return null;
+            }
+        }
+    };
+
+    private final Tracer tracer;
+    private final TextMapPropagator propagator;
+
+    /**
+     * @param openTelemetry the OpenTelemetry instance
+     */
+    public OpenTelemetryJMSTracing(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+    }
+
+    @NonNull
+    @Override
+    public JMSSpan startSend(@NonNull Destination destination, @NonNull Message message) {
+        String destinationName = nameOf(destination);
+        Span span = tracer.spanBuilder(destinationName + " publish")
+            .setSpanKind(SpanKind.PRODUCER)
+            .setAttribute(MESSAGING_SYSTEM, SYSTEM)
+            .setAttribute(MESSAGING_OPERATION, "publish")
+            .setAttribute(MESSAGING_DESTINATION, destinationName)
+            .startSpan();
+        propagator.inject(Context.current().with(span), message, SETTER);
+        return new OpenTelemetrySpan(span);
+    }
+
+    @NonNull
+    @Override
+    public JMSSpan startReceive(@NonNull JMSListener listener, @NonNull Message message) {
+        Context parent = propagator.extract(Context.current(), message, GETTER);
+        Span span = tracer.spanBuilder(listener.getDestination() + " process")
+            .setParent(parent)
+            .setSpanKind(SpanKind.CONSUMER)
+            .setAttribute(MESSAGING_SYSTEM, SYSTEM)
+            .setAttribute(MESSAGING_OPERATION, "process")
+            .setAttribute(MESSAGING_DESTINATION, listener.getDestination())
+            .setAttribute(MESSAGING_CONSUMER_ID, listener.getId())
+            .startSpan();
+        try {
+            String messageId = message.getJMSMessageID();
+            if (messageId != null) {
+                span.setAttribute(MESSAGING_MESSAGE_ID, messageId);
+            }
+            long timestamp = message.getJMSTimestamp();
+            if (timestamp > 0) {
+                span.setAttribute(QUEUE_TIME, Math.max(0, System.currentTimeMillis() - timestamp));
+            }
+        } catch (JMSException | RuntimeException e) {
+            LOGGER.debug("Unable to read the headers of message {}", message, e);
+        }
+        return new OpenTelemetrySpan(span);
+    }
+
+    private static String nameOf(Destination destination) {
+        try {
+            if (destination instanceof Queue queue) {
+                return queue.getQueueName();
+            }
+            if (destination instanceof Topic topic) {
+                return topic.getTopicName();
+            }
+        } catch (JMSException | RuntimeException e) {
+            LOGGER.debug("Unable to read the name of destination {}", destination, e);
+        }
+        return String.valueOf(destination);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * {@link JMSSpan} wrapping an OpenTelemetry {@link Span}.
+     */
+    private static final class OpenTelemetrySpan implements JMSSpan {
+
+        private final Span span;
+
+        private OpenTelemetrySpan(Span span) {
+            this.span = span;
+        }
+
+        @NonNull
+        @Override
+        public JMSSpan.Scope makeCurrent() {
+            Scope scope = span.makeCurrent();
+            return scope::close;
+        }
+
+        @Override
+        public void recordDeserialization(long durationNanos) {
+            span.setAttribute(DESERIALIZATION_TIME, millis(durationNanos));
+        }
+
+        @Override
+        public void recordHandling(long durationNanos) {
+            span.setAttribute(HANDLER_TIME, millis(durationNanos));
+        }
+
+        @Override
+        public void error(@NonNull Throwable error) {
+            span.recordException(error);
+            String description = error.getMessage() == null ? error.getClass().getName() : error.getMessage();
+            span.setStatus(StatusCode.ERROR, description);
+        }
+
+        @Override
+        public void end() {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.micronaut.jms.configuration
+
+import io.micronaut.jms.configuration.properties.JMSConnectionFactoryConfigurationProperties
+import io.micronaut.jms.pool.PoolConfiguration
+import spock.lang.Specification
+
+import java.time.Duration
+
+class FactoryPoolConfigurationSpec extends Specification {
+
+    private final PoolConfiguration global = new PoolConfiguration() {
+        @Override
+        Duration getIdleTimeout() {
+            Duration.ofMinutes(1)
+        }
+
+        @Override
+        Duration getBorrowTimeout() {
+            Duration.ofSeconds(2)
+        }
+    }
+
+    void 'the settings of a connection factory override the global ones'() {
+        given:
+        def factory = new JMSConnectionFactoryConfigurationProperties('test')
+        factory.testOnBorrow = false
+        factory.testOnReturn = false
+        factory.evictionInterval = Duration.ofSeconds(5)
+        factory.idleTimeout = Duration.ofSeconds(10)
+        factory.maxLifetime = Duration.ofMinutes(30)
+        factory.maxLifetimeJitter = 0.2d
+        factory.borrowTimeout = Duration.ofMillis(500)
+
+        when:
+        def configuration = new JMSConnectionFactoryBeanProcessor.FactoryPoolConfiguration(factory, global)
+
+        then:
+        !configuration.testOnBorrow
+        !configuration.testOnReturn
+        configuration.evictionInterval == Duration.ofSeconds(5)
+        configuration.idleTimeout == Duration.ofSeconds(10)
+        configuration.maxLifetime == Duration.ofMinutes(30)
+        configuration.maxLifetimeJitter == 0.2d
+        configuration.borrowTimeout == Duration.ofMillis(500)
+    }
+
+    void 'unset settings of a connection factory fall back to the global ones'() {
+        when:
+        def configuration = new JMSConnectionFactoryBeanProcessor.FactoryPoolConfiguration(
+            new JMSConnectionFactoryConfigurationProperties('test'), global)
+
+        then:
+        configuration.testOnBorrow
+        configuration.testOnReturn
+        configuration.evictionInterval == PoolConfiguration.DEFAULT.evictionInterval
+        configuration.idleTimeout == Duration.ofMinutes(1)
+        configuration.maxLifetime == null
+        configuration.maxLifetimeJitter == PoolConfiguration.DEFAULT.maxLifetimeJitter
+        configuration.borrowTimeout == Duration.ofSeconds(2)
+    }
+}
@@ -0,0 +1,110 @@
+package io.micronaut.jms.listener
+
+import io.micronaut.jms.model.JMSDestinationType
+import jakarta.jms.Connection
+import jakarta.jms.Message
+import jakarta.jms.MessageConsumer
+import jakarta.jms.MessageListener
+import jakarta.jms.Queue
+import jakarta.jms.Session
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.function.IntFunction
+
+class JMSListenerSpec extends Specification {
+
+    private final Connection connection = Mock()
+    private final Session session = Mock()
+    private final MessageConsumer consumer = Mock()
+
+    void setup() {
+        connection.createSession(false, Session.AUTO_ACKNOWLEDGE) >> session
+        session.createQueue('queue') >> Mock(Queue)
+        session.createConsumer(_) >> consumer
+    }
+
+    void 'a rate limited listener is paused without waiting for its next permit'() {
+        given:
+        CountDownLatch received = new CountDownLatch(1)
+        consumer.receive(_) >> Mock(Message) >> null
+        JMSListener listener = listener({ Message message -> received.countDown() } as MessageListener)
+        listener.rateLimiter = new RateLimiter(RateLimiter.parseRate('1/h'))
+
+        when:
+        listener.start()
+
+        then:
+        received.await(5, TimeUnit.SECONDS)
+
+        when:
+        long start = System.nanoTime()
+        listener.pause()
+
+        then:
+        listener.state == JMSListenerState.PAUSED
+        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 3
+
+        cleanup:
+        listener.stop()
+    }
+
+    void 'a binding listener is given the session the message was received on'() {
+        given:
+        MessageListener consumerListener = null
+        consumer.setMessageListener(_) >> { MessageListener it -> consumerListener = it }
+        Session bound = null
+        JMSListener listener = listener({ Session session, Message message ->
+            return { -> bound = session } as Runnable
+        } as BindingMessageListener)
+
+        when:
+        listener.start()
+        consumerListener.onMessage(Mock(Message))
+
+        then:
+        bound.is(session)
+
+        cleanup:
+        listener.stop()
+    }
+
+    void 'changing the prefetch of a running listener recreates its consumers with the new destination'() {
+        given:
+        Queue prefetchQueue = Mock()
+        session.createQueue('queue?consumer.prefetchSize=0') >> prefetchQueue
+        JMSListener listener = listener({ Message message -> } as MessageListener)
+        listener.prefetchDestination = { int prefetch -> 'queue?consumer.prefetchSize=' + prefetch } as IntFunction<String>
+        listener.start()
+
+        when:
+        listener.setPrefetch(0)
+
+        then:
+        1 * consumer.close()
+        1 * session.createConsumer(prefetchQueue) >> consumer
+        listener.prefetch == 0
+
+        cleanup:
+        listener.stop()
+    }
+
+    void 'the prefetch of a listener cannot be changed unless its provider supports it per destination'() {
+        given:
+        JMSListener listener = listener({ Message message -> } as MessageListener)
+        listener.prefetchDestination = { int prefetch -> null } as IntFunction<String>
+
+        when:
+        listener.setPrefetch(10)
+
+        then:
+        thrown(IllegalStateException)
+        listener.prefetch == -1
+    }
+
+    private JMSListener listener(MessageListener delegate) {
+        new JMSListener('listener', connection, false, Session.AUTO_ACKNOWLEDGE, delegate,
+            JMSDestinationType.QUEUE, 'queue', null, Optional.empty())
+    }
+}
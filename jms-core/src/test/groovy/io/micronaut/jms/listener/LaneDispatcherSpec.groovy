@@ -0,0 +1,101 @@
+package io.micronaut.jms.listener
+
+import jakarta.jms.Message
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.TimeUnit
+
+class LaneDispatcherSpec extends Specification {
+
+    void 'messages with the same key are handled in order by the same lane'() {
+        given:
+        LaneDispatcher dispatcher = new LaneDispatcher('orders', 4, 'customer', 100)
+        List<List<Object>> handled = new CopyOnWriteArrayList<>()
+
+        when:
+        60.times { int seq ->
+            String key = ['a', 'b', 'c'][seq % 3]
+            dispatcher.dispatch(keyed(key), { -> handled << [key, seq, Thread.currentThread().name] })
+        }
+        dispatcher.shutdown()
+
+        then:
+        handled.size() == 60
+        ['a', 'b', 'c'].every { String key ->
+            List<List<Object>> ofKey = handled.findAll { it[0] == key }
+            ofKey.collect { it[1] } == ofKey.collect { it[1] }.sort() &&
+                ofKey.collect { it[2] }.unique().size() == 1
+        }
+        dispatcher.inFlight == 0
+    }
+
+    void 'messages without a key are spread across the lanes'() {
+        given:
+        LaneDispatcher dispatcher = new LaneDispatcher('orders', 4, 'customer', 100)
+        Set<String> threads = Collections.synchronizedSet(new HashSet<>())
+
+        when:
+        4.times {
+            dispatcher.dispatch(keyed(null), { -> threads << Thread.currentThread().name })
+        }
+        dispatcher.shutdown()
+
+        then:
+        threads == ['orders-lane-0', 'orders-lane-1', 'orders-lane-2', 'orders-lane-3'] as Set
+    }
+
+    void 'dispatching blocks once the maximum number of in-flight messages is reached'() {
+        given:
+        LaneDispatcher dispatcher = new LaneDispatcher('orders', 2, 'customer', 2)
+        CountDownLatch release = new CountDownLatch(1)
+        CountDownLatch dispatched = new CountDownLatch(1)
+        Runnable blocked = { -> release.await() }
+        dispatcher.dispatch(keyed('a'), blocked)
+        dispatcher.dispatch(keyed('b'), blocked)
+        Message third = keyed('c')
+
+        when:
+        Thread.start {
+            dispatcher.dispatch(third, { -> })
+            dispatched.countDown()
+        }
+
+        then:
+        !dispatched.await(200, TimeUnit.MILLISECONDS)
+        dispatcher.inFlight == 2
+        dispatcher.queueDepths.sum() == 0
+
+        when:
+        release.countDown()
+
+        then:
+        dispatched.await(5, TimeUnit.SECONDS)
+
+        cleanup:
+        release.countDown()
+        dispatcher.shutdown()
+    }
+
+    void 'the lanes and the maximum number of in-flight messages must be positive'() {
+        when:
+        new LaneDispatcher('orders', lanes, 'customer', maxInFlight)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        lanes | maxInFlight
+        0     | 10
+        2     | 0
+    }
+
+    private Message keyed(String key) {
+        Stub(Message) {
+            propertyExists('customer') >> (key != null)
+            getStringProperty('customer') >> key
+            getObjectProperty('customer') >> key
+        }
+    }
+}
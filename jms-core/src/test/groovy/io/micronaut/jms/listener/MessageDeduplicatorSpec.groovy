@@ -0,0 +1,117 @@
+package io.micronaut.jms.listener
+
+import io.micronaut.jms.configuration.properties.JMSDeduplicationConfigurationProperties
+import jakarta.jms.Message
+import spock.lang.Specification
+
+import java.time.Duration
+
+class MessageDeduplicatorSpec extends Specification {
+
+    void 'a claimed key is a duplicate until it is released'() {
+        given:
+        InMemoryMessageDeduplicationStore store = store(10, Duration.ofHours(1))
+
+        expect:
+        store.claim('listener:1')
+        !store.claim('listener:1')
+        store.size() == 0
+
+        when:
+        store.release('listener:1')
+
+        then:
+        store.claim('listener:1')
+    }
+
+    void 'a processed key is a duplicate until it expires'() {
+        given:
+        InMemoryMessageDeduplicationStore store = store(10, Duration.ofMillis(100))
+        store.claim('listener:1')
+
+        when:
+        store.add('listener:1')
+
+        then:
+        store.contains('listener:1')
+        !store.claim('listener:1')
+        store.size() == 1
+        store.estimatedMemoryBytes > 0
+
+        when:
+        Thread.sleep(150)
+
+        then:
+        !store.contains('listener:1')
+        store.size() == 0
+        store.estimatedMemoryBytes == 0
+        store.claim('listener:1')
+    }
+
+    void 'the oldest keys are evicted once the store is full'() {
+        given:
+        InMemoryMessageDeduplicationStore store = store(2, Duration.ofHours(1))
+
+        when:
+        ['listener:1', 'listener:2', 'listener:3'].each { store.add(it) }
+
+        then:
+        store.size() == 2
+        !store.contains('listener:1')
+        store.contains('listener:2')
+        store.contains('listener:3')
+    }
+
+    void 'the deduplicator counts the duplicates of a listener'() {
+        given:
+        MessageDeduplicator deduplicator = new MessageDeduplicator('listener', 'paymentId', store(10, Duration.ofHours(1)))
+        Message message = Stub() {
+            propertyExists('paymentId') >> true
+            getStringProperty('paymentId') >> 'p-1'
+            getObjectProperty('paymentId') >> 'p-1'
+        }
+        String key = deduplicator.keyOf(message)
+
+        expect:
+        key == 'listener:p-1'
+        !deduplicator.isDuplicate(key)
+        deduplicator.isDuplicate(key)
+
+        when:
+        deduplicator.markProcessed(key)
+
+        then:
+        deduplicator.isDuplicate(key)
+        deduplicator.hitCount == 2
+        deduplicator.missCount == 1
+        deduplicator.hitRate == 2d / 3
+    }
+
+    void 'a failed message is processed again once its claim is released'() {
+        given:
+        MessageDeduplicator deduplicator = new MessageDeduplicator('listener', 'paymentId', store(10, Duration.ofHours(1)))
+
+        when:
+        deduplicator.isDuplicate('listener:p-1')
+        deduplicator.release('listener:p-1')
+
+        then:
+        !deduplicator.isDuplicate('listener:p-1')
+    }
+
+    void 'messages without the key header are not deduplicated'() {
+        given:
+        MessageDeduplicator deduplicator = new MessageDeduplicator('listener', 'paymentId', store(10, Duration.ofHours(1)))
+
+        expect:
+        deduplicator.keyOf(Stub(Message)) == null
+        deduplicator.hitRate == 0
+    }
+
+    private InMemoryMessageDeduplicationStore store(int maxSize, Duration expireAfter) {
+        new InMemoryMessageDeduplicationStore(Stub(JMSDeduplicationConfigurationProperties) {
+            getMaxSize() >> maxSize
+            getExpireAfter() >> expireAfter
+        })
+    }
+}
@@ -0,0 +1,122 @@
+package io.micronaut.jms.listener
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.TimeUnit
+
+class RateLimiterSpec extends Specification {
+
+    @Unroll
+    void 'the rate limit #rateLimit is #rate permits per second'() {
+        expect:
+        RateLimiter.parseRate(rateLimit) == rate
+
+        where:
+        rateLimit     | rate
+        '200/s'       | 200
+        '120/m'       | 2
+        '3600/h'      | 1
+        '50/10s'      | 5
+        '5/100ms'     | 50
+        '2.5/s'       | 2.5
+        ' 10 / 2 s '  | 5
+    }
+
+    @Unroll
+    void 'the rate limit "#rateLimit" is rejected'() {
+        when:
+        RateLimiter.parseRate(rateLimit)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        rateLimit << ['', '200', '200/d', 's/200', '-1/s', '0/s', '10/0s']
+    }
+
+    void 'an adaptive limiter halves its rate after a window with too many errors'() {
+        given:
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(100)
+
+        when:
+        limiter.onError()
+        Thread.sleep(1100)
+        limiter.onError()
+
+        then:
+        limiter.rate == 50
+        limiter.maxRate == 100
+    }
+
+    void 'an adaptive limiter keeps its rate while the errors stay below the threshold'() {
+        given:
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(100)
+
+        when:
+        19.times { limiter.onSuccess() }
+        limiter.onError()
+        Thread.sleep(1100)
+        limiter.onSuccess()
+
+        then:
+        limiter.rate == 100
+    }
+
+    void 'an adaptive limiter recovers in steps of a tenth of its configured rate'() {
+        given:
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(100)
+        limiter.onError()
+        Thread.sleep(1100)
+        limiter.onError()
+
+        when:
+        Thread.sleep(1100)
+        limiter.onSuccess()
+
+        then:
+        limiter.rate == 60
+    }
+
+    void 'the error threshold of an adaptive limiter must be a share'() {
+        when:
+        new AdaptiveRateLimiter(100, 1.5)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    void 'a permit available within the timeout is acquired'() {
+        given:
+        RateLimiter limiter = new RateLimiter(20)
+        20.times { assert limiter.tryAcquire() }
+
+        when:
+        long start = System.nanoTime()
+        boolean acquired = limiter.tryAcquire(1, TimeUnit.SECONDS)
+
+        then:
+        acquired
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 20
+    }
+
+    void 'no permit is reserved if none is available within the timeout'() {
+        given:
+        RateLimiter limiter = new RateLimiter(RateLimiter.parseRate('1/h'))
+        limiter.tryAcquire()
+
+        when:
+        long start = System.nanoTime()
+        boolean acquired = limiter.tryAcquire(50, TimeUnit.MILLISECONDS)
+
+        then:
+        !acquired
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50
+
+        when:
+        limiter.release()
+
+        then:
+        limiter.tryAcquire()
+    }
+}
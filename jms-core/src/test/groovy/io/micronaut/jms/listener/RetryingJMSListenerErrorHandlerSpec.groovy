@@ -0,0 +1,166 @@
+package io.micronaut.jms.listener
+
+import io.micronaut.jms.configuration.properties.JMSRetryConfigurationProperties
+import io.micronaut.messaging.exceptions.MessagingSystemException
+import jakarta.jms.DeliveryMode
+import jakarta.jms.JMSException
+import jakarta.jms.Message
+import jakarta.jms.MessageProducer
+import jakarta.jms.Queue
+import jakarta.jms.Session
+import jakarta.jms.Topic
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.Duration
+
+import static io.micronaut.jms.listener.RetryingJMSListenerErrorHandler.DLQ_EXCEPTION_CLASS
+import static io.micronaut.jms.listener.RetryingJMSListenerErrorHandler.DLQ_EXCEPTION_MESSAGE
+import static io.micronaut.jms.listener.RetryingJMSListenerErrorHandler.DLQ_FAILED_AT
+import static io.micronaut.jms.listener.RetryingJMSListenerErrorHandler.DLQ_ORIGINAL_DESTINATION
+import static io.micronaut.jms.listener.RetryingJMSListenerErrorHandler.RETRY_ATTEMPTS
+
+class RetryingJMSListenerErrorHandlerSpec extends Specification {
+
+    private final Queue orders = Stub() {
+        getQueueName() >> 'orders'
+    }
+    private final MessageProducer producer = Mock()
+    private final Session session = Mock()
+
+    void setup() {
+        session.createProducer(null) >> producer
+        session.getAcknowledgeMode() >> Session.CLIENT_ACKNOWLEDGE
+    }
+
+    @Unroll
+    void 'attempt #attempt is retried after #delay ms'() {
+        given:
+        Map<String, Object> properties = previousAttempts == null ? [:] : [(RETRY_ATTEMPTS): previousAttempts]
+        if (deliveryCount != null) {
+            properties.JMSXDeliveryCount = deliveryCount
+        }
+        Message message = received(properties, redelivered)
+
+        when:
+        handler().handle(session, message, new IllegalStateException('boom'))
+
+        then:
+        1 * producer.setDeliveryDelay(delay)
+        1 * producer.send(orders, message, DeliveryMode.PERSISTENT, 4, Message.DEFAULT_TIME_TO_LIVE)
+        1 * message.acknowledge()
+        properties[RETRY_ATTEMPTS] == attempt
+        !properties.containsKey('JMSXDeliveryCount')
+
+        where:
+        previousAttempts | deliveryCount | redelivered | attempt | delay
+        null             | 1             | false       | 1       | 1000
+        null             | null          | false       | 1       | 1000
+        null             | null          | true        | 2       | 2000
+        null             | 2             | true        | 2       | 2000
+        2                | 1             | false       | 3       | 4000
+        3                | 1             | false       | 4       | 5000
+    }
+
+    void 'a message is sent to the dead-letter queue of its queue once all attempts failed'() {
+        given:
+        Queue deadLetterQueue = Mock()
+        session.createQueue('orders.DLQ') >> deadLetterQueue
+        Map<String, Object> properties = [(RETRY_ATTEMPTS): 4, JMSXDeliveryCount: 1, JMSXGroupID: 'customer-1', tenant: 'acme']
+        Message message = received(properties)
+
+        when:
+        handler().handle(session, message, new IllegalStateException('boom'))
+
+        then:
+        0 * producer.setDeliveryDelay(_)
+        1 * producer.send(deadLetterQueue, message, DeliveryMode.PERSISTENT, 4, Message.DEFAULT_TIME_TO_LIVE)
+        1 * message.acknowledge()
+        properties[RETRY_ATTEMPTS] == 5
+        properties[DLQ_ORIGINAL_DESTINATION] == 'orders'
+        properties[DLQ_EXCEPTION_CLASS] == IllegalStateException.name
+        properties[DLQ_EXCEPTION_MESSAGE] == 'boom'
+        properties[DLQ_FAILED_AT] instanceof Long
+        properties.JMSXGroupID == 'customer-1'
+        properties.tenant == 'acme'
+        !properties.containsKey('JMSXDeliveryCount')
+    }
+
+    void 'the configured dead-letter queue is used for all queues'() {
+        given:
+        Queue deadLetterQueue = Mock()
+        Message message = received([(RETRY_ATTEMPTS): 4, JMSXDeliveryCount: 1])
+
+        when:
+        handler('failed').handle(session, message, new IllegalStateException('boom'))
+
+        then:
+        1 * session.createQueue('failed') >> deadLetterQueue
+        1 * producer.send(deadLetterQueue, message, _, _, _)
+    }
+
+    void 'a transacted session is committed once the retry is scheduled'() {
+        given:
+        Message message = received([JMSXDeliveryCount: 1])
+
+        when:
+        handler().handle(session, message, new IllegalStateException('boom'))
+
+        then:
+        _ * session.getTransacted() >> true
+        1 * producer.send(orders, message, _, _, _)
+        1 * session.commit()
+        0 * message.acknowledge()
+    }
+
+    void 'messages received from topics are left to the other error handlers'() {
+        given:
+        Message message = Mock()
+        message.getJMSDestination() >> Stub(Topic)
+
+        when:
+        handler().handle(session, message, new IllegalStateException('boom'))
+
+        then:
+        0 * session.createProducer(_)
+        0 * message.acknowledge()
+    }
+
+    void 'a failed retry of a non-transacted message is thrown so that the provider redelivers it'() {
+        given:
+        Message message = received([JMSXDeliveryCount: 1])
+        producer.send(*_) >> { throw new JMSException('broker unavailable') }
+
+        when:
+        handler().handle(session, message, new IllegalStateException('boom'))
+
+        then:
+        thrown(MessagingSystemException)
+        0 * message.acknowledge()
+    }
+
+    private RetryingJMSListenerErrorHandler handler(String deadLetterQueue = null) {
+        new RetryingJMSListenerErrorHandler(Stub(JMSRetryConfigurationProperties) {
+            getMaxAttempts() >> 5
+            getInitialDelay() >> Duration.ofSeconds(1)
+            getMultiplier() >> 2d
+            getMaxDelay() >> Duration.ofSeconds(5)
+            getDeadLetterQueue() >> deadLetterQueue
+        })
+    }
+
+    private Message received(Map<String, Object> properties, boolean redelivered = false) {
+        Message message = Mock()
+        message.getJMSDestination() >> orders
+        message.getJMSRedelivered() >> redelivered
+        message.getJMSDeliveryMode() >> DeliveryMode.PERSISTENT
+        message.getJMSPriority() >> 4
+        message.propertyExists(_) >> { String name -> properties.containsKey(name) }
+        message.getIntProperty(_) >> { String name -> properties[name] as int }
+        message.getObjectProperty(_) >> { String name -> properties[name] }
+        message.getPropertyNames() >> { Collections.enumeration(new ArrayList<>(properties.keySet())) }
+        message.clearProperties() >> { properties.clear() }
+        message.setObjectProperty(_, _) >> { String name, Object value -> properties[name] = value }
+        message
+    }
+}
@@ -0,0 +1,97 @@
+package io.micronaut.jms.model
+
+import jakarta.jms.DeliveryMode
+import jakarta.jms.JMSProducer
+import jakarta.jms.MessageProducer
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class DeliveryOptionsSpec extends Specification {
+
+    @Unroll
+    void 'priority #priority is accepted'() {
+        expect:
+        DeliveryOptions.builder().priority(priority).build().priority == priority
+
+        where:
+        priority << [null, 0, 4, 9]
+    }
+
+    @Unroll
+    void 'priority #priority is rejected'() {
+        when:
+        DeliveryOptions.builder().priority(priority)
+
+        then:
+        IllegalArgumentException e = thrown()
+        e.message == "Priority must be between 0 and 9, was $priority"
+
+        where:
+        priority << [-1, 10, Integer.MAX_VALUE]
+    }
+
+    void 'only the options which are set are applied to a message producer'() {
+        given:
+        MessageProducer producer = Mock()
+        DeliveryOptions options = DeliveryOptions.builder()
+            .priority(7)
+            .timeToLive(60_000L)
+            .build()
+
+        when:
+        options.applyTo(producer)
+
+        then:
+        1 * producer.setPriority(7)
+        1 * producer.setTimeToLive(60_000L)
+        0 * producer._
+    }
+
+    void 'all options are applied to a JMS 2.0 producer'() {
+        given:
+        JMSProducer producer = Mock()
+        DeliveryOptions options = DeliveryOptions.builder()
+            .deliveryMode(JMSDeliveryMode.NON_PERSISTENT)
+            .priority(0)
+            .timeToLive(1_000L)
+            .deliveryDelay(500L)
+            .disableMessageID(true)
+            .disableMessageTimestamp(true)
+            .build()
+
+        when:
+        options.applyTo(producer)
+
+        then:
+        1 * producer.setDeliveryMode(DeliveryMode.NON_PERSISTENT)
+        1 * producer.setPriority(0)
+        1 * producer.setTimeToLive(1_000L)
+        1 * producer.setDeliveryDelay(500L)
+        1 * producer.setDisableMessageID(true)
+        1 * producer.setDisableMessageTimestamp(true)
+    }
+
+    void 'the default options leave the producer unchanged'() {
+        given:
+        MessageProducer producer = Mock()
+
+        when:
+        DeliveryOptions.DEFAULT.applyTo(producer)
+
+        then:
+        0 * producer._
+    }
+
+    void 'options copied to a builder are equal to the original'() {
+        given:
+        DeliveryOptions options = DeliveryOptions.builder()
+            .deliveryMode(JMSDeliveryMode.PERSISTENT)
+            .priority(9)
+            .deliveryDelay(100L)
+            .build()
+
+        expect:
+        options.toBuilder().build() == options
+        options.toBuilder().priority(1).build() != options
+    }
+}
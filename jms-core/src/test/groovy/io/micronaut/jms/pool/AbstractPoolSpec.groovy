@@ -0,0 +1,211 @@
+package io.micronaut.jms.pool
+
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+class AbstractPoolSpec extends Specification {
+
+    private final PollingConditions polling = new PollingConditions(timeout: 5)
+
+    @AutoCleanup
+    private TestPool pool
+
+    void 'objects are reused by the arguments they were created with'() {
+        given:
+        pool = new TestPool(0, 3, new TestConfiguration())
+        def first = pool.request('a')
+        first.close()
+
+        when:
+        def second = pool.request('a')
+        def other = pool.request('b')
+
+        then:
+        second.is(first)
+        !other.is(first)
+        other.get().arguments == ['b']
+        first.get().resets == 1
+        pool.createdCount == 2
+        pool.activeCount == 2
+    }
+
+    void 'requests fail once the maximum size is reached'() {
+        given:
+        pool = new TestPool(0, 1, new TestConfiguration())
+        pool.request()
+
+        when:
+        pool.request()
+
+        then:
+        IllegalStateException e = thrown()
+        e.message == 'Maximum pool size reached'
+    }
+
+    void 'requests wait for the borrow timeout once the maximum size is reached'() {
+        given:
+        pool = new TestPool(0, 1, new TestConfiguration(borrowTimeout: Duration.ofSeconds(5)))
+        def first = pool.request()
+        Thread.start {
+            sleep(100)
+            first.close()
+        }
+
+        when:
+        def second = pool.request()
+
+        then:
+        second.is(first)
+    }
+
+    void 'failed objects are destroyed when released'() {
+        given:
+        pool = new TestPool(0, 2, new TestConfiguration())
+        def object = pool.request()
+
+        when:
+        object.markFailed()
+        object.close()
+
+        then:
+        pool.destroyed == [object.get()]
+        pool.destroyedCount == 1
+        pool.idleCount == 0
+        pool.activeCount == 0
+    }
+
+    void 'invalid idle objects are replaced when requested'() {
+        given:
+        pool = new TestPool(0, 2, new TestConfiguration())
+        def first = pool.request()
+        first.close()
+        first.get().valid = false
+
+        when:
+        def second = pool.request()
+
+        then:
+        !second.is(first)
+        pool.destroyed == [first.get()]
+    }
+
+    void 'objects are destroyed once they exceed their maximum lifetime'() {
+        given:
+        pool = new TestPool(0, 2, new TestConfiguration(maxLifetime: Duration.ofMillis(50), maxLifetimeJitter: 0))
+        def first = pool.request()
+        first.close()
+
+        when:
+        sleep(100)
+        def second = pool.request()
+
+        then:
+        !second.is(first)
+        pool.destroyed == [first.get()]
+    }
+
+    void 'idle objects beyond the initial size are evicted'() {
+        given:
+        pool = new TestPool(1, 3, new TestConfiguration(
+            evictionInterval: Duration.ofMillis(50), idleTimeout: Duration.ofMillis(10)))
+        def objects = (1..3).collect { pool.request() }
+
+        when:
+        objects*.close()
+
+        then:
+        polling.eventually {
+            assert pool.idleCount == 1
+            assert pool.destroyedCount == pool.createdCount - 1
+        }
+    }
+
+    void 'the evictor replaces invalid idle objects up to the initial size'() {
+        given:
+        pool = new TestPool(2, 3, new TestConfiguration(testOnReturn: false, evictionInterval: Duration.ofMillis(50)))
+        def objects = (1..2).collect { pool.request() }
+        objects[0].get().valid = false
+
+        when:
+        objects*.close()
+
+        then:
+        polling.eventually {
+            assert pool.destroyed == [objects[0].get()]
+            assert pool.createdCount == 3
+            assert pool.idleCount == 2
+        }
+    }
+
+    void 'objects released after the pool is closed are destroyed'() {
+        given:
+        pool = new TestPool(0, 2, new TestConfiguration())
+        def idle = pool.request()
+        def active = pool.request()
+        idle.close()
+
+        when:
+        pool.close()
+        active.close()
+
+        then:
+        pool.closed
+        pool.destroyed as Set == [idle.get(), active.get()] as Set
+    }
+
+    static class TestPool extends AbstractPool<PooledObject<Resource>> {
+
+        final List<Resource> destroyed = new CopyOnWriteArrayList<>()
+
+        TestPool(int initialSize, int maxSize, PoolConfiguration configuration) {
+            super(initialSize, maxSize, configuration)
+        }
+
+        @Override
+        protected PooledObject<Resource> create(Object... args) {
+            new TestObject(this, new Resource(arguments: args as List))
+        }
+
+        @Override
+        protected void reset(PooledObject<Resource> pooledObject) {
+            pooledObject.get().resets++
+        }
+
+        @Override
+        protected boolean validate(PooledObject<Resource> pooledObject) {
+            pooledObject.get().valid
+        }
+
+        @Override
+        protected void destroy(PooledObject<Resource> pooledObject) {
+            destroyed << pooledObject.get()
+        }
+    }
+
+    static class TestObject extends PooledObject<Resource> {
+
+        TestObject(AbstractPool pool, Resource resource) {
+            super(pool, resource)
+        }
+    }
+
+    static class Resource {
+        List<Object> arguments
+        volatile boolean valid = true
+        volatile int resets
+    }
+
+    static class TestConfiguration implements PoolConfiguration {
+        boolean testOnBorrow = true
+        boolean testOnReturn = true
+        Duration evictionInterval = Duration.ZERO
+        Duration idleTimeout = Duration.ofMinutes(5)
+        Duration maxLifetime
+        double maxLifetimeJitter = 0.1
+        Duration borrowTimeout
+    }
+}
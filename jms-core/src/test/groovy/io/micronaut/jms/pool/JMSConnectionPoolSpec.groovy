@@ -0,0 +1,85 @@
+package io.micronaut.jms.pool
+
+import io.micronaut.messaging.exceptions.MessagingSystemException
+import jakarta.jms.Connection
+import jakarta.jms.ConnectionFactory
+import jakarta.jms.JMSException
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+class JMSConnectionPoolSpec extends Specification {
+
+    private final ConnectionFactory connectionFactory = Mock()
+
+    @AutoCleanup
+    private final JMSConnectionPool pool = new JMSConnectionPool(connectionFactory, 2, 5, PoolConfiguration.DEFAULT)
+
+    void 'the pool is warm once it holds its initial connections'() {
+        given:
+        connectionFactory.createConnection() >> Mock(Connection)
+
+        expect:
+        !pool.warm
+
+        when:
+        pool.ensureMinIdle()
+
+        then:
+        pool.warm
+        pool.idleCount == 2
+    }
+
+    void 'the pool becomes warm when it is topped up after the broker was unavailable'() {
+        given:
+        connectionFactory.createConnection() >> { throw new JMSException('Connection refused') } >> Mock(Connection)
+
+        when:
+        pool.ensureMinIdle()
+
+        then:
+        thrown(MessagingSystemException)
+        !pool.warm
+
+        when:
+        pool.ensureMinIdle()
+
+        then:
+        pool.warm
+        pool.idleCount == 2
+    }
+
+    void 'the pool is no longer warm once it lost connections, until it is topped up'() {
+        given:
+        connectionFactory.createConnection() >> Mock(Connection)
+        pool.ensureMinIdle()
+        PooledConnection connection = (PooledConnection) pool.createConnection()
+
+        when:
+        connection.markFailed()
+        connection.close()
+
+        then:
+        !pool.warm
+        pool.idleCount == 1
+
+        when:
+        pool.ensureMinIdle()
+
+        then:
+        pool.warm
+    }
+
+    void 'connections in use count towards the initial connections'() {
+        given:
+        connectionFactory.createConnection() >> Mock(Connection)
+        pool.ensureMinIdle()
+
+        when:
+        pool.createConnection()
+        pool.createConnection()
+
+        then:
+        pool.activeCount == 2
+        pool.warm
+    }
+}
@@ -0,0 +1,78 @@
+package io.micronaut.jms.pool
+
+import jakarta.jms.DeliveryMode
+import jakarta.jms.Destination
+import jakarta.jms.JMSException
+import jakarta.jms.Message
+import jakarta.jms.MessageProducer
+import jakarta.jms.Session
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+class MessageProducerPoolSpec extends Specification {
+
+    private final Session session = Mock()
+
+    @AutoCleanup
+    private final MessageProducerPool pool = new MessageProducerPool(0, 2, session)
+
+    void 'producers are reset to the JMS defaults when released'() {
+        given:
+        Destination destination = Mock()
+        MessageProducer producer = Mock()
+        session.createProducer(destination) >> producer
+        def pooledProducer = pool.request(destination)
+
+        when:
+        pooledProducer.close()
+
+        then:
+        1 * producer.setDeliveryMode(DeliveryMode.PERSISTENT)
+        1 * producer.setPriority(Message.DEFAULT_PRIORITY)
+        1 * producer.setTimeToLive(Message.DEFAULT_TIME_TO_LIVE)
+        1 * producer.setDeliveryDelay(Message.DEFAULT_DELIVERY_DELAY)
+        1 * producer.setDisableMessageID(false)
+        1 * producer.setDisableMessageTimestamp(false)
+        0 * producer.close()
+
+        when:
+        def next = pool.request(destination)
+
+        then:
+        next.is(pooledProducer)
+    }
+
+    void 'producers are kept apart by their destination'() {
+        given:
+        Destination first = Mock()
+        Destination second = Mock()
+        session.createProducer(first) >> Mock(MessageProducer)
+        session.createProducer(second) >> Mock(MessageProducer)
+        def firstProducer = pool.request(first)
+        firstProducer.close()
+
+        when:
+        def secondProducer = pool.request(second)
+
+        then:
+        !secondProducer.is(firstProducer)
+        pool.createdCount == 2
+    }
+
+    void 'a producer that cannot be reset is destroyed'() {
+        given:
+        Destination destination = Mock()
+        MessageProducer producer = Mock()
+        session.createProducer(destination) >> producer
+        def pooledProducer = pool.request(destination)
+
+        when:
+        pooledProducer.close()
+
+        then:
+        producer.setDeliveryMode(_) >> { throw new JMSException('The session is closed') }
+        1 * producer.close()
+        pool.idleCount == 0
+        pool.destroyedCount == 1
+    }
+}
@@ -0,0 +1,94 @@
+package io.micronaut.jms.pool
+
+import jakarta.jms.Connection
+import jakarta.jms.JMSException
+import jakarta.jms.Session
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+class SessionPoolSpec extends Specification {
+
+    private final Connection connection = Mock()
+
+    @AutoCleanup
+    private final SessionPool pool = new SessionPool(0, 2, connection, new MessageProducerPoolFactory())
+
+    void 'transacted sessions are rolled back when released'() {
+        given:
+        Session session = Mock()
+        connection.createSession(true, Session.SESSION_TRANSACTED) >> session
+        session.getTransacted() >> true
+        def pooledSession = pool.request(true, Session.SESSION_TRANSACTED)
+
+        when:
+        pooledSession.close()
+
+        then:
+        1 * session.rollback()
+        pool.idleCount == 1
+    }
+
+    void 'non-transacted sessions are returned as they are'() {
+        given:
+        Session session = Mock()
+        connection.createSession(false, Session.CLIENT_ACKNOWLEDGE) >> session
+        def pooledSession = pool.request(false, Session.CLIENT_ACKNOWLEDGE)
+
+        when:
+        pooledSession.close()
+
+        then:
+        0 * session.rollback()
+        pool.request(false, Session.CLIENT_ACKNOWLEDGE).is(pooledSession)
+    }
+
+    void 'sessions are kept apart by their mode'() {
+        given:
+        connection.createSession(false, Session.AUTO_ACKNOWLEDGE) >> Mock(Session)
+        connection.createSession(true, Session.SESSION_TRANSACTED) >> Mock(Session)
+        def autoAcknowledge = pool.request(false, Session.AUTO_ACKNOWLEDGE)
+        autoAcknowledge.close()
+
+        when:
+        def transacted = pool.request(true, Session.SESSION_TRANSACTED)
+
+        then:
+        !transacted.is(autoAcknowledge)
+        !transacted.get().is(autoAcknowledge.get())
+    }
+
+    void 'a session whose connection was closed is destroyed and replaced'() {
+        given:
+        Session closed = Mock()
+        Session replacement = Mock()
+        connection.createSession(false, Session.AUTO_ACKNOWLEDGE) >>> [closed, replacement]
+        def first = pool.request(false, Session.AUTO_ACKNOWLEDGE)
+        first.close()
+
+        when:
+        def second = pool.request(false, Session.AUTO_ACKNOWLEDGE)
+
+        then:
+        closed.getAcknowledgeMode() >> { throw new JMSException('The connection is closed') }
+        1 * closed.close()
+        second.get().is(replacement)
+        ((PooledSession) first).producerPool.closed
+    }
+
+    void 'a failed session is closed together with its producer pool'() {
+        given:
+        Session session = Mock()
+        connection.createSession(false, Session.AUTO_ACKNOWLEDGE) >> session
+        def pooledSession = pool.request(false, Session.AUTO_ACKNOWLEDGE)
+
+        when:
+        pooledSession.markFailed()
+        pooledSession.close()
+
+        then:
+        1 * session.close()
+        ((PooledSession) pooledSession).producerPool.closed
+        pool.idleCount == 0
+        pool.destroyedCount == 1
+    }
+}
@@ -0,0 +1,174 @@
+package io.micronaut.jms.templates
+
+import io.micronaut.messaging.exceptions.MessagingSystemException
+import jakarta.jms.Connection
+import jakarta.jms.ConnectionFactory
+import jakarta.jms.ExceptionListener
+import jakarta.jms.JMSException
+import jakarta.jms.Message
+import jakarta.jms.MessageConsumer
+import jakarta.jms.MessageListener
+import jakarta.jms.Session
+import jakarta.jms.TemporaryQueue
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+
+class JmsRequestReplySpec extends Specification {
+
+    private final ConnectionFactory connectionFactory = Mock()
+    private final Connection connection = Mock()
+    private final Session session = Mock()
+    private final TemporaryQueue replyQueue = Mock()
+    private final MessageConsumer consumer = Mock()
+
+    private MessageListener replyListener
+    private ExceptionListener exceptionListener
+
+    void setup() {
+        connection.createSession(false, Session.AUTO_ACKNOWLEDGE) >> session
+        session.createTemporaryQueue() >> replyQueue
+        session.createConsumer(replyQueue) >> consumer
+        consumer.setMessageListener(_) >> { MessageListener listener -> replyListener = listener }
+        connection.setExceptionListener(_) >> { ExceptionListener listener -> exceptionListener = listener }
+    }
+
+    void 'a reply completes the request with the same correlation ID'() {
+        given:
+        connectionFactory.createConnection() >> connection
+        JmsRequestReply requestReply = new JmsRequestReply(connectionFactory, Duration.ofSeconds(5))
+        requestReply.replyQueue
+        CompletableFuture<Message> first = requestReply.expectReply('first')
+        CompletableFuture<Message> second = requestReply.expectReply('second')
+        Message reply = replyMessage('second')
+
+        when:
+        replyListener.onMessage(replyMessage('unknown'))
+        replyListener.onMessage(reply)
+
+        then:
+        second.get(1, TimeUnit.SECONDS).is(reply)
+        !first.done
+        requestReply.pendingCount == 1
+
+        cleanup:
+        requestReply.close()
+    }
+
+    void 'the reply queue and its connection are opened once'() {
+        given:
+        JmsRequestReply requestReply = new JmsRequestReply(connectionFactory, Duration.ofSeconds(5))
+
+        when:
+        requestReply.replyQueue
+        requestReply.replyQueue
+
+        then:
+        1 * connectionFactory.createConnection() >> connection
+        1 * connection.start()
+        requestReply.replyQueue.is(replyQueue)
+
+        cleanup:
+        requestReply.close()
+    }
+
+    void 'a request without a reply times out'() {
+        given:
+        JmsRequestReply requestReply = new JmsRequestReply(connectionFactory, Duration.ofMillis(50))
+
+        when:
+        requestReply.expectReply('request').get(5, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof TimeoutException
+        requestReply.pendingCount == 0
+    }
+
+    void 'the pending requests fail when the connection of the reply queue is lost'() {
+        given:
+        Connection reopened = Mock()
+        reopened.createSession(false, Session.AUTO_ACKNOWLEDGE) >> session
+        connectionFactory.createConnection() >>> [connection, reopened]
+        JmsRequestReply requestReply = new JmsRequestReply(connectionFactory, Duration.ofSeconds(5))
+        requestReply.replyQueue
+        CompletableFuture<Message> pending = requestReply.expectReply('request')
+
+        when:
+        exceptionListener.onException(new JMSException('connection reset'))
+        pending.get(1, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof MessagingSystemException
+        e.cause.cause instanceof JMSException
+        1 * connection.close()
+        requestReply.pendingCount == 0
+
+        when:
+        requestReply.replyQueue
+
+        then:
+        1 * reopened.start()
+
+        cleanup:
+        requestReply.close()
+    }
+
+    void 'closing fails the pending requests'() {
+        given:
+        connectionFactory.createConnection() >> connection
+        JmsRequestReply requestReply = new JmsRequestReply(connectionFactory, Duration.ofSeconds(5))
+        requestReply.replyQueue
+        CompletableFuture<Message> pending = requestReply.expectReply('request')
+
+        when:
+        requestReply.close()
+
+        then:
+        1 * connection.close()
+        pending.completedExceptionally
+
+        when:
+        requestReply.replyQueue
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    void 'a failure to open the reply queue is reported and the connection closed'() {
+        given:
+        connectionFactory.createConnection() >> connection
+        JmsRequestReply requestReply = new JmsRequestReply(connectionFactory, Duration.ofSeconds(5))
+
+        when:
+        requestReply.replyQueue
+
+        then:
+        1 * session.createTemporaryQueue() >> { throw new JMSException('temporary queues not supported') }
+        thrown(MessagingSystemException)
+        1 * connection.close()
+    }
+
+    void 'a correlation ID can only be expected once at a time'() {
+        given:
+        JmsRequestReply requestReply = new JmsRequestReply(connectionFactory, Duration.ofSeconds(5))
+        requestReply.expectReply('request')
+
+        when:
+        requestReply.expectReply('request')
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    private Message replyMessage(String correlationId) {
+        Stub(Message) {
+            getJMSCorrelationID() >> correlationId
+        }
+    }
+}
@@ -11,4 +11,7 @@ dependencies {
     api(libs.aws.sqs)
     api(mnAws.micronaut.aws.sdk.v2)
     compileOnly(libs.graal.svm)
+    compileOnly(libs.aws.netty.nio.client)
+    testImplementation(libs.aws.netty.nio.client)
+    testImplementation(mnLogging.logback.classic)
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.sqs.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Extends the visibility timeout of the messages a {@code @Queue} method is processing for as long as it runs, so
+ * that they don't become visible to other consumers and get processed twice. The extensions of all the messages in
+ * flight on the listener are sent as {@code ChangeMessageVisibilityBatch} calls. Attributes left empty default to
+ * the {@code micronaut.jms.sqs.visibility-heartbeat} settings.
+ *
+ * @since 4.1.0
+ * @see io.micronaut.jms.sqs.listener.SqsVisibilityHeartbeat
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface VisibilityHeartbeat {
+
+    /**
+     * @return the interval between two extensions, e.g. {@code 20s}; should be well below the visibility timeout
+     */
+    String interval() default "";
+
+    /**
+     * @return the visibility timeout set by each extension, counted from the time of the extension, e.g. {@code 60s}
+     */
+    String visibilityTimeout() default "";
+
+    /**
+     * @return the maximum processing time after which the visibility of a message is no longer extended, e.g.
+     * {@code 15m}
+     */
+    String maxDuration() default "";
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.sqs.client;
+
+import io.micronaut.core.annotation.Nullable;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClientBuilder;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.SqsServiceClientConfiguration;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+import software.amazon.awssdk.services.sqs.model.CreateQueueResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@link SqsClient} backed by an {@link SqsAsyncClient} on the Netty NIO HTTP client, for the provider whose API is
+ * synchronous. Each call waits for the response of the asynchronous call, but the connections are shared in a
+ * bounded pool served by a few event loop threads, instead of one blocking connection per call. Interrupting a
+ * waiting thread cancels its call.
+ *
+ * @since 4.1.0
+ */
+public class AsyncBackedSqsClient implements SqsClient {
+
+    private final SqsAsyncClient delegate;
+    private final SdkAsyncHttpClient httpClient;
+
+    /**
+     * @param delegate   the asynchronous client to call
+     * @param httpClient the HTTP client of the asynchronous client, closed with this client, or null if it isn't
+     *                   owned by this client
+     */
+    public AsyncBackedSqsClient(SqsAsyncClient delegate, @Nullable SdkAsyncHttpClient httpClient) {
+        this.delegate = delegate;
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Builds a client on a new Netty NIO HTTP client.
+     *
+     * @param builder                      the builder of the asynchronous client, with region and credentials set
+     * @param maxConnections               the maximum number of concurrent connections
+     * @param eventLoopThreads             the number of event loop threads, or 0 for the Netty default
+     * @param connectionAcquisitionTimeout the maximum time to wait for a connection
+     * @return the client
+     */
+    public static AsyncBackedSqsClient create(SqsAsyncClientBuilder builder,
+                                              int maxConnections,
+                                              int eventLoopThreads,
+                                              Duration connectionAcquisitionTimeout) {
+        NettyNioAsyncHttpClient.Builder httpClientBuilder = NettyNioAsyncHttpClient.builder()
+            .maxConcurrency(maxConnections)
+            .connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        if (eventLoopThreads > 0) {
+            httpClientBuilder.eventLoopGroupBuilder(SdkEventLoopGroup.builder().numberOfThreads(eventLoopThreads));
+        }
+        SdkAsyncHttpClient httpClient = httpClientBuilder.build();
+        return new AsyncBackedSqsClient(builder.httpClient(httpClient).build(), httpClient);
+    }
+
+    /**
+     * @return the asynchronous client
+     */
+    public SqsAsyncClient getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public ReceiveMessageResponse receiveMessage(ReceiveMessageRequest request) {
+        return await(delegate.receiveMessage(request));
+    }
+
+    @Override
+    public DeleteMessageResponse deleteMessage(DeleteMessageRequest request) {
+        return await(delegate.deleteMessage(request));
+    }
+
+    @Override
+    public DeleteMessageBatchResponse deleteMessageBatch(DeleteMessageBatchRequest request) {
+        return await(delegate.deleteMessageBatch(request));
+    }
+
+    @Override
+    public ChangeMessageVisibilityResponse changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        return await(delegate.changeMessageVisibility(request));
+    }
+
+    @Override
+    public ChangeMessageVisibilityBatchResponse changeMessageVisibilityBatch(ChangeMessageVisibilityBatchRequest request) {
+        return await(delegate.changeMessageVisibilityBatch(request));
+    }
+
+    @Override
+    public SendMessageResponse sendMessage(SendMessageRequest request) {
+        return await(delegate.sendMessage(request));
+    }
+
+    @Override
+    public SendMessageBatchResponse sendMessageBatch(SendMessageBatchRequest request) {
+        return await(delegate.sendMessageBatch(request));
+    }
+
+    @Override
+    public GetQueueUrlResponse getQueueUrl(GetQueueUrlRequest request) {
+        return await(delegate.getQueueUrl(request));
+    }
+
+    @Override
+    public CreateQueueResponse createQueue(CreateQueueRequest request) {
+        return await(delegate.createQueue(request));
+    }
+
+    @Override
+    public GetQueueAttributesResponse getQueueAttributes(GetQueueAttributesRequest request) {
+        return await(delegate.getQueueAttributes(request));
+    }
+
+    @Override
+    public SqsServiceClientConfiguration serviceClientConfiguration() {
+        return delegate.serviceClientConfiguration();
+    }
+
+    @Override
+    public String serviceName() {
+        return delegate.serviceName();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw AbortedException.create("Interrupted while waiting for SQS", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw SdkClientException.create(cause.getMessage(), cause);
+        }
+    }
+}
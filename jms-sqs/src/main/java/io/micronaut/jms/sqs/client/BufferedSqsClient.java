@@ -0,0 +1,597 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.sqs.client;
+
+import io.micronaut.core.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.SqsServiceClientConfiguration;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+import software.amazon.awssdk.services.sqs.model.CreateQueueResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SqsClient} decorator used by the SQS connection factory to tune the calls the provider makes.
+ * <p>
+ * Long polls are issued with the configured wait time. When buffering is enabled, single message deletions and
+ * visibility changes, as made when a message is acknowledged in
+ * {@link com.amazon.sqs.javamessaging.SQSSession#UNORDERED_ACKNOWLEDGE} or {@code AUTO_ACKNOWLEDGE} mode, are
+ * buffered per queue and sent as {@code DeleteMessageBatch} and {@code ChangeMessageVisibilityBatch} calls of up
+ * to {@link #MAX_BATCH_SIZE} entries, either when a batch is full or after the flush interval. Buffered calls
+ * return immediately; failures are logged, and the affected messages become visible again after their visibility
+ * timeout.
+ * <p>
+ * When send batching is enabled, concurrent sends to the same queue are combined into {@code SendMessageBatch}
+ * calls: while a batch is being sent, the following sends wait and go out together in the next one, in the order
+ * they were made, so messages of a FIFO group keep their order and a single sender sees no added latency. Sends to
+ * FIFO queues ({@value #FIFO_SUFFIX}) without a deduplication id get one from the configured header, if the message
+ * has it, or else from the SHA-256 hash of the body when content deduplication is enabled. All other calls are
+ * passed to the delegate unchanged.
+ *
+ * @since 4.1.0
+ */
+public class BufferedSqsClient implements SqsClient {
+
+    /**
+     * The maximum number of entries of an SQS batch request.
+     */
+    public static final int MAX_BATCH_SIZE = 10;
+
+    /**
+     * The suffix of the names of FIFO queues.
+     */
+    public static final String FIFO_SUFFIX = ".fifo";
+
+    // the maximum total size of the messages of a SendMessageBatch call
+    private static final int MAX_BATCH_PAYLOAD_BYTES = 256 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BufferedSqsClient.class);
+
+    private final SqsClient delegate;
+    private final int waitTimeSeconds;
+    private final boolean buffered;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, List<DeleteMessageBatchRequestEntry>> pendingDeletes = new HashMap<>();
+    private final Map<String, List<ChangeMessageVisibilityBatchRequestEntry>> pendingVisibilityChanges = new HashMap<>();
+    private final boolean batchSend;
+    private final boolean contentDeduplication;
+    private final String deduplicationHeader;
+    private final Map<String, SendBatcher> sendBatchers = new ConcurrentHashMap<>();
+    private boolean closed;
+
+    /**
+     * Creates a client that only applies the long-poll wait time.
+     *
+     * @param delegate        the client to decorate
+     * @param waitTimeSeconds the wait time of long polls
+     */
+    public BufferedSqsClient(SqsClient delegate, int waitTimeSeconds) {
+        this(delegate, waitTimeSeconds, false, MAX_BATCH_SIZE, Duration.ZERO);
+    }
+
+    /**
+     * @param delegate        the client to decorate
+     * @param waitTimeSeconds the wait time of long polls
+     * @param buffered        whether to buffer deletions and visibility changes
+     * @param batchSize       the number of buffered entries of a queue that triggers a batch call
+     * @param flushInterval   the maximum time an entry is buffered
+     */
+    public BufferedSqsClient(SqsClient delegate,
+                             int waitTimeSeconds,
+                             boolean buffered,
+                             int batchSize,
+                             Duration flushInterval) {
+        this(delegate, waitTimeSeconds, buffered, batchSize, flushInterval, false, false, null);
+    }
+
+    /**
+     * @param delegate             the client to decorate
+     * @param waitTimeSeconds      the wait time of long polls
+     * @param buffered             whether to buffer deletions and visibility changes
+     * @param batchSize            the number of buffered entries of a queue that triggers a batch call
+     * @param flushInterval        the maximum time an entry is buffered
+     * @param batchSend            whether to combine concurrent sends to a queue into batch calls
+     * @param contentDeduplication whether to derive the deduplication id of FIFO messages from their body
+     * @param deduplicationHeader  the message attribute holding the deduplication id of FIFO messages, if any
+     */
+    public BufferedSqsClient(SqsClient delegate,
+                             int waitTimeSeconds,
+                             boolean buffered,
+                             int batchSize,
+                             Duration flushInterval,
+                             boolean batchSend,
+                             boolean contentDeduplication,
+                             @Nullable String deduplicationHeader) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batchSize must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        this.delegate = delegate;
+        this.waitTimeSeconds = waitTimeSeconds;
+        this.buffered = buffered;
+        this.batchSize = batchSize;
+        this.batchSend = batchSend;
+        this.contentDeduplication = contentDeduplication;
+        this.deduplicationHeader = deduplicationHeader;
+        if (buffered) {
+            long interval = Math.max(1, flushInterval.toMillis());
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "sqs-batch-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            scheduler = null;
+        }
+    }
+
+    /**
+     * @return the decorated client
+     */
+    public SqsClient getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return the number of buffered deletions and visibility changes not sent yet
+     */
+    public synchronized int getPendingCount() {
+        return pendingDeletes.values().stream().mapToInt(List::size).sum() +
+            pendingVisibilityChanges.values().stream().mapToInt(List::size).sum();
+    }
+
+    @Override
+    public ReceiveMessageResponse receiveMessage(ReceiveMessageRequest request) {
+        Integer requestedWait = request.waitTimeSeconds();
+        if (requestedWait != null && requestedWait > 0 && requestedWait != waitTimeSeconds) {
+            request = request.toBuilder().waitTimeSeconds(waitTimeSeconds).build();
+        }
+        return delegate.receiveMessage(request);
+    }
+
+    @Override
+    public DeleteMessageResponse deleteMessage(DeleteMessageRequest request) {
+        if (!buffered) {
+            return delegate.deleteMessage(request);
+        }
+        List<DeleteMessageBatchRequestEntry> batch = null;
+        synchronized (this) {
+            if (!closed) {
+                List<DeleteMessageBatchRequestEntry> entries =
+                    pendingDeletes.computeIfAbsent(request.queueUrl(), k -> new ArrayList<>(batchSize));
+                entries.add(DeleteMessageBatchRequestEntry.builder()
+                    .id(Integer.toString(entries.size()))
+                    .receiptHandle(request.receiptHandle())
+                    .build());
+                if (entries.size() < batchSize) {
+                    return DeleteMessageResponse.builder().build();
+                }
+                batch = pendingDeletes.remove(request.queueUrl());
+            }
+        }
+        if (batch == null) {
+            return delegate.deleteMessage(request);
+        }
+        List<DeleteMessageBatchRequestEntry> fullBatch = batch;
+        scheduler.execute(() -> sendDeletes(request.queueUrl(), fullBatch));
+        return DeleteMessageResponse.builder().build();
+    }
+
+    @Override
+    public ChangeMessageVisibilityResponse changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        if (!buffered) {
+            return delegate.changeMessageVisibility(request);
+        }
+        List<ChangeMessageVisibilityBatchRequestEntry> batch = null;
+        synchronized (this) {
+            if (!closed) {
+                List<ChangeMessageVisibilityBatchRequestEntry> entries =
+                    pendingVisibilityChanges.computeIfAbsent(request.queueUrl(), k -> new ArrayList<>(batchSize));
+                entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                    .id(Integer.toString(entries.size()))
+                    .receiptHandle(request.receiptHandle())
+                    .visibilityTimeout(request.visibilityTimeout())
+                    .build());
+                if (entries.size() < batchSize) {
+                    return ChangeMessageVisibilityResponse.builder().build();
+                }
+                batch = pendingVisibilityChanges.remove(request.queueUrl());
+            }
+        }
+        if (batch == null) {
+            return delegate.changeMessageVisibility(request);
+        }
+        List<ChangeMessageVisibilityBatchRequestEntry> fullBatch = batch;
+        scheduler.execute(() -> sendVisibilityChanges(request.queueUrl(), fullBatch));
+        return ChangeMessageVisibilityResponse.builder().build();
+    }
+
+    /**
+     * Sends all buffered deletions and visibility changes.
+     */
+    public void flush() {
+        Map<String, List<DeleteMessageBatchRequestEntry>> deletes;
+        Map<String, List<ChangeMessageVisibilityBatchRequestEntry>> visibilityChanges;
+        synchronized (this) {
+            if (pendingDeletes.isEmpty() && pendingVisibilityChanges.isEmpty()) {
+                return;
+            }
+            deletes = new HashMap<>(pendingDeletes);
+            visibilityChanges = new HashMap<>(pendingVisibilityChanges);
+            pendingDeletes.clear();
+            pendingVisibilityChanges.clear();
+        }
+        deletes.forEach(this::sendDeletes);
+        visibilityChanges.forEach(this::sendVisibilityChanges);
+    }
+
+    private void sendDeletes(String queueUrl, List<DeleteMessageBatchRequestEntry> entries) {
+        try {
+            DeleteMessageBatchResponse response = delegate.deleteMessageBatch(DeleteMessageBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(entries)
+                .build());
+            logFailures("delete", queueUrl, response.failed());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to delete {} message(s) from {}, they will be redelivered: {}",
+                entries.size(), queueUrl, e.getMessage(), e);
+        }
+    }
+
+    private void sendVisibilityChanges(String queueUrl, List<ChangeMessageVisibilityBatchRequestEntry> entries) {
+        try {
+            ChangeMessageVisibilityBatchResponse response = delegate.changeMessageVisibilityBatch(
+                ChangeMessageVisibilityBatchRequest.builder()
+                    .queueUrl(queueUrl)
+                    .entries(entries)
+                    .build());
+            logFailures("change the visibility of", queueUrl, response.failed());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to change the visibility of {} message(s) of {}: {}",
+                entries.size(), queueUrl, e.getMessage(), e);
+        }
+    }
+
+    private static void logFailures(String action, String queueUrl, List<BatchResultErrorEntry> failed) {
+        if (failed != null && !failed.isEmpty()) {
+            for (BatchResultErrorEntry entry : failed) {
+                LOGGER.warn("Failed to {} message {} of {}: {} {}",
+                    action, entry.id(), queueUrl, entry.code(), entry.message());
+            }
+        }
+    }
+
+    @Override
+    public DeleteMessageBatchResponse deleteMessageBatch(DeleteMessageBatchRequest request) {
+        return delegate.deleteMessageBatch(request);
+    }
+
+    @Override
+    public ChangeMessageVisibilityBatchResponse changeMessageVisibilityBatch(ChangeMessageVisibilityBatchRequest request) {
+        return delegate.changeMessageVisibilityBatch(request);
+    }
+
+    @Override
+    public SendMessageResponse sendMessage(SendMessageRequest request) {
+        if (isFifo(request.queueUrl()) && request.messageDeduplicationId() == null) {
+            String deduplicationId = deduplicationId(request);
+            if (deduplicationId != null) {
+                request = request.toBuilder().messageDeduplicationId(deduplicationId).build();
+            }
+        }
+        if (!batchSend) {
+            return delegate.sendMessage(request);
+        }
+        return sendBatchers.computeIfAbsent(request.queueUrl(), SendBatcher::new).send(request);
+    }
+
+    /**
+     * @param queueUrlOrName the URL or name of a queue
+     * @return whether it is a FIFO queue
+     */
+    public static boolean isFifo(@Nullable String queueUrlOrName) {
+        return queueUrlOrName != null && queueUrlOrName.endsWith(FIFO_SUFFIX);
+    }
+
+    @Nullable
+    private String deduplicationId(SendMessageRequest request) {
+        if (deduplicationHeader != null) {
+            MessageAttributeValue value = request.messageAttributes().get(deduplicationHeader);
+            if (value != null && value.stringValue() != null) {
+                return value.stringValue();
+            }
+        }
+        return contentDeduplication ? sha256(request.messageBody()) : null;
+    }
+
+    private static String sha256(String body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static int estimateSize(SendMessageRequest request) {
+        int size = request.messageBody().getBytes(StandardCharsets.UTF_8).length;
+        for (Map.Entry<String, MessageAttributeValue> attribute : request.messageAttributes().entrySet()) {
+            MessageAttributeValue value = attribute.getValue();
+            size += attribute.getKey().length() + value.dataType().length();
+            if (value.stringValue() != null) {
+                size += value.stringValue().getBytes(StandardCharsets.UTF_8).length;
+            }
+            if (value.binaryValue() != null) {
+                size += value.binaryValue().asByteArray().length;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public SendMessageBatchResponse sendMessageBatch(SendMessageBatchRequest request) {
+        return delegate.sendMessageBatch(request);
+    }
+
+    @Override
+    public GetQueueUrlResponse getQueueUrl(GetQueueUrlRequest request) {
+        return delegate.getQueueUrl(request);
+    }
+
+    @Override
+    public CreateQueueResponse createQueue(CreateQueueRequest request) {
+        return delegate.createQueue(request);
+    }
+
+    @Override
+    public GetQueueAttributesResponse getQueueAttributes(GetQueueAttributesRequest request) {
+        return delegate.getQueueAttributes(request);
+    }
+
+    @Override
+    public SqsServiceClientConfiguration serviceClientConfiguration() {
+        return delegate.serviceClientConfiguration();
+    }
+
+    @Override
+    public String serviceName() {
+        return delegate.serviceName();
+    }
+
+    /**
+     * A send waiting to be part of a batch.
+     */
+    private static final class PendingSend {
+
+        private final SendMessageRequest request;
+        private final int size;
+        private volatile SendMessageResponse response;
+        private volatile RuntimeException failure;
+
+        private PendingSend(SendMessageRequest request) {
+            this.request = request;
+            this.size = estimateSize(request);
+        }
+
+        private boolean isDone() {
+            return response != null || failure != null;
+        }
+    }
+
+    /**
+     * Combines the concurrent sends to a queue. The thread whose send is first in line sends batches until its own
+     * message has been sent, then hands over to the next waiting thread.
+     */
+    private final class SendBatcher {
+
+        private final String queueUrl;
+        private final Deque<PendingSend> pending = new ArrayDeque<>();
+        private boolean sending;
+
+        private SendBatcher(String queueUrl) {
+            this.queueUrl = queueUrl;
+        }
+
+        private SendMessageResponse send(SendMessageRequest request) {
+            PendingSend mine = new PendingSend(request);
+            synchronized (this) {
+                pending.add(mine);
+            }
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    List<PendingSend> batch;
+                    synchronized (this) {
+                        while (sending && !mine.isDone()) {
+                            try {
+                                wait();
+                            } catch (InterruptedException e) {
+                                interrupted = true;
+                                if (pending.remove(mine)) {
+                                    throw AbortedException.create(
+                                        "Interrupted while waiting to send a message to " + queueUrl);
+                                }
+                                // already part of a batch being sent, so keep waiting for its result and restore
+                                // the interrupt flag afterwards, instead of spinning on it
+                            }
+                        }
+                        if (mine.isDone()) {
+                            if (mine.failure != null) {
+                                throw mine.failure;
+                            }
+                            return mine.response;
+                        }
+                        sending = true;
+                        batch = nextBatch();
+                    }
+                    try {
+                        sendBatch(batch);
+                    } finally {
+                        synchronized (this) {
+                            sending = false;
+                            notifyAll();
+                        }
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private List<PendingSend> nextBatch() {
+            List<PendingSend> batch = new ArrayList<>(MAX_BATCH_SIZE);
+            int size = 0;
+            while (!pending.isEmpty() && batch.size() < MAX_BATCH_SIZE) {
+                PendingSend next = pending.peek();
+                if (!batch.isEmpty() && size + next.size > MAX_BATCH_PAYLOAD_BYTES) {
+                    break;
+                }
+                size += next.size;
+                batch.add(pending.poll());
+            }
+            return batch;
+        }
+
+        private void sendBatch(List<PendingSend> batch) {
+            if (batch.size() == 1) {
+                PendingSend single = batch.get(0);
+                try {
+                    single.response = delegate.sendMessage(single.request);
+                } catch (RuntimeException e) {
+                    single.failure = e;
+                }
+                return;
+            }
+            List<SendMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                SendMessageRequest request = batch.get(i).request;
+                entries.add(SendMessageBatchRequestEntry.builder()
+                    .id(Integer.toString(i))
+                    .messageBody(request.messageBody())
+                    .delaySeconds(request.delaySeconds())
+                    .messageAttributes(request.messageAttributes())
+                    .messageSystemAttributes(request.messageSystemAttributes())
+                    .messageDeduplicationId(request.messageDeduplicationId())
+                    .messageGroupId(request.messageGroupId())
+                    .build());
+            }
+            try {
+                SendMessageBatchResponse response = delegate.sendMessageBatch(SendMessageBatchRequest.builder()
+                    .queueUrl(queueUrl)
+                    .entries(entries)
+                    .build());
+                for (SendMessageBatchResultEntry entry : response.successful()) {
+                    batch.get(Integer.parseInt(entry.id())).response = SendMessageResponse.builder()
+                        .messageId(entry.messageId())
+                        .md5OfMessageBody(entry.md5OfMessageBody())
+                        .md5OfMessageAttributes(entry.md5OfMessageAttributes())
+                        .md5OfMessageSystemAttributes(entry.md5OfMessageSystemAttributes())
+                        .sequenceNumber(entry.sequenceNumber())
+                        .build();
+                }
+                for (BatchResultErrorEntry entry : response.failed()) {
+                    batch.get(Integer.parseInt(entry.id())).failure = SqsException.builder()
+                        .message("Failed to send message to " + queueUrl + ": " + entry.code() + " " + entry.message())
+                        .build();
+                }
+            } catch (RuntimeException e) {
+                for (PendingSend send : batch) {
+                    if (!send.isDone()) {
+                        send.failure = e;
+                    }
+                }
+                return;
+            }
+            for (PendingSend send : batch) {
+                if (!send.isDone()) {
+                    send.failure = SqsException.builder()
+                        .message("No result for message sent to " + queueUrl)
+                        .build();
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the buffered entries and stops buffering. The delegate isn't closed, as it's usually shared.
+     */
+    @Override
+    public void close() {
+        if (!buffered) {
+            return;
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timed out waiting for buffered SQS batch calls to complete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
@@ -17,17 +17,34 @@ package io.micronaut.jms.sqs.configuration;
 
 import com.amazon.sqs.javamessaging.ProviderConfiguration;
 import com.amazon.sqs.javamessaging.SQSConnectionFactory;
+import io.micronaut.context.BeanProvider;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.jms.annotations.JMSConnectionFactory;
+import io.micronaut.jms.configuration.properties.JMSConnectionFactoryConfigurationProperties;
+import io.micronaut.jms.sqs.client.AsyncBackedSqsClient;
+import io.micronaut.jms.sqs.client.BufferedSqsClient;
 import io.micronaut.jms.sqs.configuration.properties.SqsConfigurationProperties;
+import io.micronaut.jms.sqs.configuration.properties.SqsFifoConfigurationProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.sqs.SqsAsyncClientBuilder;
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.SqsClientBuilder;
 
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.jms.ConnectionFactory;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 import static io.micronaut.jms.sqs.configuration.properties.SqsConfigurationProperties.PREFIX;
 
@@ -49,6 +66,49 @@ public class SqsConfiguration {
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
+    private final JMSConnectionFactoryConfigurationProperties factoryConfig;
+
+    private final SqsFifoConfigurationProperties fifoConfig;
+
+    private final BeanProvider<SqsAsyncClientBuilder> asyncClientBuilder;
+
+    private final List<AutoCloseable> clients = new CopyOnWriteArrayList<>();
+
+    private final Map<ConnectionFactory, Function<ProviderConfiguration, ConnectionFactory>> factoryCopiers =
+        Collections.synchronizedMap(new IdentityHashMap<>());
+
+    public SqsConfiguration() {
+        this(null);
+    }
+
+    /**
+     * @param factoryConfig the settings of the connection factory under
+     *                      {@code micronaut.jms.factories.sqsJmsConnectionFactory}, if any
+     * @since 4.1.0
+     */
+    public SqsConfiguration(@Nullable @Named(CONNECTION_FACTORY_BEAN_NAME)
+                            JMSConnectionFactoryConfigurationProperties factoryConfig) {
+        this(factoryConfig, null, null);
+    }
+
+    /**
+     * @param factoryConfig      the settings of the connection factory under
+     *                           {@code micronaut.jms.factories.sqsJmsConnectionFactory}, if any
+     * @param fifoConfig         the settings of the messages sent to FIFO queues
+     * @param asyncClientBuilder the builder of the asynchronous client, used if
+     *                           {@code micronaut.jms.sqs.async-client} is enabled
+     * @since 4.1.0
+     */
+    @Inject
+    public SqsConfiguration(@Nullable @Named(CONNECTION_FACTORY_BEAN_NAME)
+                            JMSConnectionFactoryConfigurationProperties factoryConfig,
+                            @Nullable SqsFifoConfigurationProperties fifoConfig,
+                            @Nullable BeanProvider<SqsAsyncClientBuilder> asyncClientBuilder) {
+        this.factoryConfig = factoryConfig;
+        this.fifoConfig = fifoConfig;
+        this.asyncClientBuilder = asyncClientBuilder;
+    }
+
     /**
      * Generates a {@link JMSConnectionFactory} bean in the application context.
      * <p>
@@ -65,9 +125,9 @@ public class SqsConfiguration {
                                                      SqsClient sqs) {
         logger.debug("created ConnectionFactory bean '{}' (SQSConnectionFactory)",
             CONNECTION_FACTORY_BEAN_NAME);
-        return new SQSConnectionFactory(
-            new ProviderConfiguration().withNumberOfMessagesToPrefetch(config.getNumberOfMessagesToPrefetch()),
-            sqs);
+        SqsClient client = client(config, config.isAsyncClient() ? asyncClient(config) : sqs);
+        return register(new SQSConnectionFactory(providerConfiguration(config), client),
+            configuration -> new SQSConnectionFactory(configuration, client));
     }
 
     /**
@@ -85,8 +145,100 @@ public class SqsConfiguration {
                                                      SqsClientBuilder builder) {
         logger.debug("created ConnectionFactory bean '{}' (SQSConnectionFactory)",
             CONNECTION_FACTORY_BEAN_NAME);
-        return new SQSConnectionFactory(
-            new ProviderConfiguration().withNumberOfMessagesToPrefetch(config.getNumberOfMessagesToPrefetch()),
-            builder);
+        if (!isTuned(config)) {
+            return register(new SQSConnectionFactory(providerConfiguration(config), builder),
+                configuration -> new SQSConnectionFactory(configuration, builder));
+        }
+        SqsClient sqs;
+        if (config.isAsyncClient()) {
+            sqs = asyncClient(config);
+        } else {
+            sqs = builder.build();
+            clients.add(sqs);
+        }
+        SqsClient client = client(config, sqs);
+        return register(new SQSConnectionFactory(providerConfiguration(config), client),
+            configuration -> new SQSConnectionFactory(configuration, client));
+    }
+
+    /**
+     * Creates a factory like the given one, created by this factory, whose connections prefetch the given number of
+     * messages. Used for listeners with their own prefetch, since the prefetch of an {@link SQSConnectionFactory}
+     * can't be changed.
+     *
+     * @param connectionFactory a connection factory created by this factory
+     * @param prefetch          the number of messages to prefetch
+     * @return the new connection factory, or null if the given one wasn't created by this factory
+     * @since 4.1.0
+     */
+    @Nullable
+    public ConnectionFactory withPrefetch(ConnectionFactory connectionFactory, int prefetch) {
+        Function<ProviderConfiguration, ConnectionFactory> copier = factoryCopiers.get(connectionFactory);
+        return copier == null ? null :
+            copier.apply(new ProviderConfiguration().withNumberOfMessagesToPrefetch(prefetch));
+    }
+
+    /**
+     * Sends the acknowledgements still buffered and closes the clients built by this factory.
+     *
+     * @since 4.1.0
+     */
+    @PreDestroy
+    public void close() {
+        for (AutoCloseable client : clients) {
+            try {
+                client.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close SQS client: {}", e.getMessage(), e);
+            }
+        }
+        clients.clear();
+    }
+
+    private ConnectionFactory register(ConnectionFactory connectionFactory,
+                                       Function<ProviderConfiguration, ConnectionFactory> copier) {
+        factoryCopiers.put(connectionFactory, copier);
+        return connectionFactory;
+    }
+
+    private SqsClient client(SqsConfigurationProperties config, SqsClient sqs) {
+        if (!isTuned(config)) {
+            return sqs;
+        }
+        BufferedSqsClient client = new BufferedSqsClient(sqs, config.getWaitTimeSeconds(),
+            config.isBatchAcknowledge(), config.getAcknowledgeBatchSize(), config.getAcknowledgeFlushInterval(),
+            config.isBatchSend(),
+            fifoConfig != null && fifoConfig.isContentDeduplication(),
+            fifoConfig == null ? null : fifoConfig.getDeduplicationHeader());
+        // closed first so that the buffered acknowledgements are sent before the client they're sent with is closed
+        clients.add(0, client);
+        return client;
+    }
+
+    private SqsClient asyncClient(SqsConfigurationProperties config) {
+        if (asyncClientBuilder == null || !asyncClientBuilder.isPresent()) {
+            throw new ConfigurationException(PREFIX + ".async-client requires an SqsAsyncClientBuilder bean, " +
+                "add software.amazon.awssdk:netty-nio-client to the classpath");
+        }
+        AsyncBackedSqsClient client = AsyncBackedSqsClient.create(asyncClientBuilder.get(),
+            config.getMaxConnections(), config.getEventLoopThreads(), config.getConnectionAcquisitionTimeout());
+        clients.add(client);
+        logger.debug("created asynchronous SQS client with at most {} connections", config.getMaxConnections());
+        return client;
+    }
+
+    private boolean isTuned(SqsConfigurationProperties config) {
+        // whether a setting differs from the behavior of the provider, which long-polls for 20 seconds
+        return config.isAsyncClient() || config.isBatchAcknowledge() || config.isBatchSend() ||
+            config.getWaitTimeSeconds() != 20 ||
+            fifoConfig != null && (fifoConfig.isContentDeduplication() || fifoConfig.getDeduplicationHeader() != null);
+    }
+
+    private ProviderConfiguration providerConfiguration(SqsConfigurationProperties config) {
+        // the prefetch can't be changed once the factory is created, so it isn't applied by a PrefetchConfigurer
+        int prefetch = factoryConfig != null && factoryConfig.getPrefetch() != null ?
+            factoryConfig.getPrefetch() :
+            config.getNumberOfMessagesToPrefetch();
+        return new ProviderConfiguration().withNumberOfMessagesToPrefetch(prefetch);
     }
 }
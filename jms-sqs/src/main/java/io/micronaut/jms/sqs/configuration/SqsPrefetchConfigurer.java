@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.sqs.configuration;
+
+import com.amazon.sqs.javamessaging.SQSConnectionFactory;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.jms.configuration.PrefetchConfigurer;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import jakarta.jms.ConnectionFactory;
+
+/**
+ * Recognizes {@link SQSConnectionFactory}s, whose prefetch can only be set when they are created. The prefetch of
+ * the factory created by {@link SqsConfiguration} is taken from its
+ * {@link io.micronaut.jms.configuration.properties.JMSConnectionFactoryConfigurationProperties} if set, otherwise
+ * from {@code micronaut.jms.sqs.numberOfMessagesToPrefetch}. Listeners with their own prefetch get a copy of that
+ * factory with the listener's prefetch.
+ *
+ * @since 4.1.0
+ */
+@Singleton
+public class SqsPrefetchConfigurer implements PrefetchConfigurer {
+
+    private final BeanProvider<SqsConfiguration> sqsConfiguration;
+
+    public SqsPrefetchConfigurer() {
+        this(null);
+    }
+
+    /**
+     * @param sqsConfiguration the factory of the SQS connection factories
+     */
+    @Inject
+    public SqsPrefetchConfigurer(BeanProvider<SqsConfiguration> sqsConfiguration) {
+        this.sqsConfiguration = sqsConfiguration;
+    }
+
+    @Override
+    public boolean configure(ConnectionFactory connectionFactory, int prefetch) {
+        return connectionFactory instanceof SQSConnectionFactory;
+    }
+
+    @Override
+    public ConnectionFactory withPrefetch(ConnectionFactory connectionFactory, int prefetch) {
+        if (!(connectionFactory instanceof SQSConnectionFactory) || sqsConfiguration == null ||
+            !sqsConfiguration.isPresent()) {
+            return null;
+        }
+        return sqsConfiguration.get().withPrefetch(connectionFactory, prefetch);
+    }
+}
@@ -21,8 +21,10 @@ import io.micronaut.core.bind.annotation.Bindable;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.jms.configuration.properties.JMSConfigurationProperties;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 
 import static com.amazon.sqs.javamessaging.SQSMessagingClientConstants.MIN_PREFETCH;
 import static io.micronaut.jms.sqs.configuration.properties.SqsConfigurationProperties.PREFIX;
@@ -60,4 +62,109 @@ public interface SqsConfigurationProperties {
     @Min(0)
     @Bindable(defaultValue = "" + MIN_PREFETCH)
     Integer getNumberOfMessagesToPrefetch();
+
+    /**
+     * Wait time of the long polls the provider issues to receive messages, between 1 and 20 seconds. Shorter
+     * waits return empty receives sooner at the cost of more {@code ReceiveMessage} calls. Polls that don't wait,
+     * such as those of {@code receiveNoWait()}, are left unchanged.
+     *
+     * @return the long-poll wait time in seconds
+     * @since 4.1.0
+     */
+    @NotNull
+    @Min(1)
+    @Max(20)
+    @Bindable(defaultValue = "20")
+    Integer getWaitTimeSeconds();
+
+    /**
+     * Whether to buffer message deletions and visibility changes and send them as {@code DeleteMessageBatch}
+     * and {@code ChangeMessageVisibilityBatch} calls instead of one call per message. Acknowledging then returns
+     * before the message is deleted; a message whose deletion fails becomes visible again after its visibility
+     * timeout and is redelivered. Most useful for listeners using
+     * {@link com.amazon.sqs.javamessaging.SQSSession#UNORDERED_ACKNOWLEDGE}.
+     *
+     * @return true to batch acknowledgements
+     * @since 4.1.0
+     */
+    @Bindable(defaultValue = "false")
+    boolean isBatchAcknowledge();
+
+    /**
+     * Number of buffered acknowledgements of a queue that triggers a batch call, at most 10.
+     *
+     * @return the acknowledgement batch size
+     * @since 4.1.0
+     */
+    @NotNull
+    @Min(1)
+    @Max(10)
+    @Bindable(defaultValue = "10")
+    Integer getAcknowledgeBatchSize();
+
+    /**
+     * Maximum time an acknowledgement is buffered before it is sent, even if its batch isn't full.
+     *
+     * @return the acknowledgement flush interval
+     * @since 4.1.0
+     */
+    @NotNull
+    @Bindable(defaultValue = "100ms")
+    Duration getAcknowledgeFlushInterval();
+
+    /**
+     * Whether to combine concurrent sends to a queue into {@code SendMessageBatch} calls of up to 10 messages. While
+     * a batch is being sent, the following sends wait and go out together in the next one, so a single sender sees
+     * no added latency and messages of a FIFO group keep their order.
+     *
+     * @return true to batch sends
+     * @since 4.1.0
+     */
+    @Bindable(defaultValue = "false")
+    boolean isBatchSend();
+
+    /**
+     * Whether the provider calls SQS through an {@code SqsAsyncClient} on the Netty NIO HTTP client instead of the
+     * synchronous client. Requires {@code software.amazon.awssdk:netty-nio-client} on the classpath. The provider's
+     * API is synchronous, so its calls still wait for their response, but all connections share a bounded pool and
+     * a small number of event loop threads.
+     *
+     * @return true to use the asynchronous client
+     * @since 4.1.0
+     */
+    @Bindable(defaultValue = "false")
+    boolean isAsyncClient();
+
+    /**
+     * Maximum number of concurrent connections, and so of concurrent calls including long polls, of the
+     * asynchronous client.
+     *
+     * @return the maximum number of connections
+     * @since 4.1.0
+     */
+    @NotNull
+    @Min(1)
+    @Bindable(defaultValue = "50")
+    Integer getMaxConnections();
+
+    /**
+     * Number of Netty event loop threads of the asynchronous client, or 0 for the Netty default.
+     *
+     * @return the number of event loop threads
+     * @since 4.1.0
+     */
+    @NotNull
+    @Min(0)
+    @Bindable(defaultValue = "0")
+    Integer getEventLoopThreads();
+
+    /**
+     * Maximum time a call of the asynchronous client waits for a connection when all of them are in use.
+     *
+     * @return the connection acquisition timeout
+     * @since 4.1.0
+     */
+    @NotNull
+    @Bindable(defaultValue = "10s")
+    Duration getConnectionAcquisitionTimeout();
 }
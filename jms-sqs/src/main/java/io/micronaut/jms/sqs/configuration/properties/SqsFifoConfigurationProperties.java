@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.sqs.configuration.properties;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.core.util.StringUtils;
+
+import static io.micronaut.jms.sqs.configuration.properties.SqsFifoConfigurationProperties.PREFIX;
+
+/**
+ * Settings of the messages sent to SQS FIFO queues, whose names end with {@code .fifo}.
+ *
+ * @since 4.1.0
+ */
+@ConfigurationProperties(PREFIX)
+@Requires(property = SqsConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+public interface SqsFifoConfigurationProperties {
+
+    /**
+     * Prefix for the SQS FIFO settings.
+     */
+    String PREFIX = SqsConfigurationProperties.PREFIX + ".fifo"; // micronaut.jms.sqs.fifo
+
+    /**
+     * Whether messages sent without a {@code JMS_SQS_DeduplicationId} get the SHA-256 hash of their body as
+     * deduplication id, as content-based deduplication of the queue would do. This makes sends work on queues
+     * without content-based deduplication, but messages with the same body sent within the 5 minute deduplication
+     * interval are then dropped by SQS instead of failing.
+     *
+     * @return true to derive deduplication ids from the message body
+     */
+    @Bindable(defaultValue = "false")
+    boolean isContentDeduplication();
+
+    /**
+     * Name of a message header (JMS property) whose value is used as deduplication id of the messages sent without
+     * a {@code JMS_SQS_DeduplicationId}, e.g. a business key. Messages without the header fall back to the content
+     * deduplication, if enabled.
+     *
+     * @return the name of the deduplication header, or null
+     */
+    @Nullable
+    String getDeduplicationHeader();
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.sqs.configuration.properties;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.core.util.StringUtils;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+import static io.micronaut.jms.sqs.configuration.properties.SqsVisibilityHeartbeatConfigurationProperties.PREFIX;
+
+/**
+ * Defaults of the {@link io.micronaut.jms.sqs.annotations.VisibilityHeartbeat} of SQS listeners.
+ *
+ * @since 4.1.0
+ */
+@ConfigurationProperties(PREFIX)
+@Requires(property = SqsConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+public interface SqsVisibilityHeartbeatConfigurationProperties {
+
+    /**
+     * Prefix for the SQS visibility heartbeat settings.
+     */
+    String PREFIX = SqsConfigurationProperties.PREFIX + ".visibility-heartbeat"; // micronaut.jms.sqs.visibility-heartbeat
+
+    /**
+     * Interval between two extensions of the visibility of the messages in flight.
+     *
+     * @return the extension interval
+     */
+    @NotNull
+    @Bindable(defaultValue = "20s")
+    Duration getInterval();
+
+    /**
+     * Visibility timeout set by each extension, counted from the time of the extension.
+     *
+     * @return the visibility timeout
+     */
+    @NotNull
+    @Bindable(defaultValue = "60s")
+    Duration getVisibilityTimeout();
+
+    /**
+     * Maximum processing time of a message after which its visibility is no longer extended.
+     *
+     * @return the maximum extension duration
+     */
+    @NotNull
+    @Bindable(defaultValue = "15m")
+    Duration getMaxDuration();
+}
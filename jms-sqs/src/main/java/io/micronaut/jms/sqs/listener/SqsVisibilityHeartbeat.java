@@ -0,0 +1,279 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jms.sqs.listener;
+
+import com.amazon.sqs.javamessaging.SQSConnection;
+import com.amazon.sqs.javamessaging.message.SQSMessage;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.jms.configuration.JMSListenerCustomizer;
+import io.micronaut.jms.listener.JMSListener;
+import io.micronaut.jms.listener.JMSListenerProcessingHook;
+import io.micronaut.jms.listener.JMSListenerState;
+import io.micronaut.jms.pool.PooledConnection;
+import io.micronaut.jms.sqs.annotations.VisibilityHeartbeat;
+import io.micronaut.jms.sqs.client.BufferedSqsClient;
+import io.micronaut.jms.sqs.configuration.properties.SqsConfigurationProperties;
+import io.micronaut.jms.sqs.configuration.properties.SqsVisibilityHeartbeatConfigurationProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import jakarta.jms.Connection;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the messages processed by SQS listeners annotated with {@link VisibilityHeartbeat} invisible to other
+ * consumers while they're processed. Each annotated listener tracks the messages it is processing; at each interval
+ * the visibility timeout of all of them is extended with {@code ChangeMessageVisibilityBatch} calls of up to 10
+ * messages per queue, until the message is processed or the maximum duration is reached.
+ * <p>
+ * Only the processing time is covered: messages prefetched by the provider but not handed to the listener yet are
+ * not extended, so long-running listeners should use a small prefetch. The heartbeat of a listener stops once the
+ * listener is stopped.
+ *
+ * @since 4.1.0
+ */
+@Singleton
+@Requires(property = SqsConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class SqsVisibilityHeartbeat implements JMSListenerCustomizer {
+
+    /**
+     * The maximum visibility timeout of an SQS message.
+     */
+    private static final long MAX_VISIBILITY_TIMEOUT_SECONDS = TimeUnit.HOURS.toSeconds(12);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqsVisibilityHeartbeat.class);
+
+    private final SqsVisibilityHeartbeatConfigurationProperties config;
+    private final ConversionService conversionService;
+    private final Map<String, ListenerHeartbeat> heartbeats = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sqs-visibility-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param config            the defaults of the heartbeat settings
+     * @param conversionService to convert the durations of the annotation
+     */
+    public SqsVisibilityHeartbeat(SqsVisibilityHeartbeatConfigurationProperties config,
+                                  ConversionService conversionService) {
+        this.config = config;
+        this.conversionService = conversionService;
+    }
+
+    @Override
+    public void customize(JMSListener listener, ExecutableMethod<?, ?> method, String connectionFactoryName) {
+        AnnotationValue<VisibilityHeartbeat> annotation = method.getAnnotation(VisibilityHeartbeat.class);
+        if (annotation == null) {
+            return;
+        }
+        Connection listenerConnection = listener.getConnection();
+        if (listenerConnection instanceof PooledConnection pooled) {
+            listenerConnection = pooled.get();
+        }
+        if (!(listenerConnection instanceof SQSConnection connection)) {
+            LOGGER.warn("Ignoring @VisibilityHeartbeat of listener {}, which doesn't consume from SQS", listener.getId());
+            return;
+        }
+        Duration interval = duration(annotation, "interval").orElse(config.getInterval());
+        Duration visibilityTimeout = duration(annotation, "visibilityTimeout").orElse(config.getVisibilityTimeout());
+        Duration maxDuration = duration(annotation, "maxDuration").orElse(config.getMaxDuration());
+        if (interval.compareTo(visibilityTimeout) >= 0) {
+            LOGGER.warn("The visibility heartbeat interval {} of listener {} isn't shorter than the visibility timeout {}, "
+                + "messages may become visible between two extensions", interval, listener.getId(), visibilityTimeout);
+        }
+        ListenerHeartbeat heartbeat = new ListenerHeartbeat(listener.getId(),
+            connection.getWrappedAmazonSQSClient().getAmazonSQSClient(),
+            (int) Math.min(Math.max(1, visibilityTimeout.toSeconds()), MAX_VISIBILITY_TIMEOUT_SECONDS),
+            maxDuration.toNanos());
+        long intervalMillis = Math.max(1, interval.toMillis());
+        heartbeats.put(listener.getId(), heartbeat);
+        heartbeat.task = scheduler.scheduleWithFixedDelay(() -> {
+            if (listener.getState() == JMSListenerState.STOPPED) {
+                heartbeats.remove(listener.getId(), heartbeat);
+                heartbeat.cancel();
+            } else {
+                heartbeat.extend();
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        listener.addProcessingHooks(heartbeat);
+    }
+
+    /**
+     * Stops extending the visibility of messages.
+     */
+    @PreDestroy
+    public void close() {
+        scheduler.shutdownNow();
+        heartbeats.clear();
+    }
+
+    /**
+     * @param listenerId the identifier of a listener
+     * @return the heartbeat of the listener, if it is running
+     */
+    Optional<ListenerHeartbeat> findHeartbeat(String listenerId) {
+        return Optional.ofNullable(heartbeats.get(listenerId));
+    }
+
+    private Optional<Duration> duration(AnnotationValue<VisibilityHeartbeat> annotation, String member) {
+        return annotation.stringValue(member)
+            .filter(StringUtils::isNotEmpty)
+            .map(value -> conversionService.convertRequired(value, Duration.class));
+    }
+
+    /**
+     * A message being processed.
+     *
+     * @param queueUrl      the URL of the queue of the message
+     * @param receiptHandle the receipt handle of the message
+     * @param started       the {@link System#nanoTime()} at which the processing started
+     */
+    private record InFlight(String queueUrl, String receiptHandle, long started) {
+    }
+
+    /**
+     * Tracks and extends the messages in flight of one listener.
+     */
+    static final class ListenerHeartbeat implements JMSListenerProcessingHook {
+
+        private final String listenerId;
+        private final SqsClient client;
+        private final int visibilityTimeoutSeconds;
+        private final long maxDurationNanos;
+        private final Set<InFlight> inFlight = ConcurrentHashMap.newKeySet();
+        private volatile ScheduledFuture<?> task;
+
+        ListenerHeartbeat(String listenerId, SqsClient client, int visibilityTimeoutSeconds, long maxDurationNanos) {
+            this.listenerId = listenerId;
+            // extensions are sent right away, never buffered
+            this.client = client instanceof BufferedSqsClient buffered ? buffered.getDelegate() : client;
+            this.visibilityTimeoutSeconds = visibilityTimeoutSeconds;
+            this.maxDurationNanos = maxDurationNanos;
+        }
+
+        @Override
+        public Runnable beforeProcessing(JMSListener listener, Session session, Message message) {
+            if (!(message instanceof SQSMessage sqsMessage)) {
+                return null;
+            }
+            return track(sqsMessage.getQueueUrl(), sqsMessage.getReceiptHandle());
+        }
+
+        /**
+         * @param queueUrl      the URL of the queue of the message
+         * @param receiptHandle the receipt handle of the message
+         * @return the callback to stop extending the visibility of the message
+         */
+        Runnable track(String queueUrl, String receiptHandle) {
+            InFlight entry = new InFlight(queueUrl, receiptHandle, System.nanoTime());
+            inFlight.add(entry);
+            return () -> inFlight.remove(entry);
+        }
+
+        /**
+         * Stops extending the visibility of the messages of the listener.
+         */
+        void cancel() {
+            ScheduledFuture<?> scheduled = task;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            inFlight.clear();
+        }
+
+        /**
+         * @return whether the visibility of the messages of the listener is still extended
+         */
+        boolean isRunning() {
+            ScheduledFuture<?> scheduled = task;
+            return scheduled != null && !scheduled.isDone();
+        }
+
+        void extend() {
+            if (inFlight.isEmpty()) {
+                return;
+            }
+            long now = System.nanoTime();
+            Map<String, List<InFlight>> byQueue = new LinkedHashMap<>();
+            for (InFlight entry : inFlight) {
+                if (now - entry.started() > maxDurationNanos) {
+                    LOGGER.warn("Message of listener {} is processed for longer than the maximum visibility extension, "
+                        + "it may become visible to other consumers", listenerId);
+                    inFlight.remove(entry);
+                } else {
+                    byQueue.computeIfAbsent(entry.queueUrl(), k -> new ArrayList<>()).add(entry);
+                }
+            }
+            byQueue.forEach((queueUrl, entries) -> {
+                for (int from = 0; from < entries.size(); from += BufferedSqsClient.MAX_BATCH_SIZE) {
+                    send(queueUrl, entries.subList(from, Math.min(entries.size(), from + BufferedSqsClient.MAX_BATCH_SIZE)));
+                }
+            });
+        }
+
+        private void send(String queueUrl, List<InFlight> entries) {
+            List<ChangeMessageVisibilityBatchRequestEntry> requestEntries = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                requestEntries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                    .id(Integer.toString(i))
+                    .receiptHandle(entries.get(i).receiptHandle())
+                    .visibilityTimeout(visibilityTimeoutSeconds)
+                    .build());
+            }
+            try {
+                ChangeMessageVisibilityBatchResponse response = client.changeMessageVisibilityBatch(
+                    ChangeMessageVisibilityBatchRequest.builder()
+                        .queueUrl(queueUrl)
+                        .entries(requestEntries)
+                        .build());
+                for (BatchResultErrorEntry failure : response.failed()) {
+                    // usually a message acknowledged since the heartbeat collected it
+                    LOGGER.debug("Failed to extend the visibility of message {} of listener {}: {} {}",
+                        failure.id(), listenerId, failure.code(), failure.message());
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to extend the visibility of {} message(s) of listener {}: {}",
+                    entries.size(), listenerId, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.micronaut.jms.sqs
+
+import software.amazon.awssdk.services.sqs.SqsClient
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * {@link SqsClient} recording the requests it receives, answering them with the closures of the test.
+ */
+class RecordingSqsClient implements SqsClient {
+
+    final List<Object> requests = new CopyOnWriteArrayList<>()
+
+    Closure<SendMessageResponse> onSendMessage = { SendMessageRequest request ->
+        SendMessageResponse.builder().messageId('id-' + request.messageBody()).build()
+    }
+    Closure<SendMessageBatchResponse> onSendMessageBatch = { SendMessageBatchRequest request ->
+        SendMessageBatchResponse.builder()
+            .successful(request.entries().collect { entry ->
+                SendMessageBatchResultEntry.builder().id(entry.id()).messageId('id-' + entry.messageBody()).build()
+            })
+            .build()
+    }
+    Closure<DeleteMessageBatchResponse> onDeleteMessageBatch = { DeleteMessageBatchRequest request ->
+        DeleteMessageBatchResponse.builder().build()
+    }
+    Closure<ChangeMessageVisibilityBatchResponse> onChangeMessageVisibilityBatch = { ChangeMessageVisibilityBatchRequest request ->
+        ChangeMessageVisibilityBatchResponse.builder().build()
+    }
+
+    <T> List<T> requestsOf(Class<T> type) {
+        requests.findAll { type.isInstance(it) } as List<T>
+    }
+
+    @Override
+    ReceiveMessageResponse receiveMessage(ReceiveMessageRequest request) {
+        requests << request
+        ReceiveMessageResponse.builder().build()
+    }
+
+    @Override
+    SendMessageResponse sendMessage(SendMessageRequest request) {
+        requests << request
+        onSendMessage.call(request)
+    }
+
+    @Override
+    SendMessageBatchResponse sendMessageBatch(SendMessageBatchRequest request) {
+        requests << request
+        onSendMessageBatch.call(request)
+    }
+
+    @Override
+    DeleteMessageResponse deleteMessage(DeleteMessageRequest request) {
+        requests << request
+        DeleteMessageResponse.builder().build()
+    }
+
+    @Override
+    DeleteMessageBatchResponse deleteMessageBatch(DeleteMessageBatchRequest request) {
+        requests << request
+        onDeleteMessageBatch.call(request)
+    }
+
+    @Override
+    ChangeMessageVisibilityResponse changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        requests << request
+        ChangeMessageVisibilityResponse.builder().build()
+    }
+
+    @Override
+    ChangeMessageVisibilityBatchResponse changeMessageVisibilityBatch(ChangeMessageVisibilityBatchRequest request) {
+        requests << request
+        onChangeMessageVisibilityBatch.call(request)
+    }
+
+    @Override
+    String serviceName() {
+        SERVICE_NAME
+    }
+
+    @Override
+    void close() {
+    }
+}
@@ -0,0 +1,110 @@
+package io.micronaut.jms.sqs.client
+
+import software.amazon.awssdk.core.exception.AbortedException
+import software.amazon.awssdk.core.exception.SdkClientException
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient
+import software.amazon.awssdk.services.sqs.SqsAsyncClient
+import software.amazon.awssdk.services.sqs.model.QueueDoesNotExistException
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CompletableFuture
+
+class AsyncBackedSqsClientSpec extends Specification {
+
+    private static final SendMessageRequest REQUEST = SendMessageRequest.builder()
+        .queueUrl('https://sqs.eu-west-1.amazonaws.com/123456789012/tasks')
+        .messageBody('body')
+        .build()
+
+    private final SqsAsyncClient delegate = Mock()
+    private final SdkAsyncHttpClient httpClient = Mock()
+    private final AsyncBackedSqsClient client = new AsyncBackedSqsClient(delegate, httpClient)
+
+    void 'calls wait for the result of the asynchronous call'() {
+        when:
+        SendMessageResponse response = client.sendMessage(REQUEST)
+
+        then:
+        1 * delegate.sendMessage(REQUEST) >> CompletableFuture.completedFuture(
+            SendMessageResponse.builder().messageId('42').build())
+        response.messageId() == '42'
+    }
+
+    void 'runtime failures are thrown as they are'() {
+        given:
+        QueueDoesNotExistException failure = QueueDoesNotExistException.builder().message('no queue').build()
+
+        when:
+        client.sendMessage(REQUEST)
+
+        then:
+        1 * delegate.sendMessage(REQUEST) >> CompletableFuture.failedFuture(failure)
+        QueueDoesNotExistException e = thrown()
+        e.is(failure)
+    }
+
+    void 'checked failures are wrapped'() {
+        given:
+        IOException failure = new IOException('connection reset')
+
+        when:
+        client.sendMessage(REQUEST)
+
+        then:
+        1 * delegate.sendMessage(REQUEST) >> CompletableFuture.failedFuture(failure)
+        SdkClientException e = thrown()
+        e.cause.is(failure)
+    }
+
+    void 'interrupting a waiting call cancels it'() {
+        given:
+        CompletableFuture<SendMessageResponse> future = new CompletableFuture<>()
+        delegate.sendMessage(REQUEST) >> future
+        Throwable failure = null
+        boolean interrupted = false
+        Thread caller = new Thread({
+            try {
+                client.sendMessage(REQUEST)
+            } catch (Throwable t) {
+                failure = t
+            }
+            interrupted = Thread.currentThread().isInterrupted()
+        })
+        caller.start()
+        new PollingConditions(timeout: 5).eventually {
+            assert caller.state == Thread.State.WAITING
+        }
+
+        when:
+        caller.interrupt()
+        caller.join(5000)
+
+        then:
+        failure instanceof AbortedException
+        interrupted
+        future.cancelled
+    }
+
+    void 'closing the client closes the asynchronous client and the owned HTTP client'() {
+        when:
+        client.close()
+
+        then:
+        1 * delegate.close()
+        1 * httpClient.close()
+    }
+
+    void 'an HTTP client that is not owned is not closed'() {
+        given:
+        SqsAsyncClient shared = Mock()
+
+        when:
+        new AsyncBackedSqsClient(shared, null).close()
+
+        then:
+        1 * shared.close()
+    }
+}
@@ -0,0 +1,260 @@
+package io.micronaut.jms.sqs.client
+
+import io.micronaut.jms.sqs.RecordingSqsClient
+import software.amazon.awssdk.core.exception.AbortedException
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse
+import software.amazon.awssdk.services.sqs.model.SqsException
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.security.MessageDigest
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class BufferedSqsClientSendSpec extends Specification {
+
+    private static final String QUEUE = 'https://sqs.eu-west-1.amazonaws.com/123456789012/tasks'
+    private static final String FIFO_QUEUE = 'https://sqs.eu-west-1.amazonaws.com/123456789012/tasks.fifo'
+
+    private final PollingConditions polling = new PollingConditions(timeout: 5)
+    private final RecordingSqsClient delegate = new RecordingSqsClient()
+    private final CountDownLatch firstSending = new CountDownLatch(1)
+    private final Map<String, Object> results = new ConcurrentHashMap<>()
+    private final List<String> interruptedSenders = new CopyOnWriteArrayList<>()
+
+    void 'the deduplication id of FIFO messages is taken from the header, then from the body'() {
+        given:
+        BufferedSqsClient client = sending(false, contentDeduplication, 'dedupId')
+
+        when:
+        client.sendMessage(send(FIFO_QUEUE, 'body', header))
+
+        then:
+        delegate.requestsOf(SendMessageRequest)[0].messageDeduplicationId() == expected
+
+        where:
+        contentDeduplication | header  | expected
+        false                | 'abc'   | 'abc'
+        true                 | 'abc'   | 'abc'
+        true                 | null    | sha256('body')
+        false                | null    | null
+    }
+
+    void 'an explicit deduplication id is kept'() {
+        given:
+        BufferedSqsClient client = sending(false, true, 'dedupId')
+
+        when:
+        client.sendMessage(send(FIFO_QUEUE, 'body', 'abc').toBuilder().messageDeduplicationId('explicit').build())
+
+        then:
+        delegate.requestsOf(SendMessageRequest)[0].messageDeduplicationId() == 'explicit'
+    }
+
+    void 'standard queues get no deduplication id'() {
+        given:
+        BufferedSqsClient client = sending(false, true, 'dedupId')
+
+        when:
+        client.sendMessage(send(QUEUE, 'body', 'abc'))
+
+        then:
+        delegate.requestsOf(SendMessageRequest)[0].messageDeduplicationId() == null
+    }
+
+    void 'a send without concurrent sends is not batched'() {
+        given:
+        BufferedSqsClient client = sending(true, false, null)
+
+        when:
+        SendMessageResponse response = client.sendMessage(send(QUEUE, 'single', null))
+
+        then:
+        response.messageId() == 'id-single'
+        delegate.requestsOf(SendMessageRequest)*.messageBody() == ['single']
+        delegate.requestsOf(SendMessageBatchRequest).empty
+    }
+
+    void 'concurrent sends are combined into a batch'() {
+        given:
+        CountDownLatch release = blockFirstSend()
+        BufferedSqsClient client = sending(true, false, null)
+        Thread first = sender(client, 'first')
+        firstSending.await(5, TimeUnit.SECONDS)
+
+        when:
+        List<Thread> others = ['a', 'b', 'c'].collect { sender(client, it) }
+
+        then:
+        polling.eventually {
+            assert others.every { it.state == Thread.State.WAITING }
+        }
+
+        when:
+        release.countDown()
+        ([first] + others)*.join(5000)
+
+        then:
+        delegate.requestsOf(SendMessageRequest)*.messageBody() == ['first']
+        delegate.requestsOf(SendMessageBatchRequest).size() == 1
+        delegate.requestsOf(SendMessageBatchRequest)[0].entries()*.messageBody() as Set == ['a', 'b', 'c'] as Set
+        results == [first: 'id-first', a: 'id-a', b: 'id-b', c: 'id-c']
+    }
+
+    void 'a failed entry of a batch only fails its own send'() {
+        given:
+        CountDownLatch release = blockFirstSend()
+        delegate.onSendMessageBatch = { SendMessageBatchRequest request ->
+            def (failing, succeeding) = request.entries().split { it.messageBody() == 'poison' }
+            SendMessageBatchResponse.builder()
+                .successful(succeeding.collect {
+                    SendMessageBatchResultEntry.builder().id(it.id()).messageId('id-' + it.messageBody()).build()
+                })
+                .failed(failing.collect {
+                    BatchResultErrorEntry.builder().id(it.id()).code('InvalidMessageContents').message('bad').build()
+                })
+                .build()
+        }
+        BufferedSqsClient client = sending(true, false, null)
+        Thread first = sender(client, 'first')
+        firstSending.await(5, TimeUnit.SECONDS)
+        List<Thread> others = ['poison', 'fine'].collect { sender(client, it) }
+        polling.eventually {
+            assert others.every { it.state == Thread.State.WAITING }
+        }
+
+        when:
+        release.countDown()
+        ([first] + others)*.join(5000)
+
+        then:
+        delegate.requestsOf(SendMessageBatchRequest).size() == 1
+        results.first == 'id-first'
+        results.fine == 'id-fine'
+        results.poison instanceof SqsException
+        results.poison.message.contains('InvalidMessageContents')
+    }
+
+    void 'an interrupted send waiting in line is not sent'() {
+        given:
+        CountDownLatch release = blockFirstSend()
+        BufferedSqsClient client = sending(true, false, null)
+        Thread first = sender(client, 'first')
+        firstSending.await(5, TimeUnit.SECONDS)
+        Thread waiting = sender(client, 'interrupted')
+        polling.eventually {
+            assert waiting.state == Thread.State.WAITING
+        }
+
+        when:
+        waiting.interrupt()
+        waiting.join(5000)
+        release.countDown()
+        first.join(5000)
+
+        then:
+        results.interrupted instanceof AbortedException
+        interruptedSenders == ['interrupted']
+        results.first == 'id-first'
+        delegate.requestsOf(SendMessageRequest)*.messageBody() == ['first']
+        delegate.requestsOf(SendMessageBatchRequest).empty
+    }
+
+    void 'an interrupted send that is part of a batch being sent waits for its response'() {
+        given:
+        CountDownLatch release = blockFirstSend()
+        CountDownLatch batchSending = new CountDownLatch(1)
+        CountDownLatch releaseBatch = new CountDownLatch(1)
+        Thread batchSender = null
+        Closure<SendMessageBatchResponse> answerBatch = delegate.onSendMessageBatch
+        delegate.onSendMessageBatch = { SendMessageBatchRequest request ->
+            batchSender = Thread.currentThread()
+            batchSending.countDown()
+            releaseBatch.await(5, TimeUnit.SECONDS)
+            answerBatch.call(request)
+        }
+        BufferedSqsClient client = sending(true, false, null)
+        Thread first = sender(client, 'first')
+        firstSending.await(5, TimeUnit.SECONDS)
+        List<Thread> others = ['a', 'b'].collect { sender(client, it) }
+        polling.eventually {
+            assert others.every { it.state == Thread.State.WAITING }
+        }
+        release.countDown()
+        batchSending.await(5, TimeUnit.SECONDS)
+        Thread waiting = others.find { it != batchSender }
+        polling.eventually {
+            assert waiting.state == Thread.State.WAITING
+        }
+
+        when:
+        waiting.interrupt()
+        Thread.sleep(100)
+
+        then: 'it keeps waiting instead of spinning or giving up'
+        waiting.state == Thread.State.WAITING
+
+        when:
+        releaseBatch.countDown()
+        ([first] + others)*.join(5000)
+
+        then:
+        results == [first: 'id-first', a: 'id-a', b: 'id-b']
+        interruptedSenders == [waiting.name]
+        delegate.requestsOf(SendMessageBatchRequest).size() == 1
+    }
+
+    private CountDownLatch blockFirstSend() {
+        CountDownLatch release = new CountDownLatch(1)
+        delegate.onSendMessage = { SendMessageRequest request ->
+            firstSending.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            SendMessageResponse.builder().messageId('id-' + request.messageBody()).build()
+        }
+        release
+    }
+
+    private Thread sender(BufferedSqsClient client, String body) {
+        Thread thread = new Thread({
+            try {
+                results[body] = client.sendMessage(send(QUEUE, body, null)).messageId()
+            } catch (Throwable t) {
+                results[body] = t
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                interruptedSenders << body
+            }
+        }, body)
+        thread.start()
+        thread
+    }
+
+    private BufferedSqsClient sending(boolean batchSend, boolean contentDeduplication, String deduplicationHeader) {
+        new BufferedSqsClient(delegate, 20, false, BufferedSqsClient.MAX_BATCH_SIZE, Duration.ZERO,
+            batchSend, contentDeduplication, deduplicationHeader)
+    }
+
+    private static SendMessageRequest send(String queueUrl, String body, String deduplicationHeader) {
+        SendMessageRequest.Builder builder = SendMessageRequest.builder().queueUrl(queueUrl).messageBody(body)
+        if (deduplicationHeader != null) {
+            builder.messageAttributes(dedupId: MessageAttributeValue.builder()
+                .dataType('String')
+                .stringValue(deduplicationHeader)
+                .build())
+        }
+        builder.build()
+    }
+
+    private static String sha256(String body) {
+        MessageDigest.getInstance('SHA-256').digest(body.getBytes('UTF-8')).encodeHex().toString()
+    }
+}
@@ -0,0 +1,206 @@
+package io.micronaut.jms.sqs.client
+
+import ch.qos.logback.classic.Level
+import ch.qos.logback.classic.Logger
+import ch.qos.logback.classic.spi.ILoggingEvent
+import ch.qos.logback.core.read.ListAppender
+import io.micronaut.jms.sqs.RecordingSqsClient
+import org.slf4j.LoggerFactory
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest
+import software.amazon.awssdk.services.sqs.model.SqsException
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+
+class BufferedSqsClientSpec extends Specification {
+
+    private static final String QUEUE = 'https://sqs.eu-west-1.amazonaws.com/123456789012/tasks'
+    private static final String OTHER_QUEUE = 'https://sqs.eu-west-1.amazonaws.com/123456789012/other'
+
+    private final PollingConditions polling = new PollingConditions(timeout: 5)
+    private final RecordingSqsClient delegate = new RecordingSqsClient()
+    private final ListAppender<ILoggingEvent> logs = new ListAppender<>()
+    private BufferedSqsClient client
+
+    void setup() {
+        logs.start()
+        ((Logger) LoggerFactory.getLogger(BufferedSqsClient)).addAppender(logs)
+    }
+
+    void cleanup() {
+        client?.close()
+        ((Logger) LoggerFactory.getLogger(BufferedSqsClient)).detachAppender(logs)
+    }
+
+    void 'long polls use the configured wait time'() {
+        given:
+        client = new BufferedSqsClient(delegate, 5)
+
+        when:
+        client.receiveMessage(ReceiveMessageRequest.builder().queueUrl(QUEUE).waitTimeSeconds(20).build())
+        client.receiveMessage(ReceiveMessageRequest.builder().queueUrl(QUEUE).waitTimeSeconds(0).build())
+        client.receiveMessage(ReceiveMessageRequest.builder().queueUrl(QUEUE).build())
+
+        then:
+        delegate.requestsOf(ReceiveMessageRequest)*.waitTimeSeconds() == [5, 0, null]
+    }
+
+    void 'deletions are passed through unless buffered'() {
+        given:
+        client = new BufferedSqsClient(delegate, 20)
+
+        when:
+        client.deleteMessage(delete(QUEUE, 'handle'))
+
+        then:
+        delegate.requestsOf(DeleteMessageRequest)*.receiptHandle() == ['handle']
+        delegate.requestsOf(DeleteMessageBatchRequest).empty
+    }
+
+    void 'deletions are sent in batches of the batch size per queue'() {
+        given:
+        client = buffered(10, Duration.ofHours(1))
+
+        when:
+        25.times { client.deleteMessage(delete(QUEUE, "handle-$it")) }
+        3.times { client.deleteMessage(delete(OTHER_QUEUE, "other-$it")) }
+
+        then:
+        polling.eventually {
+            assert delegate.requestsOf(DeleteMessageBatchRequest).size() == 2
+        }
+        def batches = delegate.requestsOf(DeleteMessageBatchRequest)
+        batches*.queueUrl() == [QUEUE, QUEUE]
+        batches[0].entries()*.id() == (0..9)*.toString()
+        batches[0].entries()*.receiptHandle() == (0..9).collect { "handle-$it".toString() }
+        batches[1].entries()*.receiptHandle() == (10..19).collect { "handle-$it".toString() }
+        client.pendingCount == 8
+        delegate.requestsOf(DeleteMessageRequest).empty
+    }
+
+    void 'visibility changes are sent in batches with their timeout'() {
+        given:
+        client = buffered(2, Duration.ofHours(1))
+
+        when:
+        client.changeMessageVisibility(visibility(QUEUE, 'first', 30))
+        client.changeMessageVisibility(visibility(QUEUE, 'second', 0))
+
+        then:
+        polling.eventually {
+            assert delegate.requestsOf(ChangeMessageVisibilityBatchRequest).size() == 1
+        }
+        def entries = delegate.requestsOf(ChangeMessageVisibilityBatchRequest)[0].entries()
+        entries*.receiptHandle() == ['first', 'second']
+        entries*.visibilityTimeout() == [30, 0]
+    }
+
+    void 'buffered entries are sent after the flush interval'() {
+        given:
+        client = buffered(10, Duration.ofMillis(50))
+
+        when:
+        3.times { client.deleteMessage(delete(QUEUE, "handle-$it")) }
+
+        then:
+        polling.eventually {
+            assert client.pendingCount == 0
+            assert delegate.requestsOf(DeleteMessageBatchRequest)*.entries().flatten()*.receiptHandle() ==
+                ['handle-0', 'handle-1', 'handle-2']
+        }
+    }
+
+    void 'closing the client sends the buffered entries and stops buffering'() {
+        given:
+        client = buffered(10, Duration.ofHours(1))
+        3.times { client.deleteMessage(delete(QUEUE, "handle-$it")) }
+        client.changeMessageVisibility(visibility(OTHER_QUEUE, 'visible', 0))
+
+        when:
+        client.close()
+
+        then:
+        delegate.requestsOf(DeleteMessageBatchRequest)*.entries()*.size() == [3]
+        delegate.requestsOf(ChangeMessageVisibilityBatchRequest)*.queueUrl() == [OTHER_QUEUE]
+        client.pendingCount == 0
+
+        when:
+        client.deleteMessage(delete(QUEUE, 'late'))
+
+        then:
+        delegate.requestsOf(DeleteMessageRequest)*.receiptHandle() == ['late']
+    }
+
+    void 'the failed entries of a batch are logged one by one'() {
+        given:
+        delegate.onDeleteMessageBatch = { DeleteMessageBatchRequest request ->
+            DeleteMessageBatchResponse.builder()
+                .failed(
+                    BatchResultErrorEntry.builder().id('1').code('ReceiptHandleIsInvalid').message('expired').build(),
+                    BatchResultErrorEntry.builder().id('3').code('InternalError').message('retry').build())
+                .build()
+        }
+        client = buffered(10, Duration.ofHours(1))
+        5.times { client.deleteMessage(delete(QUEUE, "handle-$it")) }
+
+        when:
+        client.flush()
+
+        then:
+        def warnings = logs.list.findAll { it.level == Level.WARN }*.formattedMessage
+        warnings.size() == 2
+        warnings[0].contains('message 1 of ' + QUEUE)
+        warnings[0].contains('ReceiptHandleIsInvalid')
+        warnings[1].contains('message 3 of ' + QUEUE)
+        warnings[1].contains('InternalError')
+    }
+
+    void 'a failed batch call is logged and not thrown'() {
+        given:
+        delegate.onDeleteMessageBatch = { DeleteMessageBatchRequest request ->
+            throw SqsException.builder().message('Service unavailable').build()
+        }
+        client = buffered(10, Duration.ofHours(1))
+        2.times { client.deleteMessage(delete(QUEUE, "handle-$it")) }
+
+        when:
+        client.flush()
+
+        then:
+        noExceptionThrown()
+        def warnings = logs.list.findAll { it.level == Level.WARN }*.formattedMessage
+        warnings.size() == 1
+        warnings[0].contains('Failed to delete 2 message(s) from ' + QUEUE)
+    }
+
+    void 'the batch size is at most 10'() {
+        when:
+        new BufferedSqsClient(delegate, 20, true, 11, Duration.ofSeconds(1))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    private BufferedSqsClient buffered(int batchSize, Duration flushInterval) {
+        new BufferedSqsClient(delegate, 20, true, batchSize, flushInterval)
+    }
+
+    private static DeleteMessageRequest delete(String queueUrl, String receiptHandle) {
+        DeleteMessageRequest.builder().queueUrl(queueUrl).receiptHandle(receiptHandle).build()
+    }
+
+    private static ChangeMessageVisibilityRequest visibility(String queueUrl, String receiptHandle, int timeout) {
+        ChangeMessageVisibilityRequest.builder()
+            .queueUrl(queueUrl)
+            .receiptHandle(receiptHandle)
+            .visibilityTimeout(timeout)
+            .build()
+    }
+}
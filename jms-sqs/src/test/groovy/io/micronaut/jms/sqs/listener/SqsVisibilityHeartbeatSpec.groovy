@@ -0,0 +1,169 @@
+package io.micronaut.jms.sqs.listener
+
+import com.amazon.sqs.javamessaging.ProviderConfiguration
+import com.amazon.sqs.javamessaging.SQSConnectionFactory
+import io.micronaut.core.annotation.AnnotationValue
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.inject.ExecutableMethod
+import io.micronaut.jms.listener.JMSListener
+import io.micronaut.jms.model.JMSDestinationType
+import io.micronaut.jms.pool.JMSConnectionPool
+import io.micronaut.jms.pool.PooledConnection
+import io.micronaut.jms.sqs.RecordingSqsClient
+import io.micronaut.jms.sqs.annotations.VisibilityHeartbeat
+import io.micronaut.jms.sqs.configuration.properties.SqsVisibilityHeartbeatConfigurationProperties
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest
+import software.amazon.awssdk.services.sqs.model.SqsException
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import jakarta.jms.Connection
+import jakarta.jms.MessageListener
+import jakarta.jms.Session
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class SqsVisibilityHeartbeatSpec extends Specification {
+
+    private static final String QUEUE = 'https://sqs.eu-west-1.amazonaws.com/123456789012/tasks'
+    private static final String OTHER_QUEUE = 'https://sqs.eu-west-1.amazonaws.com/123456789012/other'
+    private static final long HOUR = TimeUnit.HOURS.toNanos(1)
+
+    private final RecordingSqsClient client = new RecordingSqsClient()
+    private final SqsVisibilityHeartbeat visibilityHeartbeat = new SqsVisibilityHeartbeat(
+        Stub(SqsVisibilityHeartbeatConfigurationProperties) {
+            getInterval() >> Duration.ofMillis(20)
+            getVisibilityTimeout() >> Duration.ofSeconds(60)
+            getMaxDuration() >> Duration.ofHours(1)
+        },
+        ConversionService.SHARED)
+    private final ExecutableMethod<?, ?> method = Stub() {
+        getAnnotation(VisibilityHeartbeat) >> AnnotationValue.builder(VisibilityHeartbeat).build()
+    }
+
+    void cleanup() {
+        visibilityHeartbeat.close()
+    }
+
+    void 'a listener on a pooled SQS connection is extended until it is stopped'() {
+        given:
+        Connection connection = new JMSConnectionPool(new SQSConnectionFactory(new ProviderConfiguration(), client), 0, 1)
+            .createConnection()
+        JMSListener listener = listener(connection)
+
+        when:
+        visibilityHeartbeat.customize(listener, method, 'sqs')
+        SqsVisibilityHeartbeat.ListenerHeartbeat heartbeat = visibilityHeartbeat.findHeartbeat('tasks').orElseThrow()
+        heartbeat.track(QUEUE, 'handle')
+
+        then:
+        connection instanceof PooledConnection
+        new PollingConditions(timeout: 5).eventually {
+            assert client.requestsOf(ChangeMessageVisibilityBatchRequest)*.entries().flatten()*.receiptHandle().contains('handle')
+        }
+
+        when:
+        listener.stop()
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert !heartbeat.running
+            assert !visibilityHeartbeat.findHeartbeat('tasks').present
+        }
+
+        when:
+        int sent = client.requests.size()
+        Thread.sleep(100)
+
+        then:
+        client.requests.size() == sent
+    }
+
+    void 'a listener not consuming from SQS is ignored'() {
+        when:
+        visibilityHeartbeat.customize(listener(Stub(Connection)), method, 'activeMq')
+
+        then:
+        !visibilityHeartbeat.findHeartbeat('tasks').present
+    }
+
+    void 'nothing is sent without messages in flight'() {
+        given:
+        SqsVisibilityHeartbeat.ListenerHeartbeat heartbeat = new SqsVisibilityHeartbeat.ListenerHeartbeat('listener', client, 60, HOUR)
+
+        when:
+        heartbeat.extend()
+
+        then:
+        client.requests.empty
+    }
+
+    void 'the visibility of the messages in flight is extended in batches per queue'() {
+        given:
+        SqsVisibilityHeartbeat.ListenerHeartbeat heartbeat = new SqsVisibilityHeartbeat.ListenerHeartbeat('listener', client, 60, HOUR)
+        12.times { heartbeat.track(QUEUE, "handle-$it") }
+        3.times { heartbeat.track(OTHER_QUEUE, "other-$it") }
+
+        when:
+        heartbeat.extend()
+
+        then:
+        List<ChangeMessageVisibilityBatchRequest> batches = client.requestsOf(ChangeMessageVisibilityBatchRequest)
+        batches.collect { [it.queueUrl(), it.entries().size()] } as Set ==
+            [[QUEUE, 10], [QUEUE, 2], [OTHER_QUEUE, 3]] as Set
+        batches*.entries().flatten()*.visibilityTimeout() as Set == [60] as Set
+        batches.findAll { it.queueUrl() == QUEUE }*.entries().flatten()*.receiptHandle() as Set ==
+            (0..11).collect { "handle-$it".toString() } as Set
+        batches.every { batch -> batch.entries()*.id() == (0..<batch.entries().size())*.toString() }
+    }
+
+    void 'a message is no longer extended once processed'() {
+        given:
+        SqsVisibilityHeartbeat.ListenerHeartbeat heartbeat = new SqsVisibilityHeartbeat.ListenerHeartbeat('listener', client, 60, HOUR)
+        Runnable done = heartbeat.track(QUEUE, 'done')
+        heartbeat.track(QUEUE, 'running')
+
+        when:
+        done.run()
+        heartbeat.extend()
+
+        then:
+        client.requestsOf(ChangeMessageVisibilityBatchRequest)*.entries().flatten()*.receiptHandle() == ['running']
+    }
+
+    void 'a message is no longer extended after the maximum duration'() {
+        given:
+        SqsVisibilityHeartbeat.ListenerHeartbeat heartbeat = new SqsVisibilityHeartbeat.ListenerHeartbeat('listener', client, 60, 0)
+        heartbeat.track(QUEUE, 'slow')
+        Thread.sleep(1)
+
+        when:
+        heartbeat.extend()
+        heartbeat.extend()
+
+        then:
+        client.requests.empty
+    }
+
+    void 'a failed extension is tolerated'() {
+        given:
+        client.onChangeMessageVisibilityBatch = { ChangeMessageVisibilityBatchRequest request ->
+            throw SqsException.builder().message('Service unavailable').build()
+        }
+        SqsVisibilityHeartbeat.ListenerHeartbeat heartbeat = new SqsVisibilityHeartbeat.ListenerHeartbeat('listener', client, 60, HOUR)
+        heartbeat.track(QUEUE, 'handle')
+
+        when:
+        heartbeat.extend()
+        heartbeat.extend()
+
+        then:
+        noExceptionThrown()
+        client.requestsOf(ChangeMessageVisibilityBatchRequest).size() == 2
+    }
+
+    private JMSListener listener(Connection connection) {
+        new JMSListener('tasks', connection, false, Session.CLIENT_ACKNOWLEDGE, Stub(MessageListener),
+            JMSDestinationType.QUEUE, 'tasks', null, Optional.empty())
+    }
+}
@@ -0,0 +1,26 @@
+plugins {
+    id("io.micronaut.build.internal.jms-application")
+}
+
+dependencies {
+    implementation(projects.micronautJmsActivemqClassic)
+    implementation(projects.micronautJmsActivemqArtemis)
+    implementation(projects.micronautJmsSqs)
+    implementation(libs.activemq.broker)
+    implementation(libs.artemis.jakarta.server)
+    implementation(libs.elasticmq.rest.sqs)
+    implementation(libs.hdrhistogram)
+    runtimeOnly(mnLogging.logback.classic)
+}
+
+application {
+    mainClass = "io.micronaut.jms.loadtest.LoadTest"
+}
+
+tasks.named<JavaExec>("run") {
+    // forward -Dloadtest.* options given to Gradle to the load test
+    systemProperties(System.getProperties()
+        .filterKeys { it.toString().startsWith("loadtest.") }
+        .mapKeys { it.key.toString() })
+    jvmArgs("-Xms1g", "-Xmx1g")
+}
@@ -0,0 +1,130 @@
+package io.micronaut.jms.loadtest;
+
+import io.micronaut.jms.activemq.artemis.configuration.ActiveMqArtemisConfiguration;
+import io.micronaut.jms.activemq.classic.configuration.ActiveMqClassicConfiguration;
+import io.micronaut.jms.sqs.configuration.SqsConfiguration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.elasticmq.rest.sqs.SQSRestServer;
+import org.elasticmq.rest.sqs.SQSRestServerBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The embedded brokers the load test runs against.
+ */
+enum Broker {
+
+    CLASSIC(ActiveMqClassicConfiguration.CONNECTION_FACTORY_BEAN_NAME) {
+        @Override
+        Map<String, Object> start() {
+            Map<String, Object> config = config();
+            config.put("micronaut.jms.activemq.classic.enabled", true);
+            config.put("micronaut.jms.activemq.classic.connection-string",
+                "vm://loadtest?broker.persistent=false&broker.useJmx=false");
+            return config;
+        }
+    },
+
+    ARTEMIS(ActiveMqArtemisConfiguration.CONNECTION_FACTORY_BEAN_NAME) {
+
+        private EmbeddedActiveMQ server;
+
+        @Override
+        Map<String, Object> start() throws Exception {
+            ConfigurationImpl configuration = new ConfigurationImpl();
+            configuration.setPersistenceEnabled(false);
+            configuration.setSecurityEnabled(false);
+            configuration.addAcceptorConfiguration("in-vm", "vm://0");
+            server = new EmbeddedActiveMQ().setConfiguration(configuration).start();
+
+            Map<String, Object> config = config();
+            config.put("micronaut.jms.activemq.artemis.enabled", true);
+            config.put("micronaut.jms.activemq.artemis.connection-string", "vm://0");
+            return config;
+        }
+
+        @Override
+        void stop() throws Exception {
+            server.stop();
+        }
+    },
+
+    /**
+     * SQS emulated by an embedded ElasticMQ server.
+     */
+    SQS(SqsConfiguration.CONNECTION_FACTORY_BEAN_NAME) {
+
+        private static final int PORT = 9324;
+        private static final String REGION = "us-east-1";
+        private static final String CREDENTIAL = "loadtest";
+
+        private SQSRestServer server;
+
+        @Override
+        Map<String, Object> start() {
+            server = SQSRestServerBuilder.withPort(PORT).withInterface("localhost").start();
+            server.waitUntilStarted();
+
+            URI endpoint = URI.create("http://localhost:" + PORT);
+            try (SqsClient sqs = SqsClient.builder()
+                .endpointOverride(endpoint)
+                .region(Region.of(REGION))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(CREDENTIAL, CREDENTIAL)))
+                .build()) {
+                // unlike the other brokers, SQS does not create queues on first use
+                sqs.createQueue(request -> request.queueName(LoadTest.QUEUE));
+            }
+
+            // read by the default credentials and region providers of the client created by micronaut-aws
+            System.setProperty("aws.region", REGION);
+            System.setProperty("aws.accessKeyId", CREDENTIAL);
+            System.setProperty("aws.secretAccessKey", CREDENTIAL);
+
+            Map<String, Object> config = config();
+            config.put("micronaut.jms.sqs.enabled", true);
+            config.put("aws.services.sqs.endpoint-override", endpoint.toString());
+            return config;
+        }
+
+        @Override
+        void stop() {
+            server.stopAndWait();
+        }
+    };
+
+    private final String connectionFactoryName;
+
+    Broker(String connectionFactoryName) {
+        this.connectionFactoryName = connectionFactoryName;
+    }
+
+    /**
+     * Starts the broker if it is not started by its client.
+     *
+     * @return the configuration of the application context connecting to the broker
+     * @throws Exception if the broker fails to start
+     */
+    abstract Map<String, Object> start() throws Exception;
+
+    /**
+     * Stops the broker if it is not stopped by its client.
+     *
+     * @throws Exception if the broker fails to stop
+     */
+    void stop() throws Exception {
+        // stopped with the last connection
+    }
+
+    Map<String, Object> config() {
+        Map<String, Object> config = new HashMap<>();
+        config.put("loadtest.connection-factory", connectionFactoryName);
+        return config;
+    }
+}
@@ -0,0 +1,57 @@
+package io.micronaut.jms.loadtest;
+
+import jakarta.inject.Singleton;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the time taken to send messages and from sending to receiving them, in microseconds.
+ */
+@Singleton
+public class LatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder send = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder endToEnd = new Recorder(SIGNIFICANT_DIGITS);
+    private final LongAdder received = new LongAdder();
+
+    void recordSend(long startNanos) {
+        send.recordValue(micros(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * @param sentAtNanos the {@link System#nanoTime()} at which the message was sent
+     */
+    public void recordReceived(long sentAtNanos) {
+        endToEnd.recordValue(micros(System.nanoTime() - sentAtNanos));
+        received.increment();
+    }
+
+    long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     * Discards the values recorded so far, e.g. during the warm-up.
+     */
+    void reset() {
+        send.reset();
+        endToEnd.reset();
+    }
+
+    Histogram sendHistogram() {
+        return send.getIntervalHistogram();
+    }
+
+    Histogram endToEndHistogram() {
+        return endToEnd.getIntervalHistogram();
+    }
+
+    private static long micros(long nanos) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+}
@@ -0,0 +1,161 @@
+package io.micronaut.jms.loadtest;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.jms.listener.JMSListener;
+import io.micronaut.jms.listener.JMSListenerRegistry;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.JMSException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends messages with a {@code @JMSProducer} to a {@code @JMSListener} through an embedded broker and reports the
+ *  throughput, and the send and end-to-end latencies as HdrHistogram percentile distributions. Run it with e.g.
+ *  {@code ./gradlew :load-tests:run -Dloadtest.broker=artemis -Dloadtest.producers=8 -Dloadtest.consumers=8}; see
+ *  {@link LoadTestConfiguration} for the other settings.
+ */
+public final class LoadTest {
+
+    static final String QUEUE = "loadtest";
+    static final String SENT_AT = "sentAt";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadTest.class);
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final ApplicationContext context;
+    private final LoadTestConfiguration config;
+    private final LatencyRecorder recorder;
+    private final LoadTestProducer producer;
+    private final byte[] payload;
+
+    private LoadTest(ApplicationContext context) {
+        this.context = context;
+        this.config = context.getBean(LoadTestConfiguration.class);
+        this.recorder = context.getBean(LatencyRecorder.class);
+        this.producer = context.getBean(LoadTestProducer.class);
+        this.payload = new byte[config.getPayloadSize()];
+        new Random(0).nextBytes(payload);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Broker broker = Broker.valueOf(System.getProperty(LoadTestConfiguration.PREFIX + ".broker", "classic")
+            .toUpperCase(Locale.ROOT));
+        if (broker == Broker.SQS && Boolean.getBoolean(LoadTestConfiguration.PREFIX + ".transacted")) {
+            throw new IllegalArgumentException("SQS does not support transacted sessions");
+        }
+        try (ApplicationContext context = ApplicationContext.run(broker.start())) {
+            new LoadTest(context).run(broker);
+        } finally {
+            broker.stop();
+        }
+    }
+
+    private void run(Broker broker) throws Exception {
+        scaleConsumers();
+        LOGGER.info("Running against {} with {} producers, {} consumers, {} byte payloads, {}",
+            broker, config.getProducers(), config.getConsumers(), config.getPayloadSize(),
+            config.isTransacted() ? "transacted" : config.getAcknowledgeMode() + " acknowledge");
+
+        LOGGER.info("Warming up with {} messages", config.getWarmupMessages());
+        awaitReceived(send(config.getWarmupMessages()), config.getWarmupMessages());
+        recorder.reset();
+
+        LOGGER.info("Measuring {} messages", config.getMessages());
+        long start = System.nanoTime();
+        long target = send(config.getMessages());
+        long sent = System.nanoTime();
+        awaitReceived(target, config.getMessages());
+        long received = System.nanoTime();
+        double sendSeconds = (sent - start) / 1e9;
+        double receiveSeconds = (received - start) / 1e9;
+
+        Histogram sendLatency = recorder.sendHistogram();
+        Histogram endToEndLatency = recorder.endToEndHistogram();
+        LOGGER.info("Sent {} msg/s, received {} msg/s", Math.round(config.getMessages() / sendSeconds),
+            Math.round(config.getMessages() / receiveSeconds));
+        LOGGER.info("Send latency (ms): p50 {}, p99 {}, p99.9 {}, max {}", percentiles(sendLatency));
+        LOGGER.info("End-to-end latency (ms): p50 {}, p99 {}, p99.9 {}, max {}", percentiles(endToEndLatency));
+        report(broker, "send", sendLatency);
+        report(broker, "end-to-end", endToEndLatency);
+    }
+
+    private void scaleConsumers() throws JMSException {
+        for (JMSListener listener : context.getBean(JMSListenerRegistry.class).getListeners(QUEUE)) {
+            listener.setConcurrency(config.getConsumers());
+        }
+    }
+
+    /**
+     * Sends the messages from the producer threads.
+     *
+     * @return the number of received messages once all these messages are received
+     */
+    private long send(int messages) throws Exception {
+        long target = recorder.getReceived() + messages;
+        ExecutorService executor = Executors.newFixedThreadPool(config.getProducers());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < config.getProducers(); i++) {
+                int count = messages / config.getProducers() + (i < messages % config.getProducers() ? 1 : 0);
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < count; j++) {
+                        long start = System.nanoTime();
+                        producer.send(payload, start);
+                        recorder.recordSend(start);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return target;
+    }
+
+    private void awaitReceived(long target, int messages) throws Exception {
+        long deadline = System.nanoTime() + config.getTimeout().toNanos();
+        while (recorder.getReceived() < target) {
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("Received " + (recorder.getReceived() - target + messages) + " of " +
+                    messages + " messages within " + config.getTimeout());
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+
+    private void report(Broker broker, String name, Histogram histogram) throws IOException {
+        Path dir = Path.of(config.getReportDir());
+        Files.createDirectories(dir);
+        Path file = dir.resolve(String.format("%s-%s-%d.hgrm", broker.name().toLowerCase(Locale.ROOT), name,
+            System.currentTimeMillis()));
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+        LOGGER.info("Wrote the {} latency distribution to {}", name, file.toAbsolutePath());
+    }
+
+    private static Object[] percentiles(Histogram histogram) {
+        return new Object[] {
+            histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+            histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+            histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+            histogram.getMaxValue() / MICROS_PER_MILLI
+        };
+    }
+}
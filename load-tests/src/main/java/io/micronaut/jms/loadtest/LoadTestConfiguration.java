@@ -0,0 +1,69 @@
+package io.micronaut.jms.loadtest;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Settings of the load test, given as {@code -Dloadtest.<name>=<value>} system properties.
+ */
+@ConfigurationProperties(LoadTestConfiguration.PREFIX)
+public interface LoadTestConfiguration {
+
+    String PREFIX = "loadtest";
+
+    /**
+     * @return the number of threads sending messages
+     */
+    @Bindable(defaultValue = "4")
+    int getProducers();
+
+    /**
+     * @return the number of concurrent consumers of the listener
+     */
+    @Bindable(defaultValue = "4")
+    int getConsumers();
+
+    /**
+     * @return the number of messages measured
+     */
+    @Bindable(defaultValue = "100000")
+    int getMessages();
+
+    /**
+     * @return the number of messages sent and received before measuring
+     */
+    @Bindable(defaultValue = "10000")
+    int getWarmupMessages();
+
+    /**
+     * @return the size of the message bodies in bytes
+     */
+    @Bindable(defaultValue = "1024")
+    int getPayloadSize();
+
+    /**
+     * @return the acknowledge mode of the listener: auto, client or dups-ok
+     */
+    @Bindable(defaultValue = "auto")
+    String getAcknowledgeMode();
+
+    /**
+     * @return whether the listener session is transacted, in which case the acknowledge mode is ignored
+     */
+    @Bindable(defaultValue = "false")
+    boolean isTransacted();
+
+    /**
+     * @return the maximum time to wait for all messages to be received
+     */
+    @Bindable(defaultValue = "5m")
+    Duration getTimeout();
+
+    /**
+     * @return the directory the histograms are written to
+     */
+    @Bindable(defaultValue = "build/load-tests")
+    String getReportDir();
+}
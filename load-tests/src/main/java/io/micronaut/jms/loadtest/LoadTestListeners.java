@@ -0,0 +1,99 @@
+package io.micronaut.jms.loadtest;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.jms.annotations.JMSListener;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.messaging.annotation.MessageHeader;
+
+import static jakarta.jms.Session.CLIENT_ACKNOWLEDGE;
+import static jakarta.jms.Session.DUPS_OK_ACKNOWLEDGE;
+
+/**
+ * The listeners of the load test, one per acknowledge mode since it is fixed by the {@link Queue} annotation. Only
+ *  the listener matching {@code loadtest.acknowledge-mode} and {@code loadtest.transacted} is created.
+ */
+final class LoadTestListeners {
+
+    private static final String ACKNOWLEDGE_MODE = LoadTestConfiguration.PREFIX + ".acknowledge-mode";
+    private static final String TRANSACTED = LoadTestConfiguration.PREFIX + ".transacted";
+
+    private LoadTestListeners() {
+    }
+
+    /**
+     * Records the latency of the received messages.
+     */
+    abstract static class AbstractListener {
+
+        private final LatencyRecorder recorder;
+
+        AbstractListener(LatencyRecorder recorder) {
+            this.recorder = recorder;
+        }
+
+        void record(Long sentAt) {
+            recorder.recordReceived(sentAt);
+        }
+    }
+
+    @Requires(property = ACKNOWLEDGE_MODE, value = "auto", defaultValue = "auto")
+    @Requires(property = TRANSACTED, notEquals = StringUtils.TRUE)
+    @JMSListener("${loadtest.connection-factory}")
+    static class AutoAcknowledgeListener extends AbstractListener {
+
+        AutoAcknowledgeListener(LatencyRecorder recorder) {
+            super(recorder);
+        }
+
+        @Queue(LoadTest.QUEUE)
+        void receive(@MessageBody byte[] body, @MessageHeader(LoadTest.SENT_AT) Long sentAt) {
+            record(sentAt);
+        }
+    }
+
+    @Requires(property = ACKNOWLEDGE_MODE, value = "client")
+    @Requires(property = TRANSACTED, notEquals = StringUtils.TRUE)
+    @JMSListener("${loadtest.connection-factory}")
+    static class ClientAcknowledgeListener extends AbstractListener {
+
+        ClientAcknowledgeListener(LatencyRecorder recorder) {
+            super(recorder);
+        }
+
+        @Queue(value = LoadTest.QUEUE, acknowledgeMode = CLIENT_ACKNOWLEDGE)
+        void receive(@MessageBody byte[] body, @MessageHeader(LoadTest.SENT_AT) Long sentAt) {
+            record(sentAt);
+        }
+    }
+
+    @Requires(property = ACKNOWLEDGE_MODE, value = "dups-ok")
+    @Requires(property = TRANSACTED, notEquals = StringUtils.TRUE)
+    @JMSListener("${loadtest.connection-factory}")
+    static class DupsOkAcknowledgeListener extends AbstractListener {
+
+        DupsOkAcknowledgeListener(LatencyRecorder recorder) {
+            super(recorder);
+        }
+
+        @Queue(value = LoadTest.QUEUE, acknowledgeMode = DUPS_OK_ACKNOWLEDGE)
+        void receive(@MessageBody byte[] body, @MessageHeader(LoadTest.SENT_AT) Long sentAt) {
+            record(sentAt);
+        }
+    }
+
+    @Requires(property = TRANSACTED, value = StringUtils.TRUE)
+    @JMSListener("${loadtest.connection-factory}")
+    static class TransactedListener extends AbstractListener {
+
+        TransactedListener(LatencyRecorder recorder) {
+            super(recorder);
+        }
+
+        @Queue(value = LoadTest.QUEUE, transacted = true)
+        void receive(@MessageBody byte[] body, @MessageHeader(LoadTest.SENT_AT) Long sentAt) {
+            record(sentAt);
+        }
+    }
+}
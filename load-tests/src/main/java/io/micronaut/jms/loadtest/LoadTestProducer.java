@@ -0,0 +1,16 @@
+package io.micronaut.jms.loadtest;
+
+import io.micronaut.jms.annotations.JMSProducer;
+import io.micronaut.jms.annotations.Queue;
+import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.messaging.annotation.MessageHeader;
+
+/**
+ * Sends the messages of the load test to the broker under test.
+ */
+@JMSProducer("${loadtest.connection-factory}")
+public interface LoadTestProducer {
+
+    @Queue(LoadTest.QUEUE)
+    void send(@MessageBody byte[] body, @MessageHeader(LoadTest.SENT_AT) Long sentAt);
+}
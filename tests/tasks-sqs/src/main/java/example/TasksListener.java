@@ -1,7 +1,9 @@
 package example;
 
+import com.amazon.sqs.javamessaging.SQSSession;
 import io.micronaut.jms.annotations.JMSListener;
 import io.micronaut.jms.annotations.Queue;
+import io.micronaut.jms.sqs.annotations.VisibilityHeartbeat;
 import io.micronaut.messaging.annotation.MessageBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,7 +19,8 @@ public class TasksListener {
 
     public static final AtomicInteger TASKS_PROCESSED = new AtomicInteger();
 
-    @Queue(value = TaskConstants.FIFO_QUEUE)
+    @VisibilityHeartbeat
+    @Queue(value = TaskConstants.FIFO_QUEUE, acknowledgeMode = SQSSession.UNORDERED_ACKNOWLEDGE)
     public void receive(@MessageBody Task task) {
         LOG.info("Received task with id: {}", task.getId());
         TASKS_PROCESSED.incrementAndGet();